@@ -27,6 +27,7 @@ import static org.tweetwallfx.util.ToString.createToString;
 import static org.tweetwallfx.util.ToString.map;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
@@ -105,6 +106,11 @@ public final class AcceptFromSpeakersFilterStep implements FilterStep<Tweet> {
         return speakerTwitterHandles;
     }
 
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.ACCEPTED);
+    }
+
     /**
      * Implementation of {@link FilterStep.Factory} creating
      * {@link AcceptFromSenderFilterStep}.
@@ -60,18 +60,24 @@ public class ImageMosaicStep implements Step {
     }
 
     private static final Random RANDOM = new SecureRandom();
+    private static final int MIN_IMAGES = 35;
     private final ImageView[][] rects = new ImageView[6][5];
     private final Bounds[][] bounds = new Bounds[6][5];
     private final Set<Integer> highlightedIndexes = new HashSet<>();
     private Pane pane;
     private int count = 0;
 
+    @Override
+    public boolean isReady(final MachineContext context) {
+        return context.getDataProvider(ImageMosaicDataProvider.class).getImages().size() >= MIN_IMAGES;
+    }
+
     @Override
     public void doStep(final MachineContext context) {
         WordleSkin wordleSkin = (WordleSkin) context.get("WordleSkin");
         ImageMosaicDataProvider dataProvider = context.getDataProvider(ImageMosaicDataProvider.class);
         pane = wordleSkin.getPane();
-        if (dataProvider.getImages().size() < 35) {
+        if (dataProvider.getImages().size() < MIN_IMAGES) {
             context.proceed();
         } else {
             Transition createMosaicTransition = createMosaicTransition(dataProvider.getImages());
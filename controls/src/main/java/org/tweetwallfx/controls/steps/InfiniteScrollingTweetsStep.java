@@ -30,7 +30,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -63,6 +62,7 @@ import org.tweetwallfx.stepengine.api.Step;
 import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 import org.tweetwallfx.stepengine.dataproviders.PhotoImageMediaEntryDataProvider;
+import org.tweetwallfx.stepengine.dataproviders.TweetRankingDataProvider;
 import org.tweetwallfx.stepengine.dataproviders.TweetStreamDataProvider;
 import org.tweetwallfx.stepengine.dataproviders.TweetUserProfileImageDataProvider;
 import org.tweetwallfx.transitions.LocationTransition;
@@ -80,10 +80,12 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     private final Config config;
 
     private final AtomicReference<List<Tweet>> tweetsRef = new AtomicReference<>(List.of());
+    private volatile long tweetsVersion = -1;
 
     private TweetUserProfileImageDataProvider tweetUserProfileImageDataProvider;
     private PhotoImageMediaEntryDataProvider photoImageMediaEntryDataProvider;
     private TweetStreamDataProvider tweetStreamDataProvider;
+    private TweetRankingDataProvider tweetRankingDataProvider;
     private WordleSkin wordleSkin;
     private CountDownLatch shutdownCountdown;
     private final AtomicInteger next = new AtomicInteger(0);
@@ -102,7 +104,10 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
         tweetUserProfileImageDataProvider = context.getDataProvider(TweetUserProfileImageDataProvider.class);
         photoImageMediaEntryDataProvider = context.getDataProvider(PhotoImageMediaEntryDataProvider.class);
 
-        tweetStreamDataProvider = context.getDataProvider(TweetStreamDataProvider.class);
+        switch (config.tweetSource) {
+            case STREAM -> tweetStreamDataProvider = context.getDataProvider(TweetStreamDataProvider.class);
+            case RANKED -> tweetRankingDataProvider = context.getDataProvider(TweetRankingDataProvider.class);
+        }
 
         updateTweetList();
         for (int i = 0; i< config.columns; i++) {
@@ -124,8 +129,25 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
     }
 
     private void updateTweetList() {
-        tweetsRef.set(new CopyOnWriteArrayList<>(tweetStreamDataProvider.getTweets()));
-        LOG.info("Updated tweet list to be streamed. Now contains {}", tweetsRef.get().size());
+        switch (config.tweetSource) {
+            case STREAM -> {
+                final TweetStreamDataProvider.Snapshot snapshot = tweetStreamDataProvider.getSnapshot();
+
+                if (snapshot.version() != tweetsVersion) {
+                    // snapshot lists are immutable and can be used as is
+                    tweetsRef.set(snapshot.tweets());
+                    tweetsVersion = snapshot.version();
+                    LOG.info("Updated tweet list to be streamed. Now contains {}", snapshot.tweets().size());
+                }
+            }
+            case RANKED -> {
+                // the ranked tweets are immutable and only recomputed once the ranking changed
+                final List<Tweet> rankedTweets = tweetRankingDataProvider.getRankedTweets();
+                tweetsRef.set(rankedTweets);
+                LOG.debug("Updated tweet list to be streamed from ranking. Now contains {}", rankedTweets.size());
+            }
+        }
+
         next.set(0);
     }
 
@@ -403,7 +425,10 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
         @Override
         public Collection<Class<? extends DataProvider>> getRequiredDataProviders(final StepEngineSettings.StepDefinition stepSettings) {
             return Arrays.asList(
-                    TweetStreamDataProvider.class,
+                    switch (stepSettings.getConfig(Config.class).tweetSource) {
+                        case STREAM -> TweetStreamDataProvider.class;
+                        case RANKED -> TweetRankingDataProvider.class;
+                    },
                     TweetUserProfileImageDataProvider.class,
                     PhotoImageMediaEntryDataProvider.class
             );
@@ -427,7 +452,24 @@ public class InfiniteScrollingTweetsStep implements Step, Controllable {
             }
         }
 
+        /**
+         * The source of the tweets to scroll through.
+         */
+        public static enum TweetSource {
+            /**
+             * The most recent tweets, newest first, as provided by
+             * {@link TweetStreamDataProvider}.
+             */
+            STREAM,
+            /**
+             * The most relevant tweets, most relevant first, as provided by
+             * {@link TweetRankingDataProvider}.
+             */
+            RANKED;
+        }
+
         public long stepDuration = 1;
+        public TweetSource tweetSource = TweetSource.STREAM;
         public double layoutX = 0;
         public double layoutY = 0;
         public double tweetWidth = 600;
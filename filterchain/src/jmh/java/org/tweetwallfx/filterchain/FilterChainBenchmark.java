@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of evaluating objects with a {@link FilterChain},
+ * comparing the former stream based evaluation logging every step at INFO
+ * level with the array based evaluation of {@link FilterChain}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FilterChainBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FilterChainBenchmark.class);
+
+    /**
+     * Number of steps in the chain, of which only the last one determines a
+     * terminal result.
+     */
+    @Param({"1", "5"})
+    private int stepCount;
+
+    private String object;
+    private List<FilterStep<String>> filterSteps;
+    private FilterChain<String> filterChain;
+
+    @Setup
+    public void setup() {
+        object = "Great talk about virtual threads at #devoxx";
+        filterSteps = new ArrayList<>();
+
+        for (int i = 1; i < stepCount; i++) {
+            final String phrase = "phrase" + i;
+            filterSteps.add(s -> s.contains(phrase) ? FilterStep.Result.REJECTED : FilterStep.Result.NOTHING_DEFINITE);
+        }
+
+        filterSteps.add(s -> s.contains("#devoxx") ? FilterStep.Result.ACCEPTED : FilterStep.Result.NOTHING_DEFINITE);
+        filterChain = new FilterChain<>(filterSteps, false);
+    }
+
+    @Benchmark
+    public boolean streamLogging() {
+        return filterSteps.stream()
+                .peek(fs -> LOGGER.info("Checking {} with {}", object.getClass().getName(), fs.getClass().getName()))
+                .map(fs -> fs.check(object))
+                .peek(r -> LOGGER.debug("Checking {} determined {}", object.getClass().getName(), r))
+                .filter(FilterStep.Result::isTerminal)
+                .peek(r -> LOGGER.info("Checking {} determined terminally {}", object.getClass().getName(), r))
+                .findFirst()
+                .map(FilterStep.Result::isAccepted)
+                .orElse(false);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return filterChain.process(object);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean compiledContended() {
+        return filterChain.process(object);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Consumer} evaluating the consumed objects asynchronously with a
+ * {@link FilterChain} and handing the accepted ones to a downstream
+ * {@link Consumer}.
+ *
+ * <p>
+ * At most {@code maxConcurrency} objects are evaluated at the same time. For
+ * ordered delivery additionally at most {@code reorderBufferSize} objects are
+ * evaluated or waiting for the delivery of objects consumed before them. Once
+ * either limit is reached {@link #accept(java.lang.Object)} blocks until an
+ * evaluation respectively a delivery has been completed. The downstream
+ * {@link Consumer} is never called concurrently, either in the order the
+ * objects have been consumed or in the order their evaluations complete.
+ *
+ * @param <T> the type of the evaluated object
+ */
+final class AsyncFilterChainConsumer<T> implements Consumer<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncFilterChainConsumer.class);
+    private final FilterChain<T> filterChain;
+    private final Consumer<? super T> acceptedConsumer;
+    private final boolean ordered;
+    private final Semaphore permits;
+    // bounds pending, null unless ordered
+    private final Semaphore bufferSlots;
+    // evaluations in the order of consumption (only used for ordered delivery)
+    private final Deque<Evaluation<T>> pending = new ArrayDeque<>();
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    AsyncFilterChainConsumer(
+            final FilterChain<T> filterChain,
+            final Consumer<? super T> acceptedConsumer,
+            final int maxConcurrency,
+            final boolean ordered,
+            final int reorderBufferSize) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive!");
+        }
+        if (reorderBufferSize < 1) {
+            throw new IllegalArgumentException("reorderBufferSize must be positive!");
+        }
+
+        this.filterChain = Objects.requireNonNull(filterChain, "filterChain must not be null!");
+        this.acceptedConsumer = Objects.requireNonNull(acceptedConsumer, "acceptedConsumer must not be null!");
+        this.ordered = ordered;
+        this.permits = new Semaphore(maxConcurrency);
+        this.bufferSlots = ordered ? new Semaphore(reorderBufferSize) : null;
+    }
+
+    @Override
+    public void accept(final T t) {
+        try {
+            if (ordered) {
+                bufferSlots.acquire();
+            }
+
+            try {
+                permits.acquire();
+            } catch (final InterruptedException ie) {
+                if (ordered) {
+                    bufferSlots.release();
+                }
+
+                throw ie;
+            }
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting to evaluate {} -> dropped", t);
+            return;
+        }
+
+        final Evaluation<T> evaluation = new Evaluation<>(t);
+
+        if (ordered) {
+            synchronized (pending) {
+                pending.addLast(evaluation);
+            }
+        }
+
+        CompletionStage<Boolean> stage;
+
+        try {
+            stage = filterChain.processAsync(t);
+        } catch (final RuntimeException re) {
+            stage = CompletableFuture.failedStage(re);
+        }
+
+        stage.whenComplete((accepted, failure) -> completed(evaluation, accepted, failure));
+    }
+
+    private void completed(final Evaluation<T> evaluation, final Boolean accepted, final Throwable failure) {
+        if (null == failure) {
+            evaluation.accepted = accepted;
+        } else {
+            LOGGER.warn("Evaluating {} failed -> REJECT", evaluation.t, failure);
+            evaluation.accepted = false;
+        }
+
+        evaluation.done = true;
+        // the evaluation is over even if its delivery has to wait for others
+        permits.release();
+        deliveryLock.lock();
+
+        try {
+            if (ordered) {
+                Evaluation<T> head;
+
+                while (null != (head = pollCompleted())) {
+                    deliver(head);
+                }
+            } else {
+                deliver(evaluation);
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private Evaluation<T> pollCompleted() {
+        synchronized (pending) {
+            final Evaluation<T> head = pending.peekFirst();
+            return null != head && head.done
+                    ? pending.pollFirst()
+                    : null;
+        }
+    }
+
+    private void deliver(final Evaluation<T> evaluation) {
+        try {
+            if (evaluation.accepted) {
+                acceptedConsumer.accept(evaluation.t);
+            }
+        } catch (final RuntimeException re) {
+            LOGGER.warn("Consuming accepted {} failed", evaluation.t, re);
+        } finally {
+            if (ordered) {
+                bufferSlots.release();
+            }
+        }
+    }
+
+    private static final class Evaluation<T> {
+
+        private final T t;
+        private boolean accepted;
+        // written after accepted, publishing it to the delivering thread
+        private volatile boolean done;
+
+        private Evaluation(final T t) {
+            this.t = t;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link FilterStep} whose evaluation involves blocking work (e.g. a network
+ * request) and is therefore performed asynchronously.
+ *
+ * <p>
+ * When a {@link FilterChain} is evaluated asynchronously (see
+ * {@link FilterChain#asAsyncConsumer(java.util.function.Consumer)}) the
+ * synchronous {@link FilterStep}s preceding an {@link AsyncFilterStep} are
+ * evaluated on the calling thread, so a terminal result of one of them
+ * prevents the asynchronous evaluation from being started at all.
+ *
+ * @param <T> the type of the object to check
+ */
+public interface AsyncFilterStep<T> extends FilterStep<T> {
+
+    /**
+     * Checks the given object asynchronously and returns a
+     * {@link CompletionStage} of the {@link Result} of the evaluation.
+     *
+     * @param t the object to check
+     *
+     * @return the stage completing with the result of the evaluation
+     */
+    CompletionStage<Result> checkAsync(final T t);
+
+    /**
+     * Checks the given object by waiting for the completion of
+     * {@link #checkAsync(java.lang.Object)}.
+     *
+     * @param t the object to check
+     *
+     * @return the result of the evaluation
+     */
+    @Override
+    default Result check(final T t) {
+        return checkAsync(t).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.util.List;
+
+/**
+ * A {@link FilterStep} able to check multiple objects at once more efficiently
+ * than checking them one by one, e.g. by combining the requests to a remote
+ * service.
+ *
+ * <p>
+ * Used by {@link FilterChain#filterBatch(java.util.List)} for the objects not
+ * yet terminally evaluated by the preceding {@link FilterStep}s.
+ *
+ * @param <T> the type of the object to check
+ */
+public interface BatchFilterStep<T> extends FilterStep<T> {
+
+    /**
+     * Checks the given objects and returns the {@link Result}s of their
+     * evaluation.
+     *
+     * @param ts the objects to check
+     *
+     * @return the results of the evaluation in the order of the given objects
+     */
+    List<Result> checkBatch(final List<T> ts);
+}
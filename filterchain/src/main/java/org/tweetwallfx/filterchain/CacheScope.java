@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+/**
+ * The scope of the data a {@link FilterStep.Result} depends on. Evaluated
+ * objects for which the same key is determined are guaranteed to get the same
+ * {@link FilterStep.Result} from a {@link FilterStep} declaring this scope via
+ * {@link FilterStep#getCacheScope()}, which allows a {@link FilterChain} to
+ * reuse it.
+ *
+ * @param <T> the type of the evaluated object
+ */
+@FunctionalInterface
+public interface CacheScope<T> {
+
+    /**
+     * Determines the key identifying the data of the given object the
+     * {@link FilterStep.Result} depends on.
+     *
+     * <p>
+     * Keys must implement {@link Object#equals(java.lang.Object)} and
+     * {@link Object#hashCode()} according to the identity of the data.
+     *
+     * @param t the evaluated object
+     *
+     * @return the key of the given object or {@code null} if the result for
+     * it shall not be cached
+     */
+    Object keyOf(final T t);
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded cache of the {@link FilterStep.Result}s of the {@link FilterStep}s
+ * of a {@link FilterChain} keyed by the step and the key determined by its
+ * {@link CacheScope}.
+ *
+ * Entries expire after the configured time to live and the least recently
+ * used entry is evicted once the maximum size is exceeded. Results are held as
+ * {@link CompletableFuture}s so that concurrent evaluations of the same key by
+ * an {@link AsyncFilterStep} share the pending evaluation.
+ */
+final class DecisionCache {
+
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+
+    DecisionCache(final int maxSize, final Duration ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive!");
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be zero or negative!");
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result or {@code null} if none is cached.
+     */
+    synchronized CompletableFuture<FilterStep.Result> get(final int step, final Object scopeKey) {
+        final Key key = new Key(step, scopeKey);
+        final Entry entry = entries.get(key);
+
+        if (null == entry) {
+            return null;
+        } else if (System.nanoTime() - entry.expiresAt() > 0) {
+            entries.remove(key);
+            return null;
+        } else {
+            return entry.result();
+        }
+    }
+
+    /**
+     * Caches the result unless a result is already cached.
+     *
+     * @return the previously cached result or {@code null} if the given result
+     * has been cached
+     */
+    synchronized CompletableFuture<FilterStep.Result> putIfAbsent(
+            final int step,
+            final Object scopeKey,
+            final CompletableFuture<FilterStep.Result> result) {
+        final CompletableFuture<FilterStep.Result> cached = get(step, scopeKey);
+
+        if (null == cached) {
+            entries.put(new Key(step, scopeKey), new Entry(result, System.nanoTime() + ttlNanos));
+        }
+
+        return cached;
+    }
+
+    /**
+     * Removes the given result, e.g. after its evaluation has failed.
+     */
+    synchronized void remove(final int step, final Object scopeKey, final CompletableFuture<FilterStep.Result> result) {
+        entries.computeIfPresent(new Key(step, scopeKey), (k, entry) -> entry.result() == result ? null : entry);
+    }
+
+    private record Key(int step, Object scopeKey) {
+    }
+
+    private record Entry(CompletableFuture<FilterStep.Result> result, long expiresAt) {
+    }
+}
@@ -23,14 +23,24 @@
  */
 package org.tweetwallfx.filterchain;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,14 +70,83 @@ public class FilterChain<T> {
                     Collectors.toMap(
                             fsf -> fsf.getFilterStepClass().getCanonicalName(),
                             Function.identity())));
-    private final List<FilterStep<T>> filterSteps;
+    private static final FilterStep.Result[] RESULTS = FilterStep.Result.values();
+    /**
+     * One out of this number of evaluations is logged when TRACE logging is
+     * enabled.
+     */
+    private static final int TRACE_SAMPLE_RATE = 100;
+    private final FilterStep<T>[] filterSteps;
+    // the declared scope per step, null for steps whose results are not cached
+    private final CacheScope<? super T>[] cacheScopes;
+    // null if caching is disabled
+    private final DecisionCache decisionCache;
+    private final LongAdder[] cacheHitCounters;
     private final boolean defaultResult;
+    private final int maxConcurrency;
+    private final boolean orderedDelivery;
+    private final int reorderBufferSize;
+    // counters indexed by step * RESULTS.length + result ordinal
+    private final LongAdder[] stepResultCounters;
+    // counters indexed by the ordinal of the terminal result, NOTHING_DEFINITE
+    // counting the evaluations resulting in the default result
+    private final LongAdder[] chainResultCounters;
+    private final StepOrdering stepOrdering;
+    private final boolean adaptiveOrdering;
 
-    private FilterChain(
-            final List<FilterStep<T>> filterSteps,
+    FilterChain(
+            final List<? extends FilterStep<T>> filterSteps,
             final boolean defaultResult) {
-        this.filterSteps = filterSteps;
-        this.defaultResult = defaultResult;
+        this(filterSteps, new FilterChainSettings.FilterChainDefinition(
+                defaultResult, List.of(), null, 1, true, null, 0, null, false, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    FilterChain(
+            final List<? extends FilterStep<T>> filterSteps,
+            final FilterChainSettings.FilterChainDefinition filterChainDefinition) {
+        this.filterSteps = (FilterStep<T>[]) filterSteps.toArray(FilterStep<?>[]::new);
+        this.cacheScopes = (CacheScope<? super T>[]) new CacheScope<?>[this.filterSteps.length];
+
+        for (int i = 0; i < this.filterSteps.length; i++) {
+            cacheScopes[i] = this.filterSteps[i].getCacheScope().orElse(null);
+        }
+
+        this.decisionCache = filterChainDefinition.decisionCacheSize() > 0
+                ? new DecisionCache(
+                        filterChainDefinition.decisionCacheSize(),
+                        Duration.ofSeconds(filterChainDefinition.decisionCacheTtlSeconds()))
+                : null;
+        this.cacheHitCounters = createCounters(this.filterSteps.length);
+        this.defaultResult = filterChainDefinition.defaultResult();
+        this.maxConcurrency = filterChainDefinition.maxConcurrency();
+        this.orderedDelivery = filterChainDefinition.orderedDelivery();
+        this.reorderBufferSize = filterChainDefinition.reorderBufferSize();
+        this.stepResultCounters = createCounters(this.filterSteps.length * RESULTS.length);
+        this.chainResultCounters = createCounters(RESULTS.length);
+        this.stepOrdering = new StepOrdering(
+                this.filterSteps,
+                stepResultCounters,
+                filterChainDefinition.adaptiveOrdering()
+                ? Duration.ofSeconds(filterChainDefinition.adaptiveOrderingIntervalSeconds())
+                : null);
+        this.adaptiveOrdering = stepOrdering.isAdaptive();
+    }
+
+    private static LongAdder[] createCounters(final int count) {
+        final LongAdder[] counters = new LongAdder[count];
+
+        for (int i = 0; i < count; i++) {
+            counters[i] = new LongAdder();
+        }
+
+        return counters;
+    }
+
+    private static boolean sampleTrace() {
+        // sampling keeps TRACE logging affordable at high rates
+        return LOGGER.isTraceEnabled()
+                && 0 == ThreadLocalRandom.current().nextInt(TRACE_SAMPLE_RATE);
     }
 
     /**
@@ -121,7 +200,7 @@ public class FilterChain<T> {
                             return fs2;
                         })
                         .toList(),
-                filterChainDefinition.defaultResult()
+                filterChainDefinition
         );
     }
 
@@ -134,20 +213,462 @@ public class FilterChain<T> {
         return this::process;
     }
 
-    private boolean process(final T t) {
-        return filterSteps.stream()
-                .peek(fs -> LOGGER.info("Checking {} with {}", t.getClass().getName(), fs.getClass().getName()))
-                .map(fs -> fs.check(t))
-                .peek(r -> LOGGER.debug("Checking {} determined {}", t.getClass().getName(), r))
-                .filter(FilterStep.Result::isTerminal)
-                .peek(r -> LOGGER.info("Checking {} determined terminally {}", t.getClass().getName(), r))
-                .findFirst()
-                .map(FilterStep.Result::isAccepted)
-                .orElseGet(() -> {
-                    LOGGER.info("Found nothing definitive for {}. -> {}",
-                            t.getClass().getName(),
-                            defaultResult ? "ACCEPT" : "REJECT");
-                    return defaultResult;
+    /**
+     * Produces a {@link Consumer} evaluating the consumed objects
+     * asynchronously with this FilterChain and passing the accepted ones on to
+     * {@code acceptedConsumer}.
+     *
+     * <p>
+     * Up to the configured
+     * {@link FilterChainSettings.FilterChainDefinition#maxConcurrency()}
+     * objects are evaluated concurrently, consuming further objects blocks
+     * until an evaluation completes. Accepted objects are delivered in the
+     * order they have been consumed when
+     * {@link FilterChainSettings.FilterChainDefinition#orderedDelivery()} is
+     * set and as soon as their evaluation completes otherwise. For ordered
+     * delivery consuming further objects also blocks while
+     * {@link FilterChainSettings.FilterChainDefinition#reorderBufferSize()}
+     * objects are evaluated or waiting for their delivery.
+     *
+     * @param acceptedConsumer the consumer of the accepted objects
+     *
+     * @return the {@link Consumer} evaluating objects with this FilterChain
+     */
+    public Consumer<T> asAsyncConsumer(final Consumer<? super T> acceptedConsumer) {
+        return new AsyncFilterChainConsumer<>(this, acceptedConsumer, maxConcurrency, orderedDelivery, reorderBufferSize);
+    }
+
+    /**
+     * Evaluates the given objects with this FilterChain and returns the
+     * accepted ones.
+     *
+     * <p>
+     * The objects are evaluated step by step, i.e. each {@link FilterStep}
+     * checks all objects not terminally evaluated by the preceding ones before
+     * the next {@link FilterStep} is evaluated. {@link BatchFilterStep}s check
+     * these objects at once and {@link AsyncFilterStep}s check them
+     * concurrently. An object whose check fails is rejected without caching
+     * the failure, a failing {@link BatchFilterStep} checks its objects
+     * individually.
+     *
+     * @param batch the objects to evaluate
+     *
+     * @return the accepted objects in the order of the given objects
+     */
+    public List<T> filterBatch(final List<T> batch) {
+        final boolean trace = sampleTrace();
+
+        if (adaptiveOrdering) {
+            stepOrdering.reorderIfDue();
+        }
+
+        final boolean[] accepted = new boolean[batch.size()];
+        // indexes of the objects not yet terminally evaluated
+        final int[] pending = IntStream.range(0, batch.size()).toArray();
+        int pendingCount = pending.length;
+
+        for (final int step : stepOrdering.order()) {
+            if (0 == pendingCount) {
+                break;
+            }
+
+            final List<T> ts = new ArrayList<>(pendingCount);
+
+            for (int i = 0; i < pendingCount; i++) {
+                ts.add(batch.get(pending[i]));
+            }
+
+            final long start = adaptiveOrdering ? System.nanoTime() : 0;
+            final FilterStep.Result[] results = checkAll(ts, step);
+
+            if (adaptiveOrdering) {
+                stepOrdering.recordLatency(step, System.nanoTime() - start);
+            }
+
+            int remaining = 0;
+
+            for (int i = 0; i < pendingCount; i++) {
+                if (evaluated(ts.get(i), step, results[i], trace)) {
+                    accepted[pending[i]] = results[i].isAccepted();
+                } else {
+                    pending[remaining++] = pending[i];
+                }
+            }
+
+            pendingCount = remaining;
+        }
+
+        for (int i = 0; i < pendingCount; i++) {
+            accepted[pending[i]] = nothingDefinite(batch.get(pending[i]), trace);
+        }
+
+        final List<T> acceptedObjects = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < accepted.length; i++) {
+            if (accepted[i]) {
+                acceptedObjects.add(batch.get(i));
+            }
+        }
+
+        return acceptedObjects;
+    }
+
+    /**
+     * Returns the number of evaluations per result of this FilterChain and of
+     * each of its {@link FilterStep}s since its creation together with the
+     * order the {@link FilterStep}s are currently evaluated in.
+     *
+     * @return the statistics of this FilterChain
+     */
+    public Statistics getStatistics() {
+        final StepOrdering.Ordering ordering = stepOrdering.ordering();
+        final List<StepStatistics> stepStatistics = new ArrayList<>(filterSteps.length);
+
+        for (int i = 0; i < filterSteps.length; i++) {
+            final int offset = i * RESULTS.length;
+            stepStatistics.add(new StepStatistics(
+                    filterSteps[i].getClass().getName(),
+                    stepResultCounters[offset + FilterStep.Result.ACCEPTED.ordinal()].sum(),
+                    stepResultCounters[offset + FilterStep.Result.REJECTED.ordinal()].sum(),
+                    stepResultCounters[offset + FilterStep.Result.NOTHING_DEFINITE.ordinal()].sum(),
+                    cacheHitCounters[i].sum(),
+                    ordering.meanNanos(i),
+                    ordering.terminalRate(i)));
+        }
+
+        return new Statistics(
+                chainResultCounters[FilterStep.Result.ACCEPTED.ordinal()].sum(),
+                chainResultCounters[FilterStep.Result.REJECTED.ordinal()].sum(),
+                chainResultCounters[FilterStep.Result.NOTHING_DEFINITE.ordinal()].sum(),
+                List.copyOf(stepStatistics),
+                ordering.order());
+    }
+
+    boolean process(final T t) {
+        final boolean trace = sampleTrace();
+
+        if (adaptiveOrdering) {
+            stepOrdering.reorderIfDue();
+        }
+
+        for (final int step : stepOrdering.order()) {
+            final long start = adaptiveOrdering ? System.nanoTime() : 0;
+            final FilterStep.Result result = check(t, step);
+
+            if (adaptiveOrdering) {
+                stepOrdering.recordLatency(step, System.nanoTime() - start);
+            }
+
+            if (evaluated(t, step, result, trace)) {
+                return result.isAccepted();
+            }
+        }
+
+        return nothingDefinite(t, trace);
+    }
+
+    /**
+     * Evaluates the given object like {@link #process(java.lang.Object)} but
+     * without blocking on {@link AsyncFilterStep}s. The synchronous
+     * {@link FilterStep}s up to the first {@link AsyncFilterStep} are
+     * evaluated on the calling thread.
+     *
+     * @param t the object to evaluate
+     *
+     * @return the stage completing with the acceptance of the object
+     */
+    CompletionStage<Boolean> processAsync(final T t) {
+        final boolean trace = sampleTrace();
+
+        if (adaptiveOrdering) {
+            stepOrdering.reorderIfDue();
+        }
+
+        return processAsync(t, stepOrdering.order(), 0, trace);
+    }
+
+    private CompletionStage<Boolean> processAsync(final T t, final int[] order, final int firstPosition, final boolean trace) {
+        for (int position = firstPosition; position < order.length; position++) {
+            final int step = order[position];
+            final long start = adaptiveOrdering ? System.nanoTime() : 0;
+
+            if (filterSteps[step] instanceof final AsyncFilterStep<T> asyncFilterStep) {
+                final int nextPosition = position + 1;
+                return checkAsync(t, step, asyncFilterStep).thenCompose(result -> {
+                    if (adaptiveOrdering) {
+                        stepOrdering.recordLatency(step, System.nanoTime() - start);
+                    }
+
+                    return evaluated(t, step, result, trace)
+                            ? CompletableFuture.completedStage(result.isAccepted())
+                            : processAsync(t, order, nextPosition, trace);
                 });
+            }
+
+            final FilterStep.Result result = check(t, step);
+
+            if (adaptiveOrdering) {
+                stepOrdering.recordLatency(step, System.nanoTime() - start);
+            }
+
+            if (evaluated(t, step, result, trace)) {
+                return CompletableFuture.completedStage(result.isAccepted());
+            }
+        }
+
+        return CompletableFuture.completedStage(nothingDefinite(t, trace));
+    }
+
+    private Object cacheKey(final T t, final int step) {
+        final CacheScope<? super T> cacheScope = cacheScopes[step];
+        return null == decisionCache || null == cacheScope
+                ? null
+                : cacheScope.keyOf(t);
+    }
+
+    private FilterStep.Result check(final T t, final int step) {
+        final Object cacheKey = cacheKey(t, step);
+        final CompletableFuture<FilterStep.Result> cached = null == cacheKey
+                ? null
+                : decisionCache.get(step, cacheKey);
+
+        if (null != cached && cached.isDone() && !cached.isCompletedExceptionally()) {
+            cacheHitCounters[step].increment();
+            return cached.join();
+        }
+
+        final FilterStep.Result result;
+
+        try {
+            result = filterSteps[step].check(t);
+        } catch (final RuntimeException re) {
+            return failed(t, step, re);
+        }
+
+        if (null != cacheKey && null == cached) {
+            decisionCache.putIfAbsent(step, cacheKey, CompletableFuture.completedFuture(result));
+        }
+
+        return result;
+    }
+
+    // a failed check rejects its object only and is not cached, as opposed to a REJECTED result
+    private FilterStep.Result failed(final T t, final int step, final Exception ex) {
+        LOGGER.warn("Checking {} with {} failed -> REJECTED",
+                t,
+                filterSteps[step].getClass().getName(),
+                ex);
+        return FilterStep.Result.REJECTED;
+    }
+
+    private FilterStep.Result[] checkAll(final List<T> ts, final int step) {
+        final FilterStep.Result[] results = new FilterStep.Result[ts.size()];
+
+        if (filterSteps[step] instanceof final BatchFilterStep<T> batchFilterStep) {
+            checkBatch(ts, step, batchFilterStep, results);
+        } else if (filterSteps[step] instanceof final AsyncFilterStep<T> asyncFilterStep) {
+            final List<CompletableFuture<FilterStep.Result>> futures = new ArrayList<>(ts.size());
+
+            for (final T t : ts) {
+                CompletionStage<FilterStep.Result> stage;
+
+                try {
+                    stage = checkAsync(t, step, asyncFilterStep);
+                } catch (final RuntimeException re) {
+                    stage = CompletableFuture.failedStage(re);
+                }
+
+                futures.add(stage.toCompletableFuture());
+            }
+
+            for (int i = 0; i < results.length; i++) {
+                try {
+                    results[i] = futures.get(i).join();
+                } catch (final CancellationException | CompletionException ex) {
+                    results[i] = failed(ts.get(i), step, ex);
+                }
+            }
+        } else {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = check(ts.get(i), step);
+            }
+        }
+
+        return results;
+    }
+
+    private void checkBatch(final List<T> ts, final int step, final BatchFilterStep<T> batchFilterStep, final FilterStep.Result[] results) {
+        final Object[] cacheKeys = new Object[ts.size()];
+        final List<T> unchecked = new ArrayList<>(ts.size());
+        final int[] uncheckedIndexes = new int[ts.size()];
+
+        // reuse cached results and check only the remaining objects
+        for (int i = 0; i < cacheKeys.length; i++) {
+            final T t = ts.get(i);
+            cacheKeys[i] = cacheKey(t, step);
+            final CompletableFuture<FilterStep.Result> cached = null == cacheKeys[i]
+                    ? null
+                    : decisionCache.get(step, cacheKeys[i]);
+
+            if (null != cached && cached.isDone() && !cached.isCompletedExceptionally()) {
+                cacheHitCounters[step].increment();
+                results[i] = cached.join();
+            } else {
+                uncheckedIndexes[unchecked.size()] = i;
+                unchecked.add(t);
+            }
+        }
+
+        if (unchecked.isEmpty()) {
+            return;
+        }
+
+        final List<FilterStep.Result> checked;
+
+        try {
+            checked = batchFilterStep.checkBatch(unchecked);
+        } catch (final RuntimeException re) {
+            // so that a failure rejects only the objects it concerns
+            LOGGER.warn("Checking {} objects with {} failed -> checking them individually",
+                    unchecked.size(),
+                    batchFilterStep.getClass().getName(),
+                    re);
+
+            for (int i = 0; i < unchecked.size(); i++) {
+                results[uncheckedIndexes[i]] = check(unchecked.get(i), step);
+            }
+
+            return;
+        }
+
+        if (checked.size() != unchecked.size()) {
+            throw new IllegalStateException("FilterStep '" + batchFilterStep.getClass().getName()
+                    + "' returned " + checked.size() + " results for " + unchecked.size() + " objects!");
+        }
+
+        for (int i = 0; i < checked.size(); i++) {
+            final int index = uncheckedIndexes[i];
+            results[index] = checked.get(i);
+
+            if (null != cacheKeys[index]) {
+                decisionCache.putIfAbsent(step, cacheKeys[index], CompletableFuture.completedFuture(results[index]));
+            }
+        }
+    }
+
+    private CompletionStage<FilterStep.Result> checkAsync(final T t, final int step, final AsyncFilterStep<T> asyncFilterStep) {
+        final Object cacheKey = cacheKey(t, step);
+
+        if (null == cacheKey) {
+            return asyncFilterStep.checkAsync(t);
+        }
+
+        final CompletableFuture<FilterStep.Result> pending = new CompletableFuture<>();
+        final CompletableFuture<FilterStep.Result> cached = decisionCache.putIfAbsent(step, cacheKey, pending);
+
+        if (null != cached) {
+            // possibly still pending, sharing the evaluation of the same key
+            cacheHitCounters[step].increment();
+            return cached;
+        }
+
+        try {
+            asyncFilterStep.checkAsync(t).whenComplete((result, failure) -> {
+                if (null == failure) {
+                    pending.complete(result);
+                } else {
+                    decisionCache.remove(step, cacheKey, pending);
+                    pending.completeExceptionally(failure);
+                }
+            });
+        } catch (final RuntimeException re) {
+            decisionCache.remove(step, cacheKey, pending);
+            throw re;
+        }
+
+        return pending;
+    }
+
+    // counts the result of a step and returns if it terminates the evaluation
+    private boolean evaluated(final T t, final int step, final FilterStep.Result result, final boolean trace) {
+        stepResultCounters[step * RESULTS.length + result.ordinal()].increment();
+
+        if (trace) {
+            LOGGER.trace("Checking {} with {} determined {}", t.getClass().getName(), filterSteps[step].getClass().getName(), result);
+        }
+
+        if (result.isTerminal()) {
+            chainResultCounters[result.ordinal()].increment();
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean nothingDefinite(final T t, final boolean trace) {
+        chainResultCounters[FilterStep.Result.NOTHING_DEFINITE.ordinal()].increment();
+
+        if (trace) {
+            LOGGER.trace("Found nothing definitive for {}. -> {}",
+                    t.getClass().getName(),
+                    defaultResult ? "ACCEPT" : "REJECT");
+        }
+
+        return defaultResult;
+    }
+
+    /**
+     * Number of evaluations of a {@link FilterChain} per result.
+     *
+     * @param accepted the number of objects accepted by a {@link FilterStep}
+     *
+     * @param rejected the number of objects rejected by a {@link FilterStep}
+     *
+     * @param nothingDefinite the number of objects no {@link FilterStep}
+     * determined a terminal result for, which got the default result
+     *
+     * @param steps the statistics of the {@link FilterStep}s in configured
+     * order
+     *
+     * @param order the indexes into {@code steps} in the order the
+     * {@link FilterStep}s are currently evaluated in
+     */
+    public record Statistics(
+            long accepted,
+            long rejected,
+            long nothingDefinite,
+            List<StepStatistics> steps,
+            List<Integer> order) {
+    }
+
+    /**
+     * Number of evaluations of a {@link FilterStep} per {@link FilterStep.Result}.
+     *
+     * @param step the class name of the {@link FilterStep}
+     *
+     * @param accepted the number of {@link FilterStep.Result#ACCEPTED} results
+     *
+     * @param rejected the number of {@link FilterStep.Result#REJECTED} results
+     *
+     * @param nothingDefinite the number of
+     * {@link FilterStep.Result#NOTHING_DEFINITE} results
+     *
+     * @param cacheHits the number of results (included in the numbers above)
+     * reused from the decision cache instead of checking the object
+     *
+     * @param meanLatencyNanos the estimated mean latency of an evaluation in
+     * nanoseconds used for adaptive ordering ({@link Double#NaN} if unknown)
+     *
+     * @param terminalRate the estimated rate of terminal results used for
+     * adaptive ordering ({@link Double#NaN} if unknown)
+     */
+    public record StepStatistics(
+            String step,
+            long accepted,
+            long rejected,
+            long nothingDefinite,
+            long cacheHits,
+            double meanLatencyNanos,
+            double terminalRate) {
     }
 }
@@ -92,19 +92,93 @@ public record FilterChainSettings(
      * <p>
      * Param {@code domainObjectClassName} the class name of the domain object
      * being evaluated
+     *
+     * <p>
+     * Param {@code maxConcurrency} the maximum number of objects evaluated
+     * concurrently when the {@link FilterChain} is evaluated asynchronously
+     * (defaults to {@code 4})
+     *
+     * <p>
+     * Param {@code orderedDelivery} a boolean flag determining if objects
+     * accepted by an asynchronous evaluation are delivered in the order they
+     * have been submitted (defaults to {@code true})
+     *
+     * <p>
+     * Param {@code reorderBufferSize} the maximum number of objects evaluated
+     * or waiting for the delivery of objects submitted before them when
+     * {@code orderedDelivery} is set, bounding the objects held back by a slow
+     * evaluation (defaults to {@code 64})
+     *
+     * <p>
+     * Param {@code decisionCacheSize} the maximum number of
+     * {@link FilterStep.Result}s of {@link FilterStep}s declaring a
+     * {@link CacheScope} kept for reuse (defaults to {@code 1000}, {@code 0}
+     * disables the cache)
+     *
+     * <p>
+     * Param {@code decisionCacheTtlSeconds} the number of seconds a cached
+     * {@link FilterStep.Result} is reused for (defaults to {@code 300})
+     *
+     * <p>
+     * Param {@code adaptiveOrdering} a boolean flag determining if the
+     * {@link FilterStep}s that are safe to commute are reordered based on their
+     * measured latency and rate of terminal results (defaults to
+     * {@code false})
+     *
+     * <p>
+     * Param {@code adaptiveOrderingIntervalSeconds} the number of seconds
+     * between reorderings when {@code adaptiveOrdering} is enabled (defaults
+     * to {@code 60})
      */
     public static record FilterChainDefinition(
             Boolean defaultResult,
             List<FilterStepDefinition> filterSteps,
-            String domainObjectClassName) {
+            String domainObjectClassName,
+            Integer maxConcurrency,
+            Boolean orderedDelivery,
+            Integer reorderBufferSize,
+            Integer decisionCacheSize,
+            Integer decisionCacheTtlSeconds,
+            Boolean adaptiveOrdering,
+            Integer adaptiveOrderingIntervalSeconds) {
 
         public FilterChainDefinition(
                 final Boolean defaultResult,
                 final List<FilterStepDefinition> filterSteps,
-                final String domainObjectClassName) {
+                final String domainObjectClassName,
+                final Integer maxConcurrency,
+                final Boolean orderedDelivery,
+                final Integer reorderBufferSize,
+                final Integer decisionCacheSize,
+                final Integer decisionCacheTtlSeconds,
+                final Boolean adaptiveOrdering,
+                final Integer adaptiveOrderingIntervalSeconds) {
             this.defaultResult = defaultResult;
             this.filterSteps = nullable(filterSteps);
             this.domainObjectClassName = domainObjectClassName;
+            this.maxConcurrency = Objects.requireNonNullElse(maxConcurrency, 4);
+            this.orderedDelivery = Objects.requireNonNullElse(orderedDelivery, true);
+            this.reorderBufferSize = Objects.requireNonNullElse(reorderBufferSize, 64);
+            this.decisionCacheSize = Objects.requireNonNullElse(decisionCacheSize, 1000);
+            this.decisionCacheTtlSeconds = Objects.requireNonNullElse(decisionCacheTtlSeconds, 300);
+            this.adaptiveOrdering = Objects.requireNonNullElse(adaptiveOrdering, false);
+            this.adaptiveOrderingIntervalSeconds = Objects.requireNonNullElse(adaptiveOrderingIntervalSeconds, 60);
+
+            if (this.maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be positive!");
+            }
+            if (this.reorderBufferSize < 1) {
+                throw new IllegalArgumentException("reorderBufferSize must be positive!");
+            }
+            if (this.decisionCacheSize < 0) {
+                throw new IllegalArgumentException("decisionCacheSize must not be negative!");
+            }
+            if (this.decisionCacheTtlSeconds < 1) {
+                throw new IllegalArgumentException("decisionCacheTtlSeconds must be positive!");
+            }
+            if (this.adaptiveOrderingIntervalSeconds < 1) {
+                throw new IllegalArgumentException("adaptiveOrderingIntervalSeconds must be positive!");
+            }
         }
 
         @Override
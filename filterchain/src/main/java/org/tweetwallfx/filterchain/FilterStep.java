@@ -23,6 +23,10 @@
  */
 package org.tweetwallfx.filterchain;
 
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
 /**
  * A Step in the filter chain checking for something specific.
  *
@@ -39,6 +43,43 @@ public interface FilterStep<T> {
      */
     Result check(final T t);
 
+    /**
+     * Returns the {@link CacheScope} of the data the {@link Result} of this
+     * step depends on. If present a {@link FilterChain} may reuse the
+     * {@link Result} for objects of the same key instead of checking them
+     * again.
+     *
+     * @return the {@link CacheScope} of this step or an empty Optional if its
+     * {@link Result} must not be reused
+     */
+    default Optional<CacheScope<? super T>> getCacheScope() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the terminal {@link Result}s this step may determine. Steps
+     * that may determine the same single terminal {@link Result} can be
+     * reordered by a {@link FilterChain} without changing the outcome of its
+     * evaluation.
+     *
+     * @return the terminal {@link Result}s this step may determine
+     */
+    default Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.ACCEPTED, Result.REJECTED);
+    }
+
+    /**
+     * Returns the classes of the {@link FilterStep}s this step must be
+     * evaluated before, regardless of any reordering by a
+     * {@link FilterChain}.
+     *
+     * @return the classes of the {@link FilterStep}s this step must be
+     * evaluated before
+     */
+    default Set<Class<?>> getMustRunBefore() {
+        return Set.of();
+    }
+
     /**
      * The result of a {@link FilterStep} processing an object.
      */
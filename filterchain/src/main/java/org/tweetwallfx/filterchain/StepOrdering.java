@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The order in which the {@link FilterStep}s of a {@link FilterChain} are
+ * evaluated.
+ *
+ * <p>
+ * Unless adaptive the configured order is kept. Otherwise the latency and the
+ * rate of terminal results of each step are measured and periodically the
+ * steps are reordered so that steps with a low latency per terminal result
+ * are evaluated first.
+ *
+ * <p>
+ * Only steps that are safe to commute are reordered, i.e. steps which may
+ * terminate the evaluation with the same single {@link FilterStep.Result}
+ * (see {@link FilterStep#getTerminalResults()}) and which do not declare an
+ * ordering constraint on each other (see {@link FilterStep#getMustRunBefore()}).
+ * All other steps keep their configured relative order, so reordering never
+ * changes the outcome of an evaluation.
+ */
+final class StepOrdering {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StepOrdering.class);
+    private static final FilterStep.Result[] RESULTS = FilterStep.Result.values();
+    /**
+     * The minimum number of evaluations of a step within an interval required
+     * to update its estimates.
+     */
+    private static final long MIN_SAMPLES = 100;
+    /**
+     * The terminal rate assumed for steps that never terminated an evaluation.
+     */
+    private static final double MIN_TERMINAL_RATE = 0.001;
+    private final FilterStep<?>[] filterSteps;
+    // precedes[i][j]: step i must be evaluated before step j
+    private final boolean[][] precedes;
+    private final LongAdder[] stepResultCounters;
+    private final LongAdder[] stepNanos;
+    private final long intervalNanos;
+    private final AtomicBoolean reordering = new AtomicBoolean(false);
+    // counter values at the last reordering, only accessed while reordering
+    private final long[] lastEvaluations;
+    private final long[] lastTerminals;
+    private final long[] lastNanos;
+    private volatile long nextReorderingAt;
+    private volatile Ordering ordering;
+
+    /**
+     * Creates a StepOrdering.
+     *
+     * @param filterSteps the steps in configured order
+     *
+     * @param stepResultCounters the counters of the results of the steps
+     * indexed by step * number of results + result ordinal
+     *
+     * @param interval the interval of reordering the steps or {@code null} to
+     * keep the configured order
+     */
+    StepOrdering(final FilterStep<?>[] filterSteps, final LongAdder[] stepResultCounters, final Duration interval) {
+        final int count = filterSteps.length;
+        this.filterSteps = filterSteps;
+        this.precedes = new boolean[count][count];
+
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                if (mustRunBefore(j, i)) {
+                    LOGGER.warn("FilterStep '{}' must run before '{}' but is configured after it. Keeping the configured order.",
+                            filterSteps[j].getClass().getName(),
+                            filterSteps[i].getClass().getName());
+                }
+
+                precedes[i][j] = mustRunBefore(i, j) || mustRunBefore(j, i) || !commute(i, j);
+            }
+        }
+
+        this.stepResultCounters = stepResultCounters;
+        this.stepNanos = new LongAdder[count];
+        Arrays.setAll(stepNanos, i -> new LongAdder());
+        this.intervalNanos = null == interval ? 0 : interval.toNanos();
+        this.lastEvaluations = new long[count];
+        this.lastTerminals = new long[count];
+        this.lastNanos = new long[count];
+        this.nextReorderingAt = System.nanoTime() + intervalNanos;
+
+        final double[] unknown = new double[count];
+        Arrays.fill(unknown, Double.NaN);
+        this.ordering = new Ordering(IntStream.range(0, count).toArray(), unknown, unknown);
+    }
+
+    private boolean mustRunBefore(final int step, final int other) {
+        final Set<Class<?>> classes = filterSteps[step].getMustRunBefore();
+        return classes.stream().anyMatch(c -> c.isInstance(filterSteps[other]));
+    }
+
+    private boolean commute(final int step, final int other) {
+        final Set<FilterStep.Result> terminalResults = filterSteps[step].getTerminalResults();
+        return 1 == terminalResults.size()
+                && terminalResults.equals(filterSteps[other].getTerminalResults());
+    }
+
+    /**
+     * Returns a boolean flag indicating if the order adapts to the measured
+     * latencies and terminal rates.
+     *
+     * @return {@code true} if the order adapts
+     */
+    boolean isAdaptive() {
+        return intervalNanos > 0;
+    }
+
+    /**
+     * Returns the indexes of the steps in evaluation order. The returned array
+     * must not be modified.
+     *
+     * @return the indexes of the steps in evaluation order
+     */
+    int[] order() {
+        return ordering.order;
+    }
+
+    Ordering ordering() {
+        return ordering;
+    }
+
+    void recordLatency(final int step, final long nanos) {
+        stepNanos[step].add(nanos);
+    }
+
+    /**
+     * Reorders the steps if the interval has passed since the last time and
+     * no other thread is already doing so.
+     */
+    void reorderIfDue() {
+        if (System.nanoTime() - nextReorderingAt >= 0 && reordering.compareAndSet(false, true)) {
+            try {
+                reorder();
+            } finally {
+                nextReorderingAt = System.nanoTime() + intervalNanos;
+                reordering.set(false);
+            }
+        }
+    }
+
+    private void reorder() {
+        final Ordering previous = ordering;
+        final int count = filterSteps.length;
+        final double[] meanNanos = previous.meanNanos.clone();
+        final double[] terminalRates = previous.terminalRates.clone();
+
+        for (int step = 0; step < count; step++) {
+            final int offset = step * RESULTS.length;
+            final long terminals = stepResultCounters[offset + FilterStep.Result.ACCEPTED.ordinal()].sum()
+                    + stepResultCounters[offset + FilterStep.Result.REJECTED.ordinal()].sum();
+            final long evaluations = terminals
+                    + stepResultCounters[offset + FilterStep.Result.NOTHING_DEFINITE.ordinal()].sum();
+            final long nanos = stepNanos[step].sum();
+            final long intervalEvaluations = evaluations - lastEvaluations[step];
+
+            if (intervalEvaluations >= MIN_SAMPLES) {
+                final double intervalMeanNanos = (double) (nanos - lastNanos[step]) / intervalEvaluations;
+                final double intervalTerminalRate = (double) (terminals - lastTerminals[step]) / intervalEvaluations;
+                // smooth with the previous estimate
+                meanNanos[step] = Double.isNaN(meanNanos[step])
+                        ? intervalMeanNanos
+                        : (meanNanos[step] + intervalMeanNanos) / 2;
+                terminalRates[step] = Double.isNaN(terminalRates[step])
+                        ? intervalTerminalRate
+                        : (terminalRates[step] + intervalTerminalRate) / 2;
+                lastEvaluations[step] = evaluations;
+                lastTerminals[step] = terminals;
+                lastNanos[step] = nanos;
+            }
+        }
+
+        final int[] order = order(meanNanos, terminalRates);
+
+        if (!Arrays.equals(order, previous.order)) {
+            LOGGER.info("Reordered FilterSteps to {}", IntStream.of(order)
+                    .mapToObj(step -> String.format("%s (%.0f ns, %.3f terminal)",
+                    filterSteps[step].getClass().getSimpleName(),
+                    meanNanos[step],
+                    terminalRates[step]))
+                    .collect(Collectors.joining(", ")));
+        }
+
+        ordering = new Ordering(order, meanNanos, terminalRates);
+    }
+
+    // topological order of the precedence constraints, picking the ready step
+    // with the lowest latency per terminal result first
+    private int[] order(final double[] meanNanos, final double[] terminalRates) {
+        final int count = filterSteps.length;
+        final int[] predecessors = new int[count];
+        final boolean[] ordered = new boolean[count];
+        final int[] order = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                if (precedes[i][j]) {
+                    predecessors[j]++;
+                }
+            }
+        }
+
+        for (int position = 0; position < count; position++) {
+            int next = -1;
+
+            for (int step = 0; step < count; step++) {
+                if (!ordered[step] && 0 == predecessors[step]
+                        && (-1 == next || rank(step, meanNanos, terminalRates) < rank(next, meanNanos, terminalRates))) {
+                    next = step;
+                }
+            }
+
+            ordered[next] = true;
+            order[position] = next;
+
+            for (int j = next + 1; j < count; j++) {
+                if (precedes[next][j]) {
+                    predecessors[j]--;
+                }
+            }
+        }
+
+        return order;
+    }
+
+    private static double rank(final int step, final double[] meanNanos, final double[] terminalRates) {
+        // steps without estimates keep their configured relative order last
+        return Double.isNaN(meanNanos[step])
+                ? Double.POSITIVE_INFINITY
+                : meanNanos[step] / Math.max(terminalRates[step], MIN_TERMINAL_RATE);
+    }
+
+    /**
+     * The evaluation order of the steps together with the estimates it is
+     * based on. Estimates are {@link Double#NaN} while unknown.
+     */
+    static final class Ordering {
+
+        private final int[] order;
+        private final double[] meanNanos;
+        private final double[] terminalRates;
+
+        private Ordering(final int[] order, final double[] meanNanos, final double[] terminalRates) {
+            this.order = order;
+            this.meanNanos = meanNanos;
+            this.terminalRates = terminalRates;
+        }
+
+        List<Integer> order() {
+            return IntStream.of(order).boxed().toList();
+        }
+
+        double meanNanos(final int step) {
+            return meanNanos[step];
+        }
+
+        double terminalRate(final int step) {
+            return terminalRates[step];
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.filterchain.FilterStep.Result;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncFilterChainConsumerTest {
+
+    private final Map<String, CompletableFuture<Result>> evaluations = new ConcurrentHashMap<>();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final FilterChain<String> filterChain = new FilterChain<>(List.of(
+            (AsyncFilterStep<String>) t -> evaluations.computeIfAbsent(t, k -> new CompletableFuture<>())),
+            false);
+
+    @Test
+    void unorderedDeliveryFollowsCompletion() {
+        final Consumer<String> consumer = new AsyncFilterChainConsumer<>(filterChain, delivered::add, 3, false, 1);
+
+        consumer.accept("a");
+        consumer.accept("b");
+        consumer.accept("c");
+        evaluations.get("c").complete(Result.ACCEPTED);
+        evaluations.get("b").complete(Result.REJECTED);
+        evaluations.get("a").complete(Result.ACCEPTED);
+
+        assertThat(delivered).containsExactly("c", "a");
+    }
+
+    @Test
+    void orderedDeliveryFollowsConsumption() {
+        final Consumer<String> consumer = new AsyncFilterChainConsumer<>(filterChain, delivered::add, 3, true, 3);
+
+        consumer.accept("a");
+        consumer.accept("b");
+        consumer.accept("c");
+        evaluations.get("c").complete(Result.ACCEPTED);
+        evaluations.get("b").complete(Result.ACCEPTED);
+        assertThat(delivered).isEmpty();
+
+        evaluations.get("a").completeExceptionally(new IllegalStateException("failed"));
+        assertThat(delivered).containsExactly("b", "c");
+    }
+
+    @Test
+    void completedEvaluationFreesConcurrencyWhileAwaitingDelivery() throws Exception {
+        final Consumer<String> consumer = new AsyncFilterChainConsumer<>(filterChain, delivered::add, 2, true, 3);
+
+        consumer.accept("a");
+        consumer.accept("b");
+        evaluations.get("b").complete(Result.ACCEPTED);
+
+        // b only waits for the delivery of a, which does not block evaluating c
+        CompletableFuture.runAsync(() -> consumer.accept("c")).get(5, TimeUnit.SECONDS);
+        assertThat(delivered).isEmpty();
+
+        evaluations.get("a").complete(Result.ACCEPTED);
+        evaluations.get("c").complete(Result.ACCEPTED);
+        assertThat(delivered).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void reorderBufferBoundsObjectsAwaitingDelivery() throws Exception {
+        final Consumer<String> consumer = new AsyncFilterChainConsumer<>(filterChain, delivered::add, 2, true, 2);
+
+        consumer.accept("a");
+        consumer.accept("b");
+        evaluations.get("b").complete(Result.ACCEPTED);
+
+        final CompletableFuture<Void> acceptC = CompletableFuture.runAsync(() -> consumer.accept("c"));
+        assertThatThrownBy(() -> acceptC.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        evaluations.get("a").complete(Result.ACCEPTED);
+        acceptC.get(5, TimeUnit.SECONDS);
+        assertThat(delivered).containsExactly("a", "b");
+
+        evaluations.get("c").complete(Result.ACCEPTED);
+        assertThat(delivered).containsExactly("a", "b", "c");
+    }
+}
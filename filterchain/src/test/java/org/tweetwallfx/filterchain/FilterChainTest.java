@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.filterchain.FilterStep.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterChainTest {
+
+    private final List<String> checks = new ArrayList<>();
+
+    @Test
+    void firstTerminalResultDecidesAndSkipsLaterSteps() {
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(
+                step("first", Result.NOTHING_DEFINITE),
+                step("second", Result.REJECTED),
+                step("third", Result.ACCEPTED)),
+                true);
+
+        assertThat(filterChain.process("tweet")).isFalse();
+        assertThat(checks).containsExactly("first:tweet", "second:tweet");
+    }
+
+    @Test
+    void defaultResultAppliesWhenNoStepIsTerminal() {
+        final List<FilterStep<String>> steps = List.of(
+                step("first", Result.NOTHING_DEFINITE),
+                step("second", Result.NOTHING_DEFINITE));
+
+        assertThat(new FilterChain<>(steps, true).process("tweet")).isTrue();
+        assertThat(new FilterChain<>(steps, false).process("tweet")).isFalse();
+        assertThat(new FilterChain<String>(List.of(), true).process("tweet")).isTrue();
+        assertThat(checks).containsExactly("first:tweet", "second:tweet", "first:tweet", "second:tweet");
+    }
+
+    @Test
+    void statisticsCountResultsOfEvaluatedStepsOnly() {
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(
+                step("first", t -> t.startsWith("reject") ? Result.REJECTED : Result.NOTHING_DEFINITE),
+                step("second", t -> t.startsWith("accept") ? Result.ACCEPTED : Result.NOTHING_DEFINITE)),
+                false);
+
+        assertThat(filterChain.process("reject 1")).isFalse();
+        assertThat(filterChain.process("reject 2")).isFalse();
+        assertThat(filterChain.process("accept 1")).isTrue();
+        assertThat(filterChain.process("other 1")).isFalse();
+
+        final FilterChain.Statistics statistics = filterChain.getStatistics();
+        assertThat(statistics.accepted()).isEqualTo(1);
+        assertThat(statistics.rejected()).isEqualTo(2);
+        assertThat(statistics.nothingDefinite()).isEqualTo(1);
+        assertThat(statistics.order()).containsExactly(0, 1);
+        assertThat(statistics.steps()).hasSize(2);
+        assertStepStatistics(statistics.steps().get(0), 0, 2, 2);
+        assertStepStatistics(statistics.steps().get(1), 1, 0, 1);
+    }
+
+    @Test
+    void asPredicateMatchesProcess() {
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(
+                step("first", t -> t.startsWith("reject") ? Result.REJECTED : Result.NOTHING_DEFINITE)),
+                true);
+
+        assertThat(List.of("reject 1", "accept 1", "reject 2", "accept 2").stream()
+                .filter(filterChain.asPredicate()))
+                .containsExactly("accept 1", "accept 2");
+        assertThat(filterChain.getStatistics().accepted()).isZero();
+        assertThat(filterChain.getStatistics().rejected()).isEqualTo(2);
+        assertThat(filterChain.getStatistics().nothingDefinite()).isEqualTo(2);
+    }
+
+    @Test
+    void filterBatchPassesUndecidedObjectsOnThroughMixedSteps() {
+        final RejectingBatchStep batchStep = new RejectingBatchStep("bad");
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(
+                step("sync", t -> t.startsWith("spam") ? Result.REJECTED : Result.NOTHING_DEFINITE),
+                batchStep,
+                asyncStep(t -> CompletableFuture.completedFuture(t.contains("vip") ? Result.ACCEPTED : Result.NOTHING_DEFINITE))),
+                false);
+
+        assertThat(filterChain.filterBatch(List.of("vip", "spam vip", "bad vip", "other", "vip 2")))
+                .containsExactly("vip", "vip 2");
+        assertThat(checks).containsExactly("sync:vip", "sync:spam vip", "sync:bad vip", "sync:other", "sync:vip 2",
+                "batch:[vip, bad vip, other, vip 2]",
+                "async:vip", "async:other", "async:vip 2");
+
+        final FilterChain.Statistics statistics = filterChain.getStatistics();
+        assertThat(statistics.accepted()).isEqualTo(2);
+        assertThat(statistics.rejected()).isEqualTo(2);
+        assertThat(statistics.nothingDefinite()).isEqualTo(1);
+        assertStepStatistics(statistics.steps().get(0), 0, 1, 4);
+        assertStepStatistics(statistics.steps().get(1), 0, 1, 3);
+        assertStepStatistics(statistics.steps().get(2), 2, 0, 1);
+    }
+
+    @Test
+    void failedAsyncCheckRejectsOnlyItsObject() {
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(
+                asyncStep(t -> switch (t) {
+                    case "failing" -> CompletableFuture.failedFuture(new IllegalStateException("failed"));
+                    case "throwing" -> throw new IllegalStateException("thrown");
+                    default -> CompletableFuture.completedFuture(Result.ACCEPTED);
+                })),
+                false);
+
+        assertThat(filterChain.filterBatch(List.of("first", "failing", "throwing", "last")))
+                .containsExactly("first", "last");
+        assertThat(filterChain.getStatistics().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    void failedCheckRejectsWithoutBeingCached() {
+        final FailingStep failingStep = new FailingStep();
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(failingStep),
+                new FilterChainSettings.FilterChainDefinition(false, List.of(), null, 1, true, null, 16, 60, false, null));
+
+        failingStep.failing = true;
+        assertThat(filterChain.process("first")).isFalse();
+        // a failing batch is checked individually
+        assertThat(filterChain.filterBatch(List.of("first", "second"))).isEmpty();
+
+        failingStep.failing = false;
+        assertThat(filterChain.process("first")).isTrue();
+        assertThat(filterChain.filterBatch(List.of("first", "second"))).containsExactly("first", "second");
+
+        assertThat(checks).containsExactly("check:first",
+                "batch:[first, second]", "check:first", "check:first", "check:second",
+                "check:first",
+                "batch:[second]", "check:second");
+        assertThat(filterChain.getStatistics().rejected()).isEqualTo(3);
+        assertThat(filterChain.getStatistics().steps().get(0).cacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    void batchStepReturningWrongNumberOfResultsFails() {
+        final FilterChain<String> filterChain = new FilterChain<>(List.of(new BatchFilterStep<String>() {
+            @Override
+            public List<Result> checkBatch(final List<String> ts) {
+                return List.of(Result.ACCEPTED);
+            }
+
+            @Override
+            public Result check(final String t) {
+                return Result.ACCEPTED;
+            }
+        }), false);
+        final String filterStepClassName = filterChain.getStatistics().steps().get(0).step();
+
+        assertThatThrownBy(() -> filterChain.filterBatch(List.of("first", "second")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("FilterStep '" + filterStepClassName + "' returned 1 results for 2 objects!");
+    }
+
+    private static void assertStepStatistics(
+            final FilterChain.StepStatistics stepStatistics,
+            final long accepted,
+            final long rejected,
+            final long nothingDefinite) {
+        assertThat(stepStatistics.accepted()).isEqualTo(accepted);
+        assertThat(stepStatistics.rejected()).isEqualTo(rejected);
+        assertThat(stepStatistics.nothingDefinite()).isEqualTo(nothingDefinite);
+        assertThat(stepStatistics.cacheHits()).isZero();
+    }
+
+    private FilterStep<String> step(final String name, final Result result) {
+        return step(name, t -> result);
+    }
+
+    private FilterStep<String> step(final String name, final Function<String, Result> check) {
+        return t -> {
+            checks.add(name + ':' + t);
+            return check.apply(t);
+        };
+    }
+
+    private AsyncFilterStep<String> asyncStep(final Function<String, CompletionStage<Result>> checkAsync) {
+        return t -> {
+            checks.add("async:" + t);
+            return checkAsync.apply(t);
+        };
+    }
+
+    private final class RejectingBatchStep implements BatchFilterStep<String> {
+
+        private final String word;
+
+        private RejectingBatchStep(final String word) {
+            this.word = word;
+        }
+
+        @Override
+        public List<Result> checkBatch(final List<String> ts) {
+            checks.add("batch:" + ts);
+            return ts.stream()
+                    .map(this::check)
+                    .toList();
+        }
+
+        @Override
+        public Result check(final String t) {
+            return t.contains(word) ? Result.REJECTED : Result.NOTHING_DEFINITE;
+        }
+    }
+
+    private final class FailingStep implements BatchFilterStep<String> {
+
+        private boolean failing;
+
+        @Override
+        public List<Result> checkBatch(final List<String> ts) {
+            checks.add("batch:" + ts);
+            return ts.stream()
+                    .map(this::check)
+                    .toList();
+        }
+
+        @Override
+        public Result check(final String t) {
+            checks.add("check:" + t);
+
+            if (failing) {
+                throw new IllegalStateException("failed");
+            }
+
+            return Result.ACCEPTED;
+        }
+
+        @Override
+        public Optional<CacheScope<? super String>> getCacheScope() {
+            return Optional.of(t -> t);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.filterchain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+import org.tweetwallfx.filterchain.FilterStep.Result;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@MockitoSettings
+class StepOrderingTest {
+
+    private static final Result[] RESULTS = Result.values();
+    // evaluated at least as often as required to update the estimates
+    private static final long EVALUATIONS = 100;
+
+    @Mock(name = "org.tweetwallfx.filterchain.StepOrdering")
+    Logger logger;
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void configuredOrderIsKeptUnlessAdaptive() {
+        final FilterStep<?>[] filterSteps = {new RejectStep("spam"), new RejectStep("bad")};
+        final StepOrdering stepOrdering = new StepOrdering(filterSteps, counters(filterSteps), null);
+
+        assertThat(stepOrdering.isAdaptive()).isFalse();
+        assertThat(stepOrdering.ordering().order()).containsExactly(0, 1);
+    }
+
+    @Test
+    void reorderingNeverChangesTheOutcome() {
+        final FilterStep<?>[] filterSteps = {new AcceptStep("vip"), new RejectStep("spam"), new RejectStep("bad")};
+        final LongAdder[] counters = counters(filterSteps);
+        final StepOrdering stepOrdering = new StepOrdering(filterSteps, counters, Duration.ofNanos(1));
+        final int[] configuredOrder = stepOrdering.order().clone();
+
+        // the slowest step accepting comes first as the steps rejecting must not overtake it
+        record(stepOrdering, counters, 0, Result.ACCEPTED, 5_000);
+        record(stepOrdering, counters, 1, Result.REJECTED, 1_000);
+        record(stepOrdering, counters, 2, Result.REJECTED, 10);
+        stepOrdering.reorderIfDue();
+
+        assertThat(stepOrdering.ordering().order()).containsExactly(0, 2, 1);
+        assertThat(stepOrdering.ordering().meanNanos(2)).isEqualTo(10.0);
+        for (final String t : List.of("vip spam", "vip bad", "spam bad", "bad", "spam", "other")) {
+            assertThat(evaluate(filterSteps, stepOrdering.order(), t)).isEqualTo(evaluate(filterSteps, configuredOrder, t));
+        }
+        verify(logger).info(eq("Reordered FilterSteps to {}"), anyString());
+    }
+
+    @Test
+    void stepsMustRunBeforeOthersAreNotOvertaken() {
+        final FilterStep<?>[] filterSteps = {new RejectFirstStep("spam"), new RejectStep("bad")};
+        final LongAdder[] counters = counters(filterSteps);
+        final StepOrdering stepOrdering = new StepOrdering(filterSteps, counters, Duration.ofNanos(1));
+
+        record(stepOrdering, counters, 0, Result.REJECTED, 1_000);
+        record(stepOrdering, counters, 1, Result.REJECTED, 10);
+        stepOrdering.reorderIfDue();
+
+        assertThat(stepOrdering.ordering().order()).containsExactly(0, 1);
+    }
+
+    @Test
+    void violatedMustRunBeforeIsWarnedAbout() {
+        final FilterStep<?>[] filterSteps = {new RejectStep("bad"), new RejectFirstStep("spam")};
+        final LongAdder[] counters = counters(filterSteps);
+        final StepOrdering stepOrdering = new StepOrdering(filterSteps, counters, Duration.ofNanos(1));
+
+        verify(logger).warn(
+                "FilterStep '{}' must run before '{}' but is configured after it. Keeping the configured order.",
+                RejectFirstStep.class.getName(),
+                RejectStep.class.getName());
+
+        record(stepOrdering, counters, 0, Result.REJECTED, 1_000);
+        record(stepOrdering, counters, 1, Result.REJECTED, 10);
+        stepOrdering.reorderIfDue();
+
+        assertThat(stepOrdering.ordering().order()).containsExactly(0, 1);
+    }
+
+    private static LongAdder[] counters(final FilterStep<?>[] filterSteps) {
+        final LongAdder[] counters = new LongAdder[filterSteps.length * RESULTS.length];
+        Arrays.setAll(counters, i -> new LongAdder());
+        return counters;
+    }
+
+    // records evaluations of which half is terminal
+    private static void record(
+            final StepOrdering stepOrdering,
+            final LongAdder[] counters,
+            final int step,
+            final Result terminalResult,
+            final long nanosPerEvaluation) {
+        counters[step * RESULTS.length + terminalResult.ordinal()].add(EVALUATIONS / 2);
+        counters[step * RESULTS.length + Result.NOTHING_DEFINITE.ordinal()].add(EVALUATIONS / 2);
+        stepOrdering.recordLatency(step, EVALUATIONS * nanosPerEvaluation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result evaluate(final FilterStep<?>[] filterSteps, final int[] order, final String t) {
+        return IntStream.of(order)
+                .mapToObj(step -> ((FilterStep<String>) filterSteps[step]).check(t))
+                .filter(Result::isTerminal)
+                .findFirst()
+                .orElse(Result.NOTHING_DEFINITE);
+    }
+
+    private static class RejectStep implements FilterStep<String> {
+
+        private final String word;
+
+        RejectStep(final String word) {
+            this.word = word;
+        }
+
+        @Override
+        public Result check(final String t) {
+            return t.contains(word) ? Result.REJECTED : Result.NOTHING_DEFINITE;
+        }
+
+        @Override
+        public Set<Result> getTerminalResults() {
+            return EnumSet.of(Result.REJECTED);
+        }
+    }
+
+    private static final class RejectFirstStep extends RejectStep {
+
+        RejectFirstStep(final String word) {
+            super(word);
+        }
+
+        @Override
+        public Set<Class<?>> getMustRunBefore() {
+            return Set.of(RejectStep.class);
+        }
+    }
+
+    private static final class AcceptStep implements FilterStep<String> {
+
+        private final String word;
+
+        AcceptStep(final String word) {
+            this.word = word;
+        }
+
+        @Override
+        public Result check(final String t) {
+            return t.contains(word) ? Result.ACCEPTED : Result.NOTHING_DEFINITE;
+        }
+
+        @Override
+        public Set<Result> getTerminalResults() {
+            return EnumSet.of(Result.ACCEPTED);
+        }
+    }
+}
@@ -62,6 +62,11 @@ public final class GoogleVisionCache {
     private static final Logger LOG = LoggerFactory.getLogger(GoogleVisionCache.class);
     private static final GoogleSettings GOOGLE_SETTINGS = Configuration.getInstance()
             .getConfigTyped(GoogleSettings.CONFIG_KEY, GoogleSettings.class);
+    /**
+     * The maximum number of images the Google Cloud Vision API supports per
+     * batchAnnotateImages request.
+     */
+    private static final int MAX_BATCH_SIZE = 16;
     /**
      * Cache instance.
      */
@@ -154,11 +159,20 @@ public final class GoogleVisionCache {
             return Collections.emptyMap();
         }
 
+        final Map<String, ImageContentAnalysis> result = new LinkedHashMap<>(requests.size());
+
+        for (int from = 0; from < requests.size(); from += MAX_BATCH_SIZE) {
+            load(requests.subList(from, Math.min(from + MAX_BATCH_SIZE, requests.size())), result);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    private void load(final List<AnnotateImageRequest> requests, final Map<String, ImageContentAnalysis> result) throws IOException {
         LOG.info("Executing analysis for {} AnnotateImageRequests", requests.size());
         final BatchAnnotateImagesResponse batchResponse = getClient().batchAnnotateImages(requests);
         final Iterator<AnnotateImageResponse> itResponse = batchResponse.getResponsesList().iterator();
         final Iterator<AnnotateImageRequest> itRequest = requests.iterator();
-        final Map<String, ImageContentAnalysis> result = new LinkedHashMap<>(requests.size());
 
         while (itRequest.hasNext() && itResponse.hasNext()) {
             final AnnotateImageRequest request = itRequest.next();
@@ -171,12 +185,10 @@ public final class GoogleVisionCache {
             cache.put(uri, ica);
         }
 
-        if (itRequest.hasNext()) {
+        if (itResponse.hasNext()) {
             throw new IllegalStateException("There are still annotate Responses available!");
         } else if (itRequest.hasNext()) {
             throw new IllegalStateException("There are still annotate Requests available!");
-        } else {
-            return Collections.unmodifiableMap(result);
         }
     }
 
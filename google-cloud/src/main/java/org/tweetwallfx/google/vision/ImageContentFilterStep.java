@@ -24,22 +24,35 @@
 package org.tweetwallfx.google.vision;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.AsyncFilterStep;
+import org.tweetwallfx.filterchain.BatchFilterStep;
+import org.tweetwallfx.filterchain.CacheScope;
 import org.tweetwallfx.filterchain.FilterChainSettings;
 import org.tweetwallfx.filterchain.FilterStep;
 import org.tweetwallfx.google.GoogleLikelihood;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
 import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.filter.TweetCacheScope;
 
 /**
  * A {@link FilterStep} handling {@link Tweet}s by checking that photos comply
@@ -48,8 +61,17 @@ import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
  * In case no safe search violations have occurred with the configured limits it
  * is terminally rejected with {@link Result#REJECTED}. Otherwise it is
  * evaluated as {@link Result#NOTHING_DEFINITE}.
+ *
+ * As the analysis of the photos involves requests to the Google Cloud Vision
+ * API they are performed asynchronously on virtual threads when evaluated via
+ * {@link #checkAsync(org.tweetwallfx.tweet.api.Tweet)}. When evaluated via
+ * {@link #checkBatch(java.util.List)} the photos of all the {@link Tweet}s are
+ * analysed with as few requests as possible. An evaluation whose analysis
+ * fails or that is not completed within the configured timeout fails, which
+ * lets the {@link org.tweetwallfx.filterchain.FilterChain} reject the
+ * {@link Tweet} without caching that result.
  */
-public class ImageContentFilterStep implements FilterStep<Tweet> {
+public class ImageContentFilterStep implements AsyncFilterStep<Tweet>, BatchFilterStep<Tweet> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ImageContentFilterStep.class);
     private static final Map<Integer, Function<MediaTweetEntry, String>> MTE_SIZE_TO_URL_FUNCTIONS = Map.of(
@@ -57,6 +79,7 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
             1, mte -> mte.getMediaUrl() + ":small",
             2, mte -> mte.getMediaUrl() + ":medium",
             3, mte -> mte.getMediaUrl() + ":large");
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     private final Config config;
     private final ImageContentAnalysis.SafeSearch requiredSafeSearch;
@@ -72,6 +95,35 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
         );
     }
 
+    @Override
+    public CompletionStage<Result> checkAsync(final Tweet tweet) {
+        return CompletableFuture.supplyAsync(() -> check(tweet), EXECUTOR)
+                .orTimeout(config.timeoutSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Override
+    public List<Result> checkBatch(final List<Tweet> tweets) {
+        final List<String> imageUrlStrings = tweets.stream()
+                .flatMap(tweet -> Stream.iterate(tweet, Objects::nonNull, t -> config.checkRetweeted() ? t.getRetweetedTweet() : null))
+                .flatMap(t -> Stream.of(t.getMediaEntries()))
+                .filter(MediaTweetEntryType.photo::isType)
+                .map(this::getImageUrlString)
+                .toList();
+
+        try {
+            // analyses all photos at once so that checking the Tweets hits the cache
+            GoogleVisionCache.INSTANCE.getCachedOrLoad(imageUrlStrings.stream());
+        } catch (final IOException ex) {
+            LOG.warn("Failed analysation of the photos of {} Tweets -> checking them individually",
+                    tweets.size(),
+                    ex);
+        }
+
+        return tweets.stream()
+                .map(this::check)
+                .toList();
+    }
+
     @Override
     public Result check(final Tweet tweet) {
         Tweet t = tweet;
@@ -91,6 +143,18 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
         return Result.NOTHING_DEFINITE;
     }
 
+    @Override
+    public Optional<CacheScope<? super Tweet>> getCacheScope() {
+        return Optional.of(config.checkRetweeted()
+                ? TweetCacheScope.ORIGIN_TWEET
+                : TweetCacheScope.TWEET);
+    }
+
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.REJECTED);
+    }
+
     private Result checkImages(final Tweet tweet, final Tweet t) {
         final List<MediaTweetEntry> mtes = Stream.of(t.getMediaEntries())
                 .filter(MediaTweetEntryType.photo::isType)
@@ -109,11 +173,9 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
         try {
             visionAnalysis = GoogleVisionCache.INSTANCE.getCachedOrLoad(imageUrlStrings.stream());
         } catch (final IOException ex) {
-            LOG.warn("Tweet(id:{}): Tweet(id:{}) failed analysation of its photos -> REJECTED",
-                    tweet.getId(),
-                    t.getId(),
-                    ex);
-            return Result.REJECTED;
+            // not a decision on the photos, so the FilterChain rejects the Tweet without caching it
+            throw new UncheckedIOException("Tweet(id:" + tweet.getId() + "): Tweet(id:" + t.getId()
+                    + ") failed analysation of its photos", ex);
         }
 
         for (final Map.Entry<String, ImageContentAnalysis> entry : visionAnalysis.entrySet()) {
@@ -204,6 +266,10 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
      * <p>
      * Param {@code checkRetweeted} a boolean flag controlling whether for a
      * retweet the retweeted Tweet is also checked
+     *
+     * <p>
+     * Param {@code timeoutSeconds} the number of seconds an asynchronous
+     * evaluation may take before it fails (defaults to {@code 30})
      */
     public static record Config(
             Boolean checkRetweeted,
@@ -211,7 +277,8 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
             SafeTypeConfig medical,
             SafeTypeConfig racy,
             SafeTypeConfig spoof,
-            SafeTypeConfig violence) {
+            SafeTypeConfig violence,
+            Integer timeoutSeconds) {
 
         public Config(
                 final Boolean checkRetweeted,
@@ -219,13 +286,19 @@ public class ImageContentFilterStep implements FilterStep<Tweet> {
                 final SafeTypeConfig medical,
                 final SafeTypeConfig racy,
                 final SafeTypeConfig spoof,
-                final SafeTypeConfig violence) {
+                final SafeTypeConfig violence,
+                final Integer timeoutSeconds) {
             this.checkRetweeted = Objects.requireNonNullElse(checkRetweeted, false);
             this.adult = Objects.requireNonNullElse(adult, new SafeTypeConfig(GoogleLikelihood.VERY_UNLIKELY));
             this.medical = Objects.requireNonNullElse(medical, new SafeTypeConfig(GoogleLikelihood.VERY_UNLIKELY));
             this.racy = Objects.requireNonNullElse(racy, new SafeTypeConfig(GoogleLikelihood.VERY_UNLIKELY));
             this.spoof = Objects.requireNonNullElse(spoof, new SafeTypeConfig(GoogleLikelihood.UNLIKELY));
             this.violence = Objects.requireNonNullElse(violence, new SafeTypeConfig(GoogleLikelihood.VERY_UNLIKELY));
+            this.timeoutSeconds = Objects.requireNonNullElse(timeoutSeconds, 30);
+
+            if (this.timeoutSeconds < 1) {
+                throw new IllegalArgumentException("timeoutSeconds must be positive!");
+            }
         }
     }
 
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Diagnostic record of a {@link Step} that did not proceed within its expected
+ * duration, containing the stack samples taken from the FX Platform thread
+ * and the engine thread while the {@link Step} was stalled.
+ *
+ * <p>
+ * Param {@code stepName} the name of the stalled {@link Step}
+ *
+ * <p>
+ * Param {@code expectedDuration} the duration after which the {@link Step} was
+ * considered to be stalled
+ *
+ * <p>
+ * Param {@code elapsed} the time elapsed since the {@link Step} was started
+ * until the report was created
+ *
+ * <p>
+ * Param {@code forcedProceed} a flag indicating that the engine was forced to
+ * proceed to the next {@link Step}
+ *
+ * <p>
+ * Param {@code samples} the stack samples taken during the stall
+ */
+public record StallReport(
+        String stepName,
+        Duration expectedDuration,
+        Duration elapsed,
+        boolean forcedProceed,
+        List<StackSample> samples) {
+
+    public StallReport(
+            final String stepName,
+            final Duration expectedDuration,
+            final Duration elapsed,
+            final boolean forcedProceed,
+            final List<StackSample> samples) {
+        this.stepName = Objects.requireNonNull(stepName, "stepName must not be null");
+        this.expectedDuration = Objects.requireNonNull(expectedDuration, "expectedDuration must not be null");
+        this.elapsed = Objects.requireNonNull(elapsed, "elapsed must not be null");
+        this.forcedProceed = forcedProceed;
+        this.samples = List.copyOf(samples);
+    }
+
+    @Override
+    public List<StackSample> samples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * A single stack sample of a thread.
+     *
+     * <p>
+     * Param {@code timestamp} the point in time the sample was taken
+     *
+     * <p>
+     * Param {@code threadName} the name of the sampled thread
+     *
+     * <p>
+     * Param {@code threadState} the state of the sampled thread
+     *
+     * <p>
+     * Param {@code stackTrace} the stack trace of the sampled thread
+     */
+    public record StackSample(
+            Instant timestamp,
+            String threadName,
+            Thread.State threadState,
+            List<StackTraceElement> stackTrace) {
+
+        public StackSample(
+                final Instant timestamp,
+                final String threadName,
+                final Thread.State threadState,
+                final List<StackTraceElement> stackTrace) {
+            this.timestamp = Objects.requireNonNull(timestamp, "timestamp must not be null");
+            this.threadName = Objects.requireNonNull(threadName, "threadName must not be null");
+            this.threadState = Objects.requireNonNull(threadState, "threadState must not be null");
+            this.stackTrace = List.copyOf(stackTrace);
+        }
+
+        @Override
+        public List<StackTraceElement> stackTrace() {
+            return List.copyOf(stackTrace);
+        }
+
+        static StackSample of(final Thread thread) {
+            return new StackSample(
+                    Instant.now(),
+                    thread.getName(),
+                    thread.getState(),
+                    List.of(thread.getStackTrace()));
+        }
+    }
+}
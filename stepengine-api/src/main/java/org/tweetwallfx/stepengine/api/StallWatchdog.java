@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+/**
+ * Watchdog detecting {@link Step steps} that do not proceed within a multiple
+ * of their preferred duration. While a step is stalled stack samples of the FX
+ * Platform thread and the engine thread are taken and afterwards published as
+ * {@link StallReport}.
+ */
+final class StallWatchdog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StallWatchdog.class);
+    private final StepEngineSettings.StallWatchdogSettings settings;
+    private final ScheduledExecutorService executor;
+    private final List<Consumer<StallReport>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Thread platformThread;
+
+    StallWatchdog(
+            final StepEngineSettings.StallWatchdogSettings settings,
+            final ScheduledExecutorService executor) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    }
+
+    void addListener(final Consumer<StallReport> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    /**
+     * Registers the thread executing steps requiring the FX Platform thread.
+     */
+    void platformThread(final Thread thread) {
+        this.platformThread = thread;
+    }
+
+    /**
+     * Starts watching the given step executed by the given engine thread. The
+     * returned watch has to be closed once the step has proceeded. The given
+     * forceProceed is run in case the step is stalled and the watchdog is
+     * configured to force the engine to proceed. It is bound to this step
+     * execution and must not have any effect once the step has proceeded.
+     */
+    Watch watch(final Step step, final Duration preferredDuration, final Thread engineThread, final Runnable forceProceed) {
+        Objects.requireNonNull(forceProceed, "forceProceed must not be null");
+        final long stallMillis = Math.max(
+                settings.minimumStallMillis(),
+                (long) (preferredDuration.toMillis() * settings.stallFactor()));
+        final Watch watch = new Watch(step.getClass().getSimpleName(), Duration.ofMillis(stallMillis), engineThread, forceProceed);
+
+        if (settings.enabled()) {
+            watch.schedule();
+        }
+
+        return watch;
+    }
+
+    final class Watch implements AutoCloseable {
+
+        private final String stepName;
+        private final Duration expectedDuration;
+        private final Thread engineThread;
+        private final Runnable forceProceed;
+        private final long startNanos = System.nanoTime();
+        private final List<StallReport.StackSample> samples = new ArrayList<>();
+        private ScheduledFuture<?> future;
+        private boolean stalled = false;
+        private boolean reported = false;
+
+        private Watch(final String stepName, final Duration expectedDuration, final Thread engineThread, final Runnable forceProceed) {
+            this.stepName = stepName;
+            this.expectedDuration = expectedDuration;
+            this.engineThread = engineThread;
+            this.forceProceed = forceProceed;
+        }
+
+        private synchronized void schedule() {
+            future = executor.scheduleAtFixedRate(
+                    this::sample,
+                    expectedDuration.toMillis(),
+                    settings.sampleIntervalMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void sample() {
+            if (reported) {
+                return;
+            }
+
+            if (!stalled) {
+                stalled = true;
+                LOG.warn("Step {} did not proceed within {} ms, sampling stacks", stepName, expectedDuration.toMillis());
+            }
+
+            samples.add(StallReport.StackSample.of(engineThread));
+            final Thread fxThread = platformThread;
+            if (null != fxThread) {
+                samples.add(StallReport.StackSample.of(fxThread));
+            }
+
+            if (samples.size() >= settings.sampleCount() * (null == fxThread ? 1 : 2)) {
+                report(settings.forceProceed());
+                future.cancel(false);
+
+                if (settings.forceProceed()) {
+                    LOG.warn("Forcing engine to proceed after stalled step {}", stepName);
+                    forceProceed.run();
+                }
+            }
+        }
+
+        private void report(final boolean forcedProceed) {
+            reported = true;
+            final StallReport report = new StallReport(
+                    stepName,
+                    expectedDuration,
+                    Duration.ofNanos(System.nanoTime() - startNanos),
+                    forcedProceed,
+                    samples);
+
+            if (LOG.isWarnEnabled()) {
+                final StringBuilder sb = new StringBuilder();
+                report.samples().forEach(sample -> {
+                    sb.append("\n\"").append(sample.threadName()).append("\" ")
+                            .append(sample.threadState()).append(" at ").append(sample.timestamp());
+                    sample.stackTrace().forEach(ste -> sb.append("\n\tat ").append(ste));
+                });
+                LOG.warn("Step {} stalled for {} ms (expected at most {} ms):{}",
+                        stepName, report.elapsed().toMillis(), expectedDuration.toMillis(), sb);
+            }
+
+            listeners.forEach(listener -> {
+                try {
+                    listener.accept(report);
+                } catch (final RuntimeException re) {
+                    LOG.error("Publishing StallReport to {} failed", listener, re);
+                }
+            });
+        }
+
+        @Override
+        public synchronized void close() {
+            if (null != future) {
+                future.cancel(false);
+            }
+
+            if (stalled && !reported) {
+                // the step proceeded before all samples were taken
+                report(false);
+            }
+        }
+    }
+}
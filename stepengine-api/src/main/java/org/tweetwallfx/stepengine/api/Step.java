@@ -69,6 +69,30 @@ public interface Step {
         return false;
     }
 
+    /**
+     * Determines if the data this {@link Step} requires is available so that
+     * the {@link Step} is able to run once it is due.
+     *
+     * In contrast to {@link #shouldSkip(MachineContext)} this method is
+     * evaluated ahead of time for upcoming steps by the {@link StepEngine}
+     * possibly from a thread other than the FX Platform thread or the engine
+     * thread. Implementations must therefore only access thread safe state
+     * (i.e. data from {@link DataProvider DataProviders} obtained via
+     * {@link MachineContext#getDataProvider(java.lang.Class)}) and must not
+     * depend on the outcome of preceding steps. A {@link Step} that is not
+     * ready is passed over without being evaluated any further.
+     *
+     * By Default this method returns {@code true}.
+     *
+     * @param context the MachineContext
+     *
+     * @return a boolean flag indicating whether this {@link Step} is ready to
+     * be executed
+     */
+    default boolean isReady(final MachineContext context) {
+        return true;
+    }
+
     /**
      * Performs this {@link Step}s action.
      *
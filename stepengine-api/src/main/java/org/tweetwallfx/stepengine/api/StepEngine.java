@@ -38,6 +38,9 @@ import java.util.concurrent.Phaser;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -63,6 +66,7 @@ public final class StepEngine {
     private static final ThreadGroup THREAD_GROUP = new ThreadGroup("StepEngine");
     private volatile boolean terminated = false;
     private final Phaser asyncProceed = new Phaser(2);
+    private final AtomicReference<AtomicBoolean> stepProceeded = new AtomicReference<>(new AtomicBoolean(true));
     private final StepIterator stepIterator;
     private final MachineContext context = new MachineContext();
     private final ExecutorService engineExecutor = Executors.newSingleThreadExecutor(
@@ -75,10 +79,24 @@ public final class StepEngine {
                     .name("schedule").group(THREAD_GROUP)
                     .daemon(true)
                     .factory());
+    private final ExecutorService lookAheadExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform()
+                    .name("lookahead").group(THREAD_GROUP)
+                    .daemon(true)
+                    .factory());
+    private final ScheduledExecutorService watchdogExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform()
+                    .name("watchdog").group(THREAD_GROUP)
+                    .daemon(true)
+                    .factory());
+    private final StallWatchdog stallWatchdog;
 
     public StepEngine() {
         LOGGER.info("create StepIterator");
-        stepIterator = StepIterator.create();
+        stepIterator = StepIterator.create(lookAheadExecutor);
+        stallWatchdog = new StallWatchdog(
+                Configuration.getInstance().getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class).stallWatchdog(),
+                watchdogExecutor);
         initDataProviders();
         //initialize every step with context
         stepIterator.applyWith(step -> step.initStep(context));
@@ -89,6 +107,16 @@ public final class StepEngine {
         return context;
     }
 
+    /**
+     * Registers a listener being notified about steps that did not proceed
+     * within their expected duration.
+     *
+     * @param listener the listener receiving the {@link StallReport}
+     */
+    public void addStallListener(final Consumer<StallReport> listener) {
+        stallWatchdog.addListener(listener);
+    }
+
     private void initDataProviders() {
         final Set<Class<? extends DataProvider>> requiredDataProviders = stepIterator.getRequiredDataProviders();
         LOGGER.info("init DataProviders");
@@ -220,9 +248,29 @@ public final class StepEngine {
 
     public final class MachineContext {
 
-        private final Map<String, Object> properties = new ConcurrentHashMap<>();
-        private final ObservableList<DataProvider> dataProviders = FXCollections.<DataProvider>observableArrayList();
-        private final FilteredList<DataProvider> filteredDataProviders = dataProviders.filtered(null);
+        private final Map<String, Object> properties;
+        private final ObservableList<DataProvider> dataProviders;
+        private final FilteredList<DataProvider> filteredDataProviders;
+        private final ThreadLocal<Collection<Class<? extends DataProvider>>> readinessRestriction;
+        // the flag of the step execution this context is handed to, null for
+        // the context of the engine
+        private final AtomicBoolean proceeded;
+
+        private MachineContext() {
+            this.properties = new ConcurrentHashMap<>();
+            this.dataProviders = FXCollections.<DataProvider>observableArrayList();
+            this.filteredDataProviders = dataProviders.filtered(null);
+            this.readinessRestriction = new ThreadLocal<>();
+            this.proceeded = null;
+        }
+
+        private MachineContext(final MachineContext engineContext, final AtomicBoolean proceeded) {
+            this.properties = engineContext.properties;
+            this.dataProviders = engineContext.dataProviders;
+            this.filteredDataProviders = engineContext.filteredDataProviders;
+            this.readinessRestriction = engineContext.readinessRestriction;
+            this.proceeded = proceeded;
+        }
 
         public Object get(final String key) {
             return properties.get(key);
@@ -242,9 +290,23 @@ public final class StepEngine {
             }
         }
 
+        /**
+         * Signals that the step is done. Called on the context handed to
+         * {@link Step#doStep(org.tweetwallfx.stepengine.api.StepEngine.MachineContext)}
+         * it proceeds the execution of the step the context has been handed to
+         * only, so that proceeding after the watchdog already forced the step
+         * to proceed (see
+         * {@link StepEngineSettings.StallWatchdogSettings#forceProceed()})
+         * does not cut the following step short. Called on the context of the
+         * engine it proceeds the step currently executing.
+         */
         public void proceed() {
             LOG.info("Proceed called");
-            asyncProceed.arrive();
+            StepEngine.this.proceed(null == proceeded ? stepProceeded.get() : proceeded);
+        }
+
+        private MachineContext forExecution(final AtomicBoolean proceeded) {
+            return new MachineContext(this, proceeded);
         }
 
         void addDataProvider(final DataProvider dataProvider) {
@@ -255,8 +317,10 @@ public final class StepEngine {
 
         @SuppressWarnings("unchecked")
         public <T extends DataProvider> T getDataProvider(final Class<T> klazz) {
-            return filteredDataProviders
-                    .stream()
+            final Collection<Class<? extends DataProvider>> restriction = readinessRestriction.get();
+            return (null == restriction
+                    ? filteredDataProviders.stream()
+                    : dataProviders.stream().filter(d -> restriction.contains(d.getClass())))
                     .filter(klazz::isInstance)
                     .map(klazz::cast)
                     .findFirst()
@@ -268,6 +332,38 @@ public final class StepEngine {
             filteredDataProviders.setPredicate(d -> dataProviderClasses.contains(d.getClass()));
             filteredDataProviders.forEach(dp -> LOG.info("DataProvider available after restriction: {}", dp));
         }
+
+        /**
+         * Evaluates the readiness of the given step. While doing so only the
+         * given DataProviders are available to the step on the calling thread
+         * without affecting the restriction in place for the currently
+         * executing step.
+         */
+        boolean isReady(final Step step, final Collection<Class<? extends DataProvider>> dataProviderClasses) {
+            readinessRestriction.set(dataProviderClasses);
+            try {
+                return step.isReady(this);
+            } catch (final RuntimeException re) {
+                LOG.warn("Evaluating readiness of {} failed", step.getClass().getSimpleName(), re);
+                return true;
+            } finally {
+                readinessRestriction.remove();
+            }
+        }
+    }
+
+    /**
+     * Arrives at the proceed barrier at most once for the step execution the
+     * given flag belongs to, so that a step proceeding after the watchdog has
+     * already forced it to do so does not advance a later step as long as it
+     * proceeds via the context handed to its execution.
+     */
+    private void proceed(final AtomicBoolean proceeded) {
+        if (proceeded.compareAndSet(false, true)) {
+            asyncProceed.arrive();
+        } else {
+            LOG.info("Step already proceeded, ignoring proceed");
+        }
     }
 
     public void go() {
@@ -280,11 +376,11 @@ public final class StepEngine {
 
             final long start = System.currentTimeMillis();
 
-            Step step = stepIterator.next();
+            Step step = stepIterator.next(context);
             context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
             while (step.shouldSkip(context)) {
                 LOG.info("Skip step: {}", step.getClass().getSimpleName());
-                step = stepIterator.next();
+                step = stepIterator.next(context);
                 context.restrictAvailableDataProviders(stepIterator.getRequiredDataProviders(step));
             }
             // found a step not being skipped. so reset the SKIP_TOKEN
@@ -293,24 +389,29 @@ public final class StepEngine {
             final Duration duration = step.preferredStepDuration(context);
 
             LOG.info("call {}.doStep()", stepToExecute.getClass().getSimpleName());
+            final AtomicBoolean proceeded = new AtomicBoolean();
+            stepProceeded.set(proceeded);
+            final StallWatchdog.Watch watch = stallWatchdog.watch(stepToExecute, duration, Thread.currentThread(), () -> proceed(proceeded));
+            final MachineContext executionContext = context.forExecution(proceeded);
 
             if (stepToExecute.requiresPlatformThread()) {
                 Platform.runLater(() -> {
+                    stallWatchdog.platformThread(Thread.currentThread());
                     try {
-                        stepToExecute.doStep(context);
+                        stepToExecute.doStep(executionContext);
                     } catch (RuntimeException | Error e) {
                         LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
                         // enforce that animation continues
-                        context.proceed();
+                        executionContext.proceed();
                     }
                 });
             } else {
                 try {
-                    stepToExecute.doStep(context);
+                    stepToExecute.doStep(executionContext);
                 } catch (RuntimeException | Error e) {
                     LOG.error("StepExecution has terminal failure {} ", stepToExecute.getClass().getSimpleName(), e);
                     // enforce that animation continues
-                    context.proceed();
+                    executionContext.proceed();
                 }
             }
 
@@ -334,6 +435,8 @@ public final class StepEngine {
                 LOG.error("Await proceed interrupted", ex);
             } catch (TimeoutException ex) {
                 LOG.error("Await proceed timed out", ex);
+            } finally {
+                watch.close();
             }
         }
     }
@@ -32,6 +32,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -39,18 +43,41 @@ import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
 import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
 
+/**
+ * Iterates through the configured {@link Step steps} in a round robin fashion.
+ *
+ * <p>
+ * Steps are only handed out in the cycles they are configured for (see
+ * {@link StepEngineSettings.StepDefinition#getCycleInterval()}) and when they
+ * are ready (see {@link Step#isReady(MachineContext)}). The readiness of the
+ * upcoming steps is evaluated in the background so that the engine is able to
+ * jump directly to a runnable step once the current one has finished.
+ */
 final class StepIterator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StepIterator.class);
-    private int stepIndex = 0;
+    private final AtomicLong position = new AtomicLong();
     private final List<Step> steps;
+    private final Map<Step, Integer> cycleIntervals;
     private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders;
-
-    private StepIterator(final List<Step> steps, final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders) {
+    private final Map<Long, Boolean> readiness = new ConcurrentHashMap<>();
+    private final int lookAhead;
+    private final Executor lookAheadExecutor;
+
+    StepIterator(
+            final List<Step> steps,
+            final Map<Step, Integer> cycleIntervals,
+            final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders,
+            final int lookAhead,
+            final Executor lookAheadExecutor) {
         this.steps = new ArrayList<>(steps);
+        this.cycleIntervals = Collections.unmodifiableMap(cycleIntervals);
         this.requiredDataProviders = Collections.unmodifiableMap(requiredDataProviders);
+        this.lookAhead = lookAhead;
+        this.lookAheadExecutor = Objects.requireNonNull(lookAheadExecutor, "lookAheadExecutor must not be null");
 
         if (steps.isEmpty()) {
             throw new IllegalArgumentException("StepIterator has no steps to iterate through!");
@@ -61,15 +88,14 @@ final class StepIterator {
         return requiredDataProviders.getOrDefault(step, Collections.emptyList());
     }
 
-    static StepIterator create() {
+    static StepIterator create(final Executor lookAheadExecutor) {
+        final StepEngineSettings stepEngineSettings = Configuration.getInstance()
+                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class);
         final Builder builder = new Builder();
 
-        Configuration.getInstance()
-                .getConfigTyped(StepEngineSettings.CONFIG_KEY, StepEngineSettings.class)
-                .steps()
-                .forEach(builder::addStep);
+        stepEngineSettings.steps().forEach(builder::addStep);
 
-        return builder.build();
+        return builder.build(stepEngineSettings.lookAhead(), lookAheadExecutor);
     }
 
     void applyWith(final Consumer<Step> consumer) {
@@ -82,13 +108,94 @@ final class StepIterator {
                 .collect(Collectors.toSet());
     }
 
-    Step next() {
-        if (stepIndex == steps.size()) {
-            //loop
-            stepIndex = 0;
+    /**
+     * Determines the next {@link Step} to be executed. Steps not due in the
+     * current cycle or not being ready are passed over. In case no step is
+     * found to be runnable within a whole round the next due step is returned
+     * regardless of its readiness.
+     *
+     * <p>
+     * Readiness evaluated ahead of time is only trusted if the step was found
+     * to be ready, as a step not ready back then may have become ready in the
+     * meantime.
+     *
+     * @param context the MachineContext used to evaluate readiness
+     *
+     * @return the next {@link Step} to be executed
+     */
+    Step next(final MachineContext context) {
+        for (int evaluated = 0; evaluated < steps.size();) {
+            final long current = position.getAndIncrement();
+            final Step step = stepAt(current);
+
+            if (!isDue(current)) {
+                readiness.remove(current);
+                LOGGER.debug("Step {} is not due in cycle {}", step.getClass().getSimpleName(), cycleOf(current));
+                continue;
+            }
+
+            evaluated++;
+
+            if (Boolean.TRUE.equals(readiness.remove(current))
+                    || context.isReady(step, getRequiredDataProviders(step))) {
+                scheduleLookAhead(context);
+                return step;
+            }
+
+            LOGGER.debug("Step {} is not ready", step.getClass().getSimpleName());
+        }
+
+        LOGGER.info("No step is ready, continuing with plain round robin");
+        long current = position.getAndIncrement();
+
+        while (!isDue(current)) {
+            readiness.remove(current);
+            current = position.getAndIncrement();
+        }
+
+        readiness.remove(current);
+        scheduleLookAhead(context);
+        return stepAt(current);
+    }
+
+    private Step stepAt(final long stepPosition) {
+        return steps.get((int) (stepPosition % steps.size()));
+    }
+
+    private long cycleOf(final long stepPosition) {
+        return stepPosition / steps.size();
+    }
+
+    private boolean isDue(final long stepPosition) {
+        return 0 == cycleOf(stepPosition) % cycleIntervals.getOrDefault(stepAt(stepPosition), 1);
+    }
+
+    private void scheduleLookAhead(final MachineContext context) {
+        final long start = position.get();
+        readiness.keySet().removeIf(p -> p < start);
+
+        if (0 == lookAhead) {
+            return;
         }
 
-        return steps.get(stepIndex++);
+        try {
+            lookAheadExecutor.execute(() -> {
+                for (long p = start; p < start + lookAhead; p++) {
+                    if (p < position.get()) {
+                        // engine already passed this step
+                        continue;
+                    }
+
+                    final Step step = stepAt(p);
+
+                    if (isDue(p)) {
+                        readiness.put(p, context.isReady(step, getRequiredDataProviders(step)));
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ree) {
+            LOGGER.warn("Look-ahead for upcoming steps rejected", ree);
+        }
     }
 
     @SuppressWarnings("CanIgnoreReturnValueSuggester")
@@ -101,6 +208,7 @@ final class StepIterator {
                         sf -> sf.getStepClass().getCanonicalName(),
                         Function.identity()));
         private final List<Step> steps = new ArrayList<>();
+        private final Map<Step, Integer> cycleIntervals = new HashMap<>();
         private final Map<Step, Collection<Class<? extends DataProvider>>> requiredDataProviders = new HashMap<>();
 
         private Builder addStep(final StepEngineSettings.StepDefinition stepDefinition) {
@@ -114,12 +222,13 @@ final class StepIterator {
             Objects.requireNonNull(step, () -> "Step.Factory '" + factory + "' failed to create Step!");
             LOGGER.info("Step.Factory '{}' created '{}'", factory, step);
             steps.add(step);
+            cycleIntervals.put(step, stepDefinition.getCycleInterval());
 
             return this;
         }
 
-        public StepIterator build() {
-            return new StepIterator(steps, requiredDataProviders);
+        public StepIterator build(final int lookAhead, final Executor lookAheadExecutor) {
+            return new StepIterator(steps, cycleIntervals, requiredDataProviders, lookAhead, lookAheadExecutor);
         }
     }
 }
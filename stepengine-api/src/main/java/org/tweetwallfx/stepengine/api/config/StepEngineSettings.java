@@ -53,11 +53,23 @@ import static org.tweetwallfx.util.ToString.map;
  * <p>
  * Param {@code visualizationSettings} list of settings for
  * {@link Visualization} instances
+ *
+ * <p>
+ * Param {@code lookAhead} the number of upcoming steps whose readiness (see
+ * {@link Step#isReady(StepEngine.MachineContext)}) is evaluated in the
+ * background ahead of them being due (defaults to {@code 3}, {@code 0}
+ * disables the look-ahead)
+ *
+ * <p>
+ * Param {@code stallWatchdog} settings of the watchdog detecting steps not
+ * proceeding in time
  */
 public record StepEngineSettings(
         List<StepDefinition> steps,
         List<DataProviderSetting> dataProviderSettings,
-        Map<String, VisualizationSetting> visualizationSettings) {
+        Map<String, VisualizationSetting> visualizationSettings,
+        Integer lookAhead,
+        StallWatchdogSettings stallWatchdog) {
 
     /**
      * Configuration key under which the data for this Settings object is stored
@@ -68,10 +80,17 @@ public record StepEngineSettings(
     public StepEngineSettings(
             final List<StepDefinition> steps,
             final List<DataProviderSetting> dataProviderSettings,
-            final Map<String, VisualizationSetting> visualizationSettings) {
+            final Map<String, VisualizationSetting> visualizationSettings,
+            final Integer lookAhead,
+            final StallWatchdogSettings stallWatchdog) {
         this.steps = List.copyOf(Objects.requireNonNull(steps, "steps must not be null"));
         this.dataProviderSettings = nullable(dataProviderSettings);
         this.visualizationSettings = nullable(visualizationSettings);
+        this.lookAhead = Objects.requireNonNullElse(lookAhead, 3);
+        if (this.lookAhead < 0) {
+            throw new IllegalArgumentException("lookAhead must not be negative");
+        }
+        this.stallWatchdog = Objects.requireNonNullElseGet(stallWatchdog, () -> new StallWatchdogSettings(null, null, null, null, null, null));
     }
 
     @Override
@@ -89,6 +108,72 @@ public record StepEngineSettings(
         return Map.copyOf(visualizationSettings);
     }
 
+    /**
+     * POJO for reading Settings concerning the watchdog of the
+     * {@link StepEngine} detecting steps not proceeding in time.
+     *
+     * <p>
+     * Param {@code enabled} a flag indicating that the watchdog is enabled
+     * (defaults to {@code true})
+     *
+     * <p>
+     * Param {@code stallFactor} the factor of the preferred duration of a
+     * {@link Step} after which it is considered to be stalled (defaults to
+     * {@code 3.0})
+     *
+     * <p>
+     * Param {@code minimumStallMillis} the minimum time in milliseconds after
+     * which a {@link Step} is considered to be stalled (defaults to
+     * {@code 20000})
+     *
+     * <p>
+     * Param {@code sampleIntervalMillis} the interval in milliseconds in which
+     * stack samples of the FX Platform thread and the engine thread are taken
+     * during a stall (defaults to {@code 500})
+     *
+     * <p>
+     * Param {@code sampleCount} the number of stack samples taken per thread
+     * before the stall is reported (defaults to {@code 10})
+     *
+     * <p>
+     * Param {@code forceProceed} a flag indicating that the engine is forced to
+     * proceed to the next {@link Step} once a stall has been reported (defaults
+     * to {@code false}). A forced {@link Step} proceeding later on via the
+     * context handed to its execution does not affect the following
+     * {@link Step}s, whereas proceeding via
+     * {@link org.tweetwallfx.stepengine.api.StepEngine#getContext()} cuts the
+     * currently executing {@link Step} short.
+     */
+    public record StallWatchdogSettings(
+            Boolean enabled,
+            Double stallFactor,
+            Long minimumStallMillis,
+            Long sampleIntervalMillis,
+            Integer sampleCount,
+            Boolean forceProceed) {
+
+        public StallWatchdogSettings(
+                final Boolean enabled,
+                final Double stallFactor,
+                final Long minimumStallMillis,
+                final Long sampleIntervalMillis,
+                final Integer sampleCount,
+                final Boolean forceProceed) {
+            this.enabled = Objects.requireNonNullElse(enabled, true);
+            this.stallFactor = Objects.requireNonNullElse(stallFactor, 3.0);
+            this.minimumStallMillis = Objects.requireNonNullElse(minimumStallMillis, 20_000L);
+            this.sampleIntervalMillis = Objects.requireNonNullElse(sampleIntervalMillis, 500L);
+            this.sampleCount = Objects.requireNonNullElse(sampleCount, 10);
+            this.forceProceed = Objects.requireNonNullElse(forceProceed, false);
+            if (this.stallFactor < 1.0) {
+                throw new IllegalArgumentException("stallFactor must be at least 1.0");
+            }
+            if (this.sampleIntervalMillis < 1 || this.sampleCount < 1) {
+                throw new IllegalArgumentException("sampleIntervalMillis and sampleCount must be positive");
+            }
+        }
+    }
+
     /**
      * Service implementation converting the configuration data of the root key
      * {@link StepEngineSettings#CONFIG_KEY} into {@link StepEngineSettings}.
@@ -114,6 +199,7 @@ public record StepEngineSettings(
     public static final class StepDefinition extends ConfigurableObjectBase {
 
         private String stepClassName;
+        private int cycleInterval = 1;
 
         /**
          * Returns the class name of the {@link Step}.
@@ -133,10 +219,37 @@ public record StepEngineSettings(
             this.stepClassName = stepClassName;
         }
 
+        /**
+         * Returns the interval (in cycles through all configured steps) in
+         * which the {@link Step} is to be executed. An interval of {@code 1}
+         * (the default) executes the {@link Step} in every cycle, an interval
+         * of {@code 3} only in every third cycle.
+         *
+         * @return the interval in cycles in which the {@link Step} is executed
+         */
+        public int getCycleInterval() {
+            return cycleInterval;
+        }
+
+        /**
+         * Sets the interval (in cycles through all configured steps) in which
+         * the {@link Step} is to be executed.
+         *
+         * @param cycleInterval the interval in cycles in which the
+         * {@link Step} is executed
+         */
+        public void setCycleInterval(final int cycleInterval) {
+            if (cycleInterval < 1) {
+                throw new IllegalArgumentException("cycleInterval must be at least 1");
+            }
+            this.cycleInterval = cycleInterval;
+        }
+
         @Override
         public String toString() {
             return createToString(this, map(
                     "stepClassName", getStepClassName(),
+                    "cycleInterval", getCycleInterval(),
                     "config", getConfig()
             ), super.toString());
         }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class StallReportTest {
+
+    private static final StackTraceElement ELEMENT = new StackTraceElement("Step", "doStep", "Step.java", 42);
+
+    @Test
+    void samplesAreCopied() {
+        final StallReport.StackSample sample = new StallReport.StackSample(Instant.EPOCH, "engine", Thread.State.WAITING, List.of(ELEMENT));
+        final List<StallReport.StackSample> samples = new ArrayList<>(List.of(sample));
+        final StallReport report = new StallReport("Step", Duration.ofSeconds(1), Duration.ofSeconds(2), false, samples);
+
+        samples.clear();
+
+        assertThat(report.samples()).containsExactly(sample);
+        assertThat(report.samples()).isUnmodifiable();
+    }
+
+    @Test
+    void stackTraceIsCopied() {
+        final List<StackTraceElement> stackTrace = new ArrayList<>(List.of(ELEMENT));
+        final StallReport.StackSample sample = new StallReport.StackSample(Instant.EPOCH, "engine", Thread.State.WAITING, stackTrace);
+
+        stackTrace.clear();
+
+        assertThat(sample.stackTrace()).containsExactly(ELEMENT);
+        assertThat(sample.stackTrace()).isUnmodifiable();
+    }
+
+    @Test
+    void mandatoryComponentsAreChecked() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new StallReport(null, Duration.ZERO, Duration.ZERO, false, List.of()))
+                .withMessage("stepName must not be null");
+        assertThatNullPointerException()
+                .isThrownBy(() -> new StallReport("Step", null, Duration.ZERO, false, List.of()))
+                .withMessage("expectedDuration must not be null");
+        assertThatNullPointerException()
+                .isThrownBy(() -> new StallReport("Step", Duration.ZERO, null, false, List.of()))
+                .withMessage("elapsed must not be null");
+        assertThatNullPointerException()
+                .isThrownBy(() -> new StallReport.StackSample(Instant.EPOCH, null, Thread.State.NEW, List.of()))
+                .withMessage("threadName must not be null");
+    }
+
+    @Test
+    void stackSampleOfCurrentThread() {
+        final Instant before = Instant.now();
+        final StallReport.StackSample sample = StallReport.StackSample.of(Thread.currentThread());
+
+        assertThat(sample.threadName()).isEqualTo(Thread.currentThread().getName());
+        assertThat(sample.threadState()).isEqualTo(Thread.State.RUNNABLE);
+        assertThat(sample.timestamp()).isAfterOrEqualTo(before);
+        assertThat(sample.stackTrace())
+                .extracting(StackTraceElement::getMethodName)
+                .contains("stackSampleOfCurrentThread");
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@MockitoSettings
+class StallWatchdogTest {
+
+    private static final StepEngineSettings.StallWatchdogSettings SETTINGS
+            = new StepEngineSettings.StallWatchdogSettings(true, 2.0, 1000L, 100L, 2, false);
+    private static final StepEngineSettings.StallWatchdogSettings FORCING_SETTINGS
+            = new StepEngineSettings.StallWatchdogSettings(true, 2.0, 1000L, 100L, 2, true);
+
+    @Mock(name = "executor")
+    ScheduledExecutorService executor;
+    @Mock(name = "future")
+    ScheduledFuture<?> future;
+    @Mock(name = "step")
+    Step step;
+    @Mock(name = "forceProceed")
+    Runnable forceProceed;
+    @Mock(name = "listener")
+    Consumer<StallReport> listener;
+
+    @AfterEach
+    void afterEach() {
+        verifyNoMoreInteractions(executor, future, step, forceProceed, listener);
+    }
+
+    @Test
+    void disabledWatchdogDoesNotSchedule() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(
+                new StepEngineSettings.StallWatchdogSettings(false, null, null, null, null, null),
+                executor);
+
+        stallWatchdog.watch(step, Duration.ofSeconds(1), Thread.currentThread(), forceProceed).close();
+
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void stallIsDetectedAfterMultipleOfPreferredDuration() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(SETTINGS, executor);
+        doReturn(future).when(executor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+
+        stallWatchdog.watch(step, Duration.ofSeconds(5), Thread.currentThread(), forceProceed).close();
+
+        verify(executor).scheduleAtFixedRate(any(), eq(10_000L), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(future).cancel(false);
+    }
+
+    @Test
+    void stallIsDetectedNotBeforeMinimumStallDuration() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(SETTINGS, executor);
+        doReturn(future).when(executor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+
+        stallWatchdog.watch(step, Duration.ofMillis(100), Thread.currentThread(), forceProceed).close();
+
+        verify(executor).scheduleAtFixedRate(any(), eq(1_000L), eq(100L), eq(TimeUnit.MILLISECONDS));
+        verify(future).cancel(false);
+    }
+
+    @Test
+    void stepProceedingInTimeIsNotReported() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(FORCING_SETTINGS, executor);
+        stallWatchdog.addListener(listener);
+
+        watch(stallWatchdog).close();
+
+        verify(future).cancel(false);
+        verifyNoInteractions(listener, forceProceed);
+    }
+
+    @Test
+    void stalledStepIsReportedAfterAllSamples() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(SETTINGS, executor);
+        stallWatchdog.addListener(listener);
+        watch(stallWatchdog);
+        final Runnable sampler = scheduledSampler();
+
+        sampler.run();
+        verifyNoInteractions(listener);
+        sampler.run();
+
+        final StallReport report = publishedReport();
+        assertThat(report.forcedProceed()).isFalse();
+        assertThat(report.expectedDuration()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(report.samples())
+                .hasSize(2)
+                .allSatisfy(sample -> assertThat(sample.threadName()).isEqualTo(Thread.currentThread().getName()));
+        verify(future).cancel(false);
+        verifyNoInteractions(forceProceed);
+    }
+
+    @Test
+    void stalledStepIsForcedToProceedOnce() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(FORCING_SETTINGS, executor);
+        stallWatchdog.addListener(listener);
+        final StallWatchdog.Watch watch = watch(stallWatchdog);
+        final Runnable sampler = scheduledSampler();
+
+        sampler.run();
+        sampler.run();
+        // sampling already scheduled before being cancelled
+        sampler.run();
+        watch.close();
+
+        assertThat(publishedReport().forcedProceed()).isTrue();
+        verify(forceProceed).run();
+        verify(future, times(2)).cancel(false);
+    }
+
+    @Test
+    void stalledStepProceedingBeforeAllSamplesIsReported() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(FORCING_SETTINGS, executor);
+        stallWatchdog.addListener(listener);
+        final StallWatchdog.Watch watch = watch(stallWatchdog);
+        final Runnable sampler = scheduledSampler();
+
+        sampler.run();
+        watch.close();
+
+        final StallReport report = publishedReport();
+        assertThat(report.forcedProceed()).isFalse();
+        assertThat(report.samples()).hasSize(1);
+        verify(future).cancel(false);
+        verifyNoInteractions(forceProceed);
+    }
+
+    @Test
+    void samplesPlatformThreadIfRegistered() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(SETTINGS, executor);
+        final Thread platformThread = new Thread(() -> {
+        }, "platform");
+        stallWatchdog.addListener(listener);
+        stallWatchdog.platformThread(platformThread);
+        watch(stallWatchdog);
+        final Runnable sampler = scheduledSampler();
+
+        sampler.run();
+        sampler.run();
+
+        assertThat(publishedReport().samples())
+                .extracting(StallReport.StackSample::threadName)
+                .containsExactly(Thread.currentThread().getName(), "platform", Thread.currentThread().getName(), "platform");
+        verify(future).cancel(false);
+    }
+
+    @Test
+    void failingListenerDoesNotAffectOthers() {
+        final StallWatchdog stallWatchdog = new StallWatchdog(SETTINGS, executor);
+        stallWatchdog.addListener(report -> {
+            throw new IllegalStateException("failing");
+        });
+        stallWatchdog.addListener(listener);
+        watch(stallWatchdog);
+        final Runnable sampler = scheduledSampler();
+
+        sampler.run();
+        sampler.run();
+
+        assertThat(publishedReport().samples()).hasSize(2);
+        verify(future).cancel(false);
+    }
+
+    private StallWatchdog.Watch watch(final StallWatchdog stallWatchdog) {
+        doReturn(future).when(executor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        return stallWatchdog.watch(step, Duration.ofSeconds(1), Thread.currentThread(), forceProceed);
+    }
+
+    private Runnable scheduledSampler() {
+        final ArgumentCaptor<Runnable> sampler = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleAtFixedRate(sampler.capture(), anyLong(), anyLong(), any());
+        return sampler.getValue();
+    }
+
+    private StallReport publishedReport() {
+        final ArgumentCaptor<StallReport> report = ArgumentCaptor.forClass(StallReport.class);
+        verify(listener).accept(report.capture());
+        return report.getValue();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.stepengine.api.StepEngine.MachineContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class StepIteratorTest {
+
+    @Mock(name = "context")
+    MachineContext context;
+    @Mock(name = "stepOne")
+    Step stepOne;
+    @Mock(name = "stepTwo")
+    Step stepTwo;
+
+    @AfterEach
+    void afterEach() {
+        verifyNoMoreInteractions(context, stepOne, stepTwo);
+    }
+
+    @Test
+    void stepNotReadyIsPassedOver() {
+        final StepIterator stepIterator = stepIterator(Map.of(), 0);
+        when(context.isReady(eq(stepOne), any())).thenReturn(false);
+        when(context.isReady(eq(stepTwo), any())).thenReturn(true);
+
+        assertThat(stepIterator.next(context)).isSameAs(stepTwo);
+    }
+
+    @Test
+    void stepNotDueIsPassedOver() {
+        final StepIterator stepIterator = stepIterator(Map.of(stepOne, 2), 0);
+        when(context.isReady(any(), any())).thenReturn(true);
+
+        assertThat(List.of(
+                stepIterator.next(context),
+                stepIterator.next(context),
+                stepIterator.next(context),
+                stepIterator.next(context),
+                stepIterator.next(context)))
+                .containsExactly(stepOne, stepTwo, stepTwo, stepOne, stepTwo);
+    }
+
+    @Test
+    void stepFoundNotReadyAheadOfTimeIsReevaluated() {
+        final StepIterator stepIterator = stepIterator(Map.of(), 1);
+        when(context.isReady(eq(stepOne), any())).thenReturn(true);
+        when(context.isReady(eq(stepTwo), any())).thenReturn(false, true);
+
+        // evaluates stepTwo as not ready ahead of time
+        assertThat(stepIterator.next(context)).isSameAs(stepOne);
+        // stepTwo became ready in the meantime
+        assertThat(stepIterator.next(context)).isSameAs(stepTwo);
+    }
+
+    @Test
+    void stepFoundReadyAheadOfTimeIsNotReevaluated() {
+        final StepIterator stepIterator = stepIterator(Map.of(), 1);
+        when(context.isReady(eq(stepOne), any())).thenReturn(true);
+        when(context.isReady(eq(stepTwo), any())).thenReturn(true, false);
+
+        assertThat(stepIterator.next(context)).isSameAs(stepOne);
+        assertThat(stepIterator.next(context)).isSameAs(stepTwo);
+    }
+
+    @Test
+    void noStepReadyContinuesWithNextDueStep() {
+        final StepIterator stepIterator = stepIterator(Map.of(stepOne, 2), 0);
+        when(context.isReady(any(), any())).thenReturn(false);
+
+        // stepOne is not due in the second cycle
+        assertThat(stepIterator.next(context)).isSameAs(stepTwo);
+    }
+
+    private StepIterator stepIterator(final Map<Step, Integer> cycleIntervals, final int lookAhead) {
+        return new StepIterator(List.of(stepOne, stepTwo), cycleIntervals, Map.of(), lookAhead, Runnable::run);
+    }
+}
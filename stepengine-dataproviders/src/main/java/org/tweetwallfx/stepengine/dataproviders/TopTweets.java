@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Keeps the {@code k} tweets with the highest exponentially decaying score.
+ *
+ * <p>The score of a tweet halves with every half-life passed since its
+ * creation. As all scores decay at the same rate, their order never changes
+ * over time. Each tweet is therefore ranked once by the logarithm of its score
+ * at a fixed point in time, which keeps adding a tweet at {@code O(log k)}
+ * without rescoring the ranked ones. Instances are not thread safe.
+ */
+final class TopTweets {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::rank)
+            .thenComparingLong(entry -> entry.tweet().getId());
+
+    private final int k;
+    private final double decayPerSecond;
+    private final TreeSet<Entry> ranking = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    TopTweets(final int k, final Duration halfLife) {
+        this.k = k;
+        this.decayPerSecond = Math.log(2) / Math.max(1, halfLife.toSeconds());
+    }
+
+    /**
+     * Offers the tweet for ranking, replacing an already ranked tweet with the
+     * same id.
+     *
+     * @param tweet the tweet to offer
+     *
+     * @param score the positive score of the tweet at its creation
+     *
+     * @param createdAtEpochSecond the creation time of the tweet
+     *
+     * @return {@code true} if the tweet is ranked among the top {@code k}
+     */
+    boolean offer(final Tweet tweet, final double score, final long createdAtEpochSecond) {
+        if (0 == k) {
+            return false;
+        }
+
+        final Entry entry = new Entry(tweet, Math.log(Math.max(score, Double.MIN_NORMAL)) + decayPerSecond * createdAtEpochSecond);
+        final Entry previous = entries.remove(tweet.getId());
+
+        if (null != previous) {
+            ranking.remove(previous);
+        }
+
+        if (ranking.size() == k) {
+            if (ORDER.compare(entry, ranking.first()) <= 0) {
+                return false;
+            }
+
+            entries.remove(ranking.pollFirst().tweet().getId());
+        }
+
+        ranking.add(entry);
+        entries.put(tweet.getId(), entry);
+        return true;
+    }
+
+    /**
+     * {@return the ranked tweets, most relevant first}
+     */
+    List<Tweet> toList() {
+        final List<Tweet> tweets = new ArrayList<>(ranking.size());
+        ranking.descendingIterator().forEachRemaining(entry -> tweets.add(entry.tweet()));
+        return List.copyOf(tweets);
+    }
+
+    private record Entry(Tweet tweet, double rank) {
+    }
+}
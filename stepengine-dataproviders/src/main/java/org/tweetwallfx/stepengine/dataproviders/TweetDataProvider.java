@@ -23,11 +23,18 @@
  */
 package org.tweetwallfx.stepengine.dataproviders;
 
-import java.security.SecureRandom;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
@@ -38,60 +45,173 @@ import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetQuery;
 import org.tweetwallfx.tweet.api.Tweeter;
 
+/**
+ * Provides the tweet to display, which is either the latest tweet received
+ * from the stream or a random one of the recent tweets not shown lately.
+ *
+ * <p>The recent tweets are kept up to date with the tweets received from the
+ * stream. Only when no candidate is left to show, the tweets newer than the
+ * newest known one are searched for in the background, so that determining
+ * the next tweet never waits for a search. Each search runs on its own short
+ * lived thread, so no thread outlives it.
+ */
 public class TweetDataProvider implements DataProvider.NewTweetAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TweetDataProvider.class);
     private static final int HISTORY_SIZE = 50;
-    private final Random rand = new SecureRandom();
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 30_000L;
+    private static final ThreadFactory REFRESH_THREADS = Thread.ofPlatform().name("tweet-history-refresh-", 0).daemon().factory();
+    private final RandomGenerator rand;
     private volatile Tweet tweet;
     private volatile Tweet nextTweet;
-    private final String searchText = Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query();
-    private final Deque<Long> history = new ArrayDeque<>();
-    private volatile List<Tweet> lastTweetCollection;
+    private final String searchText;
+    private final Supplier<Tweeter> tweeter;
+    private final Executor refresher;
+    private final LongSupplier currentTimeMillis;
+    private final Object historyLock = new Object();
+    // guarded by historyLock
+    private final Map<Long, Tweet> candidates = new LinkedHashMap<>();
+    private final Set<Long> recentlyShown = new LinkedHashSet<>();
+    private long newestId;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long lastRefreshMillis;
 
     private TweetDataProvider() {
-        // prevent external instantiation
+        this(Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query(),
+                Tweeter::getInstance,
+                refresh -> REFRESH_THREADS.newThread(refresh).start(),
+                System::currentTimeMillis,
+                RandomGenerator.getDefault());
+    }
+
+    TweetDataProvider(
+            final String searchText,
+            final Supplier<Tweeter> tweeter,
+            final Executor refresher,
+            final LongSupplier currentTimeMillis,
+            final RandomGenerator rand) {
+        this.searchText = searchText;
+        this.tweeter = tweeter;
+        this.refresher = refresher;
+        this.currentTimeMillis = currentTimeMillis;
+        this.rand = rand;
+        this.lastRefreshMillis = currentTimeMillis.getAsLong() - MIN_REFRESH_INTERVAL_MILLIS;
+        refreshHistory();
     }
 
     @Override
     public void processNewTweet(final Tweet tweet) {
         LOGGER.info("new Tweet received");
         this.nextTweet = tweet;
-        this.lastTweetCollection = null;
+        addCandidates(List.of(tweet));
     }
 
     public Tweet getTweet() {
         return this.tweet;
     }
 
-    private List<Tweet> getLatestHistory() {
-        LOGGER.info("Reinit the history");
-        return Tweeter.getInstance().search(new TweetQuery()
-                .query(searchText)
-                .count(HISTORY_SIZE))
-                .toList();
+    private void refreshHistory() {
+        final long now = currentTimeMillis.getAsLong();
+
+        if (now - lastRefreshMillis < MIN_REFRESH_INTERVAL_MILLIS || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        lastRefreshMillis = now;
+        refresher.execute(() -> {
+            try {
+                final TweetQuery query = new TweetQuery()
+                        .query(searchText)
+                        .count(HISTORY_SIZE);
+
+                synchronized (historyLock) {
+                    if (0 != newestId) {
+                        query.sinceId(newestId);
+                    }
+                }
+
+                LOGGER.info("Refreshing the history since {}", query.getSinceId());
+                final List<Tweet> tweets = tweeter.get().search(query).toList();
+                LOGGER.info("Refreshed the history with {} tweets", tweets.size());
+                addCandidates(tweets.reversed());
+            } catch (final RuntimeException ex) {
+                LOGGER.error("Failed to refresh the history", ex);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private void addCandidates(final List<Tweet> tweets) {
+        synchronized (historyLock) {
+            for (final Tweet candidate : tweets) {
+                candidates.putIfAbsent(candidate.getId(), candidate);
+                newestId = Math.max(newestId, candidate.getId());
+            }
+
+            final Iterator<Long> oldest = candidates.keySet().iterator();
+
+            while (candidates.size() > HISTORY_SIZE) {
+                oldest.next();
+                oldest.remove();
+            }
+        }
+    }
+
+    private Tweet pickCandidate() {
+        synchronized (historyLock) {
+            Tweet picked = null;
+            int eligible = 0;
+
+            // uniformly chooses one of the candidates not shown lately
+            for (final Tweet candidate : candidates.values()) {
+                if (!recentlyShown.contains(candidate.getId()) && 0 == rand.nextInt(++eligible)) {
+                    picked = candidate;
+                }
+            }
+
+            if (eligible <= 1) {
+                refreshHistory();
+            }
+
+            if (null == picked) {
+                // fall back to the candidate shown the longest time ago
+                for (final Long id : recentlyShown) {
+                    picked = candidates.get(id);
+
+                    if (null != picked) {
+                        break;
+                    }
+                }
+            }
+
+            return picked;
+        }
+    }
+
+    private void markShown(final long id) {
+        synchronized (historyLock) {
+            recentlyShown.remove(id);
+            recentlyShown.add(id);
+
+            if (recentlyShown.size() > HISTORY_SIZE - 1) {
+                final Iterator<Long> oldest = recentlyShown.iterator();
+                oldest.next();
+                oldest.remove();
+            }
+        }
     }
 
     public Tweet nextTweet() {
         if (null == nextTweet) {
-            if (null == lastTweetCollection) {
-                lastTweetCollection = getLatestHistory();
-            }
-            nextTweet = lastTweetCollection.stream()
-                    .filter(t -> !history.contains(t.getId()))
-                    .skip(rand.nextInt(HISTORY_SIZE - history.size()))
-                    .findFirst()
-                    .orElse(null);
+            nextTweet = pickCandidate();
         }
         if (null != nextTweet) {
             tweet = nextTweet;
             nextTweet = null;
         }
         if (tweet != null) {
-            history.addLast(tweet.getId());
-            if (history.size() > HISTORY_SIZE - 1) {
-                history.removeFirst();
-            }
+            markShown(tweet.getId());
         }
         return tweet;
     }
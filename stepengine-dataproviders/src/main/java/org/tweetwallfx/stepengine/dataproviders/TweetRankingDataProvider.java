@@ -0,0 +1,244 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.config.TweetwallSettings;
+import org.tweetwallfx.stepengine.api.DataProvider;
+import org.tweetwallfx.stepengine.api.config.StepEngineSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.Tweeter;
+
+/**
+ * Provides the most relevant recent tweets as scored by the configured
+ * {@link TweetScorer}, with the score of each tweet decaying over time.
+ *
+ * <p>New tweets are ranked as they arrive against the current top tweets
+ * only, so that ranking a tweet takes {@code O(log topK)}.
+ */
+public class TweetRankingDataProvider implements DataProvider.NewTweetAware {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetRankingDataProvider.class);
+    private static final Map<String, TweetScorer.Factory> SCORER_FACTORIES = ServiceLoader.load(TweetScorer.Factory.class).stream()
+            .map(ServiceLoader.Provider::get)
+            .collect(Collectors.toMap(
+                    tsf -> tsf.getScorerClass().getCanonicalName(),
+                    Function.identity()));
+    private final String searchText = Configuration.getInstance()
+            .getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class)
+            .query();
+    private final TweetScorer scorer;
+    private final TopTweets topTweets;
+    private List<Tweet> rankedTweets = List.of();
+    private boolean rankingChanged;
+
+    private TweetRankingDataProvider(final Config config) {
+        this.scorer = Objects.requireNonNull(
+                SCORER_FACTORIES.get(config.scorer()),
+                "TweetScorer.Factory for scorer '" + config.scorer() + "' does not exist!")
+                .create(config);
+        this.topTweets = new TopTweets(config.topK(), Duration.ofSeconds(config.halfLifeSeconds()));
+
+        LOGGER.info("Initialize tweet ranking provider using {}", scorer);
+        getLatestHistory(config.historySize()).forEach(this::rankTweet);
+    }
+
+    @Override
+    public void processNewTweet(final Tweet tweet) {
+        LOGGER.debug("New tweet received");
+        rankTweet(tweet);
+    }
+
+    private void rankTweet(final Tweet tweet) {
+        // retweets contribute the up to date counts of the original tweet
+        final Tweet originalTweet = tweet.getOriginTweet();
+        final double score = scorer.score(originalTweet);
+        final LocalDateTime createdAt = originalTweet.getCreatedAt();
+        final long createdAtEpochSecond = null == createdAt
+                ? System.currentTimeMillis() / 1000
+                : createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+
+        synchronized (topTweets) {
+            if (topTweets.offer(originalTweet, score, createdAtEpochSecond)) {
+                LOGGER.debug("Ranked tweet {} with score {}", originalTweet.getId(), score);
+                rankingChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the top tweets, most relevant first.
+     *
+     * @return the immutable list of the top tweets
+     */
+    public List<Tweet> getRankedTweets() {
+        synchronized (topTweets) {
+            if (rankingChanged) {
+                rankedTweets = topTweets.toList();
+                rankingChanged = false;
+            }
+
+            return rankedTweets;
+        }
+    }
+
+    private List<Tweet> getLatestHistory(final int historySize) {
+        LOGGER.info("Reinitialize history");
+        return Tweeter.getInstance()
+                .search(new TweetQuery()
+                        .query(searchText)
+                        .count(historySize))
+                .toList();
+    }
+
+    /**
+     * Implementation of {@link DataProvider.Factory} as Service implementation
+     * creating {@link TweetRankingDataProvider}.
+     */
+    public static class FactoryImpl implements DataProvider.Factory {
+
+        @Override
+        public TweetRankingDataProvider create(final StepEngineSettings.DataProviderSetting dataProviderSetting) {
+            return new TweetRankingDataProvider(dataProviderSetting.getConfig(Config.class));
+        }
+
+        @Override
+        public Class<TweetRankingDataProvider> getDataProviderClass() {
+            return TweetRankingDataProvider.class;
+        }
+    }
+
+    /**
+     * POJO used to configure {@link TweetRankingDataProvider}.
+     *
+     * <p>
+     * Param {@code historySize} The number of the tweets to request from query
+     * in order to fill up {@link TweetRankingDataProvider} upon
+     * initialization. Defaults to {@code 50}.
+     *
+     * <p>
+     * Param {@code topK} The number of top tweets to provide via
+     * {@link TweetRankingDataProvider#getRankedTweets()}. Defaults to
+     * {@code 20}.
+     *
+     * <p>
+     * Param {@code halfLifeSeconds} The number of seconds after which the
+     * score of a tweet is halved. Defaults to {@code 3600}.
+     *
+     * <p>
+     * Param {@code scorer} The canonical class name of the
+     * {@link TweetScorer} to use. Defaults to {@link WeightedTweetScorer}.
+     *
+     * <p>
+     * Param {@code scoring} The weights used by {@link WeightedTweetScorer}.
+     */
+    public record Config(
+            Integer historySize,
+            Integer topK,
+            Long halfLifeSeconds,
+            String scorer,
+            Scoring scoring) {
+
+        public Config(
+                final Integer historySize,
+                final Integer topK,
+                final Long halfLifeSeconds,
+                final String scorer,
+                final Scoring scoring) {
+            this.historySize = Objects.requireNonNullElse(historySize, 50);
+            if (this.historySize < 0) {
+                throw new IllegalArgumentException("property 'historySize' must not be a negative number");
+            }
+            this.topK = Objects.requireNonNullElse(topK, 20);
+            if (this.topK < 0) {
+                throw new IllegalArgumentException("property 'topK' must not be a negative number");
+            }
+            this.halfLifeSeconds = Objects.requireNonNullElse(halfLifeSeconds, 3600L);
+            if (this.halfLifeSeconds <= 0) {
+                throw new IllegalArgumentException("property 'halfLifeSeconds' must be a positive number");
+            }
+            this.scorer = Objects.requireNonNullElse(scorer, WeightedTweetScorer.class.getCanonicalName());
+            this.scoring = Objects.requireNonNullElse(scoring, Scoring.DEFAULT);
+        }
+    }
+
+    /**
+     * POJO used to configure the weights of {@link WeightedTweetScorer}. Each
+     * tweet starts with a score of {@code 1}.
+     *
+     * <p>
+     * Param {@code favoriteWeight} The weight of the logarithm of the
+     * favorite count. Defaults to {@code 1.0}.
+     *
+     * <p>
+     * Param {@code retweetWeight} The weight of the logarithm of the retweet
+     * count. Defaults to {@code 1.5}.
+     *
+     * <p>
+     * Param {@code mediaWeight} The score added for tweets containing photos.
+     * Defaults to {@code 1.0}.
+     *
+     * <p>
+     * Param {@code speakerWeight} The score added for tweets of speakers.
+     * Defaults to {@code 2.0}.
+     *
+     * <p>
+     * Param {@code speakers} The screen names of the speakers. Defaults to
+     * none.
+     */
+    public record Scoring(
+            Double favoriteWeight,
+            Double retweetWeight,
+            Double mediaWeight,
+            Double speakerWeight,
+            List<String> speakers) {
+
+        public static final Scoring DEFAULT = new Scoring(null, null, null, null, null);
+
+        public Scoring(
+                final Double favoriteWeight,
+                final Double retweetWeight,
+                final Double mediaWeight,
+                final Double speakerWeight,
+                final List<String> speakers) {
+            this.favoriteWeight = Objects.requireNonNullElse(favoriteWeight, 1.0);
+            this.retweetWeight = Objects.requireNonNullElse(retweetWeight, 1.5);
+            this.mediaWeight = Objects.requireNonNullElse(mediaWeight, 1.0);
+            this.speakerWeight = Objects.requireNonNullElse(speakerWeight, 2.0);
+            this.speakers = List.copyOf(Objects.requireNonNullElse(speakers, List.of()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Fixed capacity store of the most recent tweets, ordered newest first, which
+ * does not accept the same tweet twice.
+ *
+ * <p>Adding and evicting tweets takes constant time as tweets are kept in a
+ * ring buffer together with an index of the contained tweets. Instances are
+ * not thread safe.
+ */
+final class TweetRingBuffer {
+
+    private final Tweet[] tweets;
+    private final Set<Key> index = new HashSet<>();
+    private int head;
+    private int size;
+
+    TweetRingBuffer(final int capacity) {
+        this.tweets = new Tweet[capacity];
+    }
+
+    /**
+     * Adds the tweet as the newest one, evicting the oldest tweet if the
+     * buffer is full.
+     *
+     * @param tweet the tweet to add
+     *
+     * @return {@code true} if the tweet has been added, {@code false} if it is
+     * already contained
+     */
+    boolean addFirst(final Tweet tweet) {
+        if (0 == tweets.length || !index.add(Key.of(tweet))) {
+            return false;
+        }
+
+        head = (head + tweets.length - 1) % tweets.length;
+
+        if (size == tweets.length) {
+            // the new head is the slot of the oldest tweet
+            index.remove(Key.of(tweets[head]));
+        } else {
+            size++;
+        }
+
+        tweets[head] = tweet;
+        return true;
+    }
+
+    /**
+     * Adds the tweet as the oldest one unless the buffer is full.
+     *
+     * @param tweet the tweet to add
+     *
+     * @return {@code true} if the tweet has been added, {@code false} if it is
+     * already contained or the buffer is full
+     */
+    boolean addLast(final Tweet tweet) {
+        if (size == tweets.length || !index.add(Key.of(tweet))) {
+            return false;
+        }
+
+        tweets[(head + size) % tweets.length] = tweet;
+        size++;
+        return true;
+    }
+
+    /**
+     * {@return an immutable copy of the contained tweets, newest first}
+     */
+    List<Tweet> toList() {
+        final Tweet[] copy = new Tweet[size];
+        final int firstPart = Math.min(size, tweets.length - head);
+
+        System.arraycopy(tweets, head, copy, 0, firstPart);
+        System.arraycopy(tweets, 0, copy, firstPart, size - firstPart);
+        return List.of(copy);
+    }
+
+    private record Key(long id, String screenName) {
+
+        private static Key of(final Tweet tweet) {
+            return new Key(tweet.getId(), tweet.getUser().getScreenName());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Scoring function determining the relevance of a tweet for
+ * {@link TweetRankingDataProvider}, regardless of its age.
+ */
+@FunctionalInterface
+public interface TweetScorer {
+
+    /**
+     * Scores the tweet. Higher scores denote more relevant tweets.
+     *
+     * @param tweet the tweet to score
+     *
+     * @return the positive score of the tweet
+     */
+    double score(Tweet tweet);
+
+    /**
+     * A Factory creating a {@link TweetScorer}, registered as Service in order
+     * to be selectable via {@link TweetRankingDataProvider.Config#scorer()}.
+     */
+    interface Factory {
+
+        /**
+         * Returns the class of the {@link TweetScorer} this factory will create
+         * via {@link #create(TweetRankingDataProvider.Config)}.
+         *
+         * @return the class of the {@link TweetScorer} this factory will create
+         */
+        Class<? extends TweetScorer> getScorerClass();
+
+        /**
+         * Creates a {@link TweetScorer}.
+         *
+         * @param config the configuration of the
+         * {@link TweetRankingDataProvider} using the scorer
+         *
+         * @return the created TweetScorer
+         */
+        TweetScorer create(TweetRankingDataProvider.Config config);
+    }
+}
@@ -23,15 +23,13 @@
  */
 package org.tweetwallfx.stepengine.dataproviders;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import javafx.scene.image.Image;
 
 import org.slf4j.Logger;
@@ -52,25 +50,23 @@ import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
 public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TweetStreamDataProvider.class);
-    private final ReadWriteLock tweetListLock = new ReentrantReadWriteLock();
+    private final Lock tweetListLock = new ReentrantLock();
     private final String searchText = Configuration.getInstance()
             .getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class)
             .query();
     private volatile Image latestTweetedImage;
-    private volatile Deque<Tweet> tweets = new ArrayDeque<>();
+    private final TweetRingBuffer tweets;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of());
     private final Config config;
 
     private TweetStreamDataProvider(final Config config) {
         this.config = config;
+        this.tweets = new TweetRingBuffer(config.maxTweets());
 
         LOGGER.info("Initialize tweet stream provider");
         List<Tweet> history = getLatestHistory();
-        tweetListLock.writeLock().lock();
-        try {
-            history.forEach(this::appendTweet);
-        } finally {
-            tweetListLock.writeLock().unlock();
-        }
+        history.forEach(this::appendTweet);
     }
 
     @Override
@@ -103,25 +99,27 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
             return;
         }
         LOGGER.info("Add tweet {}", tweet.getId());
-        tweetListLock.writeLock().lock();
+        tweetListLock.lock();
         try {
             final Tweet originalTweet = tweet.getOriginTweet();
+            final boolean added;
 
-            if (tweets.stream().noneMatch(twt -> originalTweet.getId() == twt.getId()
-                    && originalTweet.getUser().getScreenName().equals(twt.getUser().getScreenName()))) {
-                if (prepend) {
-                    tweets.addFirst(originalTweet);
+            if (prepend) {
+                added = tweets.addFirst(originalTweet);
+
+                if (added) {
                     updateImage(originalTweet);
-                } else {
-                    tweets.addLast(originalTweet);
                 }
+            } else {
+                added = tweets.addLast(originalTweet);
             }
 
-            if (tweets.size() > config.maxTweets()) {
-                tweets.removeLast();
+            if (added) {
+                // the snapshot is only copied when read, bursts of tweets do not copy it for every tweet
+                version.incrementAndGet();
             }
         } finally {
-            tweetListLock.writeLock().unlock();
+            tweetListLock.unlock();
         }
     }
 
@@ -129,13 +127,37 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
         return Optional.ofNullable(latestTweetedImage);
     }
 
+    /**
+     * Returns the current tweets, newest first.
+     *
+     * @return the immutable list of current tweets
+     */
     public List<Tweet> getTweets() {
-        tweetListLock.readLock().lock();
+        return getSnapshot().tweets();
+    }
 
+    /**
+     * Returns the current tweets together with their version, which changes
+     * whenever the tweets change. Readers may compare the version with the
+     * one of a previous snapshot in order to skip unchanged tweets.
+     *
+     * @return the snapshot of the current tweets
+     */
+    public Snapshot getSnapshot() {
+        final Snapshot current = snapshot;
+
+        if (current.version() == version.get()) {
+            return current;
+        }
+
+        tweetListLock.lock();
         try {
-            return new ArrayList<>(this.tweets);
+            if (snapshot.version() != version.get()) {
+                snapshot = new Snapshot(version.get(), tweets.toList());
+            }
+            return snapshot;
         } finally {
-            tweetListLock.readLock().unlock();
+            tweetListLock.unlock();
         }
     }
 
@@ -148,6 +170,16 @@ public class TweetStreamDataProvider implements DataProvider.NewTweetAware {
                 .toList();
     }
 
+    /**
+     * Immutable snapshot of the tweets of a {@link TweetStreamDataProvider}.
+     *
+     * @param version the version of the tweets, increasing with every change
+     *
+     * @param tweets the immutable list of tweets, newest first
+     */
+    public record Snapshot(long version, List<Tweet> tweets) {
+    }
+
     public static class FactoryImpl implements DataProvider.Factory {
 
         @Override
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+
+/**
+ * {@link TweetScorer} weighting the favorites, retweets, photos and the
+ * authorship by speakers of a tweet as configured in
+ * {@link TweetRankingDataProvider.Scoring}.
+ *
+ * <p>Favorite and retweet counts are weighted logarithmically so that a few
+ * very popular tweets do not outweigh everything else.
+ */
+public final class WeightedTweetScorer implements TweetScorer {
+
+    private final TweetRankingDataProvider.Scoring scoring;
+    private final Set<String> speakers;
+
+    public WeightedTweetScorer(final TweetRankingDataProvider.Scoring scoring) {
+        this.scoring = scoring;
+        this.speakers = scoring.speakers().stream()
+                .map(speaker -> speaker.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public double score(final Tweet tweet) {
+        double score = 1.0;
+        score += scoring.favoriteWeight() * Math.log1p(Math.max(0, tweet.getFavoriteCount()));
+        score += scoring.retweetWeight() * Math.log1p(Math.max(0, tweet.getRetweetCount()));
+
+        if (Arrays.stream(tweet.getMediaEntries()).anyMatch(MediaTweetEntryType.photo::isType)) {
+            score += scoring.mediaWeight();
+        }
+
+        if (!speakers.isEmpty() && speakers.contains(tweet.getUser().getScreenName().toLowerCase(Locale.ROOT))) {
+            score += scoring.speakerWeight();
+        }
+
+        return score;
+    }
+
+    /**
+     * Implementation of {@link TweetScorer.Factory} as Service implementation
+     * creating {@link WeightedTweetScorer}.
+     */
+    public static class FactoryImpl implements TweetScorer.Factory {
+
+        @Override
+        public Class<WeightedTweetScorer> getScorerClass() {
+            return WeightedTweetScorer.class;
+        }
+
+        @Override
+        public WeightedTweetScorer create(final TweetRankingDataProvider.Config config) {
+            return new WeightedTweetScorer(config.scoring());
+        }
+    }
+}
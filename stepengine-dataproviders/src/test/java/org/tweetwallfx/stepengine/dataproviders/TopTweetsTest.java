@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TopTweetsTest {
+
+    private static final long NOW = 1_790_000_000L;
+    private static final Duration HALF_LIFE = Duration.ofHours(1);
+
+    private final Tweet one = tweet(1);
+    private final Tweet two = tweet(2);
+    private final Tweet three = tweet(3);
+    private final Tweet four = tweet(4);
+
+    @Test
+    void lowestRankedTweetIsEvictedWhenFull() {
+        final TopTweets topTweets = new TopTweets(2, HALF_LIFE);
+
+        assertThat(topTweets.offer(one, 1, NOW)).isTrue();
+        assertThat(topTweets.offer(two, 3, NOW)).isTrue();
+        assertThat(topTweets.offer(three, 2, NOW)).isTrue();
+        assertThat(topTweets.toList()).containsExactly(two, three);
+
+        // tweets ranked below all top tweets are rejected
+        assertThat(topTweets.offer(four, 1.5, NOW)).isFalse();
+        assertThat(topTweets.toList()).containsExactly(two, three);
+    }
+
+    @Test
+    void tweetWithSameIdIsReplaced() {
+        final TopTweets topTweets = new TopTweets(2, HALF_LIFE);
+        final Tweet updatedOne = tweet(1);
+        topTweets.offer(one, 1, NOW);
+        topTweets.offer(two, 2, NOW);
+
+        assertThat(topTweets.offer(updatedOne, 5, NOW)).isTrue();
+        assertThat(topTweets.toList()).containsExactly(updatedOne, two);
+
+        // a lower score of the same tweet replaces its rank as well
+        assertThat(topTweets.offer(tweet(1), 0.5, NOW)).isTrue();
+        assertThat(topTweets.toList()).extracting(Tweet::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void newerTweetsOutrankOlderOnesWithSameScore() {
+        final TopTweets topTweets = new TopTweets(3, HALF_LIFE);
+
+        topTweets.offer(one, 2, NOW - HALF_LIFE.toSeconds());
+        topTweets.offer(two, 2, NOW);
+        // half the score but two half-lives newer
+        topTweets.offer(three, 1, NOW + 2 * HALF_LIFE.toSeconds());
+
+        assertThat(topTweets.toList()).containsExactly(three, two, one);
+    }
+
+    @Test
+    void fourfoldScoreCompensatesTwoHalfLivesRegardlessOfOfferOrder() {
+        final TopTweets lower = new TopTweets(2, HALF_LIFE);
+        final TopTweets higher = new TopTweets(2, HALF_LIFE);
+
+        lower.offer(one, 3.9, NOW);
+        lower.offer(two, 1, NOW + 2 * HALF_LIFE.toSeconds());
+        higher.offer(two, 1, NOW + 2 * HALF_LIFE.toSeconds());
+        higher.offer(one, 4.1, NOW);
+
+        assertThat(lower.toList()).containsExactly(two, one);
+        assertThat(higher.toList()).containsExactly(one, two);
+    }
+
+    @Test
+    void noTweetsAreRankedWithoutCapacity() {
+        final TopTweets topTweets = new TopTweets(0, HALF_LIFE);
+
+        assertThat(topTweets.offer(one, 10, NOW)).isFalse();
+        assertThat(topTweets.toList()).isEmpty();
+    }
+
+    private static Tweet tweet(final long id) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        return tweet;
+    }
+}
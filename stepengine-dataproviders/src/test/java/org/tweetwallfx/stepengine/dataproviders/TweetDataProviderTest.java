@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.Tweeter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TweetDataProviderTest {
+
+    private static final String QUERY = "#javaone";
+
+    @Mock(name = "tweeter")
+    Tweeter tweeter;
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1_000_000L);
+    private final List<Integer> bounds = new ArrayList<>();
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(tweeter);
+    }
+
+    @Test
+    void historyIsSearchedOnCreation() {
+        when(tweeter.search(any(TweetQuery.class))).thenReturn(Stream.of(tweet(3), tweet(2), tweet(1)));
+
+        final TweetDataProvider provider = provider(bound -> bound - 1);
+
+        final ArgumentCaptor<TweetQuery> query = ArgumentCaptor.forClass(TweetQuery.class);
+        verify(tweeter).search(query.capture());
+        assertThat(query.getValue().getQuery()).isEqualTo(QUERY);
+        assertThat(query.getValue().getCount()).isEqualTo(50);
+        assertThat(query.getValue().getSinceId()).isNull();
+        // the oldest candidate not shown yet is picked first
+        assertThat(provider.nextTweet().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void candidatesAreChosenUniformlyAmongNotRecentlyShownTweets() {
+        when(tweeter.search(any(TweetQuery.class))).thenReturn(Stream.of(tweet(3), tweet(2), tweet(1)));
+        final TweetDataProvider provider = provider(bound -> 0);
+
+        // every eligible candidate replaces the pick with probability 1/eligible
+        assertThat(provider.nextTweet().getId()).isEqualTo(3L);
+        assertThat(bounds).containsExactly(1, 2, 3);
+
+        bounds.clear();
+        assertThat(provider.nextTweet().getId()).isEqualTo(2L);
+        assertThat(bounds).containsExactly(1, 2);
+        verify(tweeter).search(any(TweetQuery.class));
+    }
+
+    @Test
+    void newTweetIsShownNext() {
+        when(tweeter.search(any(TweetQuery.class))).thenReturn(Stream.of(tweet(2), tweet(1)));
+        final TweetDataProvider provider = provider(bound -> bound - 1);
+        final Tweet newTweet = tweet(7);
+
+        provider.processNewTweet(newTweet);
+
+        assertThat(provider.nextTweet()).isSameAs(newTweet);
+        assertThat(provider.getTweet()).isSameAs(newTweet);
+        assertThat(bounds).isEmpty();
+        verify(tweeter).search(any(TweetQuery.class));
+    }
+
+    @Test
+    void historyIsRefreshedWhenCandidatesRunOutAtMostEveryThirtySeconds() {
+        final Tweet newer = tweet(4);
+        when(tweeter.search(any(TweetQuery.class))).thenReturn(Stream.of(tweet(3), tweet(2), tweet(1)), Stream.of(newer));
+        final TweetDataProvider provider = provider(bound -> bound - 1);
+
+        assertThat(provider.nextTweet().getId()).isEqualTo(1L);
+        assertThat(provider.nextTweet().getId()).isEqualTo(2L);
+        // a single candidate left asks for a refresh, which is throttled
+        assertThat(provider.nextTweet().getId()).isEqualTo(3L);
+        verify(tweeter).search(any(TweetQuery.class));
+
+        currentTimeMillis.addAndGet(30_000L);
+        // without candidates the tweet shown the longest time ago is repeated
+        assertThat(provider.nextTweet().getId()).isEqualTo(1L);
+        assertThat(provider.nextTweet()).isSameAs(newer);
+
+        final ArgumentCaptor<TweetQuery> query = ArgumentCaptor.forClass(TweetQuery.class);
+        verify(tweeter, times(2)).search(query.capture());
+        assertThat(query.getAllValues().get(1).getSinceId()).isEqualTo(3L);
+    }
+
+    @Test
+    void shownTweetsBecomeCandidatesAgainOnceEvicted() {
+        when(tweeter.search(any(TweetQuery.class))).thenReturn(LongStream.rangeClosed(1, 50)
+                .map(id -> 51 - id)
+                .mapToObj(TweetDataProviderTest::tweet));
+        final TweetDataProvider provider = provider(bound -> bound - 1);
+
+        for (long id = 1; id <= 50; id++) {
+            assertThat(provider.nextTweet().getId()).isEqualTo(id);
+        }
+
+        // showing the 50th tweet evicted the first one from the recently shown tweets
+        bounds.clear();
+        assertThat(provider.nextTweet().getId()).isEqualTo(1L);
+        assertThat(bounds).containsExactly(1);
+        assertThat(provider.nextTweet().getId()).isEqualTo(2L);
+        verify(tweeter).search(any(TweetQuery.class));
+    }
+
+    private TweetDataProvider provider(final IntUnaryOperator nextInt) {
+        return new TweetDataProvider(QUERY, () -> tweeter, Runnable::run, currentTimeMillis::get, new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int nextInt(final int bound) {
+                bounds.add(bound);
+                return nextInt.applyAsInt(bound);
+            }
+        });
+    }
+
+    private static Tweet tweet(final long id) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        return tweet;
+    }
+}
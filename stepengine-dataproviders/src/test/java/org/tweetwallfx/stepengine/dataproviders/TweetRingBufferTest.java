@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TweetRingBufferTest {
+
+    private final Tweet one = tweet(1);
+    private final Tweet two = tweet(2);
+    private final Tweet three = tweet(3);
+    private final Tweet four = tweet(4);
+    private final Tweet five = tweet(5);
+
+    @Test
+    void addFirstEvictsOldestTweetWhenFull() {
+        final TweetRingBuffer buffer = new TweetRingBuffer(3);
+
+        assertThat(buffer.addFirst(one)).isTrue();
+        assertThat(buffer.addFirst(two)).isTrue();
+        assertThat(buffer.addFirst(three)).isTrue();
+        assertThat(buffer.toList()).containsExactly(three, two, one);
+
+        // the head wraps around the end of the array twice
+        assertThat(buffer.addFirst(four)).isTrue();
+        assertThat(buffer.addFirst(five)).isTrue();
+        assertThat(buffer.toList()).containsExactly(five, four, three);
+
+        // evicted tweets are accepted again
+        assertThat(buffer.addFirst(one)).isTrue();
+        assertThat(buffer.toList()).containsExactly(one, five, four);
+    }
+
+    @Test
+    void addLastFillsUpToCapacity() {
+        final TweetRingBuffer buffer = new TweetRingBuffer(3);
+
+        assertThat(buffer.addLast(one)).isTrue();
+        assertThat(buffer.addLast(two)).isTrue();
+        assertThat(buffer.addLast(three)).isTrue();
+        assertThat(buffer.addLast(four)).isFalse();
+        assertThat(buffer.toList()).containsExactly(one, two, three);
+    }
+
+    @Test
+    void mixedAddsWrapAround() {
+        final TweetRingBuffer buffer = new TweetRingBuffer(3);
+
+        // the head moves to the last slot, the tail wraps to the first one
+        assertThat(buffer.addLast(two)).isTrue();
+        assertThat(buffer.addFirst(three)).isTrue();
+        assertThat(buffer.addLast(one)).isTrue();
+        assertThat(buffer.toList()).containsExactly(three, two, one);
+
+        assertThat(buffer.addFirst(four)).isTrue();
+        assertThat(buffer.toList()).containsExactly(four, three, two);
+        assertThat(buffer.addLast(five)).isFalse();
+    }
+
+    @Test
+    void containedTweetsAreRejected() {
+        final TweetRingBuffer buffer = new TweetRingBuffer(3);
+        buffer.addFirst(one);
+        buffer.addLast(two);
+
+        assertThat(buffer.addFirst(tweet(1))).isFalse();
+        assertThat(buffer.addLast(tweet(2))).isFalse();
+        assertThat(buffer.toList()).containsExactly(one, two);
+    }
+
+    @Test
+    void emptyBufferAcceptsNothing() {
+        final TweetRingBuffer buffer = new TweetRingBuffer(0);
+
+        assertThat(buffer.addFirst(one)).isFalse();
+        assertThat(buffer.addLast(one)).isFalse();
+        assertThat(buffer.toList()).isEmpty();
+    }
+
+    private static Tweet tweet(final long id) {
+        final User user = mock(User.class);
+        when(user.getScreenName()).thenReturn("duke");
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        when(tweet.getUser()).thenReturn(user);
+        return tweet;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.stepengine.dataproviders;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WeightedTweetScorerTest {
+
+    private final WeightedTweetScorer scorer = new WeightedTweetScorer(
+            new TweetRankingDataProvider.Scoring(null, null, null, null, List.of("Duke")));
+
+    @Test
+    void plainTweetScoresOne() {
+        assertThat(scorer.score(tweet(0, 0, "jane"))).isEqualTo(1.0);
+    }
+
+    @Test
+    void countsAreWeightedLogarithmically() {
+        assertThat(scorer.score(tweet(9, 0, "jane"))).isCloseTo(1.0 + Math.log(10), within(1e-9));
+        assertThat(scorer.score(tweet(0, 9, "jane"))).isCloseTo(1.0 + 1.5 * Math.log(10), within(1e-9));
+        assertThat(scorer.score(tweet(99, 99, "jane"))).isCloseTo(1.0 + 2.5 * Math.log(100), within(1e-9));
+    }
+
+    @Test
+    void unknownCountsAreIgnored() {
+        assertThat(scorer.score(tweet(-1, -1, "jane"))).isEqualTo(1.0);
+    }
+
+    @Test
+    void photosAreWeighted() {
+        final Tweet photoTweet = tweet(0, 0, "jane", media(MediaTweetEntryType.video), media(MediaTweetEntryType.photo));
+        final Tweet videoTweet = tweet(0, 0, "jane", media(MediaTweetEntryType.video));
+
+        assertThat(scorer.score(photoTweet)).isEqualTo(2.0);
+        assertThat(scorer.score(videoTweet)).isEqualTo(1.0);
+    }
+
+    @Test
+    void speakersAreWeightedIgnoringCase() {
+        assertThat(scorer.score(tweet(0, 0, "duke"))).isEqualTo(3.0);
+        assertThat(scorer.score(tweet(0, 0, "DUKE"))).isEqualTo(3.0);
+    }
+
+    @Test
+    void weightsAreConfigurable() {
+        final WeightedTweetScorer weightedScorer = new WeightedTweetScorer(
+                new TweetRankingDataProvider.Scoring(2.0, 0.0, 0.5, 4.0, List.of("duke")));
+
+        assertThat(weightedScorer.score(tweet(9, 9, "duke", media(MediaTweetEntryType.photo))))
+                .isCloseTo(1.0 + 2.0 * Math.log(10) + 0.5 + 4.0, within(1e-9));
+    }
+
+    private static Tweet tweet(final int favoriteCount, final int retweetCount, final String screenName, final MediaTweetEntry... media) {
+        final User user = mock(User.class);
+        when(user.getScreenName()).thenReturn(screenName);
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getFavoriteCount()).thenReturn(favoriteCount);
+        when(tweet.getRetweetCount()).thenReturn(retweetCount);
+        when(tweet.getMediaEntries()).thenReturn(media);
+        when(tweet.getUser()).thenReturn(user);
+        return tweet;
+    }
+
+    private static MediaTweetEntry media(final MediaTweetEntryType type) {
+        final MediaTweetEntry media = mock(MediaTweetEntry.class);
+        when(media.getType()).thenReturn(type);
+        return media;
+    }
+}
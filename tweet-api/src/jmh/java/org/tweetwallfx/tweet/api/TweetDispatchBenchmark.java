@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.config.TweetStreamSettings;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the cost of dispatching a single tweet to the consumers of a
+ * {@link TweetStream}, comparing the former synchronized dispatch logging every
+ * tweet at INFO level with the lock free {@link TweetDispatcher}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TweetDispatchBenchmark {
+
+    @Param({"1", "4"})
+    private int consumerCount;
+
+    private Tweet tweet;
+    private SynchronizedLoggingStream synchronizedLoggingStream;
+    private CompositeTweetStream compositeTweetStream;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        tweet = (Tweet) Proxy.newProxyInstance(
+                Tweet.class.getClassLoader(),
+                new Class<?>[]{Tweet.class},
+                (proxy, method, args) -> "getId".equals(method.getName()) ? 42L : null);
+        synchronizedLoggingStream = new SynchronizedLoggingStream();
+        compositeTweetStream = new CompositeTweetStream(new TweetDispatcher(TweetStreamSettings.DEFAULT));
+
+        for (int i = 0; i < consumerCount; i++) {
+            final Consumer<Tweet> consumer = blackhole::consume;
+            synchronizedLoggingStream.onTweet(consumer);
+            compositeTweetStream.onTweet(consumer);
+        }
+    }
+
+    @Benchmark
+    public void synchronizedLogging() {
+        synchronizedLoggingStream.accept(tweet);
+    }
+
+    @Benchmark
+    public void lockFree() {
+        compositeTweetStream.accept(tweet);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void synchronizedLoggingContended() {
+        synchronizedLoggingStream.accept(tweet);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void lockFreeContended() {
+        compositeTweetStream.accept(tweet);
+    }
+
+    /**
+     * Replica of the dispatch previously performed by
+     * {@link CompositeTweetStream} serving as baseline.
+     */
+    private static final class SynchronizedLoggingStream implements TweetStream, Consumer<Tweet> {
+        private static final Logger LOGGER = LoggerFactory.getLogger(SynchronizedLoggingStream.class);
+
+        private final List<Consumer<Tweet>> tweetConsumerList = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onTweet(final Consumer<Tweet> tweetConsumer) {
+            synchronized (this) {
+                tweetConsumerList.add(tweetConsumer);
+            }
+        }
+
+        @Override
+        public void accept(final Tweet tweet) {
+            synchronized (this) {
+                LOGGER.info("Redispatching new received tweet to {}", tweetConsumerList);
+                tweetConsumerList.stream().forEach(consumer -> consumer.accept(tweet));
+            }
+        }
+    }
+}
@@ -26,29 +26,33 @@ package org.tweetwallfx.tweet.api;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 final class CompositeTweetStream implements TweetStream, Consumer<Tweet> {
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeTweetStream.class);
 
-    private final List<Consumer<Tweet>> tweetConsumerList = new CopyOnWriteArrayList<>();
+    private final TweetDispatcher dispatcher;
+
+    CompositeTweetStream() {
+        this(new TweetDispatcher());
+    }
+
+    CompositeTweetStream(TweetDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
     @Override
     public void onTweet(Consumer<Tweet> tweetConsumer) {
-        synchronized (this) {
-            LOGGER.info("Adding tweetConsumer: {}", tweetConsumer);
-            tweetConsumerList.add(tweetConsumer);
-            LOGGER.info("List of tweetConsumers is now: {}", tweetConsumerList);
-        }
+        LOGGER.info("Adding tweetConsumer: {}", tweetConsumer);
+        dispatcher.add(tweetConsumer);
     }
 
     @Override
     public void accept(Tweet tweet) {
-        synchronized (this) {
-            LOGGER.info("Redispatching new received tweet to {}", tweetConsumerList);
-            tweetConsumerList.stream().forEach(consumer -> consumer.accept(tweet));
-        }
+        dispatcher.accept(tweet);
+    }
+
+    void close() {
+        dispatcher.close();
     }
 }
@@ -25,8 +25,15 @@ package org.tweetwallfx.tweet.api;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.tweet.api.config.CompositeTweeterSettings;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -34,9 +41,34 @@ public final class CompositeTweeter implements Tweeter {
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeTweeter.class);
 
     private final List<Tweeter> tweeters;
+    private final CompositeTweeterSettings settings;
+    private final ThreadPoolExecutor searchExecutor;
+    private final ScatterGatherSearch scatterGatherSearch;
+    private final List<CompositeTweetStream> tweetStreams = new CopyOnWriteArrayList<>();
 
     CompositeTweeter(List<Tweeter> tweeters) {
+        this(tweeters, Configuration.getInstance()
+                .getConfigTypedOptional(CompositeTweeterSettings.CONFIG_KEY, CompositeTweeterSettings.class)
+                .orElse(CompositeTweeterSettings.DEFAULT));
+    }
+
+    CompositeTweeter(List<Tweeter> tweeters, CompositeTweeterSettings settings) {
         this.tweeters = tweeters;
+        this.settings = settings;
+        this.searchExecutor = new ThreadPoolExecutor(
+                settings.searchThreads(),
+                settings.searchThreads(),
+                1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform()
+                        .name("composite-search-", 0)
+                        .daemon(true)
+                        .factory());
+        this.searchExecutor.allowCoreThreadTimeOut(true);
+        this.scatterGatherSearch = new ScatterGatherSearch(
+                searchExecutor,
+                Duration.ofSeconds(settings.searchTimeoutSeconds()),
+                settings.searchBufferSize());
     }
 
     <T> T getFirst(Function<Tweeter, T> action) {
@@ -61,9 +93,13 @@ public final class CompositeTweeter implements Tweeter {
     @Override
     public TweetStream createTweetStream(TweetFilterQuery filterQuery) {
         final CompositeTweetStream compositeTweetStream = new CompositeTweetStream();
+        final TweetDeduplicator deduplicator = new TweetDeduplicator(settings);
+        tweetStreams.add(compositeTweetStream);
         for (Tweeter tweeter : tweeters) {
             try {
-                tweeter.createTweetStream(filterQuery).onTweet(compositeTweetStream);
+                tweeter.createTweetStream(filterQuery)
+                        // consumers are isolated by the composite stream only
+                        .onTweet(TweetDispatcher.nonIsolated(deduplicator.forBackend(tweeter.getClass().getName(), compositeTweetStream)));
             } catch (Throwable t) {
                 LOGGER.error("Failed create tweet with query {} on tweeter {}", filterQuery, tweeter, t);
             }
@@ -113,12 +149,30 @@ public final class CompositeTweeter implements Tweeter {
 
     @Override
     public Stream<Tweet> search(TweetQuery tweetQuery) {
-        return getJoined(tweeter -> tweeter.search(tweetQuery));
+        return search(tweetQuery, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> search(TweetQuery tweetQuery, SearchCompletion completion) {
+        return scatterGatherSearch.search(tweeters, tweeter -> tweeter.search(tweetQuery, completion), completion);
     }
 
     @Override
     public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages) {
-        return getJoined(tweeter -> tweeter.searchPaged(tweetQuery, numberOfPages));
+        return searchPaged(tweetQuery, numberOfPages, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages, SearchCompletion completion) {
+        return scatterGatherSearch.search(tweeters, tweeter -> tweeter.searchPaged(tweetQuery, numberOfPages, completion), completion);
+    }
+
+    @Override
+    public Duration getSearchDelay() {
+        return tweeters.stream()
+                .map(Tweeter::getSearchDelay)
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
     }
 
     @Override
@@ -130,5 +184,7 @@ public final class CompositeTweeter implements Tweeter {
                 LOGGER.error("Failed to shutdown tweeter {}", tweeter, t);
             }
         }
+        tweetStreams.forEach(CompositeTweetStream::close);
+        searchExecutor.shutdownNow();
     }
 }
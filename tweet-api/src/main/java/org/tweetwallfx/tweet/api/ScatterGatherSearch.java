@@ -0,0 +1,267 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Searches multiple backends in parallel and merges their results by creation
+ * date (newest first) via a k-way merge.
+ *
+ * Every backend is consumed on its own thread into a bounded buffer, so a
+ * backend is only queried as far ahead as the buffer allows and paged searches
+ * do not fetch pages nobody consumes. Backends failing or not delivering their
+ * next tweet within the configured timeout are dropped from the merge and the
+ * results of the remaining backends are returned, marking the
+ * {@link SearchCompletion} of the search incomplete. A backend held back by its
+ * {@link Tweeter#getSearchDelay() search delay} (e.g. an exhausted rate limit)
+ * is given that delay on top of the timeout.
+ *
+ * A backend still producing is stopped as soon as the merged stream is closed,
+ * has been consumed to its end or becomes unreachable without either (e.g.
+ * after a short-circuiting operation), so that abandoned searches neither
+ * hold a search thread nor keep paging.
+ */
+final class ScatterGatherSearch {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScatterGatherSearch.class);
+    private static final Comparator<Tweet> NEWEST_FIRST = Comparator.comparing(
+            Tweet::getCreatedAt,
+            Comparator.nullsLast(Comparator.reverseOrder()));
+    private static final Object END = new Object();
+    // last resort for producers of streams neither closed nor collected yet
+    private static final long ABANDON_AFTER_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final int bufferSize;
+
+    ScatterGatherSearch(final ExecutorService executor, final Duration timeout, final int bufferSize) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Creates the lazily merged stream of the tweets produced by the given
+     * search action for each of the given tweeters. No backend is queried
+     * before the terminal operation of the returned stream starts.
+     *
+     * @param tweeters the tweeters to search
+     *
+     * @param search the search to perform on a tweeter
+     *
+     * @param completion the completion to mark when a tweeter is dropped
+     *
+     * @return the merged stream of tweets
+     */
+    Stream<Tweet> search(final List<Tweeter> tweeters, final Function<Tweeter, Stream<Tweet>> search, final SearchCompletion completion) {
+        final MergingSpliterator spliterator = new MergingSpliterator(tweeters, search, completion);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private final class MergingSpliterator extends Spliterators.AbstractSpliterator<Tweet> {
+
+        private final List<Tweeter> tweeters;
+        private final Function<Tweeter, Stream<Tweet>> search;
+        private final SearchCompletion completion;
+        private final List<Source> sources = new ArrayList<>();
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::tweet, NEWEST_FIRST));
+        private final Cleaner.Cleanable cleanable;
+        private boolean started = false;
+
+        private MergingSpliterator(final List<Tweeter> tweeters, final Function<Tweeter, Stream<Tweet>> search, final SearchCompletion completion) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.tweeters = tweeters;
+            this.search = search;
+            this.completion = completion;
+            this.cleanable = CLEANER.register(this, closing(sources));
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Tweet> action) {
+            if (!started) {
+                started = true;
+                tweeters.forEach(tweeter -> sources.add(new Source(tweeter, search, completion)));
+                sources.forEach(this::advance);
+            }
+
+            final Head head = heads.poll();
+
+            if (null == head) {
+                close();
+                return false;
+            }
+
+            action.accept(head.tweet());
+            advance(head.source());
+            return true;
+        }
+
+        private void advance(final Source source) {
+            final Tweet next = source.next();
+
+            if (null != next) {
+                heads.add(new Head(next, source));
+            }
+        }
+
+        private void close() {
+            // a closed search is not started anymore
+            started = true;
+            cleanable.clean();
+        }
+    }
+
+    private static Runnable closing(final List<Source> sources) {
+        // must not reference the spliterator as it would never become unreachable
+        return () -> sources.forEach(Source::close);
+    }
+
+    private record Head(Tweet tweet, Source source) {
+    }
+
+    private final class Source {
+
+        private final Tweeter tweeter;
+        private final SearchCompletion completion;
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final Future<?> producer;
+        private boolean exhausted = false;
+
+        private Source(final Tweeter tweeter, final Function<Tweeter, Stream<Tweet>> search, final SearchCompletion completion) {
+            this.tweeter = tweeter;
+            this.completion = completion;
+            Future<?> future = null;
+
+            try {
+                future = executor.submit(() -> produce(search));
+            } catch (final RejectedExecutionException ree) {
+                LOGGER.error("Failed to start search on tweeter {}", tweeter, ree);
+                completion.markIncomplete();
+                exhausted = true;
+            }
+
+            this.producer = future;
+        }
+
+        private void produce(final Function<Tweeter, Stream<Tweet>> search) {
+            try (Stream<Tweet> tweets = search.apply(tweeter)) {
+                final Iterator<Tweet> iterator = tweets.iterator();
+
+                while (iterator.hasNext()) {
+                    if (!buffer.offer(iterator.next(), ABANDON_AFTER_MILLIS, TimeUnit.MILLISECONDS)) {
+                        LOGGER.info("Abandoning search on tweeter {} as its results are no longer consumed", tweeter);
+                        return;
+                    }
+                }
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final RuntimeException re) {
+                LOGGER.error("Search failed on tweeter {}, continuing with partial results", tweeter, re);
+                completion.markIncomplete();
+            }
+
+            try {
+                buffer.offer(END, ABANDON_AFTER_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private Tweet next() {
+            if (exhausted) {
+                return null;
+            }
+
+            try {
+                final Object next = poll();
+
+                if (null == next) {
+                    LOGGER.warn("Search on tweeter {} timed out after {}, continuing with partial results", tweeter, timeout);
+                    completion.markIncomplete();
+                    close();
+                } else if (END == next) {
+                    exhausted = true;
+                } else {
+                    return (Tweet) next;
+                }
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                completion.markIncomplete();
+                close();
+            }
+
+            return null;
+        }
+
+        private Object poll() throws InterruptedException {
+            Object next = buffer.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            while (null == next) {
+                final Duration delay = tweeter.getSearchDelay();
+
+                if (!delay.isPositive()) {
+                    break;
+                }
+
+                LOGGER.info("Search on tweeter {} is held back for {}, waiting", tweeter, delay);
+                next = buffer.poll(delay.plus(timeout).toMillis(), TimeUnit.MILLISECONDS);
+            }
+
+            return next;
+        }
+
+        private void close() {
+            exhausted = true;
+
+            if (null != producer) {
+                producer.cancel(true);
+            }
+        }
+    }
+}
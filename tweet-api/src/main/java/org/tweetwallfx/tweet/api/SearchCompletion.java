@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+/**
+ * Tracks whether a search delivered all results of the searched backends.
+ *
+ * Backends continue with partial results when some of their requests fail or
+ * time out. They mark the completion of the search incomplete in that case, so
+ * that callers relying on complete results (e.g. to know up to when an archive
+ * is complete) can tell. The completion is final once the search stream has
+ * been consumed to its end.
+ */
+public final class SearchCompletion {
+
+    private volatile boolean complete = true;
+
+    /**
+     * Marks the search as having missed some of its results.
+     */
+    public void markIncomplete() {
+        complete = false;
+    }
+
+    /**
+     * {@return {@code true} if no results of the search were missed so far}
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
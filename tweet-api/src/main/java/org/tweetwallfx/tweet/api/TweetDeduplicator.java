@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.config.CompositeTweeterSettings;
+import org.tweetwallfx.util.RecentSet;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Merge stage deduplicating tweets delivered by multiple backends before they
+ * are forwarded into a {@link CompositeTweetStream}.
+ *
+ * Tweets are identified by their backend and id and optionally by the screen
+ * name of their author and their normalized text. Only the recently seen tweets (bounded by count and time
+ * window) are remembered so the memory footprint stays constant.
+ */
+final class TweetDeduplicator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetDeduplicator.class);
+    private static final Pattern URL_PATTERN = Pattern.compile("https?://\\S+");
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final RecentSet<IdKey> seenIds;
+    private final RecentSet<ContentKey> seenContents;
+
+    TweetDeduplicator(final CompositeTweeterSettings settings) {
+        final Duration window = Duration.ofSeconds(settings.deduplicationWindowSeconds());
+        this.seenIds = new RecentSet<>(settings.deduplicationCapacity(), window);
+        this.seenContents = settings.deduplicateByContent()
+                ? new RecentSet<>(settings.deduplicationCapacity(), window)
+                : null;
+    }
+
+    /**
+     * Creates the consumer for the tweets delivered by a backend forwarding
+     * only tweets not seen before to the {@code downstream} consumer.
+     *
+     * @param backend the name of the backend delivering the tweets
+     *
+     * @param downstream the consumer receiving the deduplicated tweets
+     *
+     * @return the consumer for the tweets delivered by the backend
+     */
+    Consumer<Tweet> forBackend(final String backend, final Consumer<Tweet> downstream) {
+        Objects.requireNonNull(backend, "backend must not be null");
+        Objects.requireNonNull(downstream, "downstream must not be null");
+        return tweet -> {
+            if (isFirstDelivery(backend, tweet)) {
+                downstream.accept(tweet);
+            } else {
+                LOGGER.debug("Dropping duplicate tweet {} delivered by {}", tweet.getId(), backend);
+            }
+        };
+    }
+
+    boolean isFirstDelivery(final String backend, final Tweet tweet) {
+        if (!seenIds.add(new IdKey(backend, tweet.getId()))) {
+            return false;
+        }
+
+        if (null == seenContents) {
+            return true;
+        }
+
+        final String text = null == tweet.getText()
+                ? ""
+                : NON_WORD_PATTERN.matcher(URL_PATTERN.matcher(tweet.getText().toLowerCase(Locale.ROOT)).replaceAll(" ")).replaceAll("");
+
+        // tweets consisting only of links, emojis or punctuation are not comparable by content
+        return text.isEmpty() || seenContents.add(new ContentKey(author(tweet), fnv1a64(text)));
+    }
+
+    /**
+     * Determines the screen name of the author of the tweet without any
+     * leading {@code @} or trailing instance (as used by federated backends
+     * for remote accounts).
+     */
+    private static String author(final Tweet tweet) {
+        final User user = tweet.getUser();
+
+        if (null == user || null == user.getScreenName()) {
+            return "";
+        }
+
+        final String screenName = user.getScreenName().startsWith("@")
+                ? user.getScreenName().substring(1)
+                : user.getScreenName();
+        final int instanceIndex = screenName.indexOf('@');
+
+        return (-1 == instanceIndex ? screenName : screenName.substring(0, instanceIndex)).toLowerCase(Locale.ROOT);
+    }
+
+    private static long fnv1a64(final String text) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    private record IdKey(String backend, long id) {
+    }
+
+    private record ContentKey(String author, long textHash) {
+    }
+}
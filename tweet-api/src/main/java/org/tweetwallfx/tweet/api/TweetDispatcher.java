@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.tweet.api.config.TweetStreamSettings;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches tweets to the consumers registered with a {@link TweetStream}.
+ *
+ * Dispatching does not lock and does not log per tweet. A consumer failing
+ * with an exception does not prevent the other consumers from receiving the
+ * tweet. When configured to isolate consumers (see
+ * {@link TweetStreamSettings#isolateConsumers()}) every consumer receives the
+ * tweets on its own thread, so that a slow consumer does not delay the
+ * others. The threads are released when the dispatcher is {@link #close()
+ * closed}.
+ *
+ * Consumers forwarding the tweets to another dispatcher (e.g. the one of a
+ * composite stream) should be registered {@link #nonIsolated(Consumer) as
+ * non isolated}, so that the tweets are only handed over to another thread
+ * once by the outermost dispatcher.
+ */
+public final class TweetDispatcher implements Consumer<Tweet>, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetDispatcher.class);
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofPlatform()
+            .name("tweet-consumer-", 0)
+            .daemon(true)
+            .factory();
+
+    private final List<Consumer<Tweet>> consumers = new CopyOnWriteArrayList<>();
+    private final TweetStreamSettings settings;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a dispatcher using the configured {@link TweetStreamSettings}.
+     */
+    public TweetDispatcher() {
+        this(Configuration.getInstance()
+                .getConfigTypedOptional(TweetStreamSettings.CONFIG_KEY, TweetStreamSettings.class)
+                .orElse(TweetStreamSettings.DEFAULT));
+    }
+
+    /**
+     * Creates a dispatcher using the given {@link TweetStreamSettings}.
+     *
+     * @param settings the settings to use
+     */
+    public TweetDispatcher(final TweetStreamSettings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    }
+
+    /**
+     * Registers a consumer receiving the dispatched tweets.
+     *
+     * @param tweetConsumer the consumer to register
+     */
+    public void add(final Consumer<Tweet> tweetConsumer) {
+        Objects.requireNonNull(tweetConsumer, "tweetConsumer must not be null");
+        if (closed) {
+            throw new IllegalStateException("TweetDispatcher is closed");
+        }
+        consumers.add(settings.isolateConsumers() && !(tweetConsumer instanceof NonIsolatedConsumer)
+                ? new IsolatedConsumer(tweetConsumer, settings.consumerQueueCapacity())
+                : tweetConsumer);
+    }
+
+    /**
+     * Marks the given consumer to receive the tweets on the dispatching thread
+     * even if consumers are configured to be isolated.
+     *
+     * @param tweetConsumer the consumer to mark
+     *
+     * @return the marked consumer
+     */
+    public static Consumer<Tweet> nonIsolated(final Consumer<Tweet> tweetConsumer) {
+        return new NonIsolatedConsumer(Objects.requireNonNull(tweetConsumer, "tweetConsumer must not be null"));
+    }
+
+    @Override
+    public void accept(final Tweet tweet) {
+        for (final Consumer<Tweet> consumer : consumers) {
+            try {
+                consumer.accept(tweet);
+            } catch (final RuntimeException re) {
+                LOGGER.error("Consumer {} failed to process tweet {}", consumer, tweet.getId(), re);
+            }
+        }
+    }
+
+    /**
+     * Releases the threads of the isolated consumers. Tweets still queued for
+     * them are delivered, tweets dispatched afterwards are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        consumers.stream()
+                .filter(IsolatedConsumer.class::isInstance)
+                .map(IsolatedConsumer.class::cast)
+                .forEach(IsolatedConsumer::close);
+    }
+
+    @Override
+    public String toString() {
+        return "TweetDispatcher" + consumers;
+    }
+
+    private record NonIsolatedConsumer(Consumer<Tweet> delegate) implements Consumer<Tweet> {
+
+        @Override
+        public void accept(final Tweet tweet) {
+            delegate.accept(tweet);
+        }
+
+        @Override
+        public String toString() {
+            return "NonIsolated[" + delegate + "]";
+        }
+    }
+
+    private static final class IsolatedConsumer implements Consumer<Tweet> {
+
+        private final Consumer<Tweet> delegate;
+        private final ExecutorService executor;
+
+        private IsolatedConsumer(final Consumer<Tweet> delegate, final int queueCapacity) {
+            this.delegate = delegate;
+            this.executor = new ThreadPoolExecutor(
+                    1, 1,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    THREAD_FACTORY,
+                    (r, e) -> {
+                        if (e.isShutdown()) {
+                            // dispatcher is closed
+                            return;
+                        }
+                        LOGGER.warn("Queue of {} is full, dropping oldest tweet", delegate);
+                        e.getQueue().poll();
+                        if (!e.getQueue().offer(r)) {
+                            LOGGER.warn("Queue of {} is full, dropping tweet", delegate);
+                        }
+                    });
+        }
+
+        @Override
+        public void accept(final Tweet tweet) {
+            executor.execute(() -> {
+                try {
+                    delegate.accept(tweet);
+                } catch (final RuntimeException re) {
+                    LOGGER.error("Consumer {} failed to process tweet {}", delegate, tweet.getId(), re);
+                }
+            });
+        }
+
+        private void close() {
+            executor.shutdown();
+        }
+
+        @Override
+        public String toString() {
+            return "Isolated[" + delegate + "]";
+        }
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.tweetwallfx.tweet.api;
 
+import java.time.Duration;
 import java.util.stream.Stream;
 
 public interface Tweeter {
@@ -59,5 +60,44 @@ public interface Tweeter {
 
     Stream<Tweet> searchPaged(final TweetQuery tweetQuery, int numberOfPages);
 
+    /**
+     * Searches like {@link #search(TweetQuery)}, marking the {@code completion}
+     * incomplete when results are missed due to failing or timed out requests.
+     *
+     * @param tweetQuery the query to search for
+     *
+     * @param completion the completion to mark in case of missed results
+     *
+     * @return the found tweets
+     */
+    default Stream<Tweet> search(final TweetQuery tweetQuery, final SearchCompletion completion) {
+        return search(tweetQuery);
+    }
+
+    /**
+     * Searches like {@link #searchPaged(TweetQuery, int)}, marking the
+     * {@code completion} incomplete when results are missed due to failing or
+     * timed out requests.
+     *
+     * @param tweetQuery the query to search for
+     *
+     * @param numberOfPages the maximum number of pages to search
+     *
+     * @param completion the completion to mark in case of missed results
+     *
+     * @return the found tweets
+     */
+    default Stream<Tweet> searchPaged(final TweetQuery tweetQuery, final int numberOfPages, final SearchCompletion completion) {
+        return searchPaged(tweetQuery, numberOfPages);
+    }
+
+    /**
+     * {@return how long a search started now is held back before it delivers
+     * results, e.g. until an exhausted rate limit resets}
+     */
+    default Duration getSearchDelay() {
+        return Duration.ZERO;
+    }
+
     void shutdown();
 }
@@ -46,7 +46,9 @@ final class TweeterHolder {
     static Tweeter instance() {
         if (null == instance) {
             synchronized (TweeterHolder.class) {
-                instance = createInstance(ServiceLoader.load(Tweeter.class));
+                instance = decorate(
+                        createInstance(ServiceLoader.load(Tweeter.class)),
+                        ServiceLoader.load(TweeterDecorator.class));
             }
         }
         return instance;
@@ -72,4 +74,19 @@ final class TweeterHolder {
             return new NoOpTweeter();
         }
     }
+
+    static Tweeter decorate(final Tweeter tweeter, final Iterable<TweeterDecorator> decoratorIterable) {
+        Tweeter decorated = tweeter;
+
+        for (final TweeterDecorator decorator : decoratorIterable) {
+            if (decorator.isEnabled()) {
+                LOGGER.info("Decorating tweeter with {}", decorator);
+                decorated = decorator.decorate(decorated);
+            } else {
+                LOGGER.info("Skipped disabled tweeter decorator {}", decorator);
+            }
+        }
+
+        return decorated;
+    }
 }
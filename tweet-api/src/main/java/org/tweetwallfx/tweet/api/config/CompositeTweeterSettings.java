@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+
+/**
+ * POJO for reading Settings concerning the merging of tweets of multiple
+ * enabled {@link org.tweetwallfx.tweet.api.Tweeter} backends.
+ *
+ * <p>
+ * Param {@code deduplicationCapacity} the maximum number of recently seen
+ * tweets remembered to detect duplicates (defaults to {@code 10000})
+ *
+ * <p>
+ * Param {@code deduplicationWindowSeconds} the number of seconds a seen tweet
+ * is remembered to detect duplicates (defaults to {@code 3600})
+ *
+ * <p>
+ * Param {@code deduplicateByContent} a flag indicating that tweets with the
+ * same normalized text by the same author are considered to be duplicates
+ * even when delivered by different backends (defaults to {@code false})
+ *
+ * <p>
+ * Param {@code searchTimeoutSeconds} the number of seconds to wait for the
+ * next search result of a backend before continuing without it, extended by
+ * the search delay reported by the backend (defaults to {@code 30})
+ *
+ * <p>
+ * Param {@code searchBufferSize} the maximum number of search results fetched
+ * from a backend ahead of them being consumed (defaults to {@code 100})
+ *
+ * <p>
+ * Param {@code searchThreads} the maximum number of backend searches run
+ * concurrently, further ones wait for a free thread within their timeout
+ * (defaults to {@code 16})
+ */
+public record CompositeTweeterSettings(
+        Integer deduplicationCapacity,
+        Long deduplicationWindowSeconds,
+        Boolean deduplicateByContent,
+        Long searchTimeoutSeconds,
+        Integer searchBufferSize,
+        Integer searchThreads) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "compositeTweeter";
+
+    /**
+     * The default settings applied in case none are configured.
+     */
+    public static final CompositeTweeterSettings DEFAULT = new CompositeTweeterSettings(null, null, null, null, null, null);
+
+    public CompositeTweeterSettings(
+            final Integer deduplicationCapacity,
+            final Long deduplicationWindowSeconds,
+            final Boolean deduplicateByContent,
+            final Long searchTimeoutSeconds,
+            final Integer searchBufferSize,
+            final Integer searchThreads) {
+        this.deduplicationCapacity = Objects.requireNonNullElse(deduplicationCapacity, 10_000);
+        this.deduplicationWindowSeconds = Objects.requireNonNullElse(deduplicationWindowSeconds, 3_600L);
+        this.deduplicateByContent = Objects.requireNonNullElse(deduplicateByContent, false);
+        this.searchTimeoutSeconds = Objects.requireNonNullElse(searchTimeoutSeconds, 30L);
+        this.searchBufferSize = Objects.requireNonNullElse(searchBufferSize, 100);
+        this.searchThreads = Objects.requireNonNullElse(searchThreads, 16);
+        if (this.searchTimeoutSeconds < 1 || this.searchBufferSize < 1 || this.searchThreads < 1) {
+            throw new IllegalArgumentException("searchTimeoutSeconds, searchBufferSize and searchThreads must be positive");
+        }
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link CompositeTweeterSettings#CONFIG_KEY} into
+     * {@link CompositeTweeterSettings}.
+     */
+    public static class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return CompositeTweeterSettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return CompositeTweeterSettings.class;
+        }
+    }
+}
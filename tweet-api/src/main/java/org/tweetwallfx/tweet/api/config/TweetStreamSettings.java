@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+
+/**
+ * POJO for reading Settings concerning the dispatching of tweets from a
+ * {@link org.tweetwallfx.tweet.api.TweetStream} to its consumers.
+ *
+ * <p>
+ * Param {@code isolateConsumers} a flag indicating that every consumer
+ * receives the tweets on its own thread, so that a slow or failing consumer
+ * does not delay the others (defaults to {@code false})
+ *
+ * <p>
+ * Param {@code consumerQueueCapacity} the maximum number of tweets queued for
+ * an isolated consumer before the oldest queued tweets are dropped (defaults to
+ * {@code 1000})
+ */
+public record TweetStreamSettings(
+        Boolean isolateConsumers,
+        Integer consumerQueueCapacity) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "tweetStream";
+
+    /**
+     * The default settings applied in case none are configured.
+     */
+    public static final TweetStreamSettings DEFAULT = new TweetStreamSettings(null, null);
+
+    public TweetStreamSettings(
+            final Boolean isolateConsumers,
+            final Integer consumerQueueCapacity) {
+        this.isolateConsumers = Objects.requireNonNullElse(isolateConsumers, false);
+        this.consumerQueueCapacity = Objects.requireNonNullElse(consumerQueueCapacity, 1_000);
+        if (this.consumerQueueCapacity < 1) {
+            throw new IllegalArgumentException("consumerQueueCapacity must be positive");
+        }
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link TweetStreamSettings#CONFIG_KEY} into {@link TweetStreamSettings}.
+     */
+    public static class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return TweetStreamSettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return TweetStreamSettings.class;
+        }
+    }
+}
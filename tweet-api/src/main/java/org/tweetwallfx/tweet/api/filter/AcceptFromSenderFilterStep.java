@@ -23,12 +23,15 @@
  */
 package org.tweetwallfx.tweet.api.filter;
 
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.CacheScope;
 import org.tweetwallfx.filterchain.FilterChainSettings;
 import org.tweetwallfx.filterchain.FilterStep;
 import org.tweetwallfx.tweet.api.Tweet;
@@ -81,6 +84,18 @@ public final class AcceptFromSenderFilterStep implements FilterStep<Tweet> {
         return Result.NOTHING_DEFINITE;
     }
 
+    @Override
+    public Optional<CacheScope<? super Tweet>> getCacheScope() {
+        return Optional.of(config.isCheckRetweeted()
+                ? TweetCacheScope.SENDERS
+                : TweetCacheScope.SENDER);
+    }
+
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.ACCEPTED);
+    }
+
     /**
      * Implementation of {@link FilterStep.Factory} creating
      * {@link AcceptFromSenderFilterStep}.
@@ -24,9 +24,13 @@
 package org.tweetwallfx.tweet.api.filter;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.CacheScope;
 import org.tweetwallfx.filterchain.FilterChainSettings;
 import org.tweetwallfx.filterchain.FilterStep;
 import org.tweetwallfx.tweet.api.Tweet;
@@ -85,6 +89,18 @@ public class MaxHashtagLengthFilterStep implements FilterStep<Tweet> {
         return Result.NOTHING_DEFINITE;
     }
 
+    @Override
+    public Optional<CacheScope<? super Tweet>> getCacheScope() {
+        return Optional.of(config.isCheckRetweeted()
+                ? TweetCacheScope.ORIGIN_TWEET
+                : TweetCacheScope.TWEET);
+    }
+
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.REJECTED);
+    }
+
     /**
      * Implementation of {@link FilterStep.Factory} creating
      * {@link MaxHashtagLengthFilterStep}.
@@ -23,17 +23,21 @@
  */
 package org.tweetwallfx.tweet.api.filter;
 
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.CacheScope;
 import org.tweetwallfx.filterchain.FilterChainSettings;
 import org.tweetwallfx.filterchain.FilterStep;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.util.PhraseMatcher;
 import static org.tweetwallfx.util.ToString.createToString;
 
 /**
@@ -50,9 +54,11 @@ public class RejectContainingHashtagFilterStep implements FilterStep<Tweet> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RejectFromSenderFilterStep.class);
     private final Config config;
+    private final PhraseMatcher hashtags;
 
     private RejectContainingHashtagFilterStep(final Config config) {
         this.config = config;
+        this.hashtags = PhraseMatcher.of(config.getHashtags());
     }
 
     @Override
@@ -65,7 +71,7 @@ public class RejectContainingHashtagFilterStep implements FilterStep<Tweet> {
                     t.getId());
 
             for (final HashtagTweetEntry hashtagEntry : t.getHashtagEntries()) {
-                if (config.getHashtags().contains(hashtagEntry.getText().toLowerCase(Locale.ENGLISH))) {
+                if (hashtags.matchesExactly(hashtagEntry.getText())) {
                     LOG.info("Tweet(id:{}): Hashtag {} for Tweet(id:{}) is blacklisted -> REJECTED",
                             tweet.getId(),
                             hashtagEntry.getText(),
@@ -85,6 +91,18 @@ public class RejectContainingHashtagFilterStep implements FilterStep<Tweet> {
         return Result.NOTHING_DEFINITE;
     }
 
+    @Override
+    public Optional<CacheScope<? super Tweet>> getCacheScope() {
+        return Optional.of(config.isCheckRetweeted()
+                ? TweetCacheScope.ORIGIN_TWEET
+                : TweetCacheScope.TWEET);
+    }
+
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.REJECTED);
+    }
+
     /**
      * Implementation of {@link FilterStep.Factory} creating
      * {@link RejectContainingHashtagFilterStep}.
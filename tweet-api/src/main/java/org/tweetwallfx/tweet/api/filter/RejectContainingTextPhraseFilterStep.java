@@ -26,16 +26,18 @@ package org.tweetwallfx.tweet.api.filter;
 import static org.tweetwallfx.util.ToString.createToString;
 import static org.tweetwallfx.util.ToString.map;
 
-import java.util.Locale;
+import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.CacheScope;
 import org.tweetwallfx.filterchain.FilterChainSettings;
 import org.tweetwallfx.filterchain.FilterStep;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.util.PhraseMatcher;
 
 /**
  * A {@link FilterStep} handling {@link Tweet}s by checking that its text does
@@ -49,9 +51,11 @@ public class RejectContainingTextPhraseFilterStep implements FilterStep<Tweet> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RejectContainingTextPhraseFilterStep.class);
     private final Config config;
+    private final PhraseMatcher textPhrases;
 
     private RejectContainingTextPhraseFilterStep(final Config config) {
         this.config = config;
+        this.textPhrases = PhraseMatcher.of(config.getTextPhrases());
     }
 
     @Override
@@ -63,11 +67,7 @@ public class RejectContainingTextPhraseFilterStep implements FilterStep<Tweet> {
                     tweet.getId(),
                     t.getId());
 
-            final String text = t.getText().toLowerCase(Locale.ENGLISH);
-            final Optional<String> containedPhrase = config.getTextPhrases().stream()
-                    .map(s -> s.toLowerCase(Locale.ENGLISH))
-                    .filter(phrase -> text.contains(phrase))
-                    .findAny();
+            final Optional<String> containedPhrase = textPhrases.findAny(t.getText());
 
             if (containedPhrase.isPresent()) {
                 LOG.warn("Tweet(id:{}): The text phrase \"{}\" is contained in Tweet(id:{}) because it contains the phrase {}",
@@ -88,6 +88,18 @@ public class RejectContainingTextPhraseFilterStep implements FilterStep<Tweet> {
         return FilterStep.Result.NOTHING_DEFINITE;
     }
 
+    @Override
+    public Optional<CacheScope<? super Tweet>> getCacheScope() {
+        return Optional.of(config.isCheckRetweeted()
+                ? TweetCacheScope.ORIGIN_TWEET
+                : TweetCacheScope.TWEET);
+    }
+
+    @Override
+    public Set<Result> getTerminalResults() {
+        return EnumSet.of(Result.REJECTED);
+    }
+
     /**
      * Implementation of {@link FilterStep.Factory} creating
      * {@link RejectContainingTextPhraseFilterStep}.
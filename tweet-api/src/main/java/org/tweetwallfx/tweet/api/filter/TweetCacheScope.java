@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.tweetwallfx.filterchain.CacheScope;
+import org.tweetwallfx.filterchain.FilterStep;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+
+/**
+ * The {@link CacheScope}s of the {@link FilterStep}s evaluating {@link Tweet}s.
+ *
+ * <p>
+ * As ids are only unique per backend (e.g. when merging backends via the
+ * {@link org.tweetwallfx.tweet.api.CompositeTweeter}) all keys are qualified
+ * by the backend of the evaluated {@link Tweet}, i.e. its class.
+ */
+public enum TweetCacheScope implements CacheScope<Tweet> {
+
+    /**
+     * The result depends on the content of the {@link Tweet} itself, i.e. its
+     * text, hashtags or media, but not on a retweeted {@link Tweet}. The key
+     * is the id of the {@link Tweet}.
+     */
+    TWEET {
+        @Override
+        public Object keyOf(final Tweet tweet) {
+            return new Key(tweet, tweet.getId());
+        }
+    },
+    /**
+     * The result depends on the content of the {@link Tweet} and of the
+     * retweeted {@link Tweet}s, i.e. their text, hashtags or media. As the
+     * content of a retweet is derived from the retweeted {@link Tweet} the key
+     * is the id of the original {@link Tweet}.
+     */
+    ORIGIN_TWEET {
+        @Override
+        public Object keyOf(final Tweet tweet) {
+            Tweet t = tweet;
+
+            while (null != t.getRetweetedTweet()) {
+                t = t.getRetweetedTweet();
+            }
+
+            return new Key(t, t.getId());
+        }
+    },
+    /**
+     * The result depends on the {@link User} sending the {@link Tweet} only.
+     * The key is the id of the sending {@link User}.
+     */
+    SENDER {
+        @Override
+        public Object keyOf(final Tweet tweet) {
+            final User user = tweet.getUser();
+            return null == user
+                    ? null
+                    : new Key(tweet, user.getId());
+        }
+    },
+    /**
+     * The result depends on the {@link User} sending the {@link Tweet} and on
+     * the {@link User}s sending the retweeted {@link Tweet}s. The key is the
+     * list of the ids of these {@link User}s.
+     */
+    SENDERS {
+        @Override
+        public Object keyOf(final Tweet tweet) {
+            final List<Long> userIds = new ArrayList<>(2);
+
+            for (Tweet t = tweet; null != t; t = t.getRetweetedTweet()) {
+                final User user = t.getUser();
+
+                if (null == user) {
+                    return null;
+                }
+
+                userIds.add(user.getId());
+            }
+
+            return new Key(tweet, userIds);
+        }
+    };
+
+    private record Key(String backend, Object id) {
+
+        private Key(final Tweet tweet, final Object id) {
+            this(tweet.getClass().getName(), id);
+        }
+    }
+}
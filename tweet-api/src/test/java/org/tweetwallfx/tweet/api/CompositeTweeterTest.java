@@ -23,20 +23,32 @@
  */
 package org.tweetwallfx.tweet.api;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.config.CompositeTweeterSettings;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -60,6 +72,10 @@ class CompositeTweeterTest {
     Tweet tweetOne;
     @Mock(name = "tweetTwo")
     Tweet tweetTwo;
+    @Mock(name = "olderTweet")
+    Tweet olderTweet;
+    @Mock(name = "newerTweet")
+    Tweet newerTweet;
     @Mock(name = "tweetQuery")
     TweetQuery tweetQuery;
     @Mock(name = "user")
@@ -68,18 +84,20 @@ class CompositeTweeterTest {
     User userOne;
     @Mock(name = "userTwo")
     User userTwo;
+    @Captor
+    ArgumentCaptor<Consumer<Tweet>> tweetConsumer;
 
     CompositeTweeter compositeTweeter;
 
     @BeforeEach
     void prepare() {
-        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo));
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo), CompositeTweeterSettings.DEFAULT);
     }
 
     @AfterEach
     void verifyMocks() {
         verifyNoInteractions(tweetOne, tweetTwo, userOne, userTwo);
-        verifyNoMoreInteractions(logger, tweeterOne, tweeterTwo, filterQery, tweetStreamOne, tweetStreamTwo, user);
+        verifyNoMoreInteractions(logger, tweeterOne, tweeterTwo, filterQery, tweetStreamOne, tweetStreamTwo, user, olderTweet, newerTweet);
     }
 
     @Test
@@ -93,13 +111,17 @@ class CompositeTweeterTest {
         when(tweeterOne.createTweetStream(filterQery)).thenReturn(tweetStreamOne);
         when(tweeterTwo.createTweetStream(filterQery)).thenThrow(problem);
 
-        assertThat(compositeTweeter.createTweetStream(filterQery))
-                .isInstanceOf(CompositeTweetStream.class)
-                .extracting(CompositeTweetStream.class::cast)
-                .satisfies(compositeStream -> {
-                    verify(tweetStreamOne).onTweet(compositeStream);
-                });
+        final TweetStream compositeStream = compositeTweeter.createTweetStream(filterQery);
+        assertThat(compositeStream).isInstanceOf(CompositeTweetStream.class);
+        verify(tweetStreamOne).onTweet(tweetConsumer.capture());
         verify(logger).error("Failed create tweet with query {} on tweeter {}", filterQery, tweeterTwo, problem);
+
+        final List<Tweet> received = new ArrayList<>();
+        compositeStream.onTweet(TweetDispatcher.nonIsolated(received::add));
+        final Tweet tweet = mock(Tweet.class);
+        tweetConsumer.getValue().accept(tweet);
+
+        assertThat(received).containsExactly(tweet);
     }
 
     @Test
@@ -168,18 +190,79 @@ class CompositeTweeterTest {
 
     @Test
     void search() {
-        when(tweeterOne.search(tweetQuery)).thenReturn(Stream.of(tweetOne));
-        when(tweeterTwo.search(tweetQuery)).thenReturn(Stream.of(tweetTwo));
+        when(olderTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 20, 0));
+        when(newerTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 21, 0));
+        when(tweeterOne.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(olderTweet));
+        when(tweeterTwo.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(newerTweet));
+
+        final SearchCompletion completion = new SearchCompletion();
+        assertThat(compositeTweeter.search(tweetQuery, completion)).containsExactly(newerTweet, olderTweet);
+        assertThat(completion.isComplete()).isTrue();
+    }
+
+    @Test
+    void searchWithFailingTweeter() {
+        when(tweeterOne.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(eq(tweetQuery), any(SearchCompletion.class))).thenThrow(new RuntimeException("some problem"));
+
+        final SearchCompletion completion = new SearchCompletion();
+        assertThat(compositeTweeter.search(tweetQuery, completion)).containsExactly(tweetOne);
+        assertThat(completion.isComplete()).isFalse();
+    }
 
-        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(tweetOne, tweetTwo);
+    @Test
+    void searchWaitsForDelayedTweeter() {
+        compositeTweeter = new CompositeTweeter(List.of(tweeterOne, tweeterTwo), new CompositeTweeterSettings(null, null, null, 1L, null, null));
+        when(olderTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 20, 0));
+        when(newerTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 21, 0));
+        when(tweeterOne.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(olderTweet));
+        // delivers after the timeout, but within the delay it reports
+        when(tweeterTwo.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(newerTweet).peek(tweet -> sleep(Duration.ofMillis(1_500))));
+        when(tweeterTwo.getSearchDelay()).thenReturn(Duration.ofSeconds(2));
+
+        assertThat(compositeTweeter.search(tweetQuery)).containsExactly(newerTweet, olderTweet);
     }
 
     @Test
     void searchPaged() {
-        when(tweeterOne.searchPaged(tweetQuery, 2)).thenReturn(Stream.of(tweetTwo));
-        when(tweeterTwo.searchPaged(tweetQuery, 2)).thenReturn(Stream.of(tweetOne));
+        when(newerTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 20, 0));
+        when(olderTweet.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 3, 3, 11, 19, 0));
+        when(tweeterOne.searchPaged(eq(tweetQuery), eq(2), any(SearchCompletion.class))).thenReturn(Stream.of(olderTweet));
+        when(tweeterTwo.searchPaged(eq(tweetQuery), eq(2), any(SearchCompletion.class))).thenReturn(Stream.of(newerTweet));
+
+        assertThat(compositeTweeter.searchPaged(tweetQuery, 2)).containsExactly(newerTweet, olderTweet);
+    }
+
+    @Test
+    void searchIsLazy() {
+        when(tweeterOne.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.of(tweetOne));
+        when(tweeterTwo.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.empty());
 
-        assertThat(compositeTweeter.searchPaged(tweetQuery, 2)).containsExactly(tweetTwo, tweetOne);
+        final Stream<Tweet> tweets = compositeTweeter.search(tweetQuery);
+        verifyNoInteractions(tweeterOne, tweeterTwo);
+
+        assertThat(tweets).containsExactly(tweetOne);
+    }
+
+    @Test
+    void closingSearchStopsTweeters() throws InterruptedException {
+        final CountDownLatch closed = new CountDownLatch(1);
+        when(tweeterOne.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.generate(() -> newerTweet).onClose(closed::countDown));
+        when(tweeterTwo.search(eq(tweetQuery), any(SearchCompletion.class))).thenReturn(Stream.empty());
+
+        try (Stream<Tweet> tweets = compositeTweeter.search(tweetQuery)) {
+            assertThat(tweets.findFirst()).contains(newerTweet);
+        }
+
+        assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void getSearchDelay() {
+        when(tweeterOne.getSearchDelay()).thenReturn(Duration.ofSeconds(5));
+        when(tweeterTwo.getSearchDelay()).thenReturn(Duration.ZERO);
+
+        assertThat(compositeTweeter.getSearchDelay()).isEqualTo(Duration.ofSeconds(5));
     }
 
     @Test
@@ -191,4 +274,12 @@ class CompositeTweeterTest {
         assertThatNoException().isThrownBy(compositeTweeter::shutdown);
         verify(logger).error("Failed to shutdown tweeter {}", tweeterTwo, problem);
     }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.config.CompositeTweeterSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TweetDeduplicatorTest {
+    @Mock(name = "tweetOne")
+    Tweet tweetOne;
+    @Mock(name = "tweetTwo")
+    Tweet tweetTwo;
+    @Mock(name = "userOne")
+    User userOne;
+    @Mock(name = "userTwo")
+    User userTwo;
+
+    final List<Tweet> received = new ArrayList<>();
+
+    @Test
+    void dropsRedeliveredTweetsPerBackend() {
+        final TweetDeduplicator deduplicator = new TweetDeduplicator(CompositeTweeterSettings.DEFAULT);
+        final Consumer<Tweet> backendOne = deduplicator.forBackend("one", received::add);
+        final Consumer<Tweet> backendTwo = deduplicator.forBackend("two", received::add);
+        when(tweetOne.getId()).thenReturn(42L);
+        when(tweetTwo.getId()).thenReturn(42L);
+
+        backendOne.accept(tweetOne);
+        backendOne.accept(tweetOne);
+        backendTwo.accept(tweetTwo);
+
+        assertThat(received).containsExactly(tweetOne, tweetTwo);
+    }
+
+    @Test
+    void dropsCrossPostedTweetsByContent() {
+        final TweetDeduplicator deduplicator = new TweetDeduplicator(new CompositeTweeterSettings(null, null, true, null, null, null));
+        final Consumer<Tweet> backendOne = deduplicator.forBackend("one", received::add);
+        final Consumer<Tweet> backendTwo = deduplicator.forBackend("two", received::add);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetOne.getUser()).thenReturn(userOne);
+        when(tweetOne.getText()).thenReturn("Great talk at #TweetWallFX! https://t.co/abc");
+        when(userOne.getScreenName()).thenReturn("JohnDoe");
+        when(tweetTwo.getId()).thenReturn(2L);
+        when(tweetTwo.getUser()).thenReturn(userTwo);
+        when(tweetTwo.getText()).thenReturn("great talk at #tweetwallfx https://mastodon.social/xyz");
+        when(userTwo.getScreenName()).thenReturn("johndoe@mastodon.social");
+
+        backendOne.accept(tweetOne);
+        backendTwo.accept(tweetTwo);
+
+        assertThat(received).containsExactly(tweetOne);
+    }
+
+    @Test
+    void keepsSameTextOfDifferentAuthors() {
+        final TweetDeduplicator deduplicator = new TweetDeduplicator(new CompositeTweeterSettings(null, null, true, null, null, null));
+        final Consumer<Tweet> backendOne = deduplicator.forBackend("one", received::add);
+        final Consumer<Tweet> backendTwo = deduplicator.forBackend("two", received::add);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetOne.getUser()).thenReturn(userOne);
+        when(tweetOne.getText()).thenReturn("Great talk!");
+        when(userOne.getScreenName()).thenReturn("johndoe");
+        when(tweetTwo.getId()).thenReturn(2L);
+        when(tweetTwo.getUser()).thenReturn(userTwo);
+        when(tweetTwo.getText()).thenReturn("Great talk!");
+        when(userTwo.getScreenName()).thenReturn("jdoe");
+
+        backendOne.accept(tweetOne);
+        backendTwo.accept(tweetTwo);
+
+        assertThat(received).containsExactly(tweetOne, tweetTwo);
+    }
+
+    @Test
+    void keepsTweetsWithoutComparableText() {
+        final TweetDeduplicator deduplicator = new TweetDeduplicator(new CompositeTweeterSettings(null, null, true, null, null, null));
+        final Consumer<Tweet> backendOne = deduplicator.forBackend("one", received::add);
+        when(tweetOne.getId()).thenReturn(1L);
+        when(tweetOne.getText()).thenReturn("https://t.co/abc");
+        when(tweetTwo.getId()).thenReturn(2L);
+        when(tweetTwo.getText()).thenReturn("\uD83C\uDF89 https://t.co/xyz");
+
+        backendOne.accept(tweetOne);
+        backendOne.accept(tweetTwo);
+
+        assertThat(received).containsExactly(tweetOne, tweetTwo);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.config.TweetStreamSettings;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@MockitoSettings
+class TweetDispatcherTest {
+    @Mock(name = "failingConsumer")
+    Consumer<Tweet> failingConsumer;
+    @Mock(name = "tweetConsumer")
+    Consumer<Tweet> tweetConsumer;
+    @Mock(name = "tweet")
+    Tweet tweet;
+    @Mock(name = "olderTweet")
+    Tweet olderTweet;
+    @Mock(name = "newerTweet")
+    Tweet newerTweet;
+
+    @Test
+    void failingConsumerDoesNotAffectOthers() {
+        final TweetDispatcher dispatcher = new TweetDispatcher(TweetStreamSettings.DEFAULT);
+        doThrow(new IllegalStateException("failing")).when(failingConsumer).accept(tweet);
+        dispatcher.add(failingConsumer);
+        dispatcher.add(tweetConsumer);
+
+        assertThatNoException().isThrownBy(() -> dispatcher.accept(tweet));
+        verify(tweetConsumer).accept(tweet);
+    }
+
+    @Test
+    void slowConsumerDoesNotBlockIsolatedConsumers() throws InterruptedException {
+        final TweetDispatcher dispatcher = new TweetDispatcher(new TweetStreamSettings(true, 10));
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch received = new CountDownLatch(1);
+        dispatcher.add(t -> {
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.add(t -> received.countDown());
+
+        dispatcher.accept(tweet);
+
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void nonIsolatedConsumerReceivesTweetsOnDispatchingThread() {
+        final TweetDispatcher dispatcher = new TweetDispatcher(new TweetStreamSettings(true, 10));
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        dispatcher.add(TweetDispatcher.nonIsolated(t -> threads.add(Thread.currentThread())));
+
+        dispatcher.accept(tweet);
+        dispatcher.close();
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void fullQueueDropsOldestTweet() throws InterruptedException {
+        final TweetDispatcher dispatcher = new TweetDispatcher(new TweetStreamSettings(true, 1));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        final List<Tweet> received = new CopyOnWriteArrayList<>();
+        dispatcher.add(t -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(t);
+            done.countDown();
+        });
+
+        dispatcher.accept(tweet);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // queued and then replaced by the newer tweet
+        dispatcher.accept(olderTweet);
+        dispatcher.accept(newerTweet);
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.close();
+        assertThat(received).containsExactly(tweet, newerTweet);
+    }
+
+    @Test
+    void closedDispatcherDropsTweetsForIsolatedConsumers() {
+        final TweetDispatcher dispatcher = new TweetDispatcher(new TweetStreamSettings(true, 10));
+        dispatcher.add(tweetConsumer);
+
+        dispatcher.close();
+
+        assertThatNoException().isThrownBy(() -> dispatcher.accept(tweet));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> dispatcher.add(failingConsumer))
+                .withMessage("TweetDispatcher is closed");
+        verifyNoInteractions(tweetConsumer, failingConsumer);
+    }
+}
@@ -45,10 +45,14 @@ public class TweeterHolderTest {
     Tweeter tweeterOne;
     @Mock(name = "tweeterTwo")
     Tweeter tweeterTwo;
+    @Mock(name = "decoratorOne")
+    TweeterDecorator decoratorOne;
+    @Mock(name = "decoratorTwo")
+    TweeterDecorator decoratorTwo;
 
     @AfterEach
     void verifyMocks() {
-        verifyNoMoreInteractions(logger, tweeterOne, tweeterTwo);
+        verifyNoMoreInteractions(logger, tweeterOne, tweeterTwo, decoratorOne, decoratorTwo);
     }
 
     @Test
@@ -80,4 +84,20 @@ public class TweeterHolderTest {
 
         assertThat(TweeterHolder.createInstance(tweeters)).isInstanceOf(CompositeTweeter.class);
     }
+
+    @Test
+    void decorateWithoutDecorators() {
+        assertThat(TweeterHolder.decorate(tweeterOne, List.of())).isEqualTo(tweeterOne);
+    }
+
+    @Test
+    void decorateSkipsDisabledDecorators() {
+        when(decoratorOne.isEnabled()).thenReturn(true);
+        doNothing().when(logger).info("Decorating tweeter with {}", decoratorOne);
+        when(decoratorOne.decorate(tweeterOne)).thenReturn(tweeterTwo);
+        when(decoratorTwo.isEnabled()).thenReturn(false);
+        doNothing().when(logger).info("Skipped disabled tweeter decorator {}", decoratorTwo);
+
+        assertThat(TweeterHolder.decorate(tweeterOne, List.of(decoratorOne, decoratorTwo))).isEqualTo(tweeterTwo);
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.filter;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.filterchain.FilterChainSettings;
+import org.tweetwallfx.filterchain.FilterStep;
+import org.tweetwallfx.filterchain.FilterStep.Result;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RejectContainingHashtagFilterStepTest {
+
+    // decisions reused by their cache key like the decision cache of a FilterChain does
+    private final Map<Object, Result> decisions = new HashMap<>();
+    private final Tweet original = tweet(1, null, "spam");
+    private final Tweet retweet = tweet(2, original);
+
+    @Test
+    void passingRetweetDoesNotDecideForItsOriginal() {
+        final FilterStep<Tweet> filterStep = filterStep(false);
+
+        assertThat(decide(filterStep, retweet)).isEqualTo(Result.NOTHING_DEFINITE);
+        assertThat(decide(filterStep, original)).isEqualTo(Result.REJECTED);
+    }
+
+    @Test
+    void retweetSharesTheDecisionOfItsOriginalWhenCheckingRetweeted() {
+        final FilterStep<Tweet> filterStep = filterStep(true);
+
+        assertThat(decide(filterStep, retweet)).isEqualTo(Result.REJECTED);
+        assertThat(decide(filterStep, original)).isEqualTo(Result.REJECTED);
+        assertThat(decisions).hasSize(1);
+    }
+
+    private Result decide(final FilterStep<Tweet> filterStep, final Tweet tweet) {
+        return decisions.computeIfAbsent(
+                filterStep.getCacheScope().orElseThrow().keyOf(tweet),
+                key -> filterStep.check(tweet));
+    }
+
+    private static FilterStep<Tweet> filterStep(final boolean checkRetweeted) {
+        final FilterChainSettings.FilterStepDefinition filterStepDefinition = new FilterChainSettings.FilterStepDefinition();
+        filterStepDefinition.setStepClassName(RejectContainingHashtagFilterStep.class.getName());
+        filterStepDefinition.setConfig(Map.of(
+                "hashtags", List.of("spam"),
+                "checkRetweeted", checkRetweeted));
+        return new RejectContainingHashtagFilterStep.FactoryImpl().create(filterStepDefinition);
+    }
+
+    private static Tweet tweet(final long id, final Tweet retweetedTweet, final String... hashtags) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        when(tweet.getRetweetedTweet()).thenReturn(retweetedTweet);
+        when(tweet.getHashtagEntries()).thenReturn(Stream.of(hashtags)
+                .map(RejectContainingHashtagFilterStepTest::hashtag)
+                .toArray(HashtagTweetEntry[]::new));
+        return tweet;
+    }
+
+    private static HashtagTweetEntry hashtag(final String text) {
+        final HashtagTweetEntry hashtagEntry = mock(HashtagTweetEntry.class);
+        when(hashtagEntry.getText()).thenReturn(text);
+        return hashtagEntry;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.api.filter;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TweetCacheScopeTest {
+
+    @Test
+    void keysOfSameBackendMatchByIds() {
+        final Tweet original = tweet(Tweet.class, 1, 10, null);
+
+        assertThat(TweetCacheScope.TWEET.keyOf(tweet(Tweet.class, 1, 11, null)))
+                .isEqualTo(TweetCacheScope.TWEET.keyOf(original));
+        assertThat(TweetCacheScope.ORIGIN_TWEET.keyOf(tweet(Tweet.class, 2, 11, original)))
+                .isEqualTo(TweetCacheScope.ORIGIN_TWEET.keyOf(original));
+        assertThat(TweetCacheScope.SENDER.keyOf(tweet(Tweet.class, 2, 10, null)))
+                .isEqualTo(TweetCacheScope.SENDER.keyOf(original));
+    }
+
+    @Test
+    void keysOfDifferentBackendsDiffer() {
+        final Tweet tweet = tweet(Tweet.class, 1, 10, null);
+        final Tweet otherTweet = tweet(OtherBackendTweet.class, 1, 10, null);
+
+        for (final TweetCacheScope cacheScope : TweetCacheScope.values()) {
+            assertThat(cacheScope.keyOf(otherTweet)).isNotEqualTo(cacheScope.keyOf(tweet));
+        }
+    }
+
+    private static Tweet tweet(final Class<? extends Tweet> backend, final long id, final long userId, final Tweet retweetedTweet) {
+        final Tweet tweet = mock(backend);
+        final User user = mock(User.class);
+        when(tweet.getId()).thenReturn(id);
+        when(tweet.getUser()).thenReturn(user);
+        when(tweet.getRetweetedTweet()).thenReturn(retweetedTweet);
+        when(user.getId()).thenReturn(userId);
+        return tweet;
+    }
+
+    interface OtherBackendTweet extends Tweet {
+    }
+}
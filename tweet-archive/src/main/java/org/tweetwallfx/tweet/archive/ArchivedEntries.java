@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.util.Map;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * Tweet entries read back from a {@link TweetArchive}.
+ */
+final class ArchivedEntries {
+
+    private ArchivedEntries() {
+        // prevent instantiation
+    }
+
+    record Hashtag(String text, int start, int end) implements HashtagTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    record Symbol(String text, int start, int end) implements SymbolTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+
+    record Url(String text, int start, int end, String url, String expandedUrl, String displayUrl) implements UrlTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public String getURL() {
+            return url;
+        }
+
+        @Override
+        public String getExpandedURL() {
+            return expandedUrl;
+        }
+
+        @Override
+        public String getDisplayURL() {
+            return displayUrl;
+        }
+    }
+
+    record UserMention(String text, int start, int end, String name, String screenName, long id) implements UserMentionTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getScreenName() {
+            return screenName;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+    }
+
+    record Media(String text, int start, int end, long id, String mediaUrl, MediaTweetEntryType type, Map<Integer, Size> sizes) implements MediaTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public String getMediaUrl() {
+            return mediaUrl;
+        }
+
+        @Override
+        public Map<Integer, Size> getSizes() {
+            return sizes;
+        }
+
+        @Override
+        public MediaTweetEntryType getType() {
+            return type;
+        }
+    }
+}
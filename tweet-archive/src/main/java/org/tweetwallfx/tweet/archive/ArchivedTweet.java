@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * {@link Tweet} read back from a {@link TweetArchive}, retaining the backend
+ * it was originally delivered by.
+ */
+record ArchivedTweet(
+        String backend,
+        long id,
+        LocalDateTime createdAt,
+        String text,
+        String lang,
+        int favoriteCount,
+        int retweetCount,
+        long inReplyToTweetId,
+        long inReplyToUserId,
+        String inReplyToScreenName,
+        boolean truncated,
+        User user,
+        Tweet retweetedTweet,
+        List<HashtagTweetEntry> hashtagEntries,
+        List<MediaTweetEntry> mediaEntries,
+        List<SymbolTweetEntry> symbolEntries,
+        List<UrlTweetEntry> urlEntries,
+        List<UserMentionTweetEntry> userMentionEntries) implements Tweet {
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return favoriteCount;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public long getInReplyToTweetId() {
+        return inReplyToTweetId;
+    }
+
+    @Override
+    public long getInReplyToUserId() {
+        return inReplyToUserId;
+    }
+
+    @Override
+    public String getInReplyToScreenName() {
+        return inReplyToScreenName;
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public int getRetweetCount() {
+        return retweetCount;
+    }
+
+    @Override
+    public Tweet getRetweetedTweet() {
+        return retweetedTweet;
+    }
+
+    @Override
+    public Tweet getOriginTweet() {
+        return isRetweet() ? retweetedTweet.getOriginTweet() : this;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public boolean isRetweet() {
+        return null != retweetedTweet;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public HashtagTweetEntry[] getHashtagEntries() {
+        return hashtagEntries.toArray(HashtagTweetEntry[]::new);
+    }
+
+    @Override
+    public MediaTweetEntry[] getMediaEntries() {
+        return mediaEntries.toArray(MediaTweetEntry[]::new);
+    }
+
+    @Override
+    public SymbolTweetEntry[] getSymbolEntries() {
+        return symbolEntries.toArray(SymbolTweetEntry[]::new);
+    }
+
+    @Override
+    public UrlTweetEntry[] getUrlEntries() {
+        return urlEntries.toArray(UrlTweetEntry[]::new);
+    }
+
+    @Override
+    public UserMentionTweetEntry[] getUserMentionEntries() {
+        return userMentionEntries.toArray(UserMentionTweetEntry[]::new);
+    }
+}
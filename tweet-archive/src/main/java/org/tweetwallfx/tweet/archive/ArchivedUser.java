@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import org.tweetwallfx.tweet.api.User;
+
+/**
+ * {@link User} read back from a {@link TweetArchive}.
+ */
+record ArchivedUser(
+        long id,
+        String name,
+        String screenName,
+        String lang,
+        String profileImageUrl,
+        String biggerProfileImageUrl,
+        int followersCount,
+        boolean verified) implements User {
+
+    @Override
+    public String getBiggerProfileImageUrl() {
+        return biggerProfileImageUrl;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String getLang() {
+        return lang;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getProfileImageUrl() {
+        return profileImageUrl;
+    }
+
+    @Override
+    public String getScreenName() {
+        return screenName;
+    }
+
+    @Override
+    public int getFollowersCount() {
+        return followersCount;
+    }
+
+    @Override
+    public boolean isVerified() {
+        return verified;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.SearchCompletion;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.Tweeter;
+import org.tweetwallfx.tweet.api.User;
+
+/**
+ * {@link Tweeter} archiving all tweets delivered by the decorated Tweeter and
+ * serving history searches from the {@link TweetArchive}.
+ *
+ * <p>
+ * A history search is a search for the configured Tweetwall query without any
+ * id, date or language restriction. For those the results of the decorated
+ * Tweeter are walked newest first down to the point up to which the archive
+ * is known to be complete, archiving every tweet not archived yet (including
+ * tweets missed while the stream was interrupted). If the decorated Tweeter
+ * delivered its results completely, the archive is known to be complete up to
+ * the newest of those results afterwards. The history is read from the
+ * archive. As the results of the decorated Tweeter are walked
+ * lazily, no further pages are requested once that point is reached.
+ */
+final class ArchivingTweeter implements Tweeter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchivingTweeter.class);
+    private final Tweeter tweeter;
+    private final TweetArchive archive;
+    private final String historyQuery;
+
+    ArchivingTweeter(final Tweeter tweeter, final TweetArchive archive, final String historyQuery) {
+        this.tweeter = tweeter;
+        this.archive = archive;
+        this.historyQuery = historyQuery;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return tweeter.isEnabled();
+    }
+
+    @Override
+    public TweetStream createTweetStream(final TweetFilterQuery filterQuery) {
+        final TweetStream tweetStream = tweeter.createTweetStream(filterQuery);
+        tweetStream.onTweet(this::archive);
+        return tweetStream;
+    }
+
+    @Override
+    public Tweet getTweet(final long tweetId) {
+        return tweeter.getTweet(tweetId);
+    }
+
+    @Override
+    public User getUser(final String userId) {
+        return tweeter.getUser(userId);
+    }
+
+    @Override
+    public Stream<User> getFriends(final User user) {
+        return tweeter.getFriends(user);
+    }
+
+    @Override
+    public Stream<User> getFriends(final String userScreenName) {
+        return tweeter.getFriends(userScreenName);
+    }
+
+    @Override
+    public Stream<User> getFriends(final long userId) {
+        return tweeter.getFriends(userId);
+    }
+
+    @Override
+    public Stream<User> getFollowers(final User user) {
+        return tweeter.getFollowers(user);
+    }
+
+    @Override
+    public Stream<User> getFollowers(final String userScreenName) {
+        return tweeter.getFollowers(userScreenName);
+    }
+
+    @Override
+    public Stream<User> getFollowers(final long userId) {
+        return tweeter.getFollowers(userId);
+    }
+
+    @Override
+    public Stream<Tweet> search(final TweetQuery tweetQuery) {
+        return search(tweetQuery, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> search(final TweetQuery tweetQuery, final SearchCompletion completion) {
+        return isHistoryQuery(tweetQuery)
+                ? history(tweeter.search(tweetQuery, completion), completion, tweetQuery.getCount())
+                : tweeter.search(tweetQuery, completion);
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, final int numberOfPages) {
+        return searchPaged(tweetQuery, numberOfPages, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, final int numberOfPages, final SearchCompletion completion) {
+        return isHistoryQuery(tweetQuery)
+                ? history(tweeter.searchPaged(tweetQuery, numberOfPages, completion), completion, tweetQuery.getCount() * numberOfPages)
+                : tweeter.searchPaged(tweetQuery, numberOfPages, completion);
+    }
+
+    @Override
+    public Duration getSearchDelay() {
+        return tweeter.getSearchDelay();
+    }
+
+    @Override
+    public void shutdown() {
+        try {
+            tweeter.shutdown();
+        } finally {
+            archive.close();
+        }
+    }
+
+    private boolean isHistoryQuery(final TweetQuery tweetQuery) {
+        return historyQuery.equals(tweetQuery.getQuery())
+                && null != tweetQuery.getCount()
+                && null == tweetQuery.getLang()
+                && null == tweetQuery.getMaxId()
+                && null == tweetQuery.getSinceId()
+                && null == tweetQuery.getSince()
+                && null == tweetQuery.getUntil()
+                && (null == tweetQuery.getResultType() || TweetQuery.ResultType.recent == tweetQuery.getResultType());
+    }
+
+    private Stream<Tweet> history(final Stream<Tweet> searchResults, final SearchCompletion completion, final int limit) {
+        final Optional<LocalDateTime> completeUntil = archive.completeUntil();
+
+        if (completeUntil.isEmpty()) {
+            LOGGER.info("Tweet archive has not been completed yet, fetching complete history");
+        } else {
+            LOGGER.info("Serving history from tweet archive, fetching tweets newer than {}", completeUntil.get());
+        }
+
+        LocalDateTime newest = null;
+        boolean reachedCompletion = false;
+        final boolean complete;
+
+        // closing stops the search from fetching further pages
+        try (searchResults) {
+            final Iterator<Tweet> results = searchResults.iterator();
+
+            while (results.hasNext()) {
+                final Tweet tweet = results.next();
+                final LocalDateTime createdAt = tweet.getCreatedAt();
+
+                if (null != createdAt && completeUntil.isPresent() && !createdAt.isAfter(completeUntil.get())) {
+                    reachedCompletion = true;
+                    break;
+                }
+
+                archive(tweet);
+                if (null != createdAt && (null == newest || createdAt.isAfter(newest))) {
+                    newest = createdAt;
+                }
+            }
+
+            // read before closing, as stopping the search fails its pending requests
+            complete = completion.isComplete();
+        }
+
+        if (completeUntil.isPresent() && !reachedCompletion && null != newest) {
+            LOGGER.warn("Search results do not reach back to {}, tweets missed before are not recoverable", completeUntil.get());
+        }
+
+        if (!complete) {
+            LOGGER.warn("Search results are incomplete, not recording completion of tweet archive");
+        } else if (null != newest) {
+            try {
+                archive.completeUntil(newest);
+            } catch (final IOException | RuntimeException e) {
+                LOGGER.error("Failed to record completion of tweet archive", e);
+            }
+        }
+
+        return archive.newestFirst().limit(limit);
+    }
+
+    private void archive(final Tweet tweet) {
+        try {
+            archive.append(tweet);
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.error("Failed to archive tweet {}", tweet.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,568 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.Tweet;
+
+/**
+ * Append-only archive of the tweets of a query stored in segmented files within
+ * a directory.
+ *
+ * <p>
+ * The segments of every query are kept in a subdirectory of their own, so
+ * that the tweets of a previous query are never served for another one.
+ * Tweets are identified by the backend delivering them and their id, as ids
+ * of different backends may collide.
+ *
+ * <p>
+ * Each segment file starts with a magic number followed by length prefixed
+ * records in the encoding of {@link TweetCodec}. Once a segment reaches the
+ * configured size a new one is started. Segments are read through memory
+ * mapping, while an in-memory index by id and by creation time is rebuilt
+ * from the segments when the archive is opened. A partially written record at
+ * the end of the last segment (e.g. due to a crash) is cut off on opening.
+ * Archives opened {@link #openReadOnly(Path, String) read-only} are never
+ * modified, so partially written records are merely ignored there.
+ *
+ * <p>
+ * Appending is serialized, reading may happen concurrently from any thread.
+ */
+public final class TweetArchive implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetArchive.class);
+    private static final int MAGIC = 0x54574132;
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".twa";
+    private static final String QUERY_PREFIX = "query-";
+    private static final String COMPLETE_UNTIL_FILE = "complete-until";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean readOnly;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<TweetKey, Long> locationsById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<TimeKey, Long> locationsByTime = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime completeUntil;
+    private boolean closed = false;
+
+    private TweetArchive(final Path directory, final int segmentSize, final boolean readOnly) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Opens the archive of the given query stored in the given directory,
+     * creating it if it does not exist yet.
+     *
+     * @param directory the directory containing the archives of all queries
+     *
+     * @param query the query whose tweets are archived
+     *
+     * @param segmentSize the maximum size in bytes of a segment file
+     *
+     * @return the opened archive
+     *
+     * @throws IOException in case reading the existing segments fails
+     */
+    public static TweetArchive open(final Path directory, final String query, final int segmentSize) throws IOException {
+        final Path queryDirectory = queryDirectory(directory, query);
+        Files.createDirectories(queryDirectory);
+        return loadSegments(new TweetArchive(queryDirectory, segmentSize, false), query);
+    }
+
+    /**
+     * Opens the archive of the given query stored in the given directory for
+     * reading only, e.g. while it is still being recorded by another process.
+     * Neither the directory nor the segment files are modified and a
+     * partially written record at the end of a segment is ignored. A missing
+     * archive is opened as empty archive.
+     *
+     * @param directory the directory containing the archives of all queries
+     *
+     * @param query the query whose tweets are archived
+     *
+     * @return the opened archive
+     *
+     * @throws IOException in case reading the existing segments fails
+     */
+    public static TweetArchive openReadOnly(final Path directory, final String query) throws IOException {
+        final Path queryDirectory = queryDirectory(directory, query);
+        final TweetArchive archive = new TweetArchive(queryDirectory, 0, true);
+
+        if (!Files.isDirectory(queryDirectory)) {
+            LOGGER.warn("Tweet archive {} of query '{}' does not exist", queryDirectory, query);
+            return archive;
+        }
+
+        return loadSegments(archive, query);
+    }
+
+    private static TweetArchive loadSegments(final TweetArchive archive, final String query) throws IOException {
+        final Path queryDirectory = archive.directory;
+
+        try (Stream<Path> files = Files.list(queryDirectory)) {
+            final List<Path> segmentFiles = files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+
+            for (final Path segmentFile : segmentFiles) {
+                archive.load(segmentFile);
+            }
+
+            archive.completeUntil = readCompleteUntil(queryDirectory);
+        } catch (final IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
+
+        LOGGER.info("Opened tweet archive {} of query '{}' containing {} tweets in {} segments",
+                queryDirectory, query, archive.size(), archive.segments.size());
+        return archive;
+    }
+
+    /**
+     * Determines the directory containing the segments of the given query.
+     */
+    private static Path queryDirectory(final Path directory, final String query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(QUERY_PREFIX + HexFormat.of().formatHex(digest, 0, 8));
+        } catch (final NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException("SHA-256 is not supported", nsae);
+        }
+    }
+
+    private static LocalDateTime readCompleteUntil(final Path queryDirectory) throws IOException {
+        final Path file = queryDirectory.resolve(COMPLETE_UNTIL_FILE);
+
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(Files.readString(file, StandardCharsets.UTF_8).strip());
+        } catch (final DateTimeParseException dtpe) {
+            LOGGER.warn("Ignoring invalid completion time in {}", file, dtpe);
+            return null;
+        }
+    }
+
+    /**
+     * Appends the given tweet to the archive unless a tweet with the same id
+     * has already been archived.
+     *
+     * @param tweet the tweet to append
+     *
+     * @return {@code true} if the tweet was appended
+     *
+     * @throws IOException in case writing to the segment file fails
+     */
+    public synchronized boolean append(final Tweet tweet) throws IOException {
+        checkWritable();
+
+        final String backend = backendOf(tweet);
+
+        if (locationsById.containsKey(new TweetKey(backend, tweet.getId()))) {
+            return false;
+        }
+
+        final byte[] payload = TweetCodec.encode(backend, tweet);
+        final int recordSize = Integer.BYTES + payload.length;
+        Segment segment = segments.isEmpty() ? null : segments.getLast();
+
+        if (null == segment || (segment.size > HEADER_SIZE && segment.size + recordSize > segmentSize)) {
+            segment = createSegment();
+        }
+
+        final long offset = segment.size;
+        final ByteBuffer buffer = ByteBuffer.allocate(recordSize)
+                .putInt(payload.length)
+                .put(payload)
+                .flip();
+        segment.write(buffer, offset);
+
+        final long location = location(segments.size() - 1, offset);
+        locationsById.put(new TweetKey(backend, tweet.getId()), location);
+        locationsByTime.put(new TimeKey(tweet.getCreatedAt(), tweet.getId(), backend), location);
+        return true;
+    }
+
+    /**
+     * Reads the tweet with the given id delivered by the given backend from
+     * the archive.
+     *
+     * @param backend the backend having delivered the tweet (see
+     * {@link #backendOf(Tweet)})
+     *
+     * @param tweetId the id of the tweet
+     *
+     * @return the archived tweet or an empty Optional if it is not archived
+     */
+    public Optional<Tweet> get(final String backend, final long tweetId) {
+        return Optional.ofNullable(locationsById.get(new TweetKey(backend, tweetId))).map(this::read);
+    }
+
+    /**
+     * Reads a tweet with the given id delivered by any backend from the
+     * archive. As the id index is keyed by backend this has to scan the index.
+     *
+     * @param tweetId the id of the tweet
+     *
+     * @return the archived tweet or an empty Optional if it is not archived
+     */
+    public Optional<Tweet> get(final long tweetId) {
+        return locationsById.entrySet().stream()
+                .filter(e -> tweetId == e.getKey().id())
+                .findAny()
+                .map(Map.Entry::getValue)
+                .map(this::read);
+    }
+
+    /**
+     * Provides the creation time of the newest archived tweet.
+     *
+     * @return the creation time of the newest archived tweet or an empty
+     * Optional if the archive is empty
+     */
+    public Optional<LocalDateTime> newestCreatedAt() {
+        return Optional.ofNullable(locationsByTime.lastEntry())
+                .map(Map.Entry::getKey)
+                .map(TimeKey::createdAt);
+    }
+
+    /**
+     * Provides the creation time up to which all tweets of the query are known
+     * to be archived, i.e. up to which the archive has been reconciled with
+     * the complete search results of the query.
+     *
+     * @return the creation time up to which the archive is complete or an
+     * empty Optional if it never has been reconciled
+     */
+    public Optional<LocalDateTime> completeUntil() {
+        return Optional.ofNullable(completeUntil);
+    }
+
+    /**
+     * Records the creation time up to which all tweets of the query are known
+     * to be archived. An earlier time than the one already recorded is
+     * ignored.
+     *
+     * @param createdAt the creation time up to which the archive is complete
+     *
+     * @throws IOException in case writing the completion time fails
+     */
+    public synchronized void completeUntil(final LocalDateTime createdAt) throws IOException {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        checkWritable();
+
+        if (null != completeUntil && !createdAt.isAfter(completeUntil)) {
+            return;
+        }
+
+        final Path file = directory.resolve(COMPLETE_UNTIL_FILE);
+        final Path tempFile = directory.resolve(COMPLETE_UNTIL_FILE + ".tmp");
+        Files.writeString(tempFile, createdAt.toString(), StandardCharsets.UTF_8);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        completeUntil = createdAt;
+    }
+
+    /**
+     * Lazily reads all archived tweets, newest first.
+     *
+     * @return the archived tweets
+     */
+    public Stream<Tweet> newestFirst() {
+        return locationsByTime.descendingMap()
+                .values()
+                .stream()
+                .map(this::read);
+    }
+
+    /**
+     * Lazily reads the archived tweets created no later than the given time,
+     * newest first.
+     *
+     * @param notAfter the creation time of the newest tweet to read
+     *
+     * @return the archived tweets
+     */
+    public Stream<Tweet> newestFirst(final LocalDateTime notAfter) {
+        return locationsByTime.headMap(new TimeKey(notAfter, Long.MAX_VALUE, null), true)
+                .descendingMap()
+                .values()
+                .stream()
+                .map(this::read);
+    }
+
+    /**
+     * Lazily reads all archived tweets, oldest first.
+     *
+     * @return the archived tweets
+     */
+    public Stream<Tweet> oldestFirst() {
+        return locationsByTime.values()
+                .stream()
+                .map(this::read);
+    }
+
+    /**
+     * Provides the number of archived tweets.
+     *
+     * @return the number of archived tweets
+     */
+    public int size() {
+        return locationsById.size();
+    }
+
+    /**
+     * Determines the backend a tweet has been delivered by.
+     *
+     * @param tweet the tweet
+     *
+     * @return the name of the backend
+     */
+    public static String backendOf(final Tweet tweet) {
+        return tweet instanceof final ArchivedTweet archivedTweet
+                ? archivedTweet.backend()
+                : tweet.getClass().getName();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        for (final Segment segment : segments) {
+            try {
+                segment.close();
+            } catch (final IOException ioe) {
+                LOGGER.error("Failed to close tweet archive segment {}", segment.path, ioe);
+            }
+        }
+    }
+
+    private void checkWritable() {
+        if (closed) {
+            throw new IllegalStateException("Tweet archive " + directory + " is closed");
+        } else if (readOnly) {
+            throw new IllegalStateException("Tweet archive " + directory + " is read-only");
+        }
+    }
+
+    private Tweet read(final long location) {
+        final Segment segment = segments.get((int) (location >>> 32));
+        final int offset = (int) location;
+        final int length = segment.buffer(offset + Integer.BYTES).getInt(offset);
+        return TweetCodec.decode(segment.buffer(offset + Integer.BYTES + length), offset + Integer.BYTES);
+    }
+
+    private void load(final Path segmentFile) throws IOException {
+        final FileChannel channel = readOnly
+                ? FileChannel.open(segmentFile, StandardOpenOption.READ)
+                : FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(segmentFile, channel, channel.size(), readOnly);
+
+        if (readOnly && segment.size < HEADER_SIZE) {
+            LOGGER.warn("Ignoring incomplete tweet archive segment {}", segmentFile);
+            channel.close();
+            return;
+        }
+
+        segments.add(segment);
+
+        if (segment.size < HEADER_SIZE) {
+            LOGGER.warn("Reinitializing incomplete tweet archive segment {}", segmentFile);
+            channel.truncate(0);
+            segment.size = 0;
+            segment.writeHeader();
+            return;
+        }
+
+        final MappedByteBuffer buffer = segment.buffer(segment.size);
+
+        if (MAGIC != buffer.getInt(0)) {
+            throw new IOException("Not a tweet archive segment: " + segmentFile);
+        }
+
+        final int segmentIndex = segments.size() - 1;
+        int offset = HEADER_SIZE;
+
+        while (offset + Integer.BYTES <= segment.size) {
+            final int length = buffer.getInt(offset);
+
+            if (length <= 0 || offset + Integer.BYTES + (long) length > segment.size) {
+                break;
+            }
+
+            final TimeKey timeKey = TweetCodec.decodeKey(buffer, offset + Integer.BYTES);
+            final long location = location(segmentIndex, offset);
+            locationsById.put(new TweetKey(timeKey.backend(), timeKey.id()), location);
+            locationsByTime.put(timeKey, location);
+            offset += Integer.BYTES + length;
+        }
+
+        if (offset < segment.size && readOnly) {
+            LOGGER.warn("Ignoring {} bytes of incomplete records at the end of tweet archive segment {}",
+                    segment.size - offset, segmentFile);
+            segment.size = offset;
+        } else if (offset < segment.size) {
+            LOGGER.warn("Discarding {} bytes of incomplete records at the end of tweet archive segment {}",
+                    segment.size - offset, segmentFile);
+            channel.truncate(offset);
+            segment.size = offset;
+        }
+    }
+
+    private Segment createSegment() throws IOException {
+        final Path segmentFile = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX));
+        final FileChannel channel = FileChannel.open(segmentFile,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(segmentFile, channel, 0, false);
+        segment.writeHeader();
+        segments.add(segment);
+        return segment;
+    }
+
+    private static long location(final int segmentIndex, final long offset) {
+        return ((long) segmentIndex << 32) | offset;
+    }
+
+    /**
+     * Key of the id index identifying a tweet by backend and id.
+     */
+    private record TweetKey(String backend, long id) {
+    }
+
+    /**
+     * Key of the time index ordering tweets by creation time, id and backend.
+     */
+    record TimeKey(LocalDateTime createdAt, long id, String backend) implements Comparable<TimeKey> {
+
+        private static final Comparator<TimeKey> COMPARATOR = Comparator
+                .comparing(TimeKey::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(TimeKey::id)
+                .thenComparing(TimeKey::backend, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(final TimeKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final boolean readOnly;
+        private volatile long size;
+        private volatile MappedByteBuffer mapped;
+
+        Segment(final Path path, final FileChannel channel, final long size, final boolean readOnly) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.readOnly = readOnly;
+        }
+
+        void writeHeader() throws IOException {
+            write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).flip(), 0);
+        }
+
+        void write(final ByteBuffer buffer, final long offset) throws IOException {
+            long position = offset;
+
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+
+            size = position;
+        }
+
+        /**
+         * Provides a mapping of this segment covering at least the given
+         * number of bytes. As long as the segment is being appended to the
+         * mapping is renewed whenever a read goes beyond it.
+         */
+        MappedByteBuffer buffer(final long minimumSize) {
+            final MappedByteBuffer current = mapped;
+
+            if (null != current && current.capacity() >= minimumSize) {
+                return current;
+            }
+
+            synchronized (this) {
+                if (null == mapped || mapped.capacity() < minimumSize) {
+                    try {
+                        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                    } catch (final IOException ioe) {
+                        throw new UncheckedIOException("Failed to map tweet archive segment " + path, ioe);
+                    }
+                }
+
+                return Objects.requireNonNull(mapped);
+            }
+        }
+
+        void close() throws IOException {
+            if (!readOnly) {
+                channel.force(false);
+            }
+            channel.close();
+        }
+    }
+}
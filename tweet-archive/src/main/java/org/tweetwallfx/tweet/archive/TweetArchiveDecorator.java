@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.config.TweetwallSettings;
+import org.tweetwallfx.tweet.api.Tweeter;
+import org.tweetwallfx.tweet.api.TweeterDecorator;
+import org.tweetwallfx.tweet.archive.config.TweetArchiveSettings;
+
+/**
+ * {@link TweeterDecorator} persisting all accepted tweets into a
+ * {@link TweetArchive} and serving the history of the Tweetwall query from it.
+ */
+public final class TweetArchiveDecorator implements TweeterDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TweetArchiveDecorator.class);
+
+    private final TweetArchiveSettings settings = Configuration.getInstance()
+            .getConfigTypedOptional(TweetArchiveSettings.CONFIG_KEY, TweetArchiveSettings.class)
+            .orElse(TweetArchiveSettings.DEFAULT);
+
+    @Override
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    @Override
+    public Tweeter decorate(final Tweeter tweeter) {
+        final Path directory = Path.of(settings.directory());
+        final String query = Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query();
+
+        try {
+            return new ArchivingTweeter(
+                    tweeter,
+                    TweetArchive.open(directory, query, settings.segmentSize()),
+                    query);
+        } catch (final IOException ioe) {
+            LOGGER.error("Failed to open tweet archive {}, continuing without it", directory.toAbsolutePath(), ioe);
+            return tweeter;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+import org.tweetwallfx.tweet.api.entry.TweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+/**
+ * Compact binary encoding of a {@link Tweet} as stored in a
+ * {@link TweetArchive} record.
+ *
+ * <p>
+ * All numbers are written as zig-zag encoded variable length integers and
+ * strings as length prefixed UTF-8. The record starts with the backend, the
+ * id and the creation time so that the archive index can be rebuilt without
+ * decoding the complete tweet.
+ */
+final class TweetCodec {
+
+    private static final MediaTweetEntryType[] MEDIA_TYPES = MediaTweetEntryType.values();
+
+    private TweetCodec() {
+        // prevent instantiation
+    }
+
+    static byte[] encode(final String backend, final Tweet tweet) {
+        final Output out = new Output();
+        out.writeString(backend);
+        writeTweet(out, tweet);
+        return out.toByteArray();
+    }
+
+    static TweetArchive.TimeKey decodeKey(final ByteBuffer buffer, final int offset) {
+        final Input in = new Input(buffer, offset);
+        final String backend = in.readString();
+        final long id = in.readLong();
+        return new TweetArchive.TimeKey(in.readDateTime(), id, backend);
+    }
+
+    static ArchivedTweet decode(final ByteBuffer buffer, final int offset) {
+        final Input in = new Input(buffer, offset);
+        return readTweet(in, in.readString());
+    }
+
+    private static void writeTweet(final Output out, final Tweet tweet) {
+        out.writeLong(tweet.getId());
+        out.writeDateTime(tweet.getCreatedAt());
+        out.writeString(tweet.getText());
+        out.writeString(tweet.getLang());
+        out.writeLong(tweet.getFavoriteCount());
+        out.writeLong(tweet.getRetweetCount());
+        out.writeLong(tweet.getInReplyToTweetId());
+        out.writeLong(tweet.getInReplyToUserId());
+        out.writeString(tweet.getInReplyToScreenName());
+        out.writeBoolean(tweet.isTruncated());
+        writeUser(out, tweet.getUser());
+        writeList(out, tweet.getHashtagEntries(), TweetCodec::writeEntry);
+        writeList(out, tweet.getMediaEntries(), TweetCodec::writeMedia);
+        writeList(out, tweet.getSymbolEntries(), TweetCodec::writeEntry);
+        writeList(out, tweet.getUrlEntries(), TweetCodec::writeUrl);
+        writeList(out, tweet.getUserMentionEntries(), TweetCodec::writeUserMention);
+
+        final Tweet retweetedTweet = tweet.isRetweet() ? tweet.getRetweetedTweet() : null;
+        out.writeBoolean(null != retweetedTweet);
+        if (null != retweetedTweet) {
+            writeTweet(out, retweetedTweet);
+        }
+    }
+
+    private static ArchivedTweet readTweet(final Input in, final String backend) {
+        final long id = in.readLong();
+        final LocalDateTime createdAt = in.readDateTime();
+        final String text = in.readString();
+        final String lang = in.readString();
+        final int favoriteCount = in.readInt();
+        final int retweetCount = in.readInt();
+        final long inReplyToTweetId = in.readLong();
+        final long inReplyToUserId = in.readLong();
+        final String inReplyToScreenName = in.readString();
+        final boolean truncated = in.readBoolean();
+        final User user = readUser(in);
+        final var hashtagEntries = readList(in, i -> new ArchivedEntries.Hashtag(i.readString(), i.readInt(), i.readInt()));
+        final var mediaEntries = readList(in, TweetCodec::readMedia);
+        final var symbolEntries = readList(in, i -> new ArchivedEntries.Symbol(i.readString(), i.readInt(), i.readInt()));
+        final var urlEntries = readList(in, TweetCodec::readUrl);
+        final var userMentionEntries = readList(in, TweetCodec::readUserMention);
+        final Tweet retweetedTweet = in.readBoolean() ? readTweet(in, backend) : null;
+
+        return new ArchivedTweet(
+                backend,
+                id,
+                createdAt,
+                text,
+                lang,
+                favoriteCount,
+                retweetCount,
+                inReplyToTweetId,
+                inReplyToUserId,
+                inReplyToScreenName,
+                truncated,
+                user,
+                retweetedTweet,
+                List.copyOf(hashtagEntries),
+                List.copyOf(mediaEntries),
+                List.copyOf(symbolEntries),
+                List.copyOf(urlEntries),
+                List.copyOf(userMentionEntries));
+    }
+
+    private static void writeUser(final Output out, final User user) {
+        out.writeBoolean(null != user);
+        if (null != user) {
+            out.writeLong(user.getId());
+            out.writeString(user.getName());
+            out.writeString(user.getScreenName());
+            out.writeString(user.getLang());
+            out.writeString(user.getProfileImageUrl());
+            out.writeString(user.getBiggerProfileImageUrl());
+            out.writeLong(user.getFollowersCount());
+            out.writeBoolean(user.isVerified());
+        }
+    }
+
+    private static User readUser(final Input in) {
+        return in.readBoolean()
+                ? new ArchivedUser(
+                        in.readLong(),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readString(),
+                        in.readInt(),
+                        in.readBoolean())
+                : null;
+    }
+
+    private static void writeEntry(final Output out, final TweetEntry entry) {
+        out.writeString(entry.getText());
+        out.writeLong(entry.getStart());
+        out.writeLong(entry.getEnd());
+    }
+
+    private static void writeMedia(final Output out, final MediaTweetEntry entry) {
+        writeEntry(out, entry);
+        out.writeLong(entry.getId());
+        out.writeString(entry.getMediaUrl());
+        out.writeLong(null == entry.getType() ? -1 : entry.getType().ordinal());
+
+        final Map<Integer, MediaTweetEntry.Size> sizes = null == entry.getSizes() ? Map.of() : entry.getSizes();
+        out.writeLong(sizes.size());
+        sizes.forEach((key, size) -> {
+            out.writeLong(key);
+            out.writeLong(size.getWidth());
+            out.writeLong(size.getHeight());
+            out.writeLong(size.getResize());
+        });
+    }
+
+    private static ArchivedEntries.Media readMedia(final Input in) {
+        final String text = in.readString();
+        final int start = in.readInt();
+        final int end = in.readInt();
+        final long id = in.readLong();
+        final String mediaUrl = in.readString();
+        final int type = in.readInt();
+        final int sizeCount = in.readInt();
+        final Map<Integer, MediaTweetEntry.Size> sizes = HashMap.newHashMap(sizeCount);
+
+        for (int i = 0; i < sizeCount; i++) {
+            sizes.put(in.readInt(), MediaTweetEntry.createSize(in.readInt(), in.readInt(), in.readInt()));
+        }
+
+        return new ArchivedEntries.Media(
+                text,
+                start,
+                end,
+                id,
+                mediaUrl,
+                type < 0 ? null : MEDIA_TYPES[type],
+                Map.copyOf(sizes));
+    }
+
+    private static void writeUrl(final Output out, final UrlTweetEntry entry) {
+        writeEntry(out, entry);
+        out.writeString(entry.getURL());
+        out.writeString(entry.getExpandedURL());
+        out.writeString(entry.getDisplayURL());
+    }
+
+    private static ArchivedEntries.Url readUrl(final Input in) {
+        return new ArchivedEntries.Url(
+                in.readString(),
+                in.readInt(),
+                in.readInt(),
+                in.readString(),
+                in.readString(),
+                in.readString());
+    }
+
+    private static void writeUserMention(final Output out, final UserMentionTweetEntry entry) {
+        writeEntry(out, entry);
+        out.writeString(entry.getName());
+        out.writeString(entry.getScreenName());
+        out.writeLong(entry.getId());
+    }
+
+    private static ArchivedEntries.UserMention readUserMention(final Input in) {
+        return new ArchivedEntries.UserMention(
+                in.readString(),
+                in.readInt(),
+                in.readInt(),
+                in.readString(),
+                in.readString(),
+                in.readLong());
+    }
+
+    private static <T> void writeList(final Output out, final T[] entries, final BiConsumer<Output, T> writer) {
+        if (null == entries) {
+            out.writeLong(0);
+            return;
+        }
+
+        out.writeLong(Arrays.stream(entries).filter(Objects::nonNull).count());
+        for (final T entry : entries) {
+            if (null != entry) {
+                writer.accept(out, entry);
+            }
+        }
+    }
+
+    private static <T> List<T> readList(final Input in, final Function<Input, T> reader) {
+        final int count = in.readInt();
+        final List<T> entries = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            entries.add(reader.apply(in));
+        }
+
+        return entries;
+    }
+
+    private static final class Output {
+
+        private byte[] bytes = new byte[512];
+        private int size = 0;
+
+        void writeBoolean(final boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeLong(final long value) {
+            long zigZag = (value << 1) ^ (value >> 63);
+
+            while ((zigZag & ~0x7FL) != 0) {
+                writeByte((int) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+
+            writeByte((int) zigZag);
+        }
+
+        void writeString(final String value) {
+            if (null == value) {
+                writeLong(-1);
+            } else {
+                final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+                writeLong(data.length);
+                ensureCapacity(data.length);
+                System.arraycopy(data, 0, bytes, size, data.length);
+                size += data.length;
+            }
+        }
+
+        void writeDateTime(final LocalDateTime value) {
+            writeBoolean(null != value);
+            if (null != value) {
+                writeLong(value.toEpochSecond(ZoneOffset.UTC));
+                writeLong(value.getNano());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void writeByte(final int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final ByteBuffer buffer;
+        private int position;
+
+        Input(final ByteBuffer buffer, final int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        boolean readBoolean() {
+            return 0 != readByte();
+        }
+
+        int readInt() {
+            return Math.toIntExact(readLong());
+        }
+
+        long readLong() {
+            long zigZag = 0;
+            int shift = 0;
+            int b;
+
+            do {
+                if (shift > 63) {
+                    throw new IllegalStateException("Malformed variable length number at position " + position);
+                }
+
+                b = readByte();
+                zigZag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+
+        String readString() {
+            final int length = readInt();
+
+            if (length < 0) {
+                return null;
+            }
+
+            final byte[] data = new byte[length];
+            buffer.get(position, data);
+            position += length;
+            return new String(data, StandardCharsets.UTF_8);
+        }
+
+        LocalDateTime readDateTime() {
+            return readBoolean()
+                    ? LocalDateTime.ofEpochSecond(readLong(), readInt(), ZoneOffset.UTC)
+                    : null;
+        }
+
+        private int readByte() {
+            return buffer.get(position++) & 0xFF;
+        }
+    }
+}
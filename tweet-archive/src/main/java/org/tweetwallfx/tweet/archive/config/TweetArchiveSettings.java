@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+
+/**
+ * POJO for reading Settings concerning the local tweet archive.
+ *
+ * <p>
+ * Param {@code enabled} a flag indicating that accepted tweets are archived
+ * and history requests are served from the archive (defaults to
+ * {@code false})
+ *
+ * <p>
+ * Param {@code directory} the directory containing the archives of all queries
+ * (defaults to {@code tweet-archive})
+ *
+ * <p>
+ * Param {@code segmentSize} the maximum size in bytes of a single archive
+ * segment file (defaults to {@code 16777216})
+ */
+public record TweetArchiveSettings(
+        Boolean enabled,
+        String directory,
+        Integer segmentSize) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "tweetArchive";
+
+    /**
+     * The default settings applied in case none are configured.
+     */
+    public static final TweetArchiveSettings DEFAULT = new TweetArchiveSettings(null, null, null);
+
+    public TweetArchiveSettings(
+            final Boolean enabled,
+            final String directory,
+            final Integer segmentSize) {
+        this.enabled = Objects.requireNonNullElse(enabled, false);
+        this.directory = Objects.requireNonNullElse(directory, "tweet-archive");
+        this.segmentSize = Objects.requireNonNullElse(segmentSize, 16 * 1024 * 1024);
+        if (this.segmentSize < 1024) {
+            throw new IllegalArgumentException("segmentSize must be at least 1024 bytes");
+        }
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link TweetArchiveSettings#CONFIG_KEY} into {@link TweetArchiveSettings}.
+     */
+    public static class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return TweetArchiveSettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return TweetArchiveSettings.class;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.SearchCompletion;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.Tweeter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.tweetwallfx.tweet.archive.TweetArchiveTest.tweet;
+
+@MockitoSettings
+class ArchivingTweeterTest {
+
+    private static final String QUERY = "#javaone";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 9, 30);
+
+    @Mock(name = "org.tweetwallfx.tweet.archive.ArchivingTweeter")
+    Logger logger;
+    @Mock(name = "tweeter")
+    Tweeter tweeter;
+    @Mock(name = "tweetStream")
+    TweetStream tweetStream;
+    @Mock(name = "filterQuery")
+    TweetFilterQuery filterQuery;
+    @Captor
+    ArgumentCaptor<Consumer<Tweet>> consumer;
+    @TempDir
+    Path directory;
+    TweetArchive archive;
+    ArchivingTweeter archivingTweeter;
+
+    @BeforeEach
+    void prepare() throws IOException {
+        archive = TweetArchive.open(directory, QUERY, 1024 * 1024);
+        archivingTweeter = new ArchivingTweeter(tweeter, archive, QUERY);
+    }
+
+    @AfterEach
+    void verifyMocks() {
+        archive.close();
+        verifyNoMoreInteractions(logger, tweeter, tweetStream, filterQuery);
+    }
+
+    @Test
+    void streamedTweetsAreArchived() {
+        when(tweeter.createTweetStream(filterQuery)).thenReturn(tweetStream);
+
+        assertThat(archivingTweeter.createTweetStream(filterQuery)).isSameAs(tweetStream);
+        verify(tweetStream).onTweet(consumer.capture());
+
+        consumer.getValue().accept(tweet(1, NOW));
+        consumer.getValue().accept(tweet(1, NOW));
+        assertThat(archive.size()).isEqualTo(1);
+    }
+
+    @Test
+    void historyIsFetchedAndArchivedWhenArchiveIsEmpty() {
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenReturn(Stream.of(tweet(2, NOW.plusSeconds(1)), tweet(1, NOW)));
+        doNothing().when(logger).info("Tweet archive has not been completed yet, fetching complete history");
+
+        assertThat(archivingTweeter.search(query).map(Tweet::getId)).containsExactly(2L, 1L);
+        assertThat(archive.oldestFirst().map(Tweet::getId)).containsExactly(1L, 2L);
+        assertThat(archive.completeUntil()).contains(NOW.plusSeconds(1));
+    }
+
+    @Test
+    void historyFetchesOnlyTheGap() throws IOException {
+        archive.append(tweet(1, NOW));
+        archive.append(tweet(2, NOW.plusMinutes(1)));
+        archive.completeUntil(NOW.plusMinutes(1));
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        final AtomicInteger consumed = new AtomicInteger();
+        final AtomicBoolean closed = new AtomicBoolean();
+        when(tweeter.searchPaged(eq(query), eq(3), any(SearchCompletion.class))).thenReturn(Stream.of(
+                tweet(4, NOW.plusMinutes(3)),
+                tweet(3, NOW.plusMinutes(2)),
+                tweet(2, NOW.plusMinutes(1)),
+                tweet(1, NOW))
+                .peek(t -> consumed.incrementAndGet())
+                .onClose(() -> closed.set(true)));
+        doNothing().when(logger).info("Serving history from tweet archive, fetching tweets newer than {}", NOW.plusMinutes(1));
+
+        assertThat(archivingTweeter.searchPaged(query, 3).map(Tweet::getId)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(consumed).hasValue(3);
+        assertThat(closed).isTrue();
+        assertThat(archive.size()).isEqualTo(4);
+        assertThat(archive.completeUntil()).contains(NOW.plusMinutes(3));
+    }
+
+    @Test
+    void historyRefetchesTweetsMissedMidRun() throws IOException {
+        archive.append(tweet(1, NOW));
+        archive.completeUntil(NOW);
+        // streamed while tweet 2 got lost
+        archive.append(tweet(3, NOW.plusMinutes(2)));
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenReturn(Stream.of(
+                tweet(3, NOW.plusMinutes(2)),
+                tweet(2, NOW.plusMinutes(1)),
+                tweet(1, NOW)));
+        doNothing().when(logger).info("Serving history from tweet archive, fetching tweets newer than {}", NOW);
+
+        assertThat(archivingTweeter.search(query).map(Tweet::getId)).containsExactly(3L, 2L, 1L);
+        assertThat(archive.completeUntil()).contains(NOW.plusMinutes(2));
+    }
+
+    @Test
+    void historyNotReachingCompletionIsReported() throws IOException {
+        archive.append(tweet(1, NOW));
+        archive.completeUntil(NOW);
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenReturn(Stream.of(tweet(3, NOW.plusMinutes(2))));
+        doNothing().when(logger).info("Serving history from tweet archive, fetching tweets newer than {}", NOW);
+        doNothing().when(logger).warn("Search results do not reach back to {}, tweets missed before are not recoverable", NOW);
+
+        assertThat(archivingTweeter.search(query).map(Tweet::getId)).containsExactly(3L, 1L);
+        assertThat(archive.completeUntil()).contains(NOW.plusMinutes(2));
+    }
+
+    @Test
+    void incompleteHistoryDoesNotRecordCompletion() throws IOException {
+        archive.append(tweet(1, NOW));
+        archive.completeUntil(NOW);
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenAnswer(invocation -> {
+            invocation.<SearchCompletion>getArgument(1).markIncomplete();
+            return Stream.of(tweet(3, NOW.plusMinutes(2)), tweet(1, NOW));
+        });
+        doNothing().when(logger).info("Serving history from tweet archive, fetching tweets newer than {}", NOW);
+        doNothing().when(logger).warn("Search results are incomplete, not recording completion of tweet archive");
+
+        assertThat(archivingTweeter.search(query).map(Tweet::getId)).containsExactly(3L, 1L);
+        assertThat(archive.completeUntil()).contains(NOW);
+    }
+
+    @Test
+    void historyOfSameIdFromDifferentBackendsIsKept() {
+        final TweetQuery query = new TweetQuery().query(QUERY).count(10);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenReturn(Stream.of(
+                tweet("mastodon", 1, NOW.plusSeconds(1), null),
+                tweet(1, NOW)));
+        doNothing().when(logger).info("Tweet archive has not been completed yet, fetching complete history");
+
+        assertThat(archivingTweeter.search(query).map(TweetArchive::backendOf)).containsExactly("mastodon", TweetArchiveTest.BACKEND);
+    }
+
+    @Test
+    void historyIsLimitedToRequestedCount() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            archive.append(tweet(i, NOW.plusMinutes(i)));
+        }
+        archive.completeUntil(NOW.plusMinutes(4));
+        final TweetQuery query = new TweetQuery().query(QUERY).count(3);
+        when(tweeter.search(eq(query), any(SearchCompletion.class))).thenReturn(Stream.of(tweet(5, NOW.plusMinutes(5)), tweet(4, NOW.plusMinutes(4))));
+        doNothing().when(logger).info("Serving history from tweet archive, fetching tweets newer than {}", NOW.plusMinutes(4));
+
+        assertThat(archivingTweeter.search(query).map(Tweet::getId)).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void otherSearchesAreNotServedFromArchive() throws IOException {
+        archive.append(tweet(1, NOW));
+        final TweetQuery otherQuery = new TweetQuery().query("#other").count(10);
+        final TweetQuery restrictedQuery = new TweetQuery().query(QUERY).count(10).sinceId(1L);
+        when(tweeter.search(eq(otherQuery), any(SearchCompletion.class))).thenReturn(Stream.empty());
+        when(tweeter.search(eq(restrictedQuery), any(SearchCompletion.class))).thenReturn(Stream.empty());
+
+        assertThat(archivingTweeter.search(otherQuery)).isEmpty();
+        assertThat(archivingTweeter.search(restrictedQuery)).isEmpty();
+    }
+
+    @Test
+    void shutdownClosesArchive() throws IOException {
+        doNothing().when(tweeter).shutdown();
+
+        archivingTweeter.shutdown();
+
+        assertThatIllegalStateException().isThrownBy(() -> archive.append(tweet(1, NOW)));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntryType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TweetArchiveTest {
+
+    static final String BACKEND = "twitter";
+    private static final String QUERY = "#javaone";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    static ArchivedTweet tweet(final long id, final LocalDateTime createdAt) {
+        return tweet(id, createdAt, null);
+    }
+
+    static ArchivedTweet tweet(final long id, final LocalDateTime createdAt, final Tweet retweetedTweet) {
+        return tweet(BACKEND, id, createdAt, retweetedTweet);
+    }
+
+    static ArchivedTweet tweet(final String backend, final long id, final LocalDateTime createdAt, final Tweet retweetedTweet) {
+        return new ArchivedTweet(
+                backend,
+                id,
+                createdAt,
+                "Tweet #" + id + " by @duke ☕ https://t.co/x",
+                "en",
+                3,
+                4,
+                -1,
+                -1,
+                null,
+                false,
+                new ArchivedUser(42, "Duke", "duke", "en", "https://img/duke", "https://img/duke_bigger", 1000, true),
+                retweetedTweet,
+                List.of(new ArchivedEntries.Hashtag(String.valueOf(id), 6, 7 + String.valueOf(id).length())),
+                List.of(new ArchivedEntries.Media("https://t.co/m", 30, 44, 7, "https://img/media", MediaTweetEntryType.photo, Map.of())),
+                List.of(),
+                List.of(new ArchivedEntries.Url("https://t.co/x", 20, 34, "https://t.co/x", "https://example.org", "example.org")),
+                List.of(new ArchivedEntries.UserMention("@duke", 11, 16, "Duke", "duke", 42)));
+    }
+
+    @Test
+    void appendedTweetsAreReadBackUnchanged() throws IOException {
+        final ArchivedTweet original = tweet(2, NOW.plusSeconds(1));
+        final ArchivedTweet retweet = tweet(3, NOW.plusSeconds(2), original);
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.append(original)).isTrue();
+            assertThat(archive.append(retweet)).isTrue();
+
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.get(BACKEND, 2)).contains(original);
+            assertThat(archive.get(BACKEND, 3)).contains(retweet);
+            assertThat(archive.get(BACKEND, 3).map(Tweet::getOriginTweet)).contains(original);
+            assertThat(archive.get(BACKEND, 4)).isEmpty();
+            assertThat(archive.get("mastodon", 2)).isEmpty();
+            assertThat(archive.get(2)).contains(original);
+        }
+    }
+
+    @Test
+    void mediaSizesAreArchived() throws IOException {
+        final ArchivedTweet tweet = tweet(1, NOW);
+        final ArchivedTweet withSizes = new ArchivedTweet(
+                BACKEND, 1, NOW, tweet.text(), tweet.lang(), 0, 0, -1, -1, null, true, null, null,
+                List.of(),
+                List.of(new ArchivedEntries.Media("m", 0, 1, 7, "https://img/media", null,
+                        Map.of(MediaTweetEntry.Size.LARGE, MediaTweetEntry.createSize(1024, 768, MediaTweetEntry.Size.FIT)))),
+                List.of(),
+                List.of(),
+                List.of());
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(withSizes);
+
+            final Tweet archived = archive.get(BACKEND, 1).orElseThrow();
+            assertThat(archived.getUser()).isNull();
+            assertThat(archived.isTruncated()).isTrue();
+            assertThat(archived.getMediaEntries()).singleElement().satisfies(media -> {
+                assertThat(media.getType()).isNull();
+                assertThat(media.getSizes()).containsOnlyKeys(MediaTweetEntry.Size.LARGE);
+                assertThat(media.getSizes().get(MediaTweetEntry.Size.LARGE).getWidth()).isEqualTo(1024);
+                assertThat(media.getSizes().get(MediaTweetEntry.Size.LARGE).getHeight()).isEqualTo(768);
+                assertThat(media.getSizes().get(MediaTweetEntry.Size.LARGE).getResize()).isEqualTo(MediaTweetEntry.Size.FIT);
+            });
+        }
+    }
+
+    @Test
+    void duplicatesAreNotAppended() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.append(tweet(1, NOW))).isTrue();
+            assertThat(archive.append(tweet(1, NOW))).isFalse();
+            assertThat(archive.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void tweetsOfDifferentBackendsWithSameIdAreAppended() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.append(tweet(BACKEND, 1, NOW, null))).isTrue();
+            assertThat(archive.append(tweet("mastodon", 1, NOW, null))).isTrue();
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.get("mastodon", 1)).contains(tweet("mastodon", 1, NOW, null));
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.oldestFirst().map(TweetArchive::backendOf)).containsExactlyInAnyOrder(BACKEND, "mastodon");
+        }
+    }
+
+    @Test
+    void archivesOfDifferentQueriesAreSeparated() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(tweet(1, NOW));
+            archive.completeUntil(NOW);
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, "#devoxx", 1024 * 1024)) {
+            assertThat(archive.size()).isZero();
+            assertThat(archive.completeUntil()).isEmpty();
+            archive.append(tweet(2, NOW));
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.oldestFirst().map(Tweet::getId)).containsExactly(1L);
+        }
+    }
+
+    @Test
+    void completionIsPersistedAndOnlyAdvances() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.completeUntil()).isEmpty();
+            archive.completeUntil(NOW.plusMinutes(1));
+            archive.completeUntil(NOW);
+            assertThat(archive.completeUntil()).contains(NOW.plusMinutes(1));
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.completeUntil()).contains(NOW.plusMinutes(1));
+        }
+    }
+
+    @Test
+    void timeIndexOrdersByCreationTime() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(tweet(1, NOW.plusMinutes(2)));
+            archive.append(tweet(2, NOW));
+            archive.append(tweet(3, NOW.plusMinutes(1)));
+            archive.append(tweet(4, NOW.plusMinutes(3)));
+
+            assertThat(archive.newestCreatedAt()).contains(NOW.plusMinutes(3));
+            assertThat(archive.oldestFirst().map(Tweet::getId)).containsExactly(2L, 3L, 1L, 4L);
+            assertThat(archive.newestFirst(NOW.plusMinutes(2)).map(Tweet::getId)).containsExactly(1L, 3L, 2L);
+            assertThat(archive.newestFirst().map(Tweet::getId)).containsExactly(4L, 1L, 3L, 2L);
+        }
+    }
+
+    @Test
+    void indexIsRebuiltAcrossSegmentsOnReopen() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024)) {
+            for (int i = 0; i < 20; i++) {
+                archive.append(tweet(i, NOW.plusSeconds(i)));
+            }
+        }
+
+        try (Stream<Path> files = Files.list(queryDirectory())) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024)) {
+            assertThat(archive.size()).isEqualTo(20);
+            assertThat(archive.get(BACKEND, 13)).contains(tweet(13, NOW.plusSeconds(13)));
+            assertThat(archive.newestFirst(NOW.plusSeconds(19)).limit(3).map(Tweet::getId)).containsExactly(19L, 18L, 17L);
+
+            assertThat(archive.append(tweet(20, NOW.plusSeconds(20)))).isTrue();
+            assertThat(archive.get(BACKEND, 20)).contains(tweet(20, NOW.plusSeconds(20)));
+        }
+    }
+
+    @Test
+    void incompleteRecordIsDiscardedOnReopen() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(tweet(1, NOW));
+            archive.append(tweet(2, NOW.plusSeconds(1)));
+        }
+
+        final Path segment;
+        try (Stream<Path> files = Files.list(queryDirectory())) {
+            segment = files.findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.append(tweet(3, NOW.plusSeconds(2)))).isTrue();
+        }
+
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            assertThat(archive.oldestFirst().map(Tweet::getId)).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Test
+    void incompleteRecordIsIgnoredWhenOpenedReadOnly() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(tweet(1, NOW));
+            archive.append(tweet(2, NOW.plusSeconds(1)));
+        }
+
+        final Path segment;
+        try (Stream<Path> files = Files.list(queryDirectory())) {
+            segment = files.findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+        final long segmentSize = Files.size(segment);
+
+        try (TweetArchive archive = TweetArchive.openReadOnly(directory, QUERY)) {
+            assertThat(archive.oldestFirst().map(Tweet::getId)).containsExactly(1L, 2L);
+            assertThatIllegalStateException().isThrownBy(() -> archive.append(tweet(3, NOW.plusSeconds(2))));
+            assertThatIllegalStateException().isThrownBy(() -> archive.completeUntil(NOW));
+        }
+
+        assertThat(Files.size(segment)).isEqualTo(segmentSize);
+    }
+
+    @Test
+    void missingArchiveIsEmptyWhenOpenedReadOnly() throws IOException {
+        try (TweetArchive archive = TweetArchive.openReadOnly(directory, QUERY)) {
+            assertThat(archive.size()).isZero();
+            assertThat(archive.completeUntil()).isEmpty();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void appendAfterCloseFails() throws IOException {
+        final TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024);
+        archive.close();
+
+        assertThatIllegalStateException().isThrownBy(() -> archive.append(tweet(1, NOW)));
+    }
+
+    private Path queryDirectory() throws IOException {
+        try (Stream<Path> directories = Files.list(directory)) {
+            return directories.findFirst().orElseThrow();
+        }
+    }
+}
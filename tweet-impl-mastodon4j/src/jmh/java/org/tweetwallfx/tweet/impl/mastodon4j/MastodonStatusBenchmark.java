@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.mastodon4j.core.api.entities.Account;
+import org.mastodon4j.core.api.entities.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reading the text of a Mastodon status a number of
+ * times, comparing the former parsing of the HTML content on every access with
+ * the snapshot created once by {@link MastodonStatus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MastodonStatusBenchmark {
+
+    private static final String CONTENT = "<p><span class=\"h-card\"><a href=\"https://mastodon.social/@john\" class=\"u-url mention\">"
+            + "@<span>john</span></a></span> Great talk about virtual threads at "
+            + "<a href=\"https://mastodon.social/tags/devoxx\" class=\"mention hashtag\" rel=\"tag\">#<span>devoxx</span></a> and "
+            + "<a href=\"https://mastodon.social/tags/java\" class=\"mention hashtag\" rel=\"tag\">#<span>java</span></a>, "
+            + "slides at <a href=\"https://example.com/talks/virtual-threads\" rel=\"nofollow noopener\" target=\"_blank\">"
+            + "<span class=\"invisible\">https://</span><span class=\"ellipsis\">example.com/talks/vi</span>"
+            + "<span class=\"invisible\">rtual-threads</span></a></p>";
+
+    /**
+     * Number of text accesses per status, as performed by the filter steps and
+     * the wall while a status is processed.
+     */
+    @Param({"1", "8"})
+    private int accessCount;
+
+    private Status status;
+
+    @Setup
+    public void setup() {
+        final Account account = new Account("7", "jane", null, null, "Jane Doe", null, "avatar", null, null, null, null,
+                List.of(), null, null, null, null, null, null, null,
+                null, null, null, null, 42, null);
+        status = new Status("4711", null, ZonedDateTime.now(), account, CONTENT, null, null, null, null, null,
+                List.of(new Status.Mention("12", "john", "https://mastodon.social/@john", "john@mastodon.social")),
+                null, null, 3, 5, null, null, null, null, null, null, null, "en",
+                null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public void parsePerAccess(final Blackhole blackhole) {
+        for (int i = 0; i < accessCount; i++) {
+            final Cleaner cleaner = new Cleaner(Safelist.none());
+            blackhole.consume(cleaner.clean(Jsoup.parse(status.content())).text());
+        }
+    }
+
+    @Benchmark
+    public void snapshot(final Blackhole blackhole) {
+        final MastodonStatus mastodonStatus = new MastodonStatus(status);
+        for (int i = 0; i < accessCount; i++) {
+            blackhole.consume(mastodonStatus.getText());
+            blackhole.consume(mastodonStatus.getHashtagEntries());
+        }
+    }
+}
@@ -29,26 +29,65 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.util.JsonDataConverter;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 final class EventStatusConsumer implements Consumer<Event> {
     private static final Logger LOGGER = LoggerFactory.getLogger(EventStatusConsumer.class);
     private final Consumer<Status> statusConsumer;
     private final Predicate<Status> statusPredicate;
+    private final Predicate<String> payloadPredicate;
 
     public EventStatusConsumer(Consumer<Status> statusConsumer) {
         this(statusConsumer, status -> true);
     }
 
     public EventStatusConsumer(Consumer<Status> statusConsumer, Predicate<Status> statusPredicate) {
+        this(statusConsumer, statusPredicate, payload -> true);
+    }
+
+    /**
+     * Creates a consumer only decoding payloads matching the
+     * {@code payloadPredicate}, allowing to cheaply skip most of the statuses
+     * of broad subscriptions before decoding them.
+     *
+     * @param statusConsumer the consumer of the matching statuses
+     *
+     * @param statusPredicate the predicate the decoded status has to match
+     *
+     * @param payloadPredicate the predicate the raw payload has to match
+     */
+    public EventStatusConsumer(Consumer<Status> statusConsumer, Predicate<Status> statusPredicate, Predicate<String> payloadPredicate) {
         this.statusConsumer = Objects.requireNonNull(statusConsumer, "statusConsumer must not be null");
         this.statusPredicate = Objects.requireNonNull(statusPredicate, "statusPredicate must not be null");
+        this.payloadPredicate = Objects.requireNonNull(payloadPredicate, "payloadPredicate must not be null");
+    }
+
+    /**
+     * Creates a predicate matching payloads containing at least one of the
+     * given words ignoring case.
+     *
+     * @param words the words to look for
+     *
+     * @return the payload predicate
+     */
+    static Predicate<String> payloadContainingAny(List<String> words) {
+        final Pattern pattern = Pattern.compile(
+                words.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE);
+        return payload -> pattern.matcher(payload).find();
     }
 
     private void notifyStatusPayload(String payload) {
         LOGGER.debug("Processing payload:\n{}", payload);
+        if (!payloadPredicate.test(payload)) {
+            LOGGER.debug("Payload not matching criteria");
+            return;
+        }
         try {
             final Status status = JsonDataConverter.convertFromString(payload, Status.class);
             if (statusPredicate.test(status)) {
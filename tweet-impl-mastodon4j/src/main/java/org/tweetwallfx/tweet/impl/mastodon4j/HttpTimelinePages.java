@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.mastodon4j.core.api.entities.Status;
+import org.tweetwallfx.tweet.impl.mastodon4j.config.MastodonSettings;
+import org.tweetwallfx.util.JsonDataConverter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link TimelinePages} implementation calling the Mastodon REST API directly,
+ * as the timeline methods of the mastodon4j client do not expose its
+ * pagination parameters.
+ */
+final class HttpTimelinePages implements TimelinePages {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String restUrl;
+    private final String accessToken;
+
+    HttpTimelinePages(MastodonSettings settings) {
+        this(HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build(),
+                settings.restUrl(),
+                settings.oauth().accessToken());
+    }
+
+    HttpTimelinePages(HttpClient httpClient, String restUrl, String accessToken) {
+        this.httpClient = httpClient;
+        this.restUrl = null == restUrl ? null : restUrl.replaceAll("/+$", "");
+        this.accessToken = accessToken;
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    URI uri(String path, String maxId, String sinceId, int limit) {
+        final StringBuilder sb = new StringBuilder(restUrl)
+                .append(path)
+                .append("?limit=")
+                .append(limit);
+
+        if (null != maxId) {
+            sb.append("&max_id=").append(encode(maxId));
+        }
+
+        if (null != sinceId) {
+            sb.append("&since_id=").append(encode(sinceId));
+        }
+
+        return URI.create(sb.toString());
+    }
+
+    @Override
+    public List<Status> fetch(String path, String maxId, String sinceId, int limit) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri(path, maxId, sinceId, limit))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET();
+
+        if (null != accessToken) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+
+        try {
+            final HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+
+            if (200 != response.statusCode()) {
+                throw new IllegalStateException("Querying " + path + " failed with HTTP status " + response.statusCode());
+            }
+
+            return List.of(JsonDataConverter.convertFromString(response.body(), Status[].class));
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Querying " + path + " failed", ioe);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying " + path, ie);
+        }
+    }
+}
@@ -29,11 +29,36 @@ import org.tweetwallfx.tweet.api.User;
 
 import java.util.Objects;
 
+/**
+ * Immutable snapshot of a Mastodon {@link Account}, with all values converted
+ * once when the account is wrapped.
+ */
 final class MastodonAccount implements User {
-    private final Account account;
+
+    private final long id;
+    private final String name;
+    private final String profileImageUrl;
+    private final String screenName;
+    private final int followersCount;
+    private final boolean verified;
 
     public MastodonAccount(Account account) {
-        this.account = account;
+        if (null == account) {
+            this.id = 0;
+            this.name = null;
+            this.profileImageUrl = null;
+            this.screenName = null;
+            this.followersCount = 0;
+            this.verified = false;
+        } else {
+            this.id = MastodonStatus.parseOptionalId(account.id()).orElse(0);
+            this.name = account.username();
+            this.profileImageUrl = account.avatar();
+            this.screenName = account.display_name();
+            this.followersCount = Objects.requireNonNullElse(account.followers_count(), 0);
+            this.verified = null != account.fields()
+                    && account.fields().stream().map(Field::verified_at).anyMatch(Objects::nonNull);
+        }
     }
 
     @Override
@@ -43,7 +68,7 @@ final class MastodonAccount implements User {
 
     @Override
     public long getId() {
-        return Long.parseLong(account.id());
+        return id;
     }
 
     @Override
@@ -53,26 +78,26 @@ final class MastodonAccount implements User {
 
     @Override
     public String getName() {
-        return account.username();
+        return name;
     }
 
     @Override
     public String getProfileImageUrl() {
-        return account.avatar();
+        return profileImageUrl;
     }
 
     @Override
     public String getScreenName() {
-        return account.display_name();
+        return screenName;
     }
 
     @Override
     public int getFollowersCount() {
-        return account.followers_count();
+        return followersCount;
     }
 
     @Override
     public boolean isVerified() {
-        return account.fields().stream().map(Field::verified_at).anyMatch(Objects::nonNull);
+        return verified;
     }
 }
@@ -24,9 +24,13 @@
 package org.tweetwallfx.tweet.impl.mastodon4j;
 
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Safelist;
 import org.mastodon4j.core.api.entities.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.User;
 import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
@@ -36,47 +40,155 @@ import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
 import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Immutable snapshot of a Mastodon {@link Status}.
+ *
+ * <p>The HTML content is parsed exactly once when the status is wrapped. The
+ * plain text, the author, the reblogged status and the hashtag, mention and
+ * link entries are all computed at that point, so the accessors used by the
+ * filter chain and the wall never touch jsoup again.
+ */
 final class MastodonStatus implements Tweet {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MastodonStatus.class);
+    private static final Cleaner CLEANER = new Cleaner(Safelist.none());
+    private static final HashtagTweetEntry[] NO_HASHTAGS = new HashtagTweetEntry[0];
+    private static final MediaTweetEntry[] NO_MEDIA = new MediaTweetEntry[0];
+    private static final SymbolTweetEntry[] NO_SYMBOLS = new SymbolTweetEntry[0];
+    private static final UrlTweetEntry[] NO_URLS = new UrlTweetEntry[0];
+    private static final UserMentionTweetEntry[] NO_USER_MENTIONS = new UserMentionTweetEntry[0];
+
     private final Status status;
+    private final long id;
+    private final LocalDateTime createdAt;
+    private final int favoriteCount;
+    private final int retweetCount;
+    private final long inReplyToTweetId;
+    private final long inReplyToUserId;
+    private final String lang;
+    private final String text;
+    private final User user;
+    private final MastodonStatus retweetedTweet;
+    private final boolean retweet;
+    private final HashtagTweetEntry[] hashtagEntries;
+    private final UrlTweetEntry[] urlEntries;
+    private final UserMentionTweetEntry[] userMentionEntries;
 
     public MastodonStatus(Status status) {
-        this.status = status;
+        this.status = Objects.requireNonNull(status, "status must not be null");
+        this.id = Long.parseLong(status.id());
+        this.createdAt = null == status.created_at() ? null : status.created_at().toLocalDateTime();
+        this.favoriteCount = Objects.requireNonNullElse(status.favourites_count(), 0);
+        this.retweetCount = Objects.requireNonNullElse(status.reblogs_count(), 0);
+        this.inReplyToTweetId = parseOptionalId(status.in_reply_to_id()).orElse(0);
+        this.inReplyToUserId = parseOptionalId(status.in_reply_to_account_id()).orElse(0);
+        this.lang = status.language();
+        this.user = new MastodonAccount(status.account());
+        this.retweetedTweet = null == status.reblog() ? null : new MastodonStatus(status.reblog());
+        this.retweet = Boolean.TRUE.equals(status.reblogged());
+
+        final Document document = Jsoup.parse(Objects.requireNonNullElse(status.content(), ""));
+        this.text = CLEANER.clean(document).text();
+
+        final Map<String, Status.Mention> mentionsByUrl = null == status.mentions()
+                ? Map.of()
+                : status.mentions().stream()
+                        .filter(mention -> null != mention.url())
+                        .collect(Collectors.toMap(Status.Mention::url, Function.identity(), (a, b) -> a));
+        final List<HashtagTweetEntry> hashtags = new ArrayList<>();
+        final List<UrlTweetEntry> urls = new ArrayList<>();
+        final List<UserMentionTweetEntry> userMentions = new ArrayList<>();
+        int cursor = 0;
+
+        for (final Element link : document.select("a[href]")) {
+            final String linkText = link.text();
+            final int start = linkText.isEmpty() ? -1 : text.indexOf(linkText, cursor);
+            if (start < 0) {
+                continue;
+            }
+            final int end = start + linkText.length();
+            cursor = end;
+
+            final String href = link.attr("href");
+            if (link.hasClass("hashtag") || linkText.startsWith("#")) {
+                hashtags.add(new MastodonEntries.Hashtag(linkText.substring(1), start, end));
+            } else if (link.hasClass("mention") || linkText.startsWith("@")) {
+                final Status.Mention mention = mentionsByUrl.get(href);
+                if (null == mention) {
+                    final String username = linkText.substring(1);
+                    userMentions.add(new MastodonEntries.UserMention(username, start, end, username, username, 0));
+                } else {
+                    userMentions.add(new MastodonEntries.UserMention(mention.username(), start, end,
+                            mention.username(), mention.acct(), parseOptionalId(mention.id()).orElse(0)));
+                }
+            } else {
+                urls.add(new MastodonEntries.Url(linkText, start, end, href, displayText(link)));
+            }
+        }
+
+        this.hashtagEntries = hashtags.isEmpty() ? NO_HASHTAGS : hashtags.toArray(HashtagTweetEntry[]::new);
+        this.urlEntries = urls.isEmpty() ? NO_URLS : urls.toArray(UrlTweetEntry[]::new);
+        this.userMentionEntries = userMentions.isEmpty() ? NO_USER_MENTIONS : userMentions.toArray(UserMentionTweetEntry[]::new);
+    }
+
+    /**
+     * Parses an optional Mastodon id. Ids that are not numeric are logged and
+     * treated like missing ones instead of being mistaken for a valid id.
+     */
+    static OptionalLong parseOptionalId(String id) {
+        if (null == id) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(id));
+        } catch (NumberFormatException nfe) {
+            LOGGER.warn("Ignoring malformed id '{}'", id);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Mastodon shortens displayed links by wrapping the scheme and the tail of
+     * the URL into spans of class {@code invisible}.
+     */
+    private static String displayText(Element link) {
+        final Element copy = link.clone();
+        copy.select(".invisible").remove();
+        final String displayText = copy.text();
+        return displayText.isEmpty() ? link.text() : displayText;
     }
 
     @Override
     public LocalDateTime getCreatedAt() {
-        return status.created_at().toLocalDateTime();
+        return createdAt;
     }
 
     @Override
     public int getFavoriteCount() {
-        return status.favourites_count();
+        return favoriteCount;
     }
 
     @Override
     public long getId() {
-        return Long.parseLong(status.id());
+        return id;
     }
 
     @Override
     public long getInReplyToTweetId() {
-        final String inReplyToId = status.in_reply_to_id();
-        if (inReplyToId == null) {
-            return 0;
-        }
-        return Long.parseLong(inReplyToId);
+        return inReplyToTweetId;
     }
 
     @Override
     public long getInReplyToUserId() {
-        final String inReplyToAccountId = status.in_reply_to_account_id();
-        if (inReplyToAccountId == null) {
-            return 0;
-        }
-        return Long.parseLong(inReplyToAccountId);
+        return inReplyToUserId;
     }
 
     @Override
@@ -86,38 +198,37 @@ final class MastodonStatus implements Tweet {
 
     @Override
     public String getLang() {
-        return status.language();
+        return lang;
     }
 
     @Override
     public int getRetweetCount() {
-        return status.reblogs_count();
+        return retweetCount;
     }
 
     @Override
     public Tweet getRetweetedTweet() {
-        return Optional.ofNullable(status.reblog()).map(MastodonStatus::new).orElse(null);
+        return retweetedTweet;
     }
 
     @Override
     public Tweet getOriginTweet() {
-        return Optional.ofNullable(status.reblog()).map(MastodonStatus::new).orElse(this);
+        return null == retweetedTweet ? this : retweetedTweet;
     }
 
     @Override
     public String getText() {
-        Cleaner cleaner = new Cleaner(Safelist.none());
-        return cleaner.clean(Jsoup.parse(status.content())).text();
+        return text;
     }
 
     @Override
     public User getUser() {
-        return new MastodonAccount(status.account());
+        return user;
     }
 
     @Override
     public boolean isRetweet() {
-        return Boolean.TRUE.equals(status.reblogged());
+        return retweet;
     }
 
     @Override
@@ -127,27 +238,27 @@ final class MastodonStatus implements Tweet {
 
     @Override
     public HashtagTweetEntry[] getHashtagEntries() {
-        return new HashtagTweetEntry[0];
+        return 0 == hashtagEntries.length ? NO_HASHTAGS : hashtagEntries.clone();
     }
 
     @Override
     public MediaTweetEntry[] getMediaEntries() {
-        return new MediaTweetEntry[0];
+        return NO_MEDIA;
     }
 
     @Override
     public SymbolTweetEntry[] getSymbolEntries() {
-        return new SymbolTweetEntry[0];
+        return NO_SYMBOLS;
     }
 
     @Override
     public UrlTweetEntry[] getUrlEntries() {
-        return new UrlTweetEntry[0];
+        return 0 == urlEntries.length ? NO_URLS : urlEntries.clone();
     }
 
     @Override
     public UserMentionTweetEntry[] getUserMentionEntries() {
-        return new UserMentionTweetEntry[0];
+        return 0 == userMentionEntries.length ? NO_USER_MENTIONS : userMentionEntries.clone();
     }
 
     @Override
@@ -25,11 +25,26 @@ package org.tweetwallfx.tweet.impl.mastodon4j;
 
 import static org.tweetwallfx.tweet.impl.mastodon4j.config.MastodonSettings.CONFIG_KEY;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -43,11 +58,13 @@ import org.mastodon4j.core.api.BaseMastodonApi;
 import org.mastodon4j.core.api.EventStream;
 import org.mastodon4j.core.api.MastodonApi;
 import org.mastodon4j.core.api.entities.AccessToken;
+import org.mastodon4j.core.api.entities.Account;
 import org.mastodon4j.core.api.entities.Status;
 import org.mastodon4j.core.api.entities.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.tweet.api.SearchCompletion;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
@@ -60,22 +77,40 @@ public class MastodonTweeter implements Tweeter {
     private static final Logger LOGGER = LoggerFactory.getLogger(MastodonTweeter.class);
     private static final Pattern ACCEPTED_KEYWORDS = Pattern.compile("([@#]).+");
     private static final Pattern KEYWORD_DELEMITER = Pattern.compile(" +");
+    private static final int BACKFILL_PAGES = 5;
 
     private final MastodonSettings settings;
     private final MastodonApi client;
+    private final TimelinePages timelinePages;
     private final List<EventStream> openStreams;
+    private final List<StatusStream> statusStreams;
+    private final List<StatusSubscription> subscriptions;
+    private final Map<String, String> accountIds;
+    private final Map<String, List<Status>> timelineWindows;
     private final AccessToken accessToken;
+    private ScheduledExecutorService subscriptionChecker;
+    private ExecutorService searchExecutor;
 
     public MastodonTweeter() {
         this(Configuration.getInstance().getConfigTyped(CONFIG_KEY, MastodonSettings.class), MastodonTweeter::createClient);
     }
 
     MastodonTweeter(MastodonSettings settings, Function<MastodonSettings, MastodonApi> clientCreator) {
+        this(settings, clientCreator, HttpTimelinePages::new);
+    }
+
+    MastodonTweeter(MastodonSettings settings, Function<MastodonSettings, MastodonApi> clientCreator,
+            Function<MastodonSettings, TimelinePages> timelinePagesCreator) {
         LOGGER.debug("Initializing with configuration: {}", settings);
         this.settings = settings;
         this.accessToken = AccessToken.create(settings.oauth().accessToken());
         this.client = clientCreator.apply(settings);
-        this.openStreams = new ArrayList<>();
+        this.timelinePages = timelinePagesCreator.apply(settings);
+        this.openStreams = new CopyOnWriteArrayList<>();
+        this.statusStreams = new CopyOnWriteArrayList<>();
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.accountIds = new ConcurrentHashMap<>();
+        this.timelineWindows = new ConcurrentHashMap<>();
     }
 
     static MastodonApi createClient(MastodonSettings settings) {
@@ -91,6 +126,7 @@ public class MastodonTweeter implements Tweeter {
     public TweetStream createTweetStream(TweetFilterQuery filterQuery) {
         LOGGER.debug("createTweetStream({})", filterQuery);
         final StatusStream statusStream = new StatusStream();
+        statusStreams.add(statusStream);
         final Map<TrackType, List<String>> trackTypeListMap = Stream.of(filterQuery.getTrack())
                 .collect(Collectors.groupingBy(this::trackType, () -> new EnumMap<>(TrackType.class), Collectors.toList()));
         trackTypeListMap.forEach((trackType, values) -> {
@@ -124,17 +160,90 @@ public class MastodonTweeter implements Tweeter {
     }
 
     private void handleHashtags(StatusStream statusStream, List<String> hashtags) {
-        final EventStream stream = createRegisteredStream();
-        stream.registerConsumer(new EventStatusConsumer(statusStream));
-        hashtags.stream()
-                .map(hashtag -> Subscription.hashtag(true, accessToken, hashtag.substring(1)))
-                .forEach(stream::changeSubscription);
+        final List<String> names = hashtags.stream().map(hashtag -> hashtag.substring(1)).toList();
+        startSubscription(new StatusSubscription(
+                "hashtags " + hashtags,
+                subscription -> {
+                    final EventStream stream = createRegisteredStream();
+                    stream.registerConsumer(new EventStatusConsumer(subscription));
+                    names.stream()
+                            .map(name -> Subscription.hashtag(true, accessToken, name))
+                            .forEach(stream::changeSubscription);
+                    return stream;
+                },
+                this::closeRegisteredStream,
+                since -> names.stream()
+                        .flatMap(name -> fetchPages(tagTimeline(name), BACKFILL_PAGES, null, since, settings.search().pageSize()).stream())
+                        .toList(),
+                status -> true,
+                statusStream,
+                Duration.ofSeconds(settings.streaming().gracePeriod()),
+                Clock.systemUTC()));
     }
+
     private void handleUsers(StatusStream statusStream, List<String> users) {
-        final EventStream stream = createRegisteredStream();
         final Predicate<Status> predicate = new UserMentionPredicate(users).or(new AccountPredicate(users));
-        stream.registerConsumer(new EventStatusConsumer(statusStream, predicate));
-        stream.changeSubscription(Subscription.stream(true, accessToken, "public"));
+        // usernames are restricted to letters, digits and underscores, so they appear verbatim in any matching payload
+        final Predicate<String> payloadPredicate = EventStatusConsumer.payloadContainingAny(
+                users.stream().map(user -> user.substring(1)).toList());
+        final String userStream = settings.streaming().userStream();
+        startSubscription(new StatusSubscription(
+                "users " + users,
+                subscription -> {
+                    final EventStream stream = createRegisteredStream();
+                    stream.registerConsumer(new EventStatusConsumer(subscription, predicate, payloadPredicate));
+                    stream.changeSubscription(Subscription.stream(true, accessToken, userStream));
+                    return stream;
+                },
+                this::closeRegisteredStream,
+                since -> users.stream()
+                        .map(user -> lookupAccountId(user.substring(1)))
+                        .flatMap(Optional::stream)
+                        .flatMap(accountId -> fetchPages(accountTimeline(accountId), BACKFILL_PAGES, null, since, settings.search().pageSize()).stream())
+                        .toList(),
+                predicate,
+                statusStream,
+                Duration.ofSeconds(settings.streaming().gracePeriod()),
+                Clock.systemUTC()));
+    }
+
+    private void startSubscription(StatusSubscription subscription) {
+        subscription.connect();
+        subscriptions.add(subscription);
+
+        final int checkInterval = settings.streaming().checkInterval();
+        if (checkInterval > 0) {
+            subscriptionChecker().scheduleWithFixedDelay(subscription::check, checkInterval, checkInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    private synchronized ScheduledExecutorService subscriptionChecker() {
+        if (null == subscriptionChecker) {
+            subscriptionChecker = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("mastodon-subscription-check").daemon().factory());
+        }
+        return subscriptionChecker;
+    }
+
+    private void closeRegisteredStream(EventStream stream) {
+        if (openStreams.remove(stream)) {
+            closeStream(stream);
+        }
+    }
+
+    /**
+     * Looks up the id of the account with the given username. Only the
+     * statuses posted by the account are part of its timeline, statuses of
+     * other accounts mentioning it are not.
+     */
+    private Optional<String> lookupAccountId(String username) {
+        return Optional.ofNullable(accountIds.computeIfAbsent(username.toLowerCase(Locale.ROOT), name -> client
+                .search(BaseMastodonApi.QueryOptions.of('@' + name).type(BaseMastodonApi.QueryOptions.Type.ACCOUNTS))
+                .accounts().stream()
+                .filter(account -> name.equalsIgnoreCase(account.username()))
+                .map(Account::id)
+                .findFirst()
+                .orElse(null)));
     }
 
     @Override
@@ -201,57 +310,199 @@ public class MastodonTweeter implements Tweeter {
 
     @Override
     public Stream<Tweet> search(TweetQuery tweetQuery) {
+        return search(tweetQuery, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> search(TweetQuery tweetQuery, SearchCompletion completion) {
         LOGGER.debug("search({})", tweetQuery);
-        return KEYWORD_DELEMITER.splitAsStream(tweetQuery.getQuery())
-                .flatMap(keyword -> queryStatuses(keyword, null))
-                .map(MastodonStatus::new);
+        return query(tweetQuery, 1, completion);
     }
 
     @Override
     public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages) {
+        return searchPaged(tweetQuery, numberOfPages, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages, SearchCompletion completion) {
         LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
-        return KEYWORD_DELEMITER.splitAsStream(tweetQuery.getQuery())
-                .flatMap(keyword -> queryStatuses(keyword, numberOfPages))
+        return query(tweetQuery, Math.max(1, numberOfPages), completion);
+    }
+
+    /**
+     * Resolves the timelines of all keywords and then queries them, both
+     * steps running in parallel with the configured parallelism. The
+     * statuses are returned newest first, the completion is marked
+     * incomplete if any of the steps failed.
+     */
+    private Stream<Tweet> query(TweetQuery tweetQuery, int numberOfPages, SearchCompletion completion) {
+        final List<Callable<List<String>>> resolvers = KEYWORD_DELEMITER.splitAsStream(tweetQuery.getQuery())
+                .distinct()
+                .<Callable<List<String>>>map(keyword -> () -> resolveTimelines(keyword, completion))
+                .toList();
+        final int pageSize = null == tweetQuery.getCount()
+                ? settings.search().pageSize()
+                : Math.clamp(tweetQuery.getCount(), 1, settings.search().pageSize());
+        final String maxId = toStatusId(tweetQuery.getMaxId());
+        final String sinceId = toStatusId(tweetQuery.getSinceId());
+        final List<Callable<List<Status>>> queries = invokeAll(resolvers, completion).stream()
+                .distinct()
+                .<Callable<List<Status>>>map(timeline -> () -> queryTimeline(timeline, numberOfPages, pageSize, maxId, sinceId, completion))
+                .toList();
+        final Set<String> ids = new HashSet<>();
+
+        return invokeAll(queries, completion).stream()
+                .filter(status -> ids.add(status.id()))
+                .sorted(Comparator.comparing(Status::id, StatusIds.ORDER).reversed())
                 .map(MastodonStatus::new);
     }
 
-    private Stream<Status> queryStatuses(String keyword, Integer numberOfPages) {
-        final Matcher matcher = ACCEPTED_KEYWORDS.matcher(keyword);
-        if (matcher.matches()) {
-            final BaseMastodonApi.QueryOptions queryOptions = BaseMastodonApi.QueryOptions.of(keyword);
-            return switch (matcher.group(1)) {
-                case "#" -> queryHashtag(numberOfPages == null ? queryOptions : queryOptions.limit(numberOfPages));
-                case "@" -> queryAccount(numberOfPages == null ? queryOptions : queryOptions.limit(numberOfPages));
-                default -> Stream.empty();
-            };
+    private static String toStatusId(Long id) {
+        return null == id || id <= 0 ? null : id.toString();
+    }
+
+    private <T> List<T> invokeAll(List<Callable<List<T>>> tasks, SearchCompletion completion) {
+        if (tasks.isEmpty()) {
+            return List.of();
         }
-        return Stream.empty();
+
+        final List<Future<List<T>>> futures;
+        try {
+            futures = searchExecutor().invokeAll(tasks);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while searching", e);
+            Thread.currentThread().interrupt();
+            completion.markIncomplete();
+            return List.of();
+        }
+
+        // a failed task must not discard the results of the others
+        final List<T> results = new ArrayList<>();
+        for (final Future<List<T>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while searching", e);
+                Thread.currentThread().interrupt();
+                completion.markIncomplete();
+                break;
+            } catch (ExecutionException e) {
+                LOGGER.error("Unexpected failure on backend", e.getCause());
+                completion.markIncomplete();
+            }
+        }
+        return results;
+    }
+
+    private synchronized ExecutorService searchExecutor() {
+        if (null == searchExecutor) {
+            searchExecutor = Executors.newFixedThreadPool(settings.search().parallelism(),
+                    Thread.ofPlatform().name("mastodon-search-", 0).daemon().factory());
+        }
+        return searchExecutor;
     }
 
-    private Stream<Status> queryAccount(BaseMastodonApi.QueryOptions queryOptions) {
+    private List<String> resolveTimelines(String keyword, SearchCompletion completion) {
+        final Matcher matcher = ACCEPTED_KEYWORDS.matcher(keyword);
+        if (!matcher.matches()) {
+            return List.of();
+        }
+
+        final BaseMastodonApi.QueryOptions queryOptions = BaseMastodonApi.QueryOptions.of(keyword);
         try {
-            return client.search(queryOptions.type(BaseMastodonApi.QueryOptions.Type.ACCOUNTS)).accounts().stream()
-                    .flatMap(account -> client.accounts().statuses(account.id()).stream());
+            return switch (matcher.group(1)) {
+                case "#" -> client.search(queryOptions.type(BaseMastodonApi.QueryOptions.Type.HASHTAGS)).hashtags().stream()
+                        .map(hashtag -> tagTimeline(hashtag.name()))
+                        .toList();
+                case "@" -> client.search(queryOptions.type(BaseMastodonApi.QueryOptions.Type.ACCOUNTS)).accounts().stream()
+                        .map(account -> accountTimeline(account.id()))
+                        .toList();
+                default -> List.of();
+            };
         } catch (RuntimeException e) {
             LOGGER.error("Unexpected failure on backend", e);
-            return Stream.empty();
+            completion.markIncomplete();
+            return List.of();
         }
     }
 
-    private Stream<Status> queryHashtag(BaseMastodonApi.QueryOptions queryOptions) {
+    private static String tagTimeline(String hashtag) {
+        return "/api/v1/timelines/tag/" + HttpTimelinePages.encode(hashtag);
+    }
+
+    private static String accountTimeline(String accountId) {
+        return "/api/v1/accounts/" + HttpTimelinePages.encode(accountId) + "/statuses";
+    }
+
+    /**
+     * Queries the given number of pages of the timeline. In incremental mode
+     * an unbounded query only fetches the statuses newer than the newest one
+     * of the previous query and combines them with the previous result.
+     */
+    private List<Status> queryTimeline(String timeline, int numberOfPages, int pageSize, String maxId, String sinceId, SearchCompletion completion) {
         try {
-            return client.search(queryOptions.type(BaseMastodonApi.QueryOptions.Type.HASHTAGS)).hashtags().stream()
-                    .flatMap(hashtag -> client.timelines().tag(hashtag.name()).stream());
+            if (!settings.search().incremental() || null != maxId || null != sinceId) {
+                return fetchPages(timeline, numberOfPages, maxId, sinceId, pageSize);
+            }
+
+            final String windowKey = timeline + '|' + numberOfPages + '|' + pageSize;
+            final List<Status> previous = timelineWindows.getOrDefault(windowKey, List.of());
+            final List<Status> newer = fetchPages(timeline, numberOfPages, null,
+                    previous.isEmpty() ? null : previous.getFirst().id(), pageSize);
+            final List<Status> window = Stream.concat(newer.stream(), previous.stream())
+                    .limit((long) numberOfPages * pageSize)
+                    .toList();
+            LOGGER.debug("Fetched {} new statuses of {}", newer.size(), timeline);
+            timelineWindows.put(windowKey, window);
+            return window;
         } catch (RuntimeException e) {
             LOGGER.error("Unexpected failure on backend", e);
-            return Stream.empty();
+            completion.markIncomplete();
+            return List.of();
         }
     }
 
+    /**
+     * Fetches up to the given number of pages of a timeline, following the
+     * {@code max_id} of the oldest status of each page.
+     */
+    private List<Status> fetchPages(String timeline, int numberOfPages, String maxId, String sinceId, int pageSize) {
+        final List<Status> statuses = new ArrayList<>();
+        String cursor = maxId;
+
+        for (int page = 0; page < numberOfPages; page++) {
+            final List<Status> current = timelinePages.fetch(timeline, cursor, sinceId, pageSize);
+            statuses.addAll(current);
+
+            if (current.size() < pageSize) {
+                break;
+            }
+
+            cursor = current.getLast().id();
+        }
+
+        return statuses;
+    }
+
     @Override
     public void shutdown() {
         LOGGER.debug("shutdown()");
+        synchronized (this) {
+            if (null != subscriptionChecker) {
+                subscriptionChecker.shutdownNow();
+                subscriptionChecker = null;
+            }
+            if (null != searchExecutor) {
+                searchExecutor.shutdownNow();
+                searchExecutor = null;
+            }
+        }
+        subscriptions.forEach(StatusSubscription::close);
+        subscriptions.clear();
         openStreams.removeIf(MastodonTweeter::closeStream);
+        statusStreams.forEach(StatusStream::close);
+        statusStreams.clear();
     }
 
     private static boolean closeStream(EventStream stream) {
@@ -27,30 +27,34 @@ import org.mastodon4j.core.api.entities.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetDispatcher;
 import org.tweetwallfx.tweet.api.TweetStream;
 
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 final class StatusStream implements TweetStream, Consumer<Status> {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatusStream.class);
 
-    private final CopyOnWriteArrayList<Consumer<Tweet>> consumers;
+    private final TweetDispatcher dispatcher;
 
     StatusStream() {
-        consumers = new CopyOnWriteArrayList<>();
+        dispatcher = new TweetDispatcher();
     }
 
     @Override
     public void onTweet(Consumer<Tweet> tweetConsumer) {
         LOGGER.debug("onTweet({})", tweetConsumer);
-        consumers.add(tweetConsumer);
+        dispatcher.add(tweetConsumer);
     }
 
     @Override
     public void accept(Status status) {
         LOGGER.debug("Notify status:\n{}", status);
         final MastodonStatus mastodonStatus = new MastodonStatus(status);
-        consumers.forEach(tweetConsumer -> tweetConsumer.accept(mastodonStatus));
+        dispatcher.accept(mastodonStatus);
+    }
+
+    void close() {
+        dispatcher.close();
     }
 }
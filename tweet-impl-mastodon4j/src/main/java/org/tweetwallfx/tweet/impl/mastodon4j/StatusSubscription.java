@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.mastodon4j.core.api.EventStream;
+import org.mastodon4j.core.api.entities.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.util.RecentSet;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A streaming subscription delivering statuses without gaps.
+ *
+ * <p>The subscription keeps track of the highest status id it delivered. A
+ * periodic {@link #check()} compares the timeline backing the subscription
+ * with what was delivered. Statuses older than the grace period that were
+ * never delivered indicate a broken streaming connection, in which case the
+ * connection is reopened. While reconnecting, live statuses are held back until
+ * the statuses missed in between have been backfilled from the timeline, so
+ * that statuses are delivered in order. Statuses seen on both sides of the
+ * seam are delivered only once.
+ */
+final class StatusSubscription implements Consumer<Status> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatusSubscription.class);
+    private static final int DELIVERED_CAPACITY = 1_000;
+    private static final Duration DELIVERED_WINDOW = Duration.ofHours(6);
+
+    private final String name;
+    private final Function<Consumer<Status>, EventStream> connector;
+    private final Consumer<EventStream> disconnector;
+    private final Function<String, List<Status>> timeline;
+    private final Predicate<Status> predicate;
+    private final Consumer<Status> downstream;
+    private final Duration gracePeriod;
+    private final Clock clock;
+    private final RecentSet<String> delivered = new RecentSet<>(DELIVERED_CAPACITY, DELIVERED_WINDOW);
+    private EventStream stream;
+    private Instant connectedAt;
+    private String highestId;
+    private List<Status> heldBack;
+
+    /**
+     * Creates a new subscription.
+     *
+     * @param name the name of the subscription used for logging
+     *
+     * @param connector opens a new streaming connection delivering its
+     * statuses to the given consumer
+     *
+     * @param disconnector closes a streaming connection
+     *
+     * @param timeline queries the most recent statuses of the timeline backing
+     * the subscription newer than the given status id, which is {@code null}
+     * if no status has been delivered yet
+     *
+     * @param predicate the predicate statuses of the timeline have to match
+     *
+     * @param downstream the consumer to deliver statuses to
+     *
+     * @param gracePeriod the time a status may take to be delivered by the
+     * streaming connection
+     *
+     * @param clock the clock to use
+     */
+    StatusSubscription(
+            final String name,
+            final Function<Consumer<Status>, EventStream> connector,
+            final Consumer<EventStream> disconnector,
+            final Function<String, List<Status>> timeline,
+            final Predicate<Status> predicate,
+            final Consumer<Status> downstream,
+            final Duration gracePeriod,
+            final Clock clock) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.connector = Objects.requireNonNull(connector, "connector must not be null");
+        this.disconnector = Objects.requireNonNull(disconnector, "disconnector must not be null");
+        this.timeline = Objects.requireNonNull(timeline, "timeline must not be null");
+        this.predicate = Objects.requireNonNull(predicate, "predicate must not be null");
+        this.downstream = Objects.requireNonNull(downstream, "downstream must not be null");
+        this.gracePeriod = Objects.requireNonNull(gracePeriod, "gracePeriod must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Opens the initial streaming connection. Statuses created before are not
+     * backfilled as they are the domain of the history search.
+     */
+    synchronized void connect() {
+        connectedAt = clock.instant();
+        stream = openStream();
+    }
+
+    /**
+     * Checks the timeline for statuses the streaming connection failed to
+     * deliver and reconnects in case there are any.
+     */
+    void check() {
+        if (!isConnected()) {
+            LOGGER.info("Subscription {} is not connected, reconnecting", name);
+            reconnect();
+            return;
+        }
+
+        final Instant deadline = clock.instant().minus(gracePeriod);
+        final long missed = undelivered().stream()
+                .filter(status -> null != status.created_at() && status.created_at().toInstant().isBefore(deadline))
+                .count();
+
+        if (missed > 0) {
+            LOGGER.warn("Subscription {} missed {} statuses, reconnecting", name, missed);
+            reconnect();
+        } else {
+            LOGGER.debug("Subscription {} is up to date at {}", name, highestIdDelivered());
+        }
+    }
+
+    /**
+     * Reopens the streaming connection and backfills the statuses missed in
+     * between before the live statuses resume.
+     */
+    void reconnect() {
+        final EventStream previous;
+        synchronized (this) {
+            previous = stream;
+            stream = null;
+            heldBack = new ArrayList<>();
+            if (null == connectedAt) {
+                connectedAt = clock.instant();
+            }
+        }
+
+        if (null != previous) {
+            disconnector.accept(previous);
+        }
+
+        EventStream reopened = null;
+        try {
+            reopened = openStream();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to reconnect subscription {}", name, e);
+        }
+
+        final List<Status> missed = undelivered();
+        LOGGER.info("Backfilling {} statuses for subscription {} after {}", missed.size(), name, highestIdDelivered());
+
+        synchronized (this) {
+            missed.forEach(this::deliver);
+            heldBack.forEach(this::deliver);
+            heldBack = null;
+            stream = reopened;
+        }
+    }
+
+    /**
+     * Closes the streaming connection.
+     */
+    void close() {
+        final EventStream previous;
+        synchronized (this) {
+            previous = stream;
+            stream = null;
+        }
+
+        if (null != previous) {
+            disconnector.accept(previous);
+        }
+    }
+
+    private synchronized boolean isConnected() {
+        return null != stream;
+    }
+
+    /**
+     * {@return the highest status id delivered so far or {@code null} if none
+     * has been delivered yet}
+     */
+    synchronized String highestIdDelivered() {
+        return highestId;
+    }
+
+    @Override
+    public synchronized void accept(final Status status) {
+        if (null == heldBack) {
+            deliver(status);
+        } else {
+            heldBack.add(status);
+        }
+    }
+
+    private EventStream openStream() {
+        return connector.apply(this);
+    }
+
+    /**
+     * Queries the timeline for statuses newer than the ones delivered so far
+     * and returns the ones not yet delivered in ascending id order.
+     */
+    private List<Status> undelivered() {
+        final String since;
+        final Instant notBefore;
+        synchronized (this) {
+            since = highestId;
+            notBefore = connectedAt;
+        }
+
+        try {
+            return timeline.apply(since).stream()
+                    .filter(predicate)
+                    .filter(status -> null == since
+                            ? null != status.created_at() && !status.created_at().toInstant().isBefore(notBefore)
+                            : StatusIds.ORDER.compare(status.id(), since) > 0)
+                    .filter(status -> !delivered.contains(status.id()))
+                    .sorted(Comparator.comparing(Status::id, StatusIds.ORDER))
+                    .toList();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to query timeline of subscription {}", name, e);
+            return List.of();
+        }
+    }
+
+    private void deliver(final Status status) {
+        if (!delivered.add(status.id())) {
+            LOGGER.debug("Skipping already delivered status {} of subscription {}", status.id(), name);
+            return;
+        }
+
+        if (null == highestId || StatusIds.ORDER.compare(status.id(), highestId) > 0) {
+            highestId = status.id();
+        }
+
+        downstream.accept(status);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.mastodon4j.core.api.entities.Status;
+
+import java.util.List;
+
+/**
+ * Fetches single pages of a Mastodon timeline using the {@code max_id} and
+ * {@code since_id} pagination of the REST API.
+ */
+@FunctionalInterface
+interface TimelinePages {
+
+    /**
+     * Fetches a page of statuses, newest first.
+     *
+     * @param path the path of the timeline endpoint like
+     * {@code /api/v1/timelines/tag/java}
+     *
+     * @param maxId only return statuses older than this id, {@code null} for
+     * no upper bound
+     *
+     * @param sinceId only return statuses newer than this id, {@code null} for
+     * no lower bound
+     *
+     * @param limit the maximum number of statuses to return
+     *
+     * @return the page of statuses
+     */
+    List<Status> fetch(String path, String maxId, String sinceId, int limit);
+}
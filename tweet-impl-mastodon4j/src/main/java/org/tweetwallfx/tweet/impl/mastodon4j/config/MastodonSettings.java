@@ -44,22 +44,36 @@ import org.tweetwallfx.config.ConfigurationConverter;
  * <p>
  * Param {@code oauth} the OAuth setting the twitter client is to use in order
  * to connect with mastodon
+ *
+ * <p>
+ * Param {@code streaming} the settings concerning the streaming connections
+ * (defaults to {@link Streaming#DEFAULT})
+ *
+ * <p>
+ * Param {@code search} the settings concerning the history search (defaults
+ * to {@link Search#DEFAULT})
  */
 public record MastodonSettings(
         Boolean debugEnabled,
         Boolean enabled,
         String restUrl,
-        OAuth oauth) {
+        OAuth oauth,
+        Streaming streaming,
+        Search search) {
 
     public MastodonSettings(
             final Boolean debugEnabled,
             final Boolean enabled,
             final String restUrl,
-            final OAuth oauth) {
+            final OAuth oauth,
+            final Streaming streaming,
+            final Search search) {
         this.debugEnabled = Objects.requireNonNullElse(debugEnabled, false);
         this.enabled = Objects.requireNonNullElse(enabled, true);
         this.restUrl = restUrl;
         this.oauth = oauth;
+        this.streaming = Objects.requireNonNullElse(streaming, Streaming.DEFAULT);
+        this.search = Objects.requireNonNullElse(search, Search.DEFAULT);
     }
 
     /**
@@ -95,4 +109,82 @@ public record MastodonSettings(
     public static record OAuth(
             String accessToken) {
     }
+
+    /**
+     * POJO for the settings concerning the streaming connections.
+     *
+     * <p>
+     * Param {@code checkInterval} the interval in seconds in which each
+     * streaming subscription is compared with the corresponding timeline in
+     * order to detect missed statuses, {@code 0} disables the check (defaults
+     * to {@code 60})
+     *
+     * <p>
+     * Param {@code gracePeriod} the time in seconds a status may take to be
+     * delivered by the streaming connection before it is regarded as missed
+     * (defaults to {@code 30})
+     *
+     * <p>
+     * Param {@code userStream} the name of the stream subscribed to for
+     * tracking users like {@code public}, {@code public:local} or {@code user}
+     * for the home timeline of the account the access token belongs to
+     * (defaults to {@code public})
+     */
+    public static record Streaming(
+            Integer checkInterval,
+            Integer gracePeriod,
+            String userStream) {
+
+        /**
+         * Default streaming settings.
+         */
+        public static final Streaming DEFAULT = new Streaming(null, null, null);
+
+        public Streaming(
+                final Integer checkInterval,
+                final Integer gracePeriod,
+                final String userStream) {
+            this.checkInterval = Math.max(0, Objects.requireNonNullElse(checkInterval, 60));
+            this.gracePeriod = Math.max(0, Objects.requireNonNullElse(gracePeriod, 30));
+            this.userStream = Objects.requireNonNullElse(userStream, "public");
+        }
+    }
+
+    /**
+     * POJO for the settings concerning the history search.
+     *
+     * <p>
+     * Param {@code parallelism} the maximum number of requests executed
+     * concurrently for a single search (defaults to {@code 4})
+     *
+     * <p>
+     * Param {@code pageSize} the number of statuses requested per timeline
+     * page, limited to the maximum of {@code 40} supported by Mastodon
+     * (defaults to {@code 40})
+     *
+     * <p>
+     * Param {@code incremental} a flag indicating that the statuses of each
+     * timeline are kept between searches, so that a repeated search only
+     * fetches the statuses posted since the previous one (defaults to
+     * {@code false})
+     */
+    public static record Search(
+            Integer parallelism,
+            Integer pageSize,
+            Boolean incremental) {
+
+        /**
+         * Default search settings.
+         */
+        public static final Search DEFAULT = new Search(null, null, null);
+
+        public Search(
+                final Integer parallelism,
+                final Integer pageSize,
+                final Boolean incremental) {
+            this.parallelism = Math.max(1, Objects.requireNonNullElse(parallelism, 4));
+            this.pageSize = Math.clamp(Objects.requireNonNullElse(pageSize, 40), 1, 40);
+            this.incremental = Objects.requireNonNullElse(incremental, false);
+        }
+    }
 }
@@ -97,4 +97,28 @@ class EventStatusConsumerTest {
         eventStatusConsumer = new EventStatusConsumer(statusConsumer, status -> "42".equals(status.id()));
         assertThatNoException().isThrownBy(() -> eventStatusConsumer.accept(event));
     }
+
+    @Test
+    void acceptPayloadNotMatchingPayloadPredicate() {
+        final String payload = "{\"id\":\"44\",\"content\":\"hello\",\"mentions\":[]}";
+        final Event event = new Event(List.of(), "update", payload);
+        doNothing().when(logger).debug("Processing payload:\n{}", payload);
+        doNothing().when(logger).debug("Payload not matching criteria");
+
+        eventStatusConsumer = new EventStatusConsumer(statusConsumer, status -> true,
+                EventStatusConsumer.payloadContainingAny(List.of("devoxx", "reinhapa")));
+        assertThatNoException().isThrownBy(() -> eventStatusConsumer.accept(event));
+    }
+
+    @Test
+    void acceptPayloadMatchingPayloadPredicate() {
+        final String payload = "{\"id\":\"45\",\"content\":\"hello @DevoXX\",\"mentions\":[]}";
+        final Event event = new Event(List.of(), "update", payload);
+        doNothing().when(logger).debug("Processing payload:\n{}", payload);
+        doNothing().when(statusConsumer).accept(createStatus("45", "hello @DevoXX"));
+
+        eventStatusConsumer = new EventStatusConsumer(statusConsumer, status -> true,
+                EventStatusConsumer.payloadContainingAny(List.of("devoxx", "reinhapa")));
+        assertThatNoException().isThrownBy(() -> eventStatusConsumer.accept(event));
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpTimelinePagesTest {
+    HttpTimelinePages pages = new HttpTimelinePages(HttpClient.newHttpClient(), "https://mastodon.social/", "token");
+
+    @Test
+    void uriWithoutBounds() {
+        assertThat(pages.uri("/api/v1/timelines/tag/java", null, null, 40))
+                .isEqualTo(URI.create("https://mastodon.social/api/v1/timelines/tag/java?limit=40"));
+    }
+
+    @Test
+    void uriWithBounds() {
+        assertThat(pages.uri("/api/v1/accounts/42/statuses", "4711", "4242", 20))
+                .isEqualTo(URI.create("https://mastodon.social/api/v1/accounts/42/statuses?limit=20&max_id=4711&since_id=4242"));
+    }
+
+    @Test
+    void encode() {
+        assertThat(HttpTimelinePages.encode("Grüezi")).isEqualTo("Gr%C3%BCezi");
+    }
+}
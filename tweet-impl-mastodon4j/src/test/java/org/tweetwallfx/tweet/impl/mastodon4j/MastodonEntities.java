@@ -27,6 +27,7 @@ import org.mastodon4j.core.api.entities.Account;
 import org.mastodon4j.core.api.entities.Search;
 import org.mastodon4j.core.api.entities.Status;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public class MastodonEntities {
@@ -54,7 +55,15 @@ public class MastodonEntities {
     }
 
     public static Status createStatus(String id, String content, Account account, List<Status.Mention> mentions) {
-        return new Status(id, null, null, account, content, null, null,
+        return createStatus(id, content, account, mentions, null);
+    }
+
+    public static Status createStatus(String id, ZonedDateTime createdAt) {
+        return createStatus(id, "status " + id, null, List.of(), createdAt);
+    }
+
+    public static Status createStatus(String id, String content, Account account, List<Status.Mention> mentions, ZonedDateTime createdAt) {
+        return new Status(id, null, createdAt, account, content, null, null,
                 null, null, null, mentions, null, null,
                 null, null, null, null, null, null,
                 null, null, null, null, null, null, null, null,
@@ -62,6 +71,10 @@ public class MastodonEntities {
     }
 
     public static Search createSearch() {
-        return new Search(List.of(), List.of(), List.of());
+        return createSearch(List.of());
+    }
+
+    public static Search createSearch(List<Account> accounts) {
+        return new Search(accounts, List.of(), List.of());
     }
 }
@@ -25,9 +25,11 @@ package org.tweetwallfx.tweet.impl.mastodon4j;
 
 import org.junit.jupiter.api.Test;
 import org.mastodon4j.core.api.entities.Status;
+import org.tweetwallfx.tweet.api.Tweet;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -45,6 +47,23 @@ class MastodonStatusTest {
             null, null, null, null, "english", null, null,
             null, null, null, null, null, null));
 
+    MastodonStatus statusWithEntities = new MastodonStatus(new Status("44", null, createdAt,
+            MastodonEntities.createAccount("7", "jane"),
+            "<p><span class=\"h-card\"><a href=\"https://mastodon.social/@john\" class=\"u-url mention\">@<span>john</span></a></span>"
+                    + " look at <a href=\"https://mastodon.social/tags/java\" class=\"mention hashtag\" rel=\"tag\">#<span>java</span></a>"
+                    + " on <a href=\"https://example.com/some/long/path\" rel=\"nofollow noopener\"><span class=\"invisible\">https://</span>"
+                    + "<span class=\"ellipsis\">example.com/some</span><span class=\"invisible\">/long/path</span></a></p>",
+            null, null, null, null, null,
+            List.of(new Status.Mention("12", "john", "https://mastodon.social/@john", "john@mastodon.social")),
+            null, null, 1, 2, null, null, null, null, null, null, null, "english",
+            null, null, null, null, null, null, null, null));
+
+    MastodonStatus reblog = new MastodonStatus(new Status("45", null, createdAt, null,
+            "", null, null, null, null, null, null,
+            null, null, 0, 0, null, null, null,
+            null, MastodonEntities.createStatus("46", "<p>the original</p>"), null, null, "english", null, null,
+            null, true, null, null, null, null));
+
     @Test
     void getCreatedAt() {
         assertThat(status.getCreatedAt()).isEqualTo(createdAt.toLocalDateTime());
@@ -158,4 +177,60 @@ class MastodonStatusTest {
         assertThat(status.getUserMentionEntries()).isNotNull().isEmpty();
         assertThat(statusWithoutOptionals.getUserMentionEntries()).isNotNull().isEmpty();
     }
+
+    @Test
+    void retweetedTweetIsConvertedOnce() {
+        final Tweet retweeted = reblog.getRetweetedTweet();
+
+        assertThat(retweeted).isInstanceOf(MastodonStatus.class);
+        assertThat(retweeted.getId()).isEqualTo(46L);
+        assertThat(retweeted.getText()).isEqualTo("the original");
+        assertThat(reblog.getRetweetedTweet()).isSameAs(retweeted);
+        assertThat(reblog.getOriginTweet()).isSameAs(retweeted);
+        assertThat(reblog.getUser()).isSameAs(reblog.getUser());
+    }
+
+    @Test
+    void entriesAreParsedFromContent() {
+        assertThat(statusWithEntities.getText()).isEqualTo("@john look at #java on https://example.com/some/long/path");
+
+        assertThat(statusWithEntities.getUserMentionEntries()).singleElement().satisfies(mention -> {
+            assertThat(mention.getId()).isEqualTo(12L);
+            assertThat(mention.getName()).isEqualTo("john");
+            assertThat(mention.getScreenName()).isEqualTo("john@mastodon.social");
+            assertThat(mention.getStart()).isZero();
+            assertThat(mention.getEnd()).isEqualTo(5);
+        });
+        assertThat(statusWithEntities.getHashtagEntries()).singleElement().satisfies(hashtag -> {
+            assertThat(hashtag.getText()).isEqualTo("java");
+            assertThat(hashtag.getStart()).isEqualTo(14);
+            assertThat(hashtag.getEnd()).isEqualTo(19);
+        });
+        assertThat(statusWithEntities.getUrlEntries()).singleElement().satisfies(url -> {
+            assertThat(url.getURL()).isEqualTo("https://example.com/some/long/path");
+            assertThat(url.getDisplayURL()).isEqualTo("example.com/some");
+            assertThat(url.getStart()).isEqualTo(23);
+            assertThat(url.getEnd()).isEqualTo(57);
+        });
+        assertThat(statusWithEntities.getDisplayEnhancedText()).isEqualTo("@john look at #java on");
+        assertThat(statusWithEntities.getUser().getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void entryArraysAreNotShared() {
+        statusWithEntities.getUserMentionEntries()[0] = null;
+        statusWithEntities.getHashtagEntries()[0] = null;
+        statusWithEntities.getUrlEntries()[0] = null;
+
+        assertThat(statusWithEntities.getUserMentionEntries()).doesNotContainNull();
+        assertThat(statusWithEntities.getHashtagEntries()).doesNotContainNull();
+        assertThat(statusWithEntities.getUrlEntries()).doesNotContainNull();
+    }
+
+    @Test
+    void malformedIdsAreTreatedAsMissing() {
+        assertThat(MastodonStatus.parseOptionalId("12")).hasValue(12L);
+        assertThat(MastodonStatus.parseOptionalId(null)).isEmpty();
+        assertThat(MastodonStatus.parseOptionalId("not-a-number")).isEmpty();
+    }
 }
@@ -39,6 +39,8 @@ import org.mastodon4j.core.api.entities.Event;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.SearchCompletion;
+import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
 import org.tweetwallfx.tweet.api.User;
@@ -59,6 +61,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -87,13 +90,15 @@ class MastodonTweeterTest {
     TweetQuery tweetQuery;
     @Mock(name = "filterQuery")
     TweetFilterQuery filterQuery;
+    @Mock(name = "timelinePages")
+    TimelinePages timelinePages;
     MastodonSettings settings;
     MastodonTweeter tweeter;
 
     @BeforeEach
     void prepare() {
         MastodonSettings.OAuth oauth = new MastodonSettings.OAuth(ACCESS_TOKEN_VALUE);
-        settings = new MastodonSettings(false, true, "https://mastodon.social", oauth);
+        settings = new MastodonSettings(false, true, "https://mastodon.social", oauth, null, null);
         tweeter = new MastodonTweeter(settings, s -> client);
 
         verify(logger).debug("Initializing with configuration: {}", settings);
@@ -101,7 +106,7 @@ class MastodonTweeterTest {
 
     @AfterEach
     void verifyMocks() {
-        verifyNoMoreInteractions(logger, client, statuses, accounts, user, streaming, eventStream, tweetQuery, filterQuery);
+        verifyNoMoreInteractions(logger, client, statuses, accounts, user, streaming, eventStream, tweetQuery, filterQuery, timelinePages);
     }
 
     @Test
@@ -113,7 +118,7 @@ class MastodonTweeterTest {
     void isEnabled() {
         assertThat(tweeter.isEnabled()).isTrue();
         MastodonSettings.OAuth oauth = new MastodonSettings.OAuth(ACCESS_TOKEN_VALUE);
-        MastodonSettings disabledSettings = new MastodonSettings(false, false, null, oauth);
+        MastodonSettings disabledSettings = new MastodonSettings(false, false, null, oauth, null, null);
         MastodonTweeter disabledTweeter = new MastodonTweeter(disabledSettings, s -> client);
 
         assertThat(disabledTweeter.isEnabled()).isFalse();
@@ -195,17 +200,89 @@ class MastodonTweeterTest {
         when(client.search(BaseMastodonApi.QueryOptions.of("@reinhapa").type(ACCOUNTS))).thenReturn(createSearch());
 
         assertThat(tweeter.search(tweetQuery)).isEmpty();
+        verify(tweetQuery).getCount();
+        verify(tweetQuery).getMaxId();
+        verify(tweetQuery).getSinceId();
     }
 
     @Test
     void searchPaged() {
         doNothing().when(logger).debug("searchPaged({}, {})", tweetQuery, 22);
         when(tweetQuery.getQuery()).thenReturn("#javaIsFun @reinhapa");
-        when(client.search(BaseMastodonApi.QueryOptions.of("#javaIsFun").type(HASHTAGS).limit(22))).thenReturn(createSearch());
-        when(client.search(BaseMastodonApi.QueryOptions.of("@reinhapa").type(ACCOUNTS).limit(22))).thenReturn(createSearch());
+        when(client.search(BaseMastodonApi.QueryOptions.of("#javaIsFun").type(HASHTAGS))).thenReturn(createSearch());
+        when(client.search(BaseMastodonApi.QueryOptions.of("@reinhapa").type(ACCOUNTS))).thenReturn(createSearch());
 
         assertThat(tweeter.searchPaged(tweetQuery, 22)).isEmpty();
         verify(logger).debug("Initializing with configuration: {}", settings);
+        verify(tweetQuery).getCount();
+        verify(tweetQuery).getMaxId();
+        verify(tweetQuery).getSinceId();
+    }
+
+    @Test
+    void searchPagedFollowsMaxId() {
+        final String timeline = "/api/v1/accounts/42/statuses";
+        tweeter = new MastodonTweeter(settings, s -> client, s -> timelinePages);
+        doNothing().when(logger).debug("searchPaged({}, {})", tweetQuery, 3);
+        when(tweetQuery.getQuery()).thenReturn("@johnDoe");
+        when(tweetQuery.getCount()).thenReturn(2);
+        when(client.search(BaseMastodonApi.QueryOptions.of("@johnDoe").type(ACCOUNTS)))
+                .thenReturn(createSearch(List.of(createAccount("42", "johnDoe"))));
+        when(timelinePages.fetch(timeline, null, null, 2)).thenReturn(List.of(createStatus("5", "five"), createStatus("4", "four")));
+        when(timelinePages.fetch(timeline, "4", null, 2)).thenReturn(List.of(createStatus("3", "three")));
+
+        final SearchCompletion completion = new SearchCompletion();
+        assertThat(tweeter.searchPaged(tweetQuery, 3, completion)).extracting(Tweet::getId).containsExactly(5L, 4L, 3L);
+        assertThat(completion.isComplete()).isTrue();
+        verify(logger, times(2)).debug("Initializing with configuration: {}", settings);
+        verify(tweetQuery).getMaxId();
+        verify(tweetQuery).getSinceId();
+    }
+
+    @Test
+    void searchIncrementallyFetchesNewerStatusesOnly() {
+        final String timeline = "/api/v1/accounts/42/statuses";
+        final MastodonSettings incrementalSettings = new MastodonSettings(false, true, "https://mastodon.social",
+                settings.oauth(), null, new MastodonSettings.Search(2, 2, true));
+        tweeter = new MastodonTweeter(incrementalSettings, s -> client, s -> timelinePages);
+        doNothing().when(logger).debug("search({})", tweetQuery);
+        when(tweetQuery.getQuery()).thenReturn("@johnDoe");
+        when(client.search(BaseMastodonApi.QueryOptions.of("@johnDoe").type(ACCOUNTS)))
+                .thenReturn(createSearch(List.of(createAccount("42", "johnDoe"))));
+        when(timelinePages.fetch(timeline, null, null, 2)).thenReturn(List.of(createStatus("2", "two"), createStatus("1", "one")));
+        when(timelinePages.fetch(timeline, null, "2", 2)).thenReturn(List.of(createStatus("3", "three")));
+
+        assertThat(tweeter.search(tweetQuery)).extracting(Tweet::getId).containsExactly(2L, 1L);
+        assertThat(tweeter.search(tweetQuery)).extracting(Tweet::getId).containsExactly(3L, 2L);
+        verify(logger).debug("Initializing with configuration: {}", incrementalSettings);
+        verify(logger).debug("Fetched {} new statuses of {}", 2, timeline);
+        verify(logger).debug("Fetched {} new statuses of {}", 1, timeline);
+        verify(tweetQuery, times(2)).getCount();
+        verify(tweetQuery, times(2)).getMaxId();
+        verify(tweetQuery, times(2)).getSinceId();
+    }
+
+    @Test
+    void searchKeepsResultsOfOtherTimelinesOnFailure() {
+        final AssertionError failure = new AssertionError("failed timeline");
+        final SearchCompletion completion = new SearchCompletion();
+        tweeter = new MastodonTweeter(settings, s -> client, s -> timelinePages);
+        doNothing().when(logger).debug("searchPaged({}, {})", tweetQuery, 1);
+        when(tweetQuery.getQuery()).thenReturn("@johnDoe @janeDoe");
+        when(client.search(BaseMastodonApi.QueryOptions.of("@johnDoe").type(ACCOUNTS)))
+                .thenReturn(createSearch(List.of(createAccount("42", "johnDoe"))));
+        when(client.search(BaseMastodonApi.QueryOptions.of("@janeDoe").type(ACCOUNTS)))
+                .thenReturn(createSearch(List.of(createAccount("43", "janeDoe"))));
+        when(timelinePages.fetch("/api/v1/accounts/42/statuses", null, null, 40)).thenThrow(failure);
+        when(timelinePages.fetch("/api/v1/accounts/43/statuses", null, null, 40)).thenReturn(List.of(createStatus("7", "seven")));
+        doNothing().when(logger).error("Unexpected failure on backend", failure);
+
+        assertThat(tweeter.searchPaged(tweetQuery, 1, completion)).extracting(Tweet::getId).containsExactly(7L);
+        assertThat(completion.isComplete()).isFalse();
+        verify(logger, times(2)).debug("Initializing with configuration: {}", settings);
+        verify(tweetQuery).getCount();
+        verify(tweetQuery).getMaxId();
+        verify(tweetQuery).getSinceId();
     }
 
     @Test
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mastodon4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mastodon4j.core.api.EventStream;
+import org.mastodon4j.core.api.entities.Status;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.tweetwallfx.tweet.impl.mastodon4j.MastodonEntities.createStatus;
+
+@MockitoSettings
+class StatusSubscriptionTest {
+    static final ZonedDateTime NOW = ZonedDateTime.of(2026, 10, 18, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock(name = "org.tweetwallfx.tweet.impl.mastodon4j.StatusSubscription")
+    Logger logger;
+    @Mock(name = "firstStream")
+    EventStream firstStream;
+    @Mock(name = "secondStream")
+    EventStream secondStream;
+    @Mock(name = "disconnector")
+    Consumer<EventStream> disconnector;
+
+    final List<Status> delivered = new ArrayList<>();
+    final List<Status> timeline = new ArrayList<>();
+    final Deque<EventStream> streams = new ArrayDeque<>();
+    Consumer<Consumer<Status>> onConnect = consumer -> {
+    };
+    StatusSubscription subscription;
+
+    @BeforeEach
+    void prepare() {
+        streams.add(firstStream);
+        streams.add(secondStream);
+        subscription = new StatusSubscription(
+                "test",
+                consumer -> {
+                    onConnect.accept(consumer);
+                    return streams.removeFirst();
+                },
+                disconnector,
+                since -> List.copyOf(timeline),
+                status -> !status.id().startsWith("99"),
+                delivered::add,
+                Duration.ofSeconds(30),
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(logger, firstStream, secondStream, disconnector);
+    }
+
+    @Test
+    void liveStatusesAreDeliveredOnce() {
+        final Status one = createStatus("1", NOW);
+        final Status two = createStatus("2", NOW);
+
+        subscription.connect();
+        subscription.accept(one);
+        subscription.accept(two);
+        subscription.accept(one);
+
+        assertThat(delivered).containsExactly(one, two);
+        assertThat(subscription.highestIdDelivered()).isEqualTo("2");
+        verify(logger).debug("Skipping already delivered status {} of subscription {}", "1", "test");
+    }
+
+    @Test
+    void idsAreComparedNumerically() {
+        subscription.connect();
+        subscription.accept(createStatus("9", NOW));
+        subscription.accept(createStatus("10", NOW));
+        subscription.accept(createStatus("8", NOW));
+
+        assertThat(subscription.highestIdDelivered()).isEqualTo("10");
+    }
+
+    @Test
+    void checkKeepsConnectionWhenUpToDate() {
+        final Status one = createStatus("1", NOW.minusMinutes(5));
+
+        subscription.connect();
+        subscription.accept(one);
+        timeline.add(createStatus("2", NOW.minusSeconds(10)));
+        timeline.add(createStatus("9901", NOW.minusMinutes(2)));
+        timeline.add(one);
+        subscription.check();
+
+        assertThat(delivered).containsExactly(one);
+        assertThat(streams).containsExactly(secondStream);
+        verify(logger).debug("Subscription {} is up to date at {}", "test", "1");
+    }
+
+    @Test
+    void checkReconnectsAndBackfillsMissedStatuses() {
+        final Status one = createStatus("1", NOW.minusMinutes(5));
+        final Status two = createStatus("2", NOW.minusMinutes(2));
+        final Status three = createStatus("3", NOW.minusMinutes(1));
+        final Status four = createStatus("4", NOW);
+
+        subscription.connect();
+        subscription.accept(one);
+        timeline.add(three);
+        timeline.add(two);
+        timeline.add(one);
+        onConnect = consumer -> {
+            consumer.accept(three);
+            consumer.accept(four);
+        };
+        subscription.check();
+
+        assertThat(delivered).containsExactly(one, two, three, four);
+        assertThat(subscription.highestIdDelivered()).isEqualTo("4");
+        verify(logger).warn("Subscription {} missed {} statuses, reconnecting", "test", 2L);
+        verify(disconnector).accept(firstStream);
+        verify(logger).info("Backfilling {} statuses for subscription {} after {}", 2, "test", "1");
+        verify(logger).debug("Skipping already delivered status {} of subscription {}", "3", "test");
+    }
+
+    @Test
+    void checkReconnectsClosedSubscription() {
+        subscription.connect();
+        subscription.close();
+        timeline.add(createStatus("1", NOW.minusHours(1)));
+        subscription.check();
+
+        assertThat(delivered).isEmpty();
+        assertThat(streams).isEmpty();
+        verify(disconnector).accept(firstStream);
+        verify(logger).info("Subscription {} is not connected, reconnecting", "test");
+        verify(logger).info("Backfilling {} statuses for subscription {} after {}", 0, "test", null);
+    }
+
+    @Test
+    void checkSurvivesTimelineFailure() {
+        final IllegalStateException problem = new IllegalStateException("offline");
+        subscription = new StatusSubscription(
+                "test",
+                consumer -> firstStream,
+                disconnector,
+                since -> {
+                    throw problem;
+                },
+                status -> true,
+                delivered::add,
+                Duration.ofSeconds(30),
+                Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+
+        subscription.connect();
+        subscription.check();
+
+        assertThat(delivered).isEmpty();
+        verify(logger).error("Failed to query timeline of subscription {}", "test", problem);
+        verify(logger).debug("Subscription {} is up to date at {}", "test", null);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Generator of the posts of the load generation mode of {@link MockTweeter}.
+ *
+ * <p>
+ * Post contents are derived from a seeded {@link SplittableRandom} and a fixed
+ * vocabulary only, so the same settings always produce the same sequence of
+ * posts. The number of posts to generate is derived from the time passed
+ * since the previous call of {@link #generate(Consumer)} and the rate in
+ * effect, so that high rates are reached by generating several posts per
+ * call.
+ *
+ * <p>
+ * Instances are not thread safe and are expected to be driven by a single
+ * scheduled task.
+ */
+final class LoadGenerator {
+
+    /**
+     * The interval in milliseconds in which {@link #generate(Consumer)} is
+     * expected to be called.
+     */
+    static final long TICK_MILLIS = 10;
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final String DEFAULT_HASHTAG = "TweetWallFX";
+    private static final String[] WORDS = {
+        "java", "keynote", "talk", "session", "great", "demo", "conference", "speaker", "community", "code",
+        "today", "awesome", "learning", "hallway", "coffee", "slides", "live", "stage", "questions", "release",
+        "virtual", "threads", "records", "patterns", "native", "cloud", "performance", "garbage", "collector", "wall"};
+    private static final String[] EMOJIS = IntStream.of(0x1F389, 0x2615, 0x1F680, 0x1F44D, 0x1F525, 0x1F600, 0x2764)
+            .mapToObj(Character::toString)
+            .toArray(String[]::new);
+
+    private final MockSettings.Load load;
+    private final List<String> hashtags;
+    private final LongSupplier ids;
+    private final LongSupplier nanoTime;
+    private final SplittableRandom random;
+    private final List<User> users;
+    private boolean started = false;
+    private long startNanos;
+    private long lastNanos;
+    private double credit;
+    private long generated;
+
+    LoadGenerator(final MockSettings.Load load, final List<String> hashtags, final LongSupplier ids, final LongSupplier nanoTime) {
+        this.load = load;
+        this.hashtags = hashtags.isEmpty() ? List.of(DEFAULT_HASHTAG) : List.copyOf(hashtags);
+        this.ids = ids;
+        this.nanoTime = nanoTime;
+        this.random = new SplittableRandom(load.seed());
+        this.users = IntStream.range(0, load.users())
+                .mapToObj(this::createUser)
+                .toList();
+    }
+
+    /**
+     * Generates the posts due since the previous call and passes them to the
+     * given consumer.
+     *
+     * @param consumer the consumer of the generated posts
+     *
+     * @return {@code false} once the configured maximum number of posts has
+     * been generated
+     */
+    boolean generate(final Consumer<Tweet> consumer) {
+        final long now = nanoTime.getAsLong();
+
+        if (!started) {
+            started = true;
+            startNanos = now;
+            lastNanos = now;
+        }
+
+        credit += rate((lastNanos - startNanos) / 1e9) * (now - lastNanos) / 1e9;
+        lastNanos = now;
+
+        while (credit >= 1 && !isExhausted()) {
+            credit -= 1;
+            generated++;
+            consumer.accept(next(nanoTime.getAsLong()));
+        }
+
+        return !isExhausted();
+    }
+
+    /**
+     * Provides the rate in effect at the given time.
+     *
+     * @param elapsedSeconds the seconds elapsed since the start of the
+     * generation
+     *
+     * @return the rate in posts per second
+     */
+    double rate(final double elapsedSeconds) {
+        return load.bursts().stream()
+                .filter(burst -> burst.isActive(elapsedSeconds))
+                .mapToDouble(MockSettings.Load.Burst::postsPerSecond)
+                .max()
+                .orElse(load.postsPerSecond());
+    }
+
+    /**
+     * Creates the next post.
+     *
+     * @param producedAtNanos the {@link System#nanoTime()} of the production
+     *
+     * @return the next post
+     */
+    LoadPost next(final long producedAtNanos) {
+        final boolean retweet = random.nextDouble() < load.retweetRatio();
+        final LoadPost post = createPost(producedAtNanos);
+
+        if (!retweet) {
+            return post;
+        }
+
+        final String prefix = "RT @%s: ".formatted(post.user().getScreenName());
+        final List<HashtagTweetEntry> hashtagEntries = post.hashtagEntries().stream()
+                .<HashtagTweetEntry>map(hte -> new LoadPost.Hashtag(hte.getText(), hte.getStart() + prefix.length(), hte.getEnd() + prefix.length()))
+                .toList();
+        return new LoadPost(ids.getAsLong(), prefix + post.text(), randomUser(), post.createdAt(), producedAtNanos,
+                post, 0, 0, hashtagEntries, post.mediaEntries());
+    }
+
+    private LoadPost createPost(final long producedAtNanos) {
+        final StringBuilder text = new StringBuilder();
+        final int words = 6 + random.nextInt(11);
+
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        List<HashtagTweetEntry> hashtagEntries = List.of();
+        if (random.nextDouble() < load.hashtagRatio()) {
+            final String hashtag = hashtags.get(random.nextInt(hashtags.size()));
+            text.append(' ');
+            final int start = text.length();
+            text.append('#').append(hashtag);
+            hashtagEntries = List.of(new LoadPost.Hashtag(hashtag, start, text.length()));
+        }
+
+        if (random.nextDouble() < load.emojiRatio()) {
+            text.append(' ').append(EMOJIS[random.nextInt(EMOJIS.length)]);
+        }
+
+        final List<MediaTweetEntry> mediaEntries = random.nextDouble() < load.mediaRatio()
+                ? List.of(new MockPostMedia(random.nextInt(500), 300 + random.nextInt(1300), 200 + random.nextInt(1000)))
+                : List.of();
+
+        return new LoadPost(ids.getAsLong(), text.toString(), randomUser(), LocalDateTime.now(UTC), producedAtNanos,
+                null, random.nextInt(10), random.nextInt(10), hashtagEntries, mediaEntries);
+    }
+
+    private User randomUser() {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    private User createUser(final int userId) {
+        final int portraitId = userId % 100;
+        final String gender = userId % 200 < 100 ? "women" : "men";
+        return new MockUser(userId, "en", "Load User %d".formatted(userId), "loaduser%d".formatted(userId),
+                random.nextInt(10_000), random.nextInt(10) == 0,
+                "https://randomuser.me/api/portraits/med/%s/%d.jpg".formatted(gender, portraitId),
+                "https://randomuser.me/api/portraits/%s/%d.jpg".formatted(gender, portraitId));
+    }
+
+    private boolean isExhausted() {
+        return 0 != load.maxPosts() && generated >= load.maxPosts();
+    }
+}
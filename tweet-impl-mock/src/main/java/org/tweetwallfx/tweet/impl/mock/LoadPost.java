@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
+import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Post created by the load generation mode of {@link MockTweeter}.
+ *
+ * <p>
+ * Besides the wall clock creation time each post carries the
+ * {@link System#nanoTime()} of its production, allowing to measure the
+ * latency through the pipeline via {@link #latencyNanos(Tweet)}.
+ */
+public record LoadPost(long id, String text, User user, LocalDateTime createdAt, long producedAtNanos,
+                       LoadPost retweetedPost, int favoriteCount, int retweetCount,
+                       List<HashtagTweetEntry> hashtagEntries,
+                       List<MediaTweetEntry> mediaEntries) implements Tweet {
+
+    /**
+     * Provides the nanoseconds passed since the production of the given tweet
+     * by the load generation mode.
+     *
+     * @param tweet the tweet to check
+     *
+     * @return the latency in nanoseconds or an empty OptionalLong if the tweet
+     * was not created by the load generation mode
+     */
+    public static OptionalLong latencyNanos(final Tweet tweet) {
+        return tweet instanceof final LoadPost loadPost
+                ? OptionalLong.of(System.nanoTime() - loadPost.producedAtNanos())
+                : OptionalLong.empty();
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return favoriteCount;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public long getInReplyToTweetId() {
+        return -1;
+    }
+
+    @Override
+    public long getInReplyToUserId() {
+        return -1;
+    }
+
+    @Override
+    public String getInReplyToScreenName() {
+        return null;
+    }
+
+    @Override
+    public String getLang() {
+        return "en";
+    }
+
+    @Override
+    public int getRetweetCount() {
+        return retweetCount;
+    }
+
+    @Override
+    public Tweet getRetweetedTweet() {
+        return retweetedPost;
+    }
+
+    @Override
+    public Tweet getOriginTweet() {
+        return isRetweet() ? retweetedPost.getOriginTweet() : this;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public User getUser() {
+        return user;
+    }
+
+    @Override
+    public boolean isRetweet() {
+        return null != retweetedPost;
+    }
+
+    @Override
+    public boolean isTruncated() {
+        return false;
+    }
+
+    @Override
+    public HashtagTweetEntry[] getHashtagEntries() {
+        return hashtagEntries.toArray(HashtagTweetEntry[]::new);
+    }
+
+    @Override
+    public MediaTweetEntry[] getMediaEntries() {
+        return mediaEntries.toArray(MediaTweetEntry[]::new);
+    }
+
+    @Override
+    public SymbolTweetEntry[] getSymbolEntries() {
+        return new SymbolTweetEntry[0];
+    }
+
+    @Override
+    public UrlTweetEntry[] getUrlEntries() {
+        return new UrlTweetEntry[0];
+    }
+
+    @Override
+    public UserMentionTweetEntry[] getUserMentionEntries() {
+        return new UserMentionTweetEntry[0];
+    }
+
+    record Hashtag(String text, int start, int end) implements HashtagTweetEntry {
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public int getStart() {
+            return start;
+        }
+
+        @Override
+        public int getEnd() {
+            return end;
+        }
+    }
+}
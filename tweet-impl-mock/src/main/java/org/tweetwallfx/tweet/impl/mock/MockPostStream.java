@@ -26,29 +26,33 @@ package org.tweetwallfx.tweet.impl.mock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetDispatcher;
 import org.tweetwallfx.tweet.api.TweetStream;
 
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 final class MockPostStream implements TweetStream, Consumer<Tweet> {
     private static final Logger LOGGER = LoggerFactory.getLogger(MockPostStream.class);
 
-    private final CopyOnWriteArrayList<Consumer<Tweet>> consumers;
+    private final TweetDispatcher dispatcher;
 
     MockPostStream() {
-        consumers = new CopyOnWriteArrayList<>();
+        dispatcher = new TweetDispatcher();
     }
 
     @Override
     public void onTweet(Consumer<Tweet> tweetConsumer) {
         LOGGER.debug("onTweet({})", tweetConsumer);
-        consumers.add(tweetConsumer);
+        dispatcher.add(tweetConsumer);
     }
 
     @Override
     public void accept(Tweet post) {
         LOGGER.debug("Notify post:\n{}", post);
-        consumers.forEach(tweetConsumer -> tweetConsumer.accept(post));
+        dispatcher.accept(post);
+    }
+
+    void close() {
+        dispatcher.close();
     }
 }
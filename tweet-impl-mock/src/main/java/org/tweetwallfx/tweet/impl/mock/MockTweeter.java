@@ -38,13 +38,11 @@ import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
@@ -53,7 +51,6 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
-import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -63,11 +60,14 @@ public class MockTweeter implements Tweeter {
     private static final Logger LOGGER = LoggerFactory.getLogger(MockTweeter.class);
     private static final Faker FAKER = new Faker();
     private static final AtomicLong ID = new AtomicLong();
+    // results per page if a query does not define it, as with the Twitter API
+    private static final int DEFAULT_COUNT = 15;
 
     private final MockSettings settings;
     private final ScheduledExecutorService executor;
     private final List<Consumer<Tweet>> postConsumers;
-    private final Set<PostEntry> posts;
+    private final List<MockPostStream> postStreams;
+    private final PostStore posts;
     private final Map<Integer, User> users;
     private ScheduledFuture<?> postTask;
 
@@ -84,8 +84,9 @@ public class MockTweeter implements Tweeter {
         this.settings = settings;
         this.executor = executor;
         this.postConsumers = new CopyOnWriteArrayList<>();
+        this.postStreams = new CopyOnWriteArrayList<>();
         this.users = new ConcurrentHashMap<>();
-        this.posts = Collections.synchronizedSet(new TreeSet<>());
+        this.posts = new PostStore();
         initializePosts();
     }
 
@@ -97,7 +98,12 @@ public class MockTweeter implements Tweeter {
     }
 
     private synchronized void initializePostsTask() {
-        if (postTask == null) {
+        if (postTask == null && settings.load().enabled()) {
+            final LoadGenerator generator = new LoadGenerator(settings.load(), settings.hashtags(), ID::incrementAndGet, System::nanoTime);
+            LOGGER.info("Starting load generation with {}", settings.load());
+            postTask = executor.scheduleAtFixedRate(() -> generateLoad(generator),
+                    LoadGenerator.TICK_MILLIS, LoadGenerator.TICK_MILLIS, TimeUnit.MILLISECONDS);
+        } else if (postTask == null) {
             long time = settings.postInterval().longValue();
             LOGGER.debug("Starting post task with {} second interval", time);
             postTask = executor.scheduleWithFixedDelay(this::simulatePost, time, time, TimeUnit.SECONDS);
@@ -107,9 +113,30 @@ public class MockTweeter implements Tweeter {
     private void simulatePost() {
         final Tweet post = createPost();
         LOGGER.debug("Simulate post {}", post);
-        posts.add(new PostEntry(post));
+        posts.add(post);
         postConsumers.forEach(postConsumer -> postConsumer.accept(post));
     }
+
+    private void generateLoad(final LoadGenerator generator) {
+        if (!generator.generate(this::publishLoadPost)) {
+            LOGGER.info("Load generation finished after {} posts", settings.load().maxPosts());
+            cancelPostTask();
+        }
+    }
+
+    private synchronized void cancelPostTask() {
+        if (postTask != null) {
+            postTask.cancel(false);
+        }
+    }
+
+    private void publishLoadPost(final Tweet post) {
+        if (settings.load().retainPosts()) {
+            posts.add(post);
+        }
+        postConsumers.forEach(postConsumer -> postConsumer.accept(post));
+    }
+
     static int limitUserId(int userId) {
         if (userId > 199) {
             userId = userId % 200;
@@ -170,6 +197,7 @@ public class MockTweeter implements Tweeter {
         LOGGER.debug("createTweetStream({})", filterQuery);
         initializePostsTask();
         final MockPostStream statusStream = new MockPostStream();
+        postStreams.add(statusStream);
         final Map<TrackType, List<String>> trackTypeListMap = Stream.of(filterQuery.getTrack())
                 .collect(Collectors.groupingBy(this::trackType, () -> new EnumMap<>(TrackType.class), Collectors.toList()));
         trackTypeListMap.forEach((trackType, values) -> {
@@ -221,10 +249,7 @@ public class MockTweeter implements Tweeter {
     @Override
     public Tweet getTweet(long postId) {
         LOGGER.debug("getTweet({})", postId);
-        return posts.stream()
-                .filter(postEntry -> postEntry.test(postId))
-                .map(PostEntry::tweet)
-                .findFirst().orElseGet(() -> createPost(postId));
+        return posts.get(postId).orElseGet(() -> createPost(postId));
     }
 
     @Override
@@ -272,20 +297,18 @@ public class MockTweeter implements Tweeter {
     @Override
     public Stream<Tweet> search(TweetQuery tweetQuery) {
         LOGGER.debug("search({})", tweetQuery);
-        final String query = tweetQuery.getQuery();
-        System.out.println(query); //TODO
-        return posts.stream()
-                .map(PostEntry::tweet);
+        return search(tweetQuery, 1);
     }
 
     @Override
     public Stream<Tweet> searchPaged(TweetQuery tweetQuery, int numberOfPages) {
         LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
-        final String query = tweetQuery.getQuery();
-        System.out.println(query); //TODO
-        return posts.stream()
-                .map(PostEntry::tweet)
-                .limit(numberOfPages);
+        return search(tweetQuery, numberOfPages);
+    }
+
+    private Stream<Tweet> search(final TweetQuery tweetQuery, final int numberOfPages) {
+        final int count = Objects.requireNonNullElse(tweetQuery.getCount(), DEFAULT_COUNT);
+        return posts.search(tweetQuery.getQuery(), tweetQuery.getSinceId(), tweetQuery.getMaxId(), (long) count * numberOfPages);
     }
 
     @Override
@@ -302,22 +325,8 @@ public class MockTweeter implements Tweeter {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             LOGGER.error("Termination interrupted", e);
-        }
-    }
-
-    private record PostEntry(Tweet tweet) implements Comparable<PostEntry>, LongPredicate {
-        @Override
-        public int compareTo(PostEntry other) {
-            int rc = tweet.getCreatedAt().compareTo(other.tweet.getCreatedAt());
-            if (rc == 0) {
-                return Long.compare(tweet.getId(), other.tweet.getId());
-            }
-            return rc;
-        }
-
-        @Override
-        public boolean test(long value) {
-            return tweet.getId() == value;
+        } finally {
+            postStreams.forEach(MockPostStream::close);
         }
     }
 }
@@ -0,0 +1,288 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.entry.HashtagTweetEntry;
+import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Indexed in-memory store of the posts of {@link MockTweeter}.
+ *
+ * <p>
+ * Posts are indexed by id, by creation time and by the hashtags and user
+ * mentions they contain. Searches are evaluated newest first and lazily: an
+ * alternative of the query containing a hashtag or mention only walks the
+ * smallest matching posting list, id bounds are applied as ranges of the time
+ * index.
+ *
+ * <p>
+ * Queries consist of alternatives separated by {@code OR}, the whitespace
+ * separated terms of an alternative all have to match. Terms starting with
+ * {@code #} or {@code @} match hashtags or mentions, the filters
+ * {@link TweetQuery#QUERY_FILTER_MEDIA} and
+ * {@link TweetQuery#QUERY_FILTER_LINKS} match posts with media or links and
+ * any other term matches a case insensitive part of the text.
+ */
+final class PostStore {
+
+    private static final Pattern OR = Pattern.compile("\\s+OR\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern INDEXED_TERM = Pattern.compile("[#@][\\p{L}\\p{N}_]+");
+
+    private final Map<Long, Tweet> postsById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<PostKey, Tweet> postsByTime = new ConcurrentSkipListMap<>();
+    private final Map<String, NavigableSet<PostKey>> postsByTerm = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given post unless a post with the same id is already stored.
+     *
+     * @param post the post to add
+     */
+    void add(final Tweet post) {
+        if (null != postsById.putIfAbsent(post.getId(), post)) {
+            return;
+        }
+
+        final PostKey key = PostKey.of(post);
+        postsByTime.put(key, post);
+        indexedTerms(post).forEach(term -> postsByTerm
+                .computeIfAbsent(term, t -> new ConcurrentSkipListSet<>())
+                .add(key));
+    }
+
+    Optional<Tweet> get(final long postId) {
+        return Optional.ofNullable(postsById.get(postId));
+    }
+
+    int size() {
+        return postsById.size();
+    }
+
+    /**
+     * Searches the posts matching the given query, newest first.
+     *
+     * @param query the query, {@code null} matching all posts
+     *
+     * @param sinceId if not {@code null} only posts with a greater id match
+     *
+     * @param maxId if not {@code null} only posts with an id not greater than
+     * this one match
+     *
+     * @param limit the maximum number of posts to return
+     *
+     * @return the matching posts
+     */
+    Stream<Tweet> search(final String query, final Long sinceId, final Long maxId, final long limit) {
+        final Predicate<PostKey> idRange = key -> (null == sinceId || key.id() > sinceId) && (null == maxId || key.id() <= maxId);
+        final PostKey upper = null == maxId ? null : get(maxId).map(PostKey::of).orElse(null);
+        final PostKey lower = null == sinceId ? null : get(sinceId).map(PostKey::of).orElse(null);
+        final List<Iterator<PostKey>> alternatives = parse(query).stream()
+                .map(alternative -> alternative.candidates(upper, lower, idRange))
+                .toList();
+
+        return StreamSupport.stream(new MergingSpliterator(alternatives), false)
+                .limit(limit)
+                .map(key -> postsById.get(key.id()));
+    }
+
+    private List<Alternative> parse(final String query) {
+        if (null == query || query.isBlank()) {
+            return List.of(new Alternative(List.of(), List.of()));
+        }
+
+        return OR.splitAsStream(query.trim())
+                .map(alternative -> {
+                    final List<String> terms = WHITESPACE.splitAsStream(alternative.trim()).toList();
+                    return new Alternative(
+                            terms.stream()
+                                    .filter(term -> INDEXED_TERM.matcher(term).matches())
+                                    .map(term -> term.toLowerCase(Locale.ROOT))
+                                    .toList(),
+                            terms.stream()
+                                    .filter(term -> !INDEXED_TERM.matcher(term).matches())
+                                    .map(PostStore::textTerm)
+                                    .toList());
+                })
+                .toList();
+    }
+
+    private static Predicate<Tweet> textTerm(final String term) {
+        if (TweetQuery.QUERY_FILTER_MEDIA.equalsIgnoreCase(term)) {
+            return post -> post.getMediaEntries().length > 0;
+        } else if (TweetQuery.QUERY_FILTER_LINKS.equalsIgnoreCase(term)) {
+            return post -> post.getUrlEntries().length > 0;
+        }
+
+        final String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        return post -> null != post.getText() && post.getText().toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
+    private static Set<String> indexedTerms(final Tweet post) {
+        final Set<String> terms = new HashSet<>();
+
+        if (null != post.getText()) {
+            INDEXED_TERM.matcher(post.getText()).results()
+                    .map(result -> result.group().toLowerCase(Locale.ROOT))
+                    .forEach(terms::add);
+        }
+
+        Arrays.stream(post.getHashtagEntries())
+                .map(HashtagTweetEntry::getText)
+                .map(text -> "#" + text.toLowerCase(Locale.ROOT))
+                .forEach(terms::add);
+        Arrays.stream(post.getUserMentionEntries())
+                .map(UserMentionTweetEntry::getScreenName)
+                .map(screenName -> "@" + screenName.toLowerCase(Locale.ROOT))
+                .forEach(terms::add);
+        return terms;
+    }
+
+    private static NavigableSet<PostKey> newestFirst(final NavigableSet<PostKey> keys, final PostKey upper, final PostKey lower) {
+        NavigableSet<PostKey> bounded = keys;
+
+        if (null != upper) {
+            bounded = bounded.headSet(upper, true);
+        }
+
+        if (null != lower) {
+            bounded = bounded.tailSet(lower, false);
+        }
+
+        return bounded.descendingSet();
+    }
+
+    private final class Alternative {
+
+        private final List<String> indexedTerms;
+        private final List<Predicate<Tweet>> textTerms;
+
+        Alternative(final List<String> indexedTerms, final List<Predicate<Tweet>> textTerms) {
+            this.indexedTerms = indexedTerms;
+            this.textTerms = textTerms;
+        }
+
+        Iterator<PostKey> candidates(final PostKey upper, final PostKey lower, final Predicate<PostKey> idRange) {
+            final List<NavigableSet<PostKey>> postingLists = indexedTerms.stream()
+                    .map(term -> postsByTerm.getOrDefault(term, new ConcurrentSkipListSet<>()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+            final NavigableSet<PostKey> candidates = postingLists.isEmpty()
+                    ? postsByTime.navigableKeySet()
+                    : postingLists.getFirst();
+            final List<NavigableSet<PostKey>> otherPostingLists = postingLists.isEmpty()
+                    ? List.of()
+                    : postingLists.subList(1, postingLists.size());
+
+            return newestFirst(candidates, upper, lower).stream()
+                    .filter(idRange)
+                    .filter(key -> otherPostingLists.stream().allMatch(postingList -> postingList.contains(key)))
+                    .filter(key -> textTerms.stream().allMatch(term -> term.test(postsById.get(key.id()))))
+                    .iterator();
+        }
+    }
+
+    /**
+     * Lazily merges the newest first candidates of several alternatives,
+     * dropping duplicates.
+     */
+    private static final class MergingSpliterator extends Spliterators.AbstractSpliterator<PostKey> {
+
+        private final PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::key).reversed());
+        private PostKey last;
+
+        MergingSpliterator(final List<Iterator<PostKey>> iterators) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            iterators.forEach(this::advance);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super PostKey> action) {
+            while (!heads.isEmpty()) {
+                final Head head = heads.poll();
+                advance(head.iterator());
+
+                if (!head.key().equals(last)) {
+                    last = head.key();
+                    action.accept(head.key());
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void advance(final Iterator<PostKey> iterator) {
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        private record Head(PostKey key, Iterator<PostKey> iterator) {
+        }
+    }
+
+    /**
+     * Key of the time index ordering posts by creation time and id.
+     */
+    record PostKey(LocalDateTime createdAt, long id) implements Comparable<PostKey> {
+
+        private static final Comparator<PostKey> COMPARATOR = Comparator
+                .comparing(PostKey::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(PostKey::id);
+
+        static PostKey of(final Tweet post) {
+            return new PostKey(post.getCreatedAt(), post.getId());
+        }
+
+        @Override
+        public int compareTo(final PostKey other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+}
@@ -41,6 +41,10 @@ import org.tweetwallfx.config.ConfigurationConverter;
  *
  * <p>
  * Param {@code postInterval} the base data directory where the static data resides.
+ *
+ * <p>
+ * Param {@code load} the settings of the load generation mode (defaults to
+ * {@link Load#DEFAULT})
  */
 public record MockSettings(
         Boolean debugEnabled,
@@ -48,7 +52,8 @@ public record MockSettings(
         Integer postInterval,
         Integer initialPosts,
         List<String> users,
-        List<String> hashtags) {
+        List<String> hashtags,
+        Load load) {
 
     public MockSettings(
             final Boolean debugEnabled,
@@ -56,13 +61,15 @@ public record MockSettings(
             final Integer postInterval,
             final Integer initialPosts,
             final List<String> users,
-            final List<String> hashtags) {
+            final List<String> hashtags,
+            final Load load) {
         this.debugEnabled = Objects.requireNonNullElse(debugEnabled, false);
         this.enabled = Objects.requireNonNullElse(enabled, true);
         this.postInterval = Objects.requireNonNullElse(postInterval, 30);
         this.initialPosts = Objects.requireNonNullElse(initialPosts, 0);
         this.users = Objects.requireNonNullElse(users, List.of());
         this.hashtags = Objects.requireNonNullElse(hashtags, List.of());
+        this.load = Objects.requireNonNullElse(load, Load.DEFAULT);
         if (Boolean.TRUE.equals(enabled) && postInterval < 2) {
             throw new IllegalArgumentException("Minimum post interval is 2 seconds");
         }
@@ -74,6 +81,165 @@ public record MockSettings(
      */
     public static final String CONFIG_KEY = "mock";
 
+    /**
+     * Settings of the load generation mode, replacing the periodic simulated
+     * posts by a high rate of posts created by a seeded, deterministic
+     * generator.
+     *
+     * <p>
+     * Param {@code enabled} a flag indicating that the load generation mode is
+     * enabled (defaults to {@code false})
+     *
+     * <p>
+     * Param {@code postsPerSecond} the base rate of generated posts (defaults
+     * to {@code 100})
+     *
+     * <p>
+     * Param {@code bursts} the bursts temporarily replacing the base rate
+     * (defaults to none)
+     *
+     * <p>
+     * Param {@code seed} the seed of the generator, equal seeds producing equal
+     * post contents (defaults to {@code 0})
+     *
+     * <p>
+     * Param {@code users} the number of distinct authors (defaults to
+     * {@code 200})
+     *
+     * <p>
+     * Param {@code emojiRatio} the ratio of posts containing an emoji
+     * (defaults to {@code 0.2})
+     *
+     * <p>
+     * Param {@code hashtagRatio} the ratio of posts containing one of the
+     * configured hashtags (defaults to {@code 0.8})
+     *
+     * <p>
+     * Param {@code retweetRatio} the ratio of posts being retweets (defaults
+     * to {@code 0.1})
+     *
+     * <p>
+     * Param {@code mediaRatio} the ratio of posts containing media (defaults
+     * to {@code 0.3})
+     *
+     * <p>
+     * Param {@code retainPosts} a flag indicating that the generated posts are
+     * retained for search and lookup (defaults to {@code false})
+     *
+     * <p>
+     * Param {@code maxPosts} the number of posts after which the generation
+     * stops, {@code 0} for no limit (defaults to {@code 0})
+     */
+    public record Load(
+            Boolean enabled,
+            Double postsPerSecond,
+            List<Burst> bursts,
+            Long seed,
+            Integer users,
+            Double emojiRatio,
+            Double hashtagRatio,
+            Double retweetRatio,
+            Double mediaRatio,
+            Boolean retainPosts,
+            Long maxPosts) {
+
+        /**
+         * The default settings applied in case none are configured.
+         */
+        public static final Load DEFAULT = new Load(null, null, null, null, null, null, null, null, null, null, null);
+
+        public Load(
+                final Boolean enabled,
+                final Double postsPerSecond,
+                final List<Burst> bursts,
+                final Long seed,
+                final Integer users,
+                final Double emojiRatio,
+                final Double hashtagRatio,
+                final Double retweetRatio,
+                final Double mediaRatio,
+                final Boolean retainPosts,
+                final Long maxPosts) {
+            this.enabled = Objects.requireNonNullElse(enabled, false);
+            this.postsPerSecond = Objects.requireNonNullElse(postsPerSecond, 100.0);
+            this.bursts = List.copyOf(Objects.requireNonNullElse(bursts, List.of()));
+            this.seed = Objects.requireNonNullElse(seed, 0L);
+            this.users = Objects.requireNonNullElse(users, 200);
+            this.emojiRatio = requireRatio("emojiRatio", Objects.requireNonNullElse(emojiRatio, 0.2));
+            this.hashtagRatio = requireRatio("hashtagRatio", Objects.requireNonNullElse(hashtagRatio, 0.8));
+            this.retweetRatio = requireRatio("retweetRatio", Objects.requireNonNullElse(retweetRatio, 0.1));
+            this.mediaRatio = requireRatio("mediaRatio", Objects.requireNonNullElse(mediaRatio, 0.3));
+            this.retainPosts = Objects.requireNonNullElse(retainPosts, false);
+            this.maxPosts = Objects.requireNonNullElse(maxPosts, 0L);
+            if (this.postsPerSecond <= 0 || this.users < 1 || this.maxPosts < 0) {
+                throw new IllegalArgumentException("postsPerSecond and users must be positive, maxPosts must not be negative");
+            }
+        }
+
+        private static double requireRatio(final String name, final double ratio) {
+            if (ratio < 0 || ratio > 1) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1");
+            }
+            return ratio;
+        }
+
+        /**
+         * Rate of posts applied for some time instead of the base rate.
+         *
+         * <p>
+         * Param {@code startSeconds} the number of seconds after the start of
+         * the generation the burst begins
+         *
+         * <p>
+         * Param {@code durationSeconds} the number of seconds the burst lasts
+         *
+         * <p>
+         * Param {@code postsPerSecond} the rate of generated posts during the
+         * burst
+         *
+         * <p>
+         * Param {@code periodSeconds} the number of seconds after which the
+         * burst repeats, {@code 0} for a single burst (defaults to {@code 0})
+         */
+        public record Burst(
+                Long startSeconds,
+                Long durationSeconds,
+                Double postsPerSecond,
+                Long periodSeconds) {
+
+            public Burst(
+                    final Long startSeconds,
+                    final Long durationSeconds,
+                    final Double postsPerSecond,
+                    final Long periodSeconds) {
+                this.startSeconds = Objects.requireNonNull(startSeconds, "startSeconds must not be null!");
+                this.durationSeconds = Objects.requireNonNull(durationSeconds, "durationSeconds must not be null!");
+                this.postsPerSecond = Objects.requireNonNull(postsPerSecond, "postsPerSecond must not be null!");
+                this.periodSeconds = Objects.requireNonNullElse(periodSeconds, 0L);
+                if (this.periodSeconds != 0 && this.periodSeconds < this.durationSeconds) {
+                    throw new IllegalArgumentException("periodSeconds must not be shorter than durationSeconds");
+                }
+            }
+
+            /**
+             * Checks if this burst is active at the given time.
+             *
+             * @param elapsedSeconds the seconds elapsed since the start of the
+             * generation
+             *
+             * @return {@code true} if this burst is active
+             */
+            public boolean isActive(final double elapsedSeconds) {
+                if (elapsedSeconds < startSeconds) {
+                    return false;
+                }
+
+                final double sinceStart = elapsedSeconds - startSeconds;
+                return (0 == periodSeconds ? sinceStart : sinceStart % periodSeconds) < durationSeconds;
+            }
+        }
+    }
+
     /**
      * Service implementation converting the configuration data of the root key
      * {@link MockSettings#CONFIG_KEY} into {@link MockSettings}.
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.impl.mock.config.MockSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadGeneratorTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private static MockSettings.Load load(final List<MockSettings.Load.Burst> bursts, final double ratio, final Long maxPosts) {
+        return new MockSettings.Load(true, 100.0, bursts, 4711L, 10, ratio, ratio, ratio, ratio, null, maxPosts);
+    }
+
+    private LoadGenerator generator(final MockSettings.Load load) {
+        return new LoadGenerator(load, List.of("javaone"), ids::incrementAndGet, nanoTime::get);
+    }
+
+    private List<Tweet> advance(final LoadGenerator generator, final long millis) {
+        final List<Tweet> posts = new ArrayList<>();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        generator.generate(posts::add);
+        return posts;
+    }
+
+    @Test
+    void sameSeedGeneratesSamePosts() {
+        final LoadGenerator one = generator(load(null, 0.5, null));
+        final LoadGenerator two = generator(load(null, 0.5, null));
+
+        for (int i = 0; i < 100; i++) {
+            final LoadPost postOne = one.next(i);
+            final LoadPost postTwo = two.next(i);
+            assertThat(postOne.text()).isEqualTo(postTwo.text());
+            assertThat(postOne.user()).isEqualTo(postTwo.user());
+            assertThat(postOne.isRetweet()).isEqualTo(postTwo.isRetweet());
+            assertThat(postOne.mediaEntries()).isEqualTo(postTwo.mediaEntries());
+        }
+    }
+
+    @Test
+    void mixRatiosAreApplied() {
+        final LoadGenerator all = generator(load(null, 1.0, null));
+        final LoadGenerator none = generator(load(null, 0.0, null));
+
+        final LoadPost full = all.next(0);
+        assertThat(full.isRetweet()).isTrue();
+        assertThat(full.getText()).startsWith("RT @");
+        assertThat(full.getHashtagEntries()).singleElement().satisfies(hashtag -> {
+            assertThat(hashtag.getText()).isEqualTo("javaone");
+            assertThat(full.getText().substring(hashtag.getStart(), hashtag.getEnd())).isEqualTo("#javaone");
+        });
+        assertThat(full.getMediaEntries()).hasSize(1);
+        assertThat(full.getText().codePoints().filter(cp -> cp > 0x2000 && Character.isEmoji(cp))).hasSize(1);
+
+        final LoadPost empty = none.next(0);
+        assertThat(empty.isRetweet()).isFalse();
+        assertThat(empty.getHashtagEntries()).isEmpty();
+        assertThat(empty.getMediaEntries()).isEmpty();
+        assertThat(empty.getEmojiEntries()).isEmpty();
+    }
+
+    @Test
+    void postsAreGeneratedAtConfiguredRate() {
+        final LoadGenerator generator = generator(load(null, 0.0, null));
+
+        assertThat(advance(generator, 0)).isEmpty();
+        assertThat(advance(generator, 10)).hasSize(1);
+        assertThat(advance(generator, 5)).isEmpty();
+        assertThat(advance(generator, 5)).hasSize(1);
+        assertThat(advance(generator, 1000)).hasSize(100);
+    }
+
+    @Test
+    void burstsReplaceBaseRate() {
+        final MockSettings.Load.Burst burst = new MockSettings.Load.Burst(2L, 1L, 1000.0, 10L);
+        final LoadGenerator generator = generator(load(List.of(burst), 0.0, null));
+
+        assertThat(generator.rate(1.5)).isEqualTo(100.0);
+        assertThat(generator.rate(2.5)).isEqualTo(1000.0);
+        assertThat(generator.rate(3.5)).isEqualTo(100.0);
+        assertThat(generator.rate(12.5)).isEqualTo(1000.0);
+
+        advance(generator, 0);
+        assertThat(advance(generator, 2000)).hasSize(200);
+        assertThat(advance(generator, 500)).hasSize(500);
+    }
+
+    @Test
+    void generationStopsAtMaxPosts() {
+        final LoadGenerator generator = generator(load(null, 0.0, 150L));
+        final List<Tweet> posts = new ArrayList<>();
+
+        nanoTime.set(0);
+        assertThat(generator.generate(posts::add)).isTrue();
+        nanoTime.set(TimeUnit.SECONDS.toNanos(2));
+        assertThat(generator.generate(posts::add)).isFalse();
+        assertThat(posts).hasSize(150);
+    }
+
+    @Test
+    void latencyIsMeasuredForLoadPostsOnly() {
+        final LoadPost post = generator(load(null, 0.0, null)).next(System.nanoTime());
+
+        assertThat(LoadPost.latencyNanos(post)).isPresent();
+        assertThat(LoadPost.latencyNanos(new MockPost(1, "text", null, null, null, 0, 0))).isEmpty();
+    }
+}
@@ -65,7 +65,7 @@ class MockTweeterTest {
 
     @BeforeEach
     void prepare() {
-        settings = new MockSettings(false, true, 3, null, null, null);
+        settings = new MockSettings(false, true, 3, null, null, null, null);
         tweeter = new MockTweeter(settings, executor);
 
         verify(logger).debug("Initializing with configuration: {}", settings);
@@ -79,7 +79,7 @@ class MockTweeterTest {
     @Test
     void isEnabled() {
         assertThat(tweeter.isEnabled()).isTrue();
-        MockSettings disabledSettings = new MockSettings(false, false, null, 1, null, null);
+        MockSettings disabledSettings = new MockSettings(false, false, null, 1, null, null, null);
         MockTweeter disabledTweeter = new MockTweeter(disabledSettings, executor);
 
         assertThat(disabledTweeter.isEnabled()).isFalse();
@@ -190,6 +190,9 @@ class MockTweeterTest {
         when(tweetQuery.getQuery()).thenReturn("#javaIsFun or @TweetWallFx OR  @reinhapa");
 
         assertThat(tweeter.search(tweetQuery)).isEmpty();
+        verify(tweetQuery).getCount();
+        verify(tweetQuery).getSinceId();
+        verify(tweetQuery).getMaxId();
     }
 
     @Test
@@ -198,6 +201,9 @@ class MockTweeterTest {
         when(tweetQuery.getQuery()).thenReturn("#javaIsFun @reinhapa");
 
         assertThat(tweeter.searchPaged(tweetQuery, 22)).isEmpty();
+        verify(tweetQuery).getCount();
+        verify(tweetQuery).getSinceId();
+        verify(tweetQuery).getMaxId();
         verify(logger).debug("Initializing with configuration: {}", settings);
     }
 
@@ -223,4 +229,19 @@ class MockTweeterTest {
         verify(logger).debug("Starting post task with {} second interval", 3L);
         verify(executor).scheduleWithFixedDelay(notNull(), eq(3L), eq(3L), eq(TimeUnit.SECONDS));
     }
+
+    @Test
+    void createTweetStreamWithLoadGeneration() {
+        final MockSettings.Load load = new MockSettings.Load(true, 1000.0, null, 42L, null, null, null, null, null, null, null);
+        final MockSettings loadSettings = new MockSettings(false, true, 3, null, null, List.of("javaone"), load);
+        final MockTweeter loadTweeter = new MockTweeter(loadSettings, executor);
+        doNothing().when(logger).debug("createTweetStream({})", filterQuery);
+        when(filterQuery.getTrack()).thenReturn(new String[]{"#javaone"});
+
+        assertThat(loadTweeter.createTweetStream(filterQuery)).isNotNull();
+
+        verify(logger).debug("Initializing with configuration: {}", loadSettings);
+        verify(logger).info("Starting load generation with {}", load);
+        verify(executor).scheduleAtFixedRate(notNull(), eq(LoadGenerator.TICK_MILLIS), eq(LoadGenerator.TICK_MILLIS), eq(TimeUnit.MILLISECONDS));
+    }
 }
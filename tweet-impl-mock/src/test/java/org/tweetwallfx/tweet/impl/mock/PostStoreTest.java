@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tweetwallfx.tweet.api.Tweet;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private final PostStore store = new PostStore();
+
+    private static Tweet post(final long id, final String text, final MockPostMedia... media) {
+        return new MockPost(id, text, null, START.plusSeconds(id), null, 0, 0, media);
+    }
+
+    @BeforeEach
+    void prepare() {
+        store.add(post(1, "Welcome to #JavaOne"));
+        store.add(post(2, "Coffee break with @duke", new MockPostMedia(1, 300, 200)));
+        store.add(post(3, "#javaone keynote by @Duke"));
+        store.add(post(4, "Lunch"));
+        store.add(post(5, "#JavaOne #TweetWallFX demo"));
+    }
+
+    @Test
+    void lookupById() {
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(store.get(3)).map(Tweet::getText).contains("#javaone keynote by @Duke");
+        assertThat(store.get(6)).isEmpty();
+    }
+
+    @Test
+    void duplicatesAreIgnored() {
+        store.add(post(3, "other text"));
+
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(store.search("other", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void searchAllNewestFirst() {
+        assertThat(store.search(null, null, null, 10).map(Tweet::getId)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(store.search(null, null, null, 2).map(Tweet::getId)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void searchByHashtagAndMention() {
+        assertThat(store.search("#javaone", null, null, 10).map(Tweet::getId)).containsExactly(5L, 3L, 1L);
+        assertThat(store.search("@DUKE", null, null, 10).map(Tweet::getId)).containsExactly(3L, 2L);
+        assertThat(store.search("#javaone @duke", null, null, 10).map(Tweet::getId)).containsExactly(3L);
+        assertThat(store.search("#missing", null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void searchAlternativesAreMergedWithoutDuplicates() {
+        assertThat(store.search("#tweetwallfx OR @duke OR #javaone", null, null, 10).map(Tweet::getId))
+                .containsExactly(5L, 3L, 2L, 1L);
+        assertThat(store.search("lunch or demo", null, null, 10).map(Tweet::getId)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void searchByTextAndFilter() {
+        assertThat(store.search("#javaone keynote", null, null, 10).map(Tweet::getId)).containsExactly(3L);
+        assertThat(store.search("Filter:media", null, null, 10).map(Tweet::getId)).containsExactly(2L);
+    }
+
+    @Test
+    void searchHonoursIdBounds() {
+        assertThat(store.search(null, 2L, null, 10).map(Tweet::getId)).containsExactly(5L, 4L, 3L);
+        assertThat(store.search(null, null, 3L, 10).map(Tweet::getId)).containsExactly(3L, 2L, 1L);
+        assertThat(store.search("#javaone", 1L, 4L, 10).map(Tweet::getId)).containsExactly(3L);
+        assertThat(store.search(null, 0L, 42L, 10).map(Tweet::getId)).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void pagingWithMaxIdContinuesWithoutGapsOrOverlaps() {
+        assertThat(store.search(null, null, null, 2).map(Tweet::getId)).containsExactly(5L, 4L);
+        assertThat(store.search(null, null, 3L, 2).map(Tweet::getId)).containsExactly(3L, 2L);
+        assertThat(store.search(null, null, 1L, 2).map(Tweet::getId)).containsExactly(1L);
+    }
+}
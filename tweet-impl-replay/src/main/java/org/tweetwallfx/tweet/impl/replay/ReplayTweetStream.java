@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetDispatcher;
+import org.tweetwallfx.tweet.api.TweetStream;
+
+final class ReplayTweetStream implements TweetStream, Consumer<Tweet> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayTweetStream.class);
+
+    private final Predicate<Tweet> filter;
+    private final TweetDispatcher dispatcher;
+
+    ReplayTweetStream(final Predicate<Tweet> filter) {
+        this.filter = filter;
+        this.dispatcher = new TweetDispatcher();
+    }
+
+    @Override
+    public void onTweet(final Consumer<Tweet> tweetConsumer) {
+        LOGGER.debug("onTweet({})", tweetConsumer);
+        dispatcher.add(tweetConsumer);
+    }
+
+    @Override
+    public void accept(final Tweet tweet) {
+        if (filter.test(tweet)) {
+            dispatcher.accept(tweet);
+        }
+    }
+
+    void close() {
+        dispatcher.close();
+    }
+}
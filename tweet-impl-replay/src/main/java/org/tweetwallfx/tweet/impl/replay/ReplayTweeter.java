@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.config.Configuration;
+import org.tweetwallfx.config.TweetwallSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.api.Tweeter;
+import org.tweetwallfx.tweet.api.User;
+import org.tweetwallfx.tweet.archive.TweetArchive;
+import org.tweetwallfx.tweet.impl.replay.config.ReplaySettings;
+
+import static org.tweetwallfx.tweet.impl.replay.config.ReplaySettings.CONFIG_KEY;
+
+/**
+ * {@link Tweeter} replaying the tweets of the Tweetwall query recorded in a
+ * {@link TweetArchive}.
+ *
+ * <p>
+ * The replay starts with the first created tweet stream and emits the
+ * recorded tweets oldest first, keeping their relative timing scaled by the
+ * configured speed. Searches are answered from the tweets of the recording
+ * that have been replayed so far (including the preloaded ones), newest
+ * first.
+ */
+public class ReplayTweeter implements Tweeter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayTweeter.class);
+
+    private final ReplaySettings settings;
+    private final String query;
+    private final ScheduledExecutorService executor;
+    private final LongSupplier nanoTime;
+    private final List<ReplayTweetStream> streams = new CopyOnWriteArrayList<>();
+    private TweetArchive archive;
+    private Iterator<Tweet> replay;
+    private Tweet pending;
+    private LocalDateTime recordingStart;
+    private long replayStartNanos;
+    private volatile LocalDateTime replayedUntil;
+
+    /**
+     * Used from service loader.
+     */
+    public ReplayTweeter() {
+        this(Configuration.getInstance()
+                .getConfigTypedOptional(CONFIG_KEY, ReplaySettings.class)
+                .orElse(ReplaySettings.DEFAULT),
+                Configuration.getInstance().getConfigTyped(TweetwallSettings.CONFIG_KEY, TweetwallSettings.class).query(),
+                Executors.newSingleThreadScheduledExecutor(),
+                System::nanoTime);
+    }
+
+    ReplayTweeter(final ReplaySettings settings, final String query, final ScheduledExecutorService executor, final LongSupplier nanoTime) {
+        LOGGER.debug("Initializing with configuration: {}", settings);
+        this.settings = settings;
+        this.query = query;
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return settings.enabled();
+    }
+
+    @Override
+    public TweetStream createTweetStream(final TweetFilterQuery filterQuery) {
+        LOGGER.debug("createTweetStream({})", filterQuery);
+        final ReplayTweetStream tweetStream = new ReplayTweetStream(TweetMatcher.ofAlternatives(filterQuery.getTrack()));
+        streams.add(tweetStream);
+        startReplay();
+        return tweetStream;
+    }
+
+    @Override
+    public Tweet getTweet(final long tweetId) {
+        LOGGER.debug("getTweet({})", tweetId);
+        return archive().get(tweetId).orElse(null);
+    }
+
+    @Override
+    public User getUser(final String userId) {
+        LOGGER.debug("getUser({})", userId);
+        return null;
+    }
+
+    @Override
+    public Stream<User> getFriends(final User user) {
+        LOGGER.debug("getFriends({})", user);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFriends(final String userScreenName) {
+        LOGGER.debug("getFriends({})", userScreenName);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFriends(final long userId) {
+        LOGGER.debug("getFriends({})", userId);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final User user) {
+        LOGGER.debug("getFollowers({})", user);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final String userScreenName) {
+        LOGGER.debug("getFollowers({})", userScreenName);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<User> getFollowers(final long userId) {
+        LOGGER.debug("getFollowers({})", userId);
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<Tweet> search(final TweetQuery tweetQuery) {
+        LOGGER.debug("search({})", tweetQuery);
+        return search(tweetQuery, 1);
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, final int numberOfPages) {
+        LOGGER.debug("searchPaged({}, {})", tweetQuery, numberOfPages);
+        return search(tweetQuery, numberOfPages);
+    }
+
+    @Override
+    public void shutdown() {
+        LOGGER.debug("shutdown()");
+        try {
+            if (!executor.isTerminated()) {
+                executor.shutdown();
+                if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Termination interrupted", e);
+        } finally {
+            streams.forEach(ReplayTweetStream::close);
+            synchronized (this) {
+                if (null != archive) {
+                    archive.close();
+                }
+            }
+        }
+    }
+
+    private Stream<Tweet> search(final TweetQuery tweetQuery, final int numberOfPages) {
+        final TweetArchive tweetArchive = archive();
+        final LocalDateTime until = replayedUntil;
+
+        if (null == until) {
+            return Stream.empty();
+        }
+
+        final Long maxId = tweetQuery.getMaxId();
+        final Long sinceId = tweetQuery.getSinceId();
+        final Stream<Tweet> results = tweetArchive.newestFirst(until)
+                .filter(tweet -> null == maxId || tweet.getId() <= maxId)
+                .filter(tweet -> null == sinceId || tweet.getId() > sinceId)
+                .filter(TweetMatcher.ofQuery(tweetQuery.getQuery()));
+
+        return null == tweetQuery.getCount()
+                ? results
+                : results.limit((long) tweetQuery.getCount() * numberOfPages);
+    }
+
+    private synchronized TweetArchive archive() {
+        if (null == archive) {
+            final Path directory = Path.of(settings.directory());
+
+            try {
+                archive = TweetArchive.openReadOnly(directory, query);
+            } catch (final IOException ioe) {
+                throw new UncheckedIOException("Failed to open recorded tweet archive " + directory.toAbsolutePath(), ioe);
+            }
+
+            replayedUntil = archive.oldestFirst()
+                    .limit(settings.preloadTweets())
+                    .reduce((first, second) -> second)
+                    .map(Tweet::getCreatedAt)
+                    .orElse(null);
+        }
+
+        return archive;
+    }
+
+    private synchronized void startReplay() {
+        if (null == replay) {
+            final TweetArchive tweetArchive = archive();
+            LOGGER.info("Replaying {} recorded tweets from {} at speed {}",
+                    Math.max(0, tweetArchive.size() - settings.preloadTweets()), settings.directory(), settings.speed());
+            replay = tweetArchive.oldestFirst().skip(settings.preloadTweets()).iterator();
+            replayStartNanos = nanoTime.getAsLong();
+            executor.execute(this::replay);
+        }
+    }
+
+    /**
+     * Emits all recorded tweets that are due and schedules itself for the
+     * next one. Only ever runs on the single thread of the executor.
+     */
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void replay() {
+        while (null != pending || replay.hasNext()) {
+            if (null == pending) {
+                pending = replay.next();
+            }
+
+            final long delay = dueNanos(pending) - nanoTime.getAsLong();
+
+            if (delay > 0) {
+                executor.schedule(this::replay, delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            final Tweet tweet = pending;
+            pending = null;
+            emit(tweet);
+
+            if (executor.isShutdown()) {
+                return;
+            }
+        }
+
+        LOGGER.info("Replay of {} finished", settings.directory());
+    }
+
+    private long dueNanos(final Tweet tweet) {
+        final LocalDateTime createdAt = tweet.getCreatedAt();
+
+        if (null == createdAt || 0 == settings.speed()) {
+            return replayStartNanos;
+        } else if (null == recordingStart) {
+            recordingStart = createdAt;
+        }
+
+        final long recordedNanos = Math.max(0, Duration.between(recordingStart, createdAt).toNanos());
+        return replayStartNanos + (long) (recordedNanos / settings.speed());
+    }
+
+    private void emit(final Tweet tweet) {
+        final LocalDateTime createdAt = tweet.getCreatedAt();
+
+        if (null != createdAt && (null == replayedUntil || createdAt.isAfter(replayedUntil))) {
+            replayedUntil = createdAt;
+        }
+
+        streams.forEach(stream -> stream.accept(tweet));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.User;
+
+/**
+ * Simplified evaluation of search queries and stream tracks against recorded
+ * tweets.
+ *
+ * <p>
+ * Alternatives are separated by {@code OR}, the whitespace separated terms of
+ * an alternative all have to match. A term starting with {@code #} matches a
+ * hashtag, a term starting with {@code @} the author or a mentioned user and
+ * any other term a case insensitive part of the text. The filters
+ * {@link TweetQuery#QUERY_FILTER_MEDIA} and
+ * {@link TweetQuery#QUERY_FILTER_LINKS} match tweets containing media or
+ * links respectively.
+ */
+final class TweetMatcher implements Predicate<Tweet> {
+
+    private static final Pattern OR = Pattern.compile("\\s+OR\\s+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<List<Predicate<Tweet>>> alternatives;
+
+    private TweetMatcher(final List<List<Predicate<Tweet>>> alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Creates a matcher for the given search query.
+     *
+     * @param query the search query, {@code null} matching all tweets
+     *
+     * @return the matcher
+     */
+    static TweetMatcher ofQuery(final String query) {
+        return null == query || query.isBlank()
+                ? new TweetMatcher(List.of(List.of()))
+                : ofAlternatives(OR.split(query.trim()));
+    }
+
+    /**
+     * Creates a matcher for the given alternatives, e.g. the tracks of a
+     * {@link org.tweetwallfx.tweet.api.TweetFilterQuery}.
+     *
+     * @param alternatives the alternatives of which at least one has to match
+     *
+     * @return the matcher
+     */
+    static TweetMatcher ofAlternatives(final String... alternatives) {
+        return new TweetMatcher(Arrays.stream(alternatives)
+                .map(String::trim)
+                .filter(alternative -> !alternative.isEmpty())
+                .map(alternative -> WHITESPACE.splitAsStream(alternative)
+                        .map(TweetMatcher::term)
+                        .toList())
+                .toList());
+    }
+
+    @Override
+    public boolean test(final Tweet tweet) {
+        return alternatives.stream()
+                .anyMatch(terms -> terms.stream().allMatch(term -> term.test(tweet)));
+    }
+
+    private static Predicate<Tweet> term(final String term) {
+        if (TweetQuery.QUERY_FILTER_MEDIA.equalsIgnoreCase(term)) {
+            return tweet -> tweet.getMediaEntries().length > 0;
+        } else if (TweetQuery.QUERY_FILTER_LINKS.equalsIgnoreCase(term)) {
+            return tweet -> tweet.getUrlEntries().length > 0;
+        } else if (term.length() > 1 && term.startsWith("#")) {
+            final String hashtag = term.substring(1);
+            return tweet -> Arrays.stream(tweet.getHashtagEntries()).anyMatch(hte -> hashtag.equalsIgnoreCase(hte.getText()))
+                    || containsIgnoreCase(tweet.getText(), term);
+        } else if (term.length() > 1 && term.startsWith("@")) {
+            final String screenName = term.substring(1);
+            return tweet -> isUser(tweet.getUser(), screenName)
+                    || Arrays.stream(tweet.getUserMentionEntries()).anyMatch(ume -> screenName.equalsIgnoreCase(ume.getScreenName()));
+        } else {
+            return tweet -> containsIgnoreCase(tweet.getText(), term);
+        }
+    }
+
+    private static boolean isUser(final User user, final String screenName) {
+        return null != user && screenName.equalsIgnoreCase(user.getScreenName());
+    }
+
+    private static boolean containsIgnoreCase(final String text, final String term) {
+        return null != text && text.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT));
+    }
+}
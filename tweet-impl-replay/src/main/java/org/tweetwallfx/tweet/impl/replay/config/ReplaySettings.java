@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay.config;
+
+import java.util.Objects;
+import org.tweetwallfx.config.ConfigurationConverter;
+
+/**
+ * POJO for reading Settings concerning the replay client.
+ *
+ * <p>
+ * Param {@code enabled} a flag indicating that the replay client is enabled
+ * (defaults to {@code false})
+ *
+ * <p>
+ * Param {@code directory} the directory of the recorded tweet archives, of
+ * which the one of the Tweetwall query is replayed (defaults to
+ * {@code tweet-archive})
+ *
+ * <p>
+ * Param {@code speed} the factor by which the replay is faster than the
+ * recording, {@code 1} replaying in real time and {@code 0} replaying as fast
+ * as possible (defaults to {@code 1})
+ *
+ * <p>
+ * Param {@code preloadTweets} the number of tweets at the start of the
+ * recording that already exist when the replay starts, i.e. that are only
+ * available through search (defaults to {@code 0})
+ */
+public record ReplaySettings(
+        Boolean enabled,
+        String directory,
+        Double speed,
+        Integer preloadTweets) {
+
+    /**
+     * Configuration key under which the data for this Settings object is stored
+     * in the configuration data map.
+     */
+    public static final String CONFIG_KEY = "replay";
+
+    /**
+     * The default settings applied in case none are configured.
+     */
+    public static final ReplaySettings DEFAULT = new ReplaySettings(null, null, null, null);
+
+    public ReplaySettings(
+            final Boolean enabled,
+            final String directory,
+            final Double speed,
+            final Integer preloadTweets) {
+        this.enabled = Objects.requireNonNullElse(enabled, false);
+        this.directory = Objects.requireNonNullElse(directory, "tweet-archive");
+        this.speed = Objects.requireNonNullElse(speed, 1.0);
+        this.preloadTweets = Objects.requireNonNullElse(preloadTweets, 0);
+        if (this.speed < 0 || this.preloadTweets < 0) {
+            throw new IllegalArgumentException("speed and preloadTweets must not be negative");
+        }
+    }
+
+    /**
+     * Service implementation converting the configuration data of the root key
+     * {@link ReplaySettings#CONFIG_KEY} into {@link ReplaySettings}.
+     */
+    public static class Converter implements ConfigurationConverter {
+
+        @Override
+        public String getResponsibleKey() {
+            return ReplaySettings.CONFIG_KEY;
+        }
+
+        @Override
+        public Class<?> getDataClass() {
+            return ReplaySettings.class;
+        }
+    }
+}
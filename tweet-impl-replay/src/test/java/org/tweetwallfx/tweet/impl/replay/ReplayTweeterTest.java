@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.replay;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import org.tweetwallfx.tweet.api.TweetQuery;
+import org.tweetwallfx.tweet.api.TweetStream;
+import org.tweetwallfx.tweet.archive.TweetArchive;
+import org.tweetwallfx.tweet.impl.replay.config.ReplaySettings;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class ReplayTweeterTest {
+
+    private static final String QUERY = "#javaone";
+    private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Mock(name = "executor")
+    ScheduledExecutorService executor;
+    @Mock(name = "filterQuery")
+    TweetFilterQuery filterQuery;
+    @Captor
+    ArgumentCaptor<Runnable> task;
+    @TempDir
+    Path directory;
+    final AtomicLong nanoTime = new AtomicLong(1_000);
+    final List<Tweet> received = new CopyOnWriteArrayList<>();
+    ReplayTweeter tweeter;
+
+    private static Tweet tweet(final long id, final long secondsAfterStart, final String text) {
+        final Tweet tweet = mock(Tweet.class);
+        when(tweet.getId()).thenReturn(id);
+        when(tweet.getCreatedAt()).thenReturn(START.plusSeconds(secondsAfterStart));
+        when(tweet.getText()).thenReturn(text);
+        return tweet;
+    }
+
+    @BeforeEach
+    void record() throws IOException {
+        try (TweetArchive archive = TweetArchive.open(directory, QUERY, 1024 * 1024)) {
+            archive.append(tweet(1, 0, "Welcome to #JavaOne"));
+            archive.append(tweet(2, 10, "Unrelated post"));
+            archive.append(tweet(3, 20, "Keynote at #javaone starting"));
+        }
+    }
+
+    @AfterEach
+    void verifyMocks() throws InterruptedException {
+        when(executor.awaitTermination(2, TimeUnit.SECONDS)).thenReturn(true);
+        tweeter.shutdown();
+        verify(executor).isTerminated();
+        verify(executor).shutdown();
+        verify(executor).awaitTermination(2, TimeUnit.SECONDS);
+        verifyNoMoreInteractions(executor, filterQuery);
+    }
+
+    private ReplayTweeter tweeter(final Double speed, final Integer preloadTweets) {
+        return new ReplayTweeter(new ReplaySettings(true, directory.toString(), speed, preloadTweets), QUERY, executor, nanoTime::get);
+    }
+
+    private void startReplay() {
+        when(filterQuery.getTrack()).thenReturn(new String[]{"#javaone"});
+        final TweetStream tweetStream = tweeter.createTweetStream(filterQuery);
+        tweetStream.onTweet(received::add);
+        verify(executor).execute(task.capture());
+    }
+
+    @Test
+    void searchOnlyAnswersPreloadedTweetsBeforeReplay() {
+        tweeter = tweeter(null, 2);
+
+        assertThat(tweeter.search(new TweetQuery().query("#javaone").count(10)).map(Tweet::getId)).containsExactly(1L);
+        assertThat(tweeter.search(new TweetQuery().count(10)).map(Tweet::getId)).containsExactly(2L, 1L);
+        assertThat(tweeter.searchPaged(new TweetQuery().count(1), 1).map(Tweet::getId)).containsExactly(2L);
+        assertThat(tweeter.search(new TweetQuery().count(10).maxId(1L)).map(Tweet::getId)).containsExactly(1L);
+        assertThat(tweeter.getTweet(3).getText()).isEqualTo("Keynote at #javaone starting");
+    }
+
+    @Test
+    void replayKeepsScaledRecordedTiming() {
+        tweeter = tweeter(2.0, null);
+        startReplay();
+
+        task.getValue().run();
+        assertThat(received).map(Tweet::getId).containsExactly(1L);
+        verify(executor).schedule(task.capture(), TimeUnit.SECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        task.getValue().run();
+        assertThat(received).map(Tweet::getId).containsExactly(1L);
+        verify(executor, times(2)).schedule(task.capture(), TimeUnit.SECONDS.toNanos(5), TimeUnit.NANOSECONDS);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        task.getValue().run();
+        assertThat(received).map(Tweet::getId).containsExactly(1L, 3L);
+        assertThat(tweeter.search(new TweetQuery().count(10)).map(Tweet::getId)).containsExactly(3L, 2L, 1L);
+        verify(executor, times(3)).isShutdown();
+    }
+
+    @Test
+    void replayAsFastAsPossible() {
+        tweeter = tweeter(0.0, 1);
+        startReplay();
+
+        task.getValue().run();
+
+        assertThat(received).map(Tweet::getId).containsExactly(3L);
+        verify(executor, times(2)).isShutdown();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tweetwallfx.tweet.api.Tweet;
+import twitter4j.v1.HashtagEntity;
+import twitter4j.v1.MediaEntity;
+import twitter4j.v1.Status;
+import twitter4j.v1.SymbolEntity;
+import twitter4j.v1.URLEntity;
+import twitter4j.v1.User;
+import twitter4j.v1.UserMentionEntity;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of wrapping an incoming status into a {@link TwitterTweet}
+ * at a high rate, once for a tweet that is only inspected by the filter chain
+ * and rejected and once for a tweet whose entities are all accessed.
+ *
+ * <p>Run with the {@code gc} profiler (enabled in the build) to see the
+ * allocated bytes per status as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TwitterTweetBenchmark {
+
+    @Param({"false", "true"})
+    private boolean retweet;
+
+    private Status status;
+
+    @Setup
+    public void setup() {
+        final Status original = status(4710L, false, null);
+        status = retweet
+                ? status(4711L, true, original)
+                : original;
+    }
+
+    @Benchmark
+    public void filtered(final Blackhole blackhole) {
+        final Tweet tweet = new TwitterTweet(status);
+        blackhole.consume(tweet.isRetweet());
+        blackhole.consume(tweet.getLang());
+        blackhole.consume(tweet.getText());
+    }
+
+    @Benchmark
+    public void fullyAccessed(final Blackhole blackhole) {
+        final Tweet tweet = new TwitterTweet(status);
+        blackhole.consume(tweet.getOriginTweet().getText());
+        blackhole.consume(tweet.getUser().getScreenName());
+        blackhole.consume(tweet.getHashtagEntries());
+        blackhole.consume(tweet.getMediaEntries());
+        blackhole.consume(tweet.getSymbolEntries());
+        blackhole.consume(tweet.getUrlEntries());
+        blackhole.consume(tweet.getUserMentionEntries());
+    }
+
+    private static Status status(final long id, final boolean retweet, final Status retweetedStatus) {
+        final Map<String, Object> values = new HashMap<>();
+        values.put("getCreatedAt", LocalDateTime.now());
+        values.put("getId", id);
+        values.put("getLang", "en");
+        values.put("getText", "Great talk about #virtualthreads at #devoxx with @john, slides at https://t.co/abc $JAVA");
+        values.put("isRetweet", retweet);
+        values.put("getRetweetedStatus", retweetedStatus);
+        values.put("getUser", proxy(User.class, Map.of(
+                "getId", 7L,
+                "getName", "Jane Doe",
+                "getScreenName", "jane")));
+        values.put("getHashtagEntities", new HashtagEntity[]{
+            proxy(HashtagEntity.class, entity("virtualthreads", 17, 32)),
+            proxy(HashtagEntity.class, entity("devoxx", 36, 43))});
+        values.put("getMediaEntities", new MediaEntity[0]);
+        values.put("getSymbolEntities", new SymbolEntity[]{
+            proxy(SymbolEntity.class, entity("JAVA", 84, 89))});
+        values.put("getURLEntities", new URLEntity[]{
+            proxy(URLEntity.class, entity("https://t.co/abc", 67, 83))});
+        values.put("getUserMentionEntities", new UserMentionEntity[]{
+            proxy(UserMentionEntity.class, entity("john", 49, 54))});
+        return proxy(Status.class, values);
+    }
+
+    private static Map<String, Object> entity(final String text, final int start, final int end) {
+        return Map.of(
+                "getText", text,
+                "getStart", start,
+                "getEnd", end);
+    }
+
+    private static <T> T proxy(final Class<T> type, final Map<String, Object> values) {
+        return type.cast(Proxy.newProxyInstance(
+                TwitterTweetBenchmark.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    final Object value = values.get(method.getName());
+                    // unset primitive values default to zero and false
+                    return null == value && method.getReturnType().isPrimitive()
+                            ? Array.get(Array.newInstance(method.getReturnType(), 1), 0)
+                            : value;
+                }));
+    }
+}
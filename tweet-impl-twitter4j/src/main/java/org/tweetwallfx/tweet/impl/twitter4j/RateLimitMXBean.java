@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+/**
+ * Management interface exposing the rate limit state of a Twitter endpoint
+ * family.
+ */
+public interface RateLimitMXBean {
+
+    /**
+     * {@return the name of the endpoint family}
+     */
+    String getFamily();
+
+    /**
+     * {@return the number of requests allowed per window or {@code -1} if
+     * not known yet}
+     */
+    int getLimit();
+
+    /**
+     * {@return the number of requests remaining in the current window or
+     * {@code -1} if not known yet}
+     */
+    int getRemaining();
+
+    /**
+     * {@return the seconds until the current window resets}
+     */
+    long getSecondsUntilReset();
+
+    /**
+     * {@return the number of requests currently executing}
+     */
+    int getInFlight();
+
+    /**
+     * {@return the number of requests currently waiting for the window to
+     * reset}
+     */
+    int getWaiting();
+
+    /**
+     * {@return the total number of requests executed}
+     */
+    long getRequestCount();
+
+    /**
+     * {@return the total number of requests that had to wait for the window
+     * to reset}
+     */
+    long getDelayedCount();
+
+    /**
+     * {@return the total time in milliseconds requests spent waiting for the
+     * window to reset}
+     */
+    long getDelayedMillis();
+}
@@ -0,0 +1,306 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import twitter4j.TwitterException;
+import twitter4j.TwitterResponse;
+import twitter4j.v1.RateLimitStatus;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules requests against the Twitter API per endpoint family, each of
+ * which has its own rate limit.
+ *
+ * <p>The remaining quota is taken from the rate limit status of every
+ * response. Requests pass immediately as long as quota remains and are only
+ * held back once the quota of their family is used up by completed and
+ * currently executing requests, until the rate limit window resets. The state
+ * of each family is published as {@link RateLimitMXBean}.
+ */
+final class RateLimitScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitScheduler.class);
+    private static final long RESET_MARGIN_MILLIS = 500L;
+
+    /**
+     * Families of endpoints sharing a rate limit.
+     */
+    enum Family {
+        SEARCH,
+        STATUSES,
+        USERS,
+        FRIENDS,
+        FOLLOWERS;
+    }
+
+    /**
+     * A request against the Twitter API.
+     *
+     * @param <T> the type of the response
+     */
+    @FunctionalInterface
+    interface TwitterCall<T extends TwitterResponse> {
+
+        /**
+         * Executes the request.
+         *
+         * @return the response
+         *
+         * @throws TwitterException in case the request fails
+         */
+        T call() throws TwitterException;
+    }
+
+    private final Map<Family, Budget> budgets = new EnumMap<>(Family.class);
+    private final boolean ignoreRateLimit;
+    private final LongSupplier currentTimeMillis;
+
+    RateLimitScheduler(final boolean ignoreRateLimit) {
+        this(ignoreRateLimit, System::currentTimeMillis);
+    }
+
+    RateLimitScheduler(final boolean ignoreRateLimit, final LongSupplier currentTimeMillis) {
+        this.ignoreRateLimit = ignoreRateLimit;
+        this.currentTimeMillis = currentTimeMillis;
+
+        for (final Family family : Family.values()) {
+            budgets.put(family, new Budget(family));
+        }
+    }
+
+    /**
+     * Registers the rate limit state of all families with the platform MBean
+     * server.
+     *
+     * @return this scheduler
+     */
+    RateLimitScheduler registerMetrics() {
+        for (final Budget budget : budgets.values()) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(budget, new ObjectName(
+                        "org.tweetwallfx:type=TwitterRateLimit,family=" + budget.getFamily()));
+            } catch (final JMException ex) {
+                LOGGER.warn("Failed to register rate limit metrics of {}", budget.getFamily(), ex);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * {@return the rate limit state of all families}
+     */
+    Collection<? extends RateLimitMXBean> metrics() {
+        return budgets.values();
+    }
+
+    /**
+     * {@return how long a request of the {@code family} issued now is held back
+     * until its rate limit resets, zero if it is not held back}
+     *
+     * @param family the endpoint family
+     */
+    Duration delay(final Family family) {
+        return budgets.get(family).delay();
+    }
+
+    /**
+     * Executes the {@code call} once the rate limit of the {@code family}
+     * permits.
+     *
+     * @param <T> the type of the response
+     *
+     * @param family the endpoint family the request belongs to
+     *
+     * @param call the request to execute
+     *
+     * @return the response of the request
+     *
+     * @throws TwitterException in case the request fails or waiting for the
+     * rate limit is interrupted
+     */
+    <T extends TwitterResponse> T execute(final Family family, final TwitterCall<T> call) throws TwitterException {
+        final Budget budget = budgets.get(family);
+
+        try {
+            budget.acquire();
+        } catch (final InterruptedException ex) {
+            LOGGER.error("Waiting for rate limit of {} interrupted!", family, ex);
+            Thread.currentThread().interrupt();
+            throw new TwitterException("Waiting for rate limit of " + family + " interrupted", ex);
+        }
+
+        RateLimitStatus rateLimitStatus = null;
+
+        try {
+            final T response = call.call();
+            rateLimitStatus = null == response ? null : response.getRateLimitStatus();
+            return response;
+        } catch (final TwitterException ex) {
+            rateLimitStatus = ex.getRateLimitStatus();
+            throw ex;
+        } finally {
+            budget.release(rateLimitStatus);
+        }
+    }
+
+    private final class Budget implements RateLimitMXBean {
+
+        private final Family family;
+        private int limit = -1;
+        private int remaining = -1;
+        private long resetAtMillis;
+        private int inFlight;
+        private int waiting;
+        private long requestCount;
+        private long delayedCount;
+        private long delayedMillis;
+
+        private Budget(final Family family) {
+            this.family = family;
+        }
+
+        private synchronized void acquire() throws InterruptedException {
+            requestCount++;
+            final long start = currentTimeMillis.getAsLong();
+
+            if (isExhausted(start)) {
+                delayedCount++;
+                LOGGER.info("Rate limit of {} exhausted, delaying request", family);
+                waiting++;
+
+                try {
+                    long now = start;
+                    do {
+                        if (0 == resetAtMillis) {
+                            wait();
+                        } else {
+                            TimeUnit.MILLISECONDS.timedWait(this, resetAtMillis + RESET_MARGIN_MILLIS - now);
+                        }
+                        now = currentTimeMillis.getAsLong();
+                    } while (isExhausted(now));
+                } finally {
+                    waiting--;
+                    delayedMillis += currentTimeMillis.getAsLong() - start;
+                }
+            }
+
+            inFlight++;
+        }
+
+        private synchronized void release(final RateLimitStatus rateLimitStatus) {
+            inFlight--;
+
+            if (null != rateLimitStatus) {
+                limit = rateLimitStatus.getLimit();
+                remaining = rateLimitStatus.getRemaining();
+                resetAtMillis = currentTimeMillis.getAsLong() + rateLimitStatus.getSecondsUntilReset() * 1000L;
+                LOGGER.debug("RateLimit of {}: {}/{} resetting in {}s", family, remaining, limit, rateLimitStatus.getSecondsUntilReset());
+            }
+
+            notifyAll();
+        }
+
+        private synchronized Duration delay() {
+            final long now = currentTimeMillis.getAsLong();
+
+            return isExhausted(now) && 0 != resetAtMillis
+                    ? Duration.ofMillis(resetAtMillis + RESET_MARGIN_MILLIS - now)
+                    : Duration.ZERO;
+        }
+
+        private boolean isExhausted(final long now) {
+            if (ignoreRateLimit || remaining < 0) {
+                return false;
+            }
+
+            if (0 != resetAtMillis && now >= resetAtMillis + RESET_MARGIN_MILLIS) {
+                // the window has been reset, the next response tells when the new one ends
+                remaining = limit;
+                resetAtMillis = 0;
+            }
+
+            // without a known reset time only the requests in flight can free up quota
+            return remaining - inFlight <= 0 && (0 != resetAtMillis || inFlight > 0);
+        }
+
+        @Override
+        public String getFamily() {
+            return family.name().toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public synchronized int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized int getRemaining() {
+            return remaining;
+        }
+
+        @Override
+        public synchronized long getSecondsUntilReset() {
+            return 0 == resetAtMillis
+                    ? 0
+                    : Math.max(0, TimeUnit.MILLISECONDS.toSeconds(resetAtMillis - currentTimeMillis.getAsLong() + 999));
+        }
+
+        @Override
+        public synchronized int getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public synchronized int getWaiting() {
+            return waiting;
+        }
+
+        @Override
+        public synchronized long getRequestCount() {
+            return requestCount;
+        }
+
+        @Override
+        public synchronized long getDelayedCount() {
+            return delayedCount;
+        }
+
+        @Override
+        public synchronized long getDelayedMillis() {
+            return delayedMillis;
+        }
+    }
+}
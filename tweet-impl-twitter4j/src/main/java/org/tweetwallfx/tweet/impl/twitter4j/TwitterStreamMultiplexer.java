@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import twitter4j.v1.FilterQuery;
+import twitter4j.v1.HashtagEntity;
+import twitter4j.v1.Status;
+import twitter4j.v1.URLEntity;
+import twitter4j.v1.UserMentionEntity;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Shares the single streaming connection to twitter between all subscribed
+ * {@link TweetFilterQuery TweetFilterQueries}.
+ *
+ * <p>The upstream connection tracks the terms of all subscriptions. Each
+ * received status is routed to the subscriptions with a matching track term,
+ * following the twitter rules: a term matches if all of its space separated
+ * words occur in the status, case insensitive, with hashtags and mentions
+ * matching their plain word as well. Subscriptions without track terms
+ * receive all statuses.
+ *
+ * <p>Subscribing and unsubscribing reconnects the upstream connection once
+ * the subscriptions did not change for the debounce delay. After
+ * {@link #shutdown()} new subscriptions receive no statuses.
+ */
+final class TwitterStreamMultiplexer implements Consumer<Status> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TwitterStreamMultiplexer.class);
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_#@$]+");
+
+    private final BiConsumer<Consumer<Status>, FilterQuery> connector;
+    private final Runnable disconnector;
+    private final ScheduledExecutorService scheduler;
+    private final long debounceMillis;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object reconnectLock = new Object();
+    private ScheduledFuture<?> pendingReconnect;
+    private Set<String> connectedTrack = Set.of();
+    private int connectedCount;
+    private boolean closed;
+
+    TwitterStreamMultiplexer(
+            final BiConsumer<Consumer<Status>, FilterQuery> connector,
+            final Runnable disconnector,
+            final Duration debounce) {
+        this(connector, disconnector, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("twitter-stream-reconnect").daemon().factory()), debounce);
+    }
+
+    TwitterStreamMultiplexer(
+            final BiConsumer<Consumer<Status>, FilterQuery> connector,
+            final Runnable disconnector,
+            final ScheduledExecutorService scheduler,
+            final Duration debounce) {
+        this.connector = connector;
+        this.disconnector = disconnector;
+        this.scheduler = scheduler;
+        this.debounceMillis = debounce.toMillis();
+    }
+
+    /**
+     * Subscribes the {@code statusConsumer} to the statuses matching the
+     * {@code filterQuery}.
+     *
+     * @param filterQuery the query defining the track terms of the
+     * subscription
+     *
+     * @param statusConsumer the consumer receiving the matching statuses
+     *
+     * @return the subscription to close once no more statuses are wanted
+     */
+    Subscription subscribe(final TweetFilterQuery filterQuery, final Consumer<Status> statusConsumer) {
+        final Subscription subscription = new Subscription(filterQuery, statusConsumer);
+
+        synchronized (reconnectLock) {
+            if (closed) {
+                LOG.warn("Ignoring subscription to {} after shutdown", filterQuery);
+                return subscription;
+            }
+
+            subscriptions.add(subscription);
+            LOG.info("Subscribed to {}", filterQuery);
+            scheduleReconnect();
+        }
+
+        return subscription;
+    }
+
+    @Override
+    public void accept(final Status status) {
+        if (1 == subscriptions.size()) {
+            // a single subscription gets all the statuses twitter deems matching
+            subscriptions.get(0).statusConsumer.accept(status);
+            return;
+        }
+
+        final Set<String> tokens = tokens(status);
+
+        for (final Subscription subscription : subscriptions) {
+            if (subscription.matches(tokens)) {
+                subscription.statusConsumer.accept(status);
+            }
+        }
+    }
+
+    /**
+     * Closes all subscriptions and the upstream connection.
+     */
+    void shutdown() {
+        synchronized (reconnectLock) {
+            closed = true;
+            subscriptions.clear();
+            cancelPendingReconnect();
+            scheduler.shutdownNow();
+
+            if (!connectedTrack.isEmpty()) {
+                connectedTrack = Set.of();
+                disconnector.run();
+            }
+        }
+    }
+
+    private void scheduleReconnect() {
+        synchronized (reconnectLock) {
+            if (closed) {
+                // the scheduler has been shut down and the connection is closed for good
+                return;
+            }
+
+            cancelPendingReconnect();
+            pendingReconnect = scheduler.schedule(this::reconnect, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelPendingReconnect() {
+        if (null != pendingReconnect) {
+            pendingReconnect.cancel(false);
+            pendingReconnect = null;
+        }
+    }
+
+    private void reconnect() {
+        synchronized (reconnectLock) {
+            if (closed) {
+                return;
+            }
+
+            pendingReconnect = null;
+            final Set<String> track = new LinkedHashSet<>();
+            int count = 0;
+
+            for (final Subscription subscription : subscriptions) {
+                subscription.terms.forEach(words -> track.add(String.join(" ", words)));
+                count = Math.max(count, subscription.filterQuery.getCount());
+            }
+
+            if (track.equals(connectedTrack) && count == connectedCount) {
+                LOG.debug("Stream already tracking {}", track);
+                return;
+            }
+
+            try {
+                if (track.isEmpty()) {
+                    LOG.info("Disconnecting stream as no terms are tracked anymore");
+                    disconnector.run();
+                } else {
+                    LOG.info("Connecting stream tracking {}", track);
+                    connector.accept(this, FilterQuery.ofTrack(track.toArray(String[]::new)).count(count));
+                }
+
+                connectedTrack = track;
+                connectedCount = count;
+            } catch (final RuntimeException ex) {
+                LOG.error("Failed to reconnect stream tracking {}", track, ex);
+            }
+        }
+    }
+
+    private static Set<String> tokens(final Status status) {
+        final Set<String> tokens = new HashSet<>();
+
+        for (Status s = status; null != s; s = s.isRetweet() ? s.getRetweetedStatus() : null) {
+            addTokens(tokens, s.getText());
+
+            final HashtagEntity[] hashtagEntities = s.getHashtagEntities();
+            if (null != hashtagEntities) {
+                for (final HashtagEntity hashtagEntity : hashtagEntities) {
+                    tokens.add('#' + hashtagEntity.getText().toLowerCase(Locale.ROOT));
+                }
+            }
+
+            final UserMentionEntity[] userMentionEntities = s.getUserMentionEntities();
+            if (null != userMentionEntities) {
+                for (final UserMentionEntity userMentionEntity : userMentionEntities) {
+                    tokens.add('@' + userMentionEntity.getScreenName().toLowerCase(Locale.ROOT));
+                }
+            }
+
+            final URLEntity[] urlEntities = s.getURLEntities();
+            if (null != urlEntities) {
+                for (final URLEntity urlEntity : urlEntities) {
+                    addTokens(tokens, urlEntity.getExpandedURL());
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addTokens(final Set<String> tokens, final String text) {
+        if (null != text) {
+            for (final String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+    }
+
+    private static boolean containsWord(final Set<String> tokens, final String word) {
+        return tokens.contains(word)
+                || (!word.startsWith("#") && !word.startsWith("@")
+                && (tokens.contains('#' + word) || tokens.contains('@' + word)));
+    }
+
+    /**
+     * A subscription to the statuses matching a {@link TweetFilterQuery}.
+     */
+    final class Subscription {
+
+        private final TweetFilterQuery filterQuery;
+        private final Consumer<Status> statusConsumer;
+        private final List<String[]> terms;
+
+        private Subscription(final TweetFilterQuery filterQuery, final Consumer<Status> statusConsumer) {
+            this.filterQuery = filterQuery;
+            this.statusConsumer = statusConsumer;
+
+            final String[] track = filterQuery.getTrack();
+            this.terms = null == track
+                    ? List.of()
+                    : Arrays.stream(track)
+                            .map(term -> TOKEN_SEPARATOR.splitAsStream(term.toLowerCase(Locale.ROOT))
+                                    .filter(word -> !word.isEmpty())
+                                    .toArray(String[]::new))
+                            .filter(words -> words.length > 0)
+                            .toList();
+        }
+
+        private boolean matches(final Set<String> tokens) {
+            if (terms.isEmpty()) {
+                return true;
+            }
+
+            for (final String[] words : terms) {
+                if (Arrays.stream(words).allMatch(word -> containsWord(tokens, word))) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Stops the delivery of statuses to this subscription.
+         */
+        void close() {
+            if (subscriptions.remove(this)) {
+                LOG.info("Unsubscribed from {}", filterQuery);
+                scheduleReconnect();
+            }
+        }
+    }
+}
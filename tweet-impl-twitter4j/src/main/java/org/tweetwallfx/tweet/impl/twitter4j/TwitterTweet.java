@@ -30,15 +30,11 @@ import org.tweetwallfx.tweet.api.entry.MediaTweetEntry;
 import org.tweetwallfx.tweet.api.entry.SymbolTweetEntry;
 import org.tweetwallfx.tweet.api.entry.UrlTweetEntry;
 import org.tweetwallfx.tweet.api.entry.UserMentionTweetEntry;
-import twitter4j.v1.HashtagEntity;
-import twitter4j.v1.MediaEntity;
 import twitter4j.v1.Status;
-import twitter4j.v1.SymbolEntity;
-import twitter4j.v1.URLEntity;
-import twitter4j.v1.UserMentionEntity;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 final class TwitterTweet implements Tweet {
 
@@ -48,71 +44,33 @@ final class TwitterTweet implements Tweet {
     private static final UrlTweetEntry[] NIL_UTES = new UrlTweetEntry[0];
     private static final UserMentionTweetEntry[] NIL_UMTES = new UserMentionTweetEntry[0];
     private final Status status;
-    private final TwitterUser user;
-    private final HashtagTweetEntry[] hashtagTweetEntries;
-    private final MediaTweetEntry[] mediaTweetEntries;
-    private final SymbolTweetEntry[] symbolTweetEntries;
-    private final UrlTweetEntry[] urlTweetTweetEntries;
-    private final UserMentionTweetEntry[] userMentionTweetEntries;
-    private final TwitterTweet retweetedTweet;
+    // wrappers are created on first access only since most tweets are
+    // rejected by the filter chain before they are needed; concurrent first
+    // accesses may create equal instances of which one is kept
+    private volatile TwitterUser user;
+    private volatile HashtagTweetEntry[] hashtagTweetEntries;
+    private volatile MediaTweetEntry[] mediaTweetEntries;
+    private volatile SymbolTweetEntry[] symbolTweetEntries;
+    private volatile UrlTweetEntry[] urlTweetTweetEntries;
+    private volatile UserMentionTweetEntry[] userMentionTweetEntries;
+    private volatile TwitterTweet retweetedTweet;
 
     public TwitterTweet(final Status status) {
         this.status = status;
-        this.user = new TwitterUser(status.getUser());
-
-        final HashtagEntity[] hashtagEntities = status.getHashtagEntities();
-
-        if (null == hashtagEntities) {
-            hashtagTweetEntries = NIL_HTES;
-        } else {
-            hashtagTweetEntries = Arrays.stream(hashtagEntities)
-                    .map(TwitterHashtagTweetEntry::new)
-                    .toArray(c -> new HashtagTweetEntry[c]);
-        }
-
-        final MediaEntity[] mediaEntities = status.getMediaEntities();
-
-        if (null == mediaEntities) {
-            mediaTweetEntries = NIL_MTES;
-        } else {
-            mediaTweetEntries = Arrays.stream(mediaEntities)
-                    .map(TwitterMediaTweetEntry::new)
-                    .toArray(c -> new MediaTweetEntry[c]);
-        }
-
-        final SymbolEntity[] symbolEntities = status.getSymbolEntities();
-
-        if (null == symbolEntities) {
-            symbolTweetEntries = NIL_STES;
-        } else {
-            symbolTweetEntries = Arrays.stream(symbolEntities)
-                    .map(TwitterSymbolTweetEntry::new)
-                    .toArray(c -> new SymbolTweetEntry[c]);
-        }
-
-        final URLEntity[] urlEntities = status.getURLEntities();
+    }
 
-        if (null == urlEntities) {
-            urlTweetTweetEntries = NIL_UTES;
-        } else {
-            urlTweetTweetEntries = Arrays.stream(urlEntities)
-                    .map(TwitterUrlTweetEntry::new)
-                    .toArray(c -> new UrlTweetEntry[c]);
+    private static <E, T> T[] convert(final E[] entities, final Function<E, T> converter, final IntFunction<T[]> arrayCreator, final T[] empty) {
+        if (null == entities || 0 == entities.length) {
+            return empty;
         }
 
-        final UserMentionEntity[] userMentionEntities = status.getUserMentionEntities();
+        final T[] entries = arrayCreator.apply(entities.length);
 
-        if (null == userMentionEntities) {
-            userMentionTweetEntries = NIL_UMTES;
-        } else {
-            userMentionTweetEntries = Arrays.stream(userMentionEntities)
-                    .map(TwitterUserMentionTweetEntry::new)
-                    .toArray(c -> new UserMentionTweetEntry[c]);
+        for (int i = 0; i < entities.length; i++) {
+            entries[i] = converter.apply(entities[i]);
         }
 
-        retweetedTweet = isRetweet()
-                ? new TwitterTweet(status.getRetweetedStatus())
-                : null;
+        return entries;
     }
 
     @Override
@@ -157,7 +115,14 @@ final class TwitterTweet implements Tweet {
 
     @Override
     public Tweet getRetweetedTweet() {
-        return retweetedTweet;
+        TwitterTweet result = retweetedTweet;
+
+        if (null == result && isRetweet()) {
+            result = new TwitterTweet(status.getRetweetedStatus());
+            retweetedTweet = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -178,7 +143,14 @@ final class TwitterTweet implements Tweet {
 
     @Override
     public User getUser() {
-        return user;
+        TwitterUser result = user;
+
+        if (null == result) {
+            result = new TwitterUser(status.getUser());
+            user = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -193,27 +165,62 @@ final class TwitterTweet implements Tweet {
 
     @Override
     public HashtagTweetEntry[] getHashtagEntries() {
-        return hashtagTweetEntries;
+        HashtagTweetEntry[] result = hashtagTweetEntries;
+
+        if (null == result) {
+            result = convert(status.getHashtagEntities(), TwitterHashtagTweetEntry::new, HashtagTweetEntry[]::new, NIL_HTES);
+            hashtagTweetEntries = result;
+        }
+
+        return result;
     }
 
     @Override
     public MediaTweetEntry[] getMediaEntries() {
-        return mediaTweetEntries;
+        MediaTweetEntry[] result = mediaTweetEntries;
+
+        if (null == result) {
+            result = convert(status.getMediaEntities(), TwitterMediaTweetEntry::new, MediaTweetEntry[]::new, NIL_MTES);
+            mediaTweetEntries = result;
+        }
+
+        return result;
     }
 
     @Override
     public SymbolTweetEntry[] getSymbolEntries() {
-        return symbolTweetEntries;
+        SymbolTweetEntry[] result = symbolTweetEntries;
+
+        if (null == result) {
+            result = convert(status.getSymbolEntities(), TwitterSymbolTweetEntry::new, SymbolTweetEntry[]::new, NIL_STES);
+            symbolTweetEntries = result;
+        }
+
+        return result;
     }
 
     @Override
     public UrlTweetEntry[] getUrlEntries() {
-        return urlTweetTweetEntries;
+        UrlTweetEntry[] result = urlTweetTweetEntries;
+
+        if (null == result) {
+            result = convert(status.getURLEntities(), TwitterUrlTweetEntry::new, UrlTweetEntry[]::new, NIL_UTES);
+            urlTweetTweetEntries = result;
+        }
+
+        return result;
     }
 
     @Override
     public UserMentionTweetEntry[] getUserMentionEntries() {
-        return userMentionTweetEntries;
+        UserMentionTweetEntry[] result = userMentionTweetEntries;
+
+        if (null == result) {
+            result = convert(status.getUserMentionEntities(), TwitterUserMentionTweetEntry::new, UserMentionTweetEntry[]::new, NIL_UMTES);
+            userMentionTweetEntries = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -25,61 +25,43 @@ package org.tweetwallfx.tweet.impl.twitter4j;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tweetwallfx.filterchain.FilterChain;
 import org.tweetwallfx.tweet.api.Tweet;
+import org.tweetwallfx.tweet.api.TweetDispatcher;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetStream;
-import twitter4j.v1.FilterQuery;
 import twitter4j.v1.Status;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 final class TwitterTweetStream implements TweetStream, Consumer<Status> {
 
     private static final Logger LOG = LoggerFactory.getLogger(TwitterTweetStream.class);
 
-    private final List<Consumer<Tweet>> tweetConsumerList = new CopyOnWriteArrayList<>();
+    private final TweetDispatcher dispatcher = new TweetDispatcher();
 
-    private final TweetFilterQuery filterQuery;
-    private final Predicate<Tweet> tweetFilter;
+    private final Consumer<Tweet> filteringConsumer;
+    private final TwitterStreamMultiplexer.Subscription subscription;
 
-    public TwitterTweetStream(final TweetFilterQuery filterQuery, final Predicate<Tweet> tweetFilter) {
-        this.filterQuery = filterQuery;
-        activateStream();
-        this.tweetFilter = tweetFilter;
+    public TwitterTweetStream(final TweetFilterQuery filterQuery, final FilterChain<Tweet> filterChain, final TwitterStreamMultiplexer multiplexer) {
+        // evaluates asynchronously so slow filter steps do not block the stream
+        this.filteringConsumer = filterChain.asAsyncConsumer(dispatcher);
+        this.subscription = multiplexer.subscribe(filterQuery, this);
     }
 
     @Override
     public void onTweet(final Consumer<Tweet> tweetConsumer) {
-        synchronized (this) {
-            LOG.info("Adding tweetConsumer: {}", tweetConsumer);
-            this.tweetConsumerList.add(tweetConsumer);
-            LOG.info("List of tweetConsumers is now: {}", tweetConsumerList);
-        }
+        LOG.info("Adding tweetConsumer: {}", tweetConsumer);
+        dispatcher.add(tweetConsumer);
     }
 
     @Override
     public void accept(Status status) {
-        TwitterTweet twitterTweet = new TwitterTweet(status);
-        if (tweetFilter.test(twitterTweet)) {
-            synchronized (TwitterTweetStream.this) {
-                LOG.info("redispatching new received tweet to {}", tweetConsumerList);
-                tweetConsumerList.stream().forEach(consumer -> consumer.accept(twitterTweet));
-            }
-        }
-    }
-
-    private void activateStream() {
-        TwitterOAuth.instance().statusConsumer(this).twitterV1().stream().filter(getFilterQuery(filterQuery));
-    }
-
-    private static FilterQuery getFilterQuery(final TweetFilterQuery tweetFilterQuery) {
-        return FilterQuery.ofTrack(tweetFilterQuery.getTrack()).count(tweetFilterQuery.getCount());
+        filteringConsumer.accept(new TwitterTweet(status));
     }
 
     void shutdown() {
-        TwitterOAuth.instance().statusConsumer(null).twitterV1().stream().shutdown();;
+        subscription.close();
+        dispatcher.close();
     }
 }
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tweetwallfx.config.Configuration;
 import org.tweetwallfx.filterchain.FilterChain;
+import org.tweetwallfx.tweet.api.SearchCompletion;
 import org.tweetwallfx.tweet.api.Tweet;
 import org.tweetwallfx.tweet.api.TweetFilterQuery;
 import org.tweetwallfx.tweet.api.TweetQuery;
@@ -41,9 +42,9 @@ import twitter4j.v1.FriendsFollowersResources;
 import twitter4j.v1.PagableResponseList;
 import twitter4j.v1.Query;
 import twitter4j.v1.QueryResult;
-import twitter4j.v1.RateLimitStatus;
 import twitter4j.v1.Status;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -52,6 +53,11 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.FOLLOWERS;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.FRIENDS;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.SEARCH;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.STATUSES;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.USERS;
 import static org.tweetwallfx.tweet.impl.twitter4j.TwitterOAuth.instance;
 import static org.tweetwallfx.tweet.impl.twitter4j.config.TwitterSettings.CONFIG_KEY;
 
@@ -60,8 +66,13 @@ public class TwitterTweeter implements Tweeter {
     private static final Logger LOGGER = LoggerFactory.getLogger(TwitterTweeter.class);
     private static final FilterChain<Tweet> FILTER_CHAIN = FilterChain.createFilterChain(Tweet.class, "twitter");
     static final TwitterSettings TWITTER_SETTINGS = Configuration.getInstance().getConfigTyped(CONFIG_KEY, TwitterSettings.class);
+    private static final RateLimitScheduler RATE_LIMITS = new RateLimitScheduler(TWITTER_SETTINGS.ignoreRateLimit()).registerMetrics();
 
     private final List<TwitterTweetStream> streamCache = new ArrayList<>();
+    private final TwitterStreamMultiplexer streamMultiplexer = new TwitterStreamMultiplexer(
+            (statusConsumer, filterQuery) -> instance().statusConsumer(statusConsumer).twitterV1().stream().filter(filterQuery),
+            () -> instance().statusConsumer(null).twitterV1().stream().shutdown(),
+            Duration.ofMillis(TWITTER_SETTINGS.streamReconnectDebounceMillis()));
 
     @Override
     public boolean isEnabled() {
@@ -70,7 +81,7 @@ public class TwitterTweeter implements Tweeter {
 
     @Override
     public TweetStream createTweetStream(final TweetFilterQuery tweetFilterQuery) {
-        TwitterTweetStream twitterTweetStream = new TwitterTweetStream(tweetFilterQuery, FILTER_CHAIN.asPredicate());
+        TwitterTweetStream twitterTweetStream = new TwitterTweetStream(tweetFilterQuery, FILTER_CHAIN, streamMultiplexer);
         streamCache.add(twitterTweetStream);
         return twitterTweetStream;
     }
@@ -78,7 +89,7 @@ public class TwitterTweeter implements Tweeter {
     @Override
     public Tweet getTweet(long tweetId) {
         try {
-            return new TwitterTweet(instance().twitterV1().tweets().showStatus(tweetId));
+            return new TwitterTweet(RATE_LIMITS.execute(STATUSES, () -> instance().twitterV1().tweets().showStatus(tweetId)));
         } catch (TwitterException ex) {
             throw new IllegalArgumentException("Error getting Status for " + tweetId, ex);
         }
@@ -87,7 +98,7 @@ public class TwitterTweeter implements Tweeter {
     @Override
     public User getUser(final String userId) {
         try {
-            return new TwitterUser(instance().twitterV1().users().showUser(userId));
+            return new TwitterUser(RATE_LIMITS.execute(USERS, () -> instance().twitterV1().users().showUser(userId)));
         } catch (TwitterException ex) {
             throw new IllegalArgumentException("Error getting User for " + userId, ex);
         }
@@ -102,6 +113,7 @@ public class TwitterTweeter implements Tweeter {
     public Stream<User> getFriends(final String userScreenName) {
         final FriendsFollowersResources friendsFollowersResources = instance().twitterV1().friendsFollowers();
         return pagedListAsStream(
+                FRIENDS,
                 cursorId -> friendsFollowersResources.getFriendsList(userScreenName, cursorId, 200),
                 te -> new IllegalArgumentException("Error getting friends for User(screenName:" + userScreenName + ")", te),
                 TwitterUser::new);
@@ -111,6 +123,7 @@ public class TwitterTweeter implements Tweeter {
     public Stream<User> getFriends(final long userId) {
         final FriendsFollowersResources friendsFollowersResources = instance().twitterV1().friendsFollowers();
         return pagedListAsStream(
+                FRIENDS,
                 cursorId -> friendsFollowersResources.getFriendsList(userId, cursorId, 200),
                 te -> new IllegalArgumentException("Error getting friends for User(id:" + userId + ")", te),
                 TwitterUser::new);
@@ -125,6 +138,7 @@ public class TwitterTweeter implements Tweeter {
     public Stream<User> getFollowers(final String userScreenName) {
         final FriendsFollowersResources friendsFollowersResources = instance().twitterV1().friendsFollowers();
         return pagedListAsStream(
+                FOLLOWERS,
                 cursorId -> friendsFollowersResources.getFollowersList(userScreenName, cursorId, 200),
                 te -> new IllegalArgumentException("Error getting followers for User(screenName:" + userScreenName + ")", te),
                 TwitterUser::new);
@@ -134,17 +148,20 @@ public class TwitterTweeter implements Tweeter {
     public Stream<User> getFollowers(final long userId) {
         final FriendsFollowersResources friendsFollowersResources = instance().twitterV1().friendsFollowers();
         return pagedListAsStream(
+                FOLLOWERS,
                 cursorId -> friendsFollowersResources.getFollowersList(userId, cursorId, 200),
                 te -> new IllegalArgumentException("Error getting followers for User(id:" + userId + ")", te),
                 TwitterUser::new);
     }
 
     private <T extends TwitterResponse, R> Stream<R> pagedListAsStream(
+            final RateLimitScheduler.Family family,
             final TwitterExceptionLongFunction<PagableResponseList<T>> pageableFunction,
             final Function<TwitterException, IllegalArgumentException> exceptionConverter,
             final Function<T, R> objectConverter
     ) {
         final Iterable<R> iterable = () -> new PagedEntityIterator<>(
+                family,
                 pageableFunction,
                 objectConverter,
                 exceptionConverter);
@@ -154,28 +171,43 @@ public class TwitterTweeter implements Tweeter {
 
     @Override
     public Stream<Tweet> search(final TweetQuery tweetQuery) {
+        return search(tweetQuery, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> search(final TweetQuery tweetQuery, final SearchCompletion completion) {
         final Query query = getQuery(tweetQuery);
         final QueryResult result;
 
         try {
-            result = instance().twitterV1().search().search(query);
+            result = RATE_LIMITS.execute(SEARCH, () -> instance().twitterV1().search().search(query));
         } catch (TwitterException ex) {
             LOGGER.error("Error getting QueryResult for {}", query, ex);
+            completion.markIncomplete();
             return Stream.empty();
         }
 
-        return result.getTweets().stream()
-                .map(TwitterTweet::new)
-                .map(Tweet.class::cast)
-                .filter(FILTER_CHAIN.asPredicate());
+        return filter(result.getTweets()).stream();
     }
 
     @Override
     public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, int numberOfPages) {
+        return searchPaged(tweetQuery, numberOfPages, new SearchCompletion());
+    }
+
+    @Override
+    public Stream<Tweet> searchPaged(final TweetQuery tweetQuery, int numberOfPages, final SearchCompletion completion) {
         final Query query = getQuery(tweetQuery);
-        final Iterable<Tweet> iterable = () -> new PagedIterator(query, numberOfPages);
-        return StreamSupport.stream(iterable.spliterator(), false)
-                .filter(FILTER_CHAIN.asPredicate());
+        final Iterable<Tweet> iterable = () -> new PagedIterator(query, numberOfPages, completion);
+        return StreamSupport.stream(iterable.spliterator(), false);
+    }
+
+    // filters a whole page at once so filter steps can batch their requests
+    private static List<Tweet> filter(final List<Status> statuses) {
+        return FILTER_CHAIN.filterBatch(statuses.stream()
+                .map(TwitterTweet::new)
+                .map(Tweet.class::cast)
+                .toList());
     }
 
     private static Query getQuery(final TweetQuery tweetQuery) {
@@ -216,14 +248,16 @@ public class TwitterTweeter implements Tweeter {
         return query;
     }
 
-    private static class PagedIterator extends RateLimitIterator<Tweet> {
+    private static class PagedIterator implements Iterator<Tweet> {
 
         private QueryResult queryResult;
-        private Iterator<Status> statuses;
+        private Iterator<Tweet> tweets;
         private static final Logger LOGGER = LoggerFactory.getLogger("org.tweetwallfx.startup");
         private int numberOfPages;
+        private final SearchCompletion completion;
 
-        public PagedIterator(final Query query, int numberOfPages) {
+        public PagedIterator(final Query query, int numberOfPages, final SearchCompletion completion) {
+            this.completion = completion;
             this.numberOfPages = --numberOfPages;
             queryNext(query);
         }
@@ -231,56 +265,53 @@ public class TwitterTweeter implements Tweeter {
         private void queryNext(final Query query) {
             numberOfPages--;
             if (null == query) {
-                statuses = null;
+                tweets = null;
             } else {
                 try {
                     LOGGER.trace("Querying next page: {}", query);
-                    queryResult = instance().twitterV1().search().search(query);
-                    if (null != queryResult) {
-                        handleRateLimit(queryResult.getRateLimitStatus());
-                        statuses = queryResult.getTweets().iterator();
-                    }
+                    queryResult = RATE_LIMITS.execute(SEARCH, () -> instance().twitterV1().search().search(query));
+                    tweets = null == queryResult
+                            ? null
+                            : filter(queryResult.getTweets()).iterator();
                 } catch (TwitterException ex) {
                     LOGGER.trace("Querying next page failed: {}", query, ex);
                     LOGGER.error("Error getting QueryResult for {}", query, ex);
+                    completion.markIncomplete();
                     queryResult = null;
-                    statuses = null;
+                    tweets = null;
                 }
             }
         }
 
         @Override
         public boolean hasNext() {
-            if (null == statuses) {
-                // no more twitter status messages
-                return false;
-            } else if (statuses.hasNext()) {
-                // twitter status messages available
-                return true;
-            } else {
-                if (numberOfPages == 0) {
-                    return false;
-                } else {
-                    // query next twitter status messages page
-                    queryNext(queryResult.nextQuery());
-                    return null != statuses && statuses.hasNext();
-                }
+            // query next pages while all tweets of a page have been filtered out
+            while (null != tweets && !tweets.hasNext() && numberOfPages != 0) {
+                queryNext(queryResult.nextQuery());
             }
+
+            return null != tweets && tweets.hasNext();
         }
 
         @Override
         public Tweet next() {
             if (hasNext()) {
-                return new TwitterTweet(statuses.next());
+                return tweets.next();
             } else {
                 throw new NoSuchElementException();
             }
         }
     }
 
+    @Override
+    public Duration getSearchDelay() {
+        return RATE_LIMITS.delay(SEARCH);
+    }
+
     @Override
     public void shutdown() {
         streamCache.forEach(TwitterTweetStream::shutdown);
+        streamMultiplexer.shutdown();
     }
 
     @FunctionalInterface
@@ -295,41 +326,21 @@ public class TwitterTweeter implements Tweeter {
         R apply(long value) throws TwitterException;
     }
 
-    private abstract static class RateLimitIterator<T> implements Iterator<T> {
-
-        protected final void handleRateLimit(final RateLimitStatus rateLimitStatus) {
-            LOGGER.info("RateLimit: {}/{} resetting in {}s",
-                    rateLimitStatus.getRemaining(),
-                    rateLimitStatus.getLimit(),
-                    rateLimitStatus.getSecondsUntilReset());
-
-            if (TWITTER_SETTINGS.ignoreRateLimit()) {
-                return;
-            }
-
-            final long delay = 500L + rateLimitStatus.getSecondsUntilReset() * 1000L;
-
-            try {
-                Thread.sleep(delay);
-            } catch (InterruptedException ex) {
-                LOGGER.error("Sleeping for {} interrupted!", delay, ex);
-                Thread.currentThread().interrupt();
-            }
-        }
-    }
-
-    private static final class PagedEntityIterator<T extends TwitterResponse, R> extends RateLimitIterator<R> {
+    private static final class PagedEntityIterator<T extends TwitterResponse, R> implements Iterator<R> {
         private Iterator<T> iterator;
         private long cursorId = CursorSupport.START;
+        private final RateLimitScheduler.Family family;
         private final TwitterExceptionLongFunction<PagableResponseList<T>> pageableFunction;
         private final Function<T, R> objectConverter;
         private final Function<TwitterException, IllegalArgumentException> exceptionConverter;
         private PagableResponseList<T> prList;
 
         private PagedEntityIterator(
+                final RateLimitScheduler.Family family,
                 final TwitterExceptionLongFunction<PagableResponseList<T>> pageableFunction,
                 final Function<T, R> objectConverter,
                 final Function<TwitterException, IllegalArgumentException> exceptionConverter) {
+            this.family = family;
             this.pageableFunction = pageableFunction;
             this.objectConverter = objectConverter;
             this.exceptionConverter = exceptionConverter;
@@ -339,7 +350,7 @@ public class TwitterTweeter implements Tweeter {
         private void queryNext() {
             try {
                 LOGGER.debug("Retrieving next page");
-                prList = pageableFunction.apply(cursorId);
+                prList = RATE_LIMITS.execute(family, () -> pageableFunction.apply(cursorId));
             } catch (final TwitterException ex) {
                 final IllegalArgumentException re = exceptionConverter.apply(ex);
                 LOGGER.error("Failed to retrieve the next pageable list", re);
@@ -348,7 +359,6 @@ public class TwitterTweeter implements Tweeter {
 
             cursorId = prList.getNextCursor();
             iterator = prList.iterator();
-            handleRateLimit(prList.getRateLimitStatus());
         }
 
         @Override
@@ -54,7 +54,13 @@ import org.tweetwallfx.config.ConfigurationConverter;
  *
  * <p>
  * Param {@code ignoreRateLimit} a flag indicating that the twitter rate
- * limitations shall be ignored (defaults to {@code  true})
+ * limitations shall be ignored instead of holding back requests once the quota
+ * is exhausted (defaults to {@code  true})
+ *
+ * <p>
+ * Param {@code streamReconnectDebounceMillis} the milliseconds the stream
+ * subscriptions have to stay unchanged before the shared streaming connection
+ * is reconnected with their merged terms (defaults to {@code 1000})
  */
 public record TwitterSettings(
         Boolean debugEnabled,
@@ -62,7 +68,8 @@ public record TwitterSettings(
         Map<String, Object> extendedConfig,
         Boolean extendedMode,
         OAuth oauth,
-        Boolean ignoreRateLimit) {
+        Boolean ignoreRateLimit,
+        Long streamReconnectDebounceMillis) {
 
     /**
      * Configuration key under which the data for this Settings object is stored
@@ -76,13 +83,15 @@ public record TwitterSettings(
             final Map<String, Object> extendedConfig,
             final Boolean extendedMode,
             final OAuth oauth,
-            final Boolean ignoreRateLimit) {
+            final Boolean ignoreRateLimit,
+            final Long streamReconnectDebounceMillis) {
         this.debugEnabled = Objects.requireNonNullElse(debugEnabled, false);
         this.enabled = Objects.requireNonNullElse(enabled, true);
         this.extendedConfig = nullable(extendedConfig);
         this.extendedMode = Objects.requireNonNullElse(extendedMode, false);
         this.oauth = oauth;
         this.ignoreRateLimit = Objects.requireNonNullElse(ignoreRateLimit, true);
+        this.streamReconnectDebounceMillis = Math.max(0, Objects.requireNonNullElse(streamReconnectDebounceMillis, 1000L));
     }
 
     @Override
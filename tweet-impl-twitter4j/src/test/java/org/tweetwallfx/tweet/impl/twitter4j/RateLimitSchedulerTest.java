@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+import twitter4j.TwitterException;
+import twitter4j.TwitterResponse;
+import twitter4j.v1.RateLimitStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.FOLLOWERS;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.FRIENDS;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.SEARCH;
+import static org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler.Family.USERS;
+
+@MockitoSettings
+class RateLimitSchedulerTest {
+
+    @Mock(name = "org.tweetwallfx.tweet.impl.twitter4j.RateLimitScheduler")
+    Logger logger;
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1_000_000L);
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void requestsPassWhileQuotaRemains() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final TwitterResponse response = response(rateLimitStatus(180, 1, 900));
+
+        assertThat(scheduler.execute(SEARCH, () -> response)).isSameAs(response);
+        assertThat(scheduler.execute(SEARCH, () -> response)).isSameAs(response);
+
+        final RateLimitMXBean search = metrics(scheduler, "search");
+        assertThat(search.getLimit()).isEqualTo(180);
+        assertThat(search.getRemaining()).isEqualTo(1);
+        assertThat(search.getSecondsUntilReset()).isEqualTo(900);
+        assertThat(search.getRequestCount()).isEqualTo(2);
+        assertThat(search.getDelayedCount()).isZero();
+        assertThat(search.getInFlight()).isZero();
+        // other families are not affected
+        assertThat(metrics(scheduler, "users").getRequestCount()).isZero();
+        assertThat(metrics(scheduler, "users").getRemaining()).isEqualTo(-1);
+        verifyRateLimitLogged(SEARCH, 1, 180, 900, 2);
+    }
+
+    @Test
+    void exhaustedQuotaIsRestoredAfterReset() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final TwitterResponse response = response(rateLimitStatus(900, 0, 60));
+
+        scheduler.execute(USERS, () -> response);
+        currentTimeMillis.addAndGet(61_000L);
+
+        assertThat(scheduler.execute(USERS, () -> response)).isSameAs(response);
+
+        final RateLimitMXBean users = metrics(scheduler, "users");
+        assertThat(users.getDelayedCount()).isZero();
+        assertThat(users.getRemaining()).isZero();
+        verifyRateLimitLogged(USERS, 0, 900, 60, 2);
+    }
+
+    @Test
+    void delayReportsTimeUntilReset() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+
+        assertThat(scheduler.delay(SEARCH)).isZero();
+
+        scheduler.execute(SEARCH, () -> response(rateLimitStatus(180, 1, 60)));
+        assertThat(scheduler.delay(SEARCH)).isZero();
+
+        scheduler.execute(SEARCH, () -> response(rateLimitStatus(180, 0, 60)));
+        currentTimeMillis.addAndGet(20_000L);
+        assertThat(scheduler.delay(SEARCH)).isEqualTo(Duration.ofMillis(40_500L));
+        // other families are not affected
+        assertThat(scheduler.delay(USERS)).isZero();
+
+        currentTimeMillis.addAndGet(41_000L);
+        assertThat(scheduler.delay(SEARCH)).isZero();
+        verifyRateLimitLogged(SEARCH, 1, 180, 60, 1);
+        verifyRateLimitLogged(SEARCH, 0, 180, 60, 1);
+    }
+
+    @Test
+    void requestsAreHeldBackWhileQuotaIsExhausted() throws Exception {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final RateLimitMXBean search = metrics(scheduler, "search");
+        scheduler.execute(SEARCH, () -> response(rateLimitStatus(180, 1, 900)));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final TwitterResponse lastResponse = response(rateLimitStatus(180, 5, 800));
+        final CompletableFuture<TwitterResponse> first = CompletableFuture.supplyAsync(() -> execute(scheduler, () -> {
+            started.countDown();
+            await(proceed);
+            return lastResponse;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        final CompletableFuture<TwitterResponse> second = CompletableFuture.supplyAsync(() -> execute(scheduler, () -> lastResponse));
+        while (search.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(second).isNotDone();
+
+        proceed.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(lastResponse);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(lastResponse);
+        assertThat(search.getDelayedCount()).isEqualTo(1);
+        assertThat(search.getWaiting()).isZero();
+        assertThat(search.getRemaining()).isEqualTo(5);
+        verify(logger).info("Rate limit of {} exhausted, delaying request", SEARCH);
+        verifyRateLimitLogged(SEARCH, 1, 180, 900, 1);
+        verifyRateLimitLogged(SEARCH, 5, 180, 800, 2);
+    }
+
+    @Test
+    void friendsAndFollowersHaveSeparateQuotas() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final TwitterResponse response = response(rateLimitStatus(15, 0, 900));
+
+        scheduler.execute(FRIENDS, () -> response);
+
+        // an exhausted friends quota does not hold back followers requests
+        assertThat(scheduler.execute(FOLLOWERS, () -> response)).isSameAs(response);
+        assertThat(metrics(scheduler, "friends").getRemaining()).isZero();
+        assertThat(metrics(scheduler, "followers").getRemaining()).isZero();
+        assertThat(metrics(scheduler, "followers").getDelayedCount()).isZero();
+        verifyRateLimitLogged(FRIENDS, 0, 15, 900, 1);
+        verifyRateLimitLogged(FOLLOWERS, 0, 15, 900, 1);
+    }
+
+    @Test
+    void interruptedWaitFailsRequest() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final RateLimitScheduler.TwitterCall<TwitterResponse> call = () -> {
+            throw new AssertionError("request must not be executed");
+        };
+        scheduler.execute(SEARCH, () -> response(rateLimitStatus(180, 0, 900)));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> scheduler.execute(SEARCH, call))
+                    .isInstanceOf(TwitterException.class)
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+
+        final RateLimitMXBean search = metrics(scheduler, "search");
+        assertThat(search.getInFlight()).isZero();
+        assertThat(search.getWaiting()).isZero();
+        verify(logger).info("Rate limit of {} exhausted, delaying request", SEARCH);
+        verify(logger).error(eq("Waiting for rate limit of {} interrupted!"), eq(SEARCH), any(InterruptedException.class));
+        verifyRateLimitLogged(SEARCH, 0, 180, 900, 1);
+    }
+
+    @Test
+    void exhaustedQuotaIsIgnoredIfConfigured() throws TwitterException {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(true, currentTimeMillis::get);
+        final TwitterResponse response = response(rateLimitStatus(180, 0, 900));
+
+        scheduler.execute(SEARCH, () -> response);
+        scheduler.execute(SEARCH, () -> response);
+
+        assertThat(metrics(scheduler, "search").getDelayedCount()).isZero();
+        verifyRateLimitLogged(SEARCH, 0, 180, 900, 2);
+    }
+
+    @Test
+    void rateLimitOfFailedRequestIsTracked() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, currentTimeMillis::get);
+        final RateLimitStatus rateLimitStatus = rateLimitStatus(180, 0, 300);
+        final TwitterException exception = mock(TwitterException.class);
+        when(exception.getRateLimitStatus()).thenReturn(rateLimitStatus);
+
+        assertThatThrownBy(() -> scheduler.execute(SEARCH, () -> {
+            throw exception;
+        })).isSameAs(exception);
+
+        final RateLimitMXBean search = metrics(scheduler, "search");
+        assertThat(search.getRemaining()).isZero();
+        assertThat(search.getSecondsUntilReset()).isEqualTo(300);
+        assertThat(search.getInFlight()).isZero();
+        verifyRateLimitLogged(SEARCH, 0, 180, 300, 1);
+    }
+
+    private void verifyRateLimitLogged(final RateLimitScheduler.Family family, final int remaining, final int limit, final int secondsUntilReset, final int times) {
+        verify(logger, times(times)).debug("RateLimit of {}: {}/{} resetting in {}s", family, remaining, limit, secondsUntilReset);
+    }
+
+    private static RateLimitMXBean metrics(final RateLimitScheduler scheduler, final String family) {
+        return scheduler.metrics().stream()
+                .filter(metrics -> family.equals(metrics.getFamily()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static RateLimitStatus rateLimitStatus(final int limit, final int remaining, final int secondsUntilReset) {
+        final RateLimitStatus rateLimitStatus = mock(RateLimitStatus.class);
+        when(rateLimitStatus.getLimit()).thenReturn(limit);
+        when(rateLimitStatus.getRemaining()).thenReturn(remaining);
+        when(rateLimitStatus.getSecondsUntilReset()).thenReturn(secondsUntilReset);
+        return rateLimitStatus;
+    }
+
+    private static TwitterResponse response(final RateLimitStatus rateLimitStatus) {
+        final TwitterResponse response = mock(TwitterResponse.class);
+        when(response.getRateLimitStatus()).thenReturn(rateLimitStatus);
+        return response;
+    }
+
+    private static TwitterResponse execute(final RateLimitScheduler scheduler, final RateLimitScheduler.TwitterCall<TwitterResponse> call) {
+        try {
+            return scheduler.execute(SEARCH, call);
+        } catch (final TwitterException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.slf4j.Logger;
+import org.tweetwallfx.tweet.api.TweetFilterQuery;
+import twitter4j.v1.FilterQuery;
+import twitter4j.v1.HashtagEntity;
+import twitter4j.v1.Status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TwitterStreamMultiplexerTest {
+
+    @Mock(name = "org.tweetwallfx.tweet.impl.twitter4j.TwitterStreamMultiplexer")
+    Logger logger;
+    @Mock(name = "connector")
+    BiConsumer<Consumer<Status>, FilterQuery> connector;
+    @Mock(name = "disconnector")
+    Runnable disconnector;
+    @Mock(name = "scheduler")
+    ScheduledExecutorService scheduler;
+    @Mock(name = "pendingReconnect")
+    ScheduledFuture<Object> pendingReconnect;
+    @Mock(name = "devoxxConsumer")
+    Consumer<Status> devoxxConsumer;
+    @Mock(name = "threadsConsumer")
+    Consumer<Status> threadsConsumer;
+
+    private final List<Runnable> reconnects = new ArrayList<>();
+    private TwitterStreamMultiplexer multiplexer;
+
+    @BeforeEach
+    void before() {
+        when(scheduler.schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            reconnects.add(invocation.getArgument(0));
+            return pendingReconnect;
+        });
+        multiplexer = new TwitterStreamMultiplexer(connector, disconnector, scheduler, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(logger, connector, disconnector, scheduler, pendingReconnect, devoxxConsumer, threadsConsumer);
+    }
+
+    @Test
+    void subscriptionsAreConnectedWithMergedTermsAfterDebounce() {
+        final TweetFilterQuery devoxxQuery = new TweetFilterQuery().track(new String[]{"devoxx", "#java"});
+        final TweetFilterQuery threadsQuery = new TweetFilterQuery().track(new String[]{"virtual threads", "devoxx"}).count(5);
+        multiplexer.subscribe(devoxxQuery, devoxxConsumer);
+        multiplexer.subscribe(threadsQuery, threadsConsumer);
+
+        assertThat(reconnects).hasSize(2);
+        reconnects.get(1).run();
+
+        final ArgumentCaptor<FilterQuery> filterQuery = ArgumentCaptor.forClass(FilterQuery.class);
+        verify(connector).accept(eq(multiplexer), filterQuery.capture());
+        assertThat(filterQuery.getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(FilterQuery.ofTrack("devoxx", "#java", "virtual threads").count(5));
+        verify(pendingReconnect).cancel(false);
+        verify(logger).info("Subscribed to {}", devoxxQuery);
+        verify(logger).info("Subscribed to {}", threadsQuery);
+        verify(logger).info("Connecting stream tracking {}", new LinkedHashSet<>(List.of("devoxx", "#java", "virtual threads")));
+    }
+
+    @Test
+    void statusesAreRoutedToMatchingSubscriptions() {
+        final TweetFilterQuery devoxxQuery = new TweetFilterQuery().track(new String[]{"devoxx"});
+        final TweetFilterQuery threadsQuery = new TweetFilterQuery().track(new String[]{"virtual threads"});
+        multiplexer.subscribe(devoxxQuery, devoxxConsumer);
+        multiplexer.subscribe(threadsQuery, threadsConsumer);
+
+        final Status hashtagStatus = status("See you there!", "Devoxx");
+        final Status textStatus = status("Virtual threads explained", null);
+        final Status partialStatus = status("Threads everywhere", null);
+        multiplexer.accept(hashtagStatus);
+        multiplexer.accept(textStatus);
+        multiplexer.accept(partialStatus);
+
+        verify(devoxxConsumer).accept(hashtagStatus);
+        verify(threadsConsumer).accept(textStatus);
+        verify(pendingReconnect).cancel(false);
+        verify(logger).info("Subscribed to {}", devoxxQuery);
+        verify(logger).info("Subscribed to {}", threadsQuery);
+    }
+
+    @Test
+    void unchangedTermsKeepTheConnection() {
+        final TweetFilterQuery devoxxQuery = new TweetFilterQuery().track(new String[]{"devoxx"});
+        multiplexer.subscribe(devoxxQuery, devoxxConsumer);
+        reconnects.get(0).run();
+        multiplexer.subscribe(devoxxQuery, threadsConsumer);
+        reconnects.get(1).run();
+
+        verify(connector).accept(eq(multiplexer), any(FilterQuery.class));
+        verify(logger, times(2)).info("Subscribed to {}", devoxxQuery);
+        verify(logger).info("Connecting stream tracking {}", Set.of("devoxx"));
+        verify(logger).debug("Stream already tracking {}", Set.of("devoxx"));
+    }
+
+    @Test
+    void closingTheLastSubscriptionDisconnects() {
+        final TweetFilterQuery devoxxQuery = new TweetFilterQuery().track(new String[]{"devoxx"});
+        final TwitterStreamMultiplexer.Subscription subscription = multiplexer.subscribe(devoxxQuery, devoxxConsumer);
+        reconnects.get(0).run();
+        subscription.close();
+        subscription.close();
+        reconnects.get(1).run();
+
+        assertThat(reconnects).hasSize(2);
+        verify(connector).accept(eq(multiplexer), any(FilterQuery.class));
+        verify(disconnector).run();
+        verify(logger).info("Subscribed to {}", devoxxQuery);
+        verify(logger).info("Unsubscribed from {}", devoxxQuery);
+        verify(logger).info("Connecting stream tracking {}", Set.of("devoxx"));
+        verify(logger).info("Disconnecting stream as no terms are tracked anymore");
+    }
+
+    @Test
+    void subscriptionsAfterShutdownAreIgnored() {
+        final TweetFilterQuery devoxxQuery = new TweetFilterQuery().track(new String[]{"devoxx"});
+        final TweetFilterQuery threadsQuery = new TweetFilterQuery().track(new String[]{"virtual threads"});
+        final TwitterStreamMultiplexer.Subscription subscription = multiplexer.subscribe(devoxxQuery, devoxxConsumer);
+        reconnects.get(0).run();
+        multiplexer.shutdown();
+
+        final TwitterStreamMultiplexer.Subscription lateSubscription = multiplexer.subscribe(threadsQuery, threadsConsumer);
+        lateSubscription.close();
+        subscription.close();
+        reconnects.get(0).run();
+        multiplexer.accept(status("Virtual threads explained", null));
+
+        assertThat(reconnects).hasSize(1);
+        verify(connector).accept(eq(multiplexer), any(FilterQuery.class));
+        verify(scheduler).shutdownNow();
+        verify(disconnector).run();
+        verify(logger).info("Subscribed to {}", devoxxQuery);
+        verify(logger).info("Connecting stream tracking {}", Set.of("devoxx"));
+        verify(logger).warn("Ignoring subscription to {} after shutdown", threadsQuery);
+    }
+
+    private static Status status(final String text, final String hashtag) {
+        final Status status = mock(Status.class);
+        when(status.getText()).thenReturn(text);
+        when(status.isRetweet()).thenReturn(false);
+
+        if (null == hashtag) {
+            when(status.getHashtagEntities()).thenReturn(new HashtagEntity[0]);
+        } else {
+            final HashtagEntity hashtagEntity = mock(HashtagEntity.class);
+            when(hashtagEntity.getText()).thenReturn(hashtag);
+            when(status.getHashtagEntities()).thenReturn(new HashtagEntity[]{hashtagEntity});
+        }
+
+        return status;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.tweet.impl.twitter4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.tweetwallfx.tweet.api.Tweet;
+import twitter4j.v1.HashtagEntity;
+import twitter4j.v1.Status;
+import twitter4j.v1.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+class TwitterTweetTest {
+
+    @Mock(name = "status")
+    Status status;
+    @Mock(name = "retweetedStatus")
+    Status retweetedStatus;
+    @Mock(name = "user")
+    User user;
+    @Mock(name = "hashtagEntity")
+    HashtagEntity hashtagEntity;
+
+    @AfterEach
+    void verifyMocks() {
+        verifyNoMoreInteractions(status, retweetedStatus, user, hashtagEntity);
+    }
+
+    @Test
+    void filteredFieldsDoNotMaterializeEntities() {
+        when(status.getText()).thenReturn("Hello #devoxx");
+        when(status.isRetweet()).thenReturn(false);
+
+        final Tweet tweet = new TwitterTweet(status);
+
+        assertThat(tweet.getText()).isEqualTo("Hello #devoxx");
+        assertThat(tweet.isRetweet()).isFalse();
+        verify(status).getText();
+        verify(status).isRetweet();
+    }
+
+    @Test
+    void entitiesAreMaterializedOnce() {
+        when(status.getUser()).thenReturn(user);
+        when(status.getHashtagEntities()).thenReturn(new HashtagEntity[]{hashtagEntity});
+        when(status.getSymbolEntities()).thenReturn(null);
+        when(hashtagEntity.getText()).thenReturn("devoxx");
+
+        final Tweet tweet = new TwitterTweet(status);
+
+        assertThat(tweet.getUser()).isSameAs(tweet.getUser());
+        assertThat(tweet.getHashtagEntries()).isSameAs(tweet.getHashtagEntries()).hasSize(1);
+        assertThat(tweet.getHashtagEntries()[0].getText()).isEqualTo("devoxx");
+        assertThat(tweet.getSymbolEntries()).isSameAs(tweet.getSymbolEntries()).isEmpty();
+        verify(status).getUser();
+        verify(status).getHashtagEntities();
+        verify(status).getSymbolEntities();
+        verify(hashtagEntity).getText();
+    }
+
+    @Test
+    void retweetedTweetIsMaterializedOnce() {
+        when(status.isRetweet()).thenReturn(true);
+        when(status.getRetweetedStatus()).thenReturn(retweetedStatus);
+        when(retweetedStatus.isRetweet()).thenReturn(false);
+        when(retweetedStatus.getId()).thenReturn(4711L);
+
+        final Tweet tweet = new TwitterTweet(status);
+
+        assertThat(tweet.getRetweetedTweet()).isSameAs(tweet.getRetweetedTweet());
+        assertThat(tweet.getOriginTweet().getId()).isEqualTo(4711L);
+        verify(status).getRetweetedStatus();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the conversions performed by {@link JsonDataConverter},
+ * comparing the former creation of a {@link Jsonb} instance per call and the
+ * round trip through a JSON String for maps with the shared instances and the
+ * direct record binding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonDataConverterBenchmark {
+
+    private String json;
+    private Map<String, Object> map;
+
+    @Setup
+    public void setup() {
+        final Settings settings = new Settings("devoxx", 25, true, List.of("#java", "#devoxx"),
+                new Settings.Limits(100L, 0.75));
+        json = JsonDataConverter.convertToString(settings);
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> parsed = JsonDataConverter.convertFromString(json, Map.class);
+        map = parsed;
+    }
+
+    @Benchmark
+    @SuppressWarnings("try")
+    public Settings fromStringCreatePerCall() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty("jsonb.allow-unknown-properties", false))) {
+            return jsonb.fromJson(json, Settings.class);
+        }
+    }
+
+    @Benchmark
+    public Settings fromStringShared() {
+        return JsonDataConverter.convertFromString(json, Settings.class);
+    }
+
+    @Benchmark
+    @SuppressWarnings("try")
+    public Settings fromObjectRoundTripCreatePerCall() throws Exception {
+        final String roundTrip;
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            roundTrip = jsonb.toJson(map);
+        }
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty("jsonb.allow-unknown-properties", false))) {
+            return jsonb.fromJson(roundTrip, Settings.class);
+        }
+    }
+
+    @Benchmark
+    public Settings fromObjectRoundTripShared() {
+        return JsonDataConverter.convertFromString(JsonDataConverter.convertToString(map), Settings.class);
+    }
+
+    @Benchmark
+    public Settings fromObjectDirect() {
+        return JsonDataConverter.convertFromObject(map, Settings.class);
+    }
+
+    public record Settings(String name, Integer count, Boolean enabled, List<String> tags, Limits limits) {
+
+        public record Limits(Long maxItems, Double ratio) {
+        }
+    }
+}
@@ -31,13 +31,21 @@ import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Converts data from an input into a typesafe object.
+ *
+ * <p>The {@link Jsonb} instances are thread safe and are shared across all
+ * conversions, so that the type metadata JSON-B collects per class is only
+ * computed once.
  */
 public class JsonDataConverter {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonDataConverter.class);
+    private static final Jsonb READER = JsonbBuilder.create(readConfig());
+    private static final Jsonb WRITER = JsonbBuilder.create();
 
     private JsonDataConverter() {
         // prevent instantiation
@@ -60,6 +68,16 @@ public class JsonDataConverter {
      * @return the converted object
      */
     public static <T> T convertFromObject(final Object object, final Class<T> typeClass) {
+        if (object instanceof Map<?, ?> map) {
+            final Optional<T> bound = RecordBinder.bind(map, typeClass);
+
+            if (bound.isPresent()) {
+                return bound.get();
+            }
+        } else if (typeClass.isRecord() && typeClass.isInstance(object)) {
+            return typeClass.cast(object);
+        }
+
         return convertFromString(convertToString(object), typeClass);
     }
 
@@ -75,10 +93,9 @@ public class JsonDataConverter {
      *
      * @return the converted object
      */
-    @SuppressWarnings("try")
     public static <T> T convertFromInputStream(final InputStream inputStream, final Class<T> typeClass) {
-        try (Jsonb jsonb = JsonbBuilder.create(readConfig())) {
-            return jsonb.fromJson(inputStream, typeClass);
+        try {
+            return READER.fromJson(inputStream, typeClass);
         } catch (final Exception ex) {
             LOG.error("Failed to convert to {} from {}", typeClass, inputStream, ex);
             throw new IllegalStateException(ex);
@@ -97,10 +114,9 @@ public class JsonDataConverter {
      *
      * @return the converted object
      */
-    @SuppressWarnings("try")
     public static <T> T convertFromString(final String jsonString, final Class<T> typeClass) {
-        try (Jsonb jsonb = JsonbBuilder.create(readConfig())) {
-            return jsonb.fromJson(jsonString, typeClass);
+        try {
+            return READER.fromJson(jsonString, typeClass);
         } catch (final Exception ex) {
             LOG.error("Failed to convert to {}: {}", typeClass, jsonString, ex);
             throw new IllegalStateException(ex);
@@ -114,10 +130,9 @@ public class JsonDataConverter {
      *
      * @return the converted String
      */
-    @SuppressWarnings("try")
     public static String convertToString(final Object object) {
-        try (Jsonb jsonb = JsonbBuilder.create()) {
-            return jsonb.toJson(object);
+        try {
+            return WRITER.toJson(object);
         } catch (final Exception ex) {
             LOG.error("Failed to convert to java.lang.String: {}", object, ex);
             throw new IllegalStateException(ex);
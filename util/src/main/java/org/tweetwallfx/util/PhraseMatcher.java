@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Case insensitive matcher finding any of a fixed set of phrases in texts.
+ *
+ * The phrases are compiled into an Aho-Corasick automaton upon creation, so
+ * that searching a text takes a single pass over it regardless of the number
+ * of phrases. Characters are compared case folded one by one via
+ * {@link Character#toLowerCase(char)}. Instances are immutable and thread
+ * safe.
+ */
+public final class PhraseMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_PHRASE = -1;
+
+    private final String[] phrases;
+    // per state the sorted characters of its transitions and their targets
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failures;
+    // per state the phrase ending in the state itself
+    private final int[] phraseOfState;
+    // per state the phrase ending in the state or any of its failure states
+    private final int[] matchOfState;
+
+    private PhraseMatcher(final List<String> phrases) {
+        this.phrases = phrases.toArray(String[]::new);
+
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> phraseOfNode = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        phraseOfNode.add(NO_PHRASE);
+
+        for (int i = 0; i < this.phrases.length; i++) {
+            int node = ROOT;
+
+            for (int j = 0; j < this.phrases[i].length(); j++) {
+                final char c = Character.toLowerCase(this.phrases[i].charAt(j));
+                Integer next = trie.get(node).get(c);
+
+                if (null == next) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new TreeMap<>());
+                    phraseOfNode.add(NO_PHRASE);
+                }
+
+                node = next;
+            }
+
+            if (NO_PHRASE == phraseOfNode.get(node)) {
+                phraseOfNode.set(node, i);
+            }
+        }
+
+        final int stateCount = trie.size();
+        this.transitionChars = new char[stateCount][];
+        this.transitionTargets = new int[stateCount][];
+        this.failures = new int[stateCount];
+        this.phraseOfState = new int[stateCount];
+        this.matchOfState = new int[stateCount];
+
+        for (int state = 0; state < stateCount; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            transitionChars[state] = new char[transitions.size()];
+            transitionTargets[state] = new int[transitions.size()];
+            int i = 0;
+
+            for (final var transition : transitions.entrySet()) {
+                transitionChars[state][i] = transition.getKey();
+                transitionTargets[state][i] = transition.getValue();
+                i++;
+            }
+
+            phraseOfState[state] = phraseOfNode.get(state);
+        }
+
+        // breadth first so that the failure state of a state is done before it
+        final Queue<Integer> queue = new ArrayDeque<>();
+        failures[ROOT] = ROOT;
+        matchOfState[ROOT] = phraseOfState[ROOT];
+
+        for (final int child : transitionTargets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            matchOfState[state] = NO_PHRASE == phraseOfState[state]
+                    ? matchOfState[failures[state]]
+                    : phraseOfState[state];
+
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                final char c = transitionChars[state][i];
+                final int child = transitionTargets[state][i];
+                int failure = failures[state];
+
+                while (ROOT != failure && NO_PHRASE == transition(failure, c)) {
+                    failure = failures[failure];
+                }
+
+                final int target = transition(failure, c);
+                failures[child] = NO_PHRASE == target || child == target ? ROOT : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher for the given phrases.
+     *
+     * @param phrases the phrases to find
+     *
+     * @return the created matcher
+     */
+    public static PhraseMatcher of(final Collection<String> phrases) {
+        Objects.requireNonNull(phrases, "phrases must not be null");
+        return new PhraseMatcher(List.copyOf(phrases));
+    }
+
+    /**
+     * Searches the text for any of the phrases.
+     *
+     * @param text the text to search
+     *
+     * @return the phrase ending first in the text or an empty Optional if none
+     * is contained
+     */
+    public Optional<String> findAny(final CharSequence text) {
+        if (NO_PHRASE != matchOfState[ROOT]) {
+            return Optional.of(phrases[matchOfState[ROOT]]);
+        }
+
+        int state = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = Character.toLowerCase(text.charAt(i));
+            int next = transition(state, c);
+
+            while (NO_PHRASE == next && ROOT != state) {
+                state = failures[state];
+                next = transition(state, c);
+            }
+
+            state = NO_PHRASE == next ? ROOT : next;
+
+            if (NO_PHRASE != matchOfState[state]) {
+                return Optional.of(phrases[matchOfState[state]]);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if the text is equal to any of the phrases.
+     *
+     * @param text the text to check
+     *
+     * @return {@code true} if the text is equal to one of the phrases
+     */
+    public boolean matchesExactly(final CharSequence text) {
+        int state = ROOT;
+
+        for (int i = 0; i < text.length() && NO_PHRASE != state; i++) {
+            state = transition(state, Character.toLowerCase(text.charAt(i)));
+        }
+
+        return NO_PHRASE != state && NO_PHRASE != phraseOfState[state];
+    }
+
+    private int transition(final int state, final char c) {
+        final int index = Arrays.binarySearch(transitionChars[state], c);
+        return index < 0 ? NO_PHRASE : transitionTargets[state][index];
+    }
+}
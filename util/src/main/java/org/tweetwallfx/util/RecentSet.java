@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A set remembering the most recently added elements. It is bounded by a
+ * maximum number of elements as well as by a time window, so that its memory
+ * footprint stays constant regardless of how many elements are added over
+ * time.
+ *
+ * Elements are kept in a ring buffer in insertion order together with a hash
+ * index for constant time lookups. Once the capacity is reached the oldest
+ * element is evicted, elements older than the window are evicted on access.
+ */
+public final class RecentSet<T> {
+
+    private final Object[] elements;
+    private final long[] addedAt;
+    private final Set<T> index;
+    private final long windowMillis;
+    private final Clock clock;
+    private int head = 0;
+    private int size = 0;
+
+    public RecentSet(final int capacity, final Duration window) {
+        this(capacity, window, Clock.systemUTC());
+    }
+
+    RecentSet(final int capacity, final Duration window, final Clock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        Objects.requireNonNull(window, "window must not be null");
+        if (window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window must not be zero or negative");
+        }
+
+        this.elements = new Object[capacity];
+        this.addedAt = new long[capacity];
+        this.index = HashSet.newHashSet(capacity);
+        this.windowMillis = window.toMillis();
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Adds the element unless it is already contained.
+     *
+     * @param element the element to add
+     *
+     * @return {@code true} if the element was added, {@code false} if it is
+     * already contained
+     */
+    public synchronized boolean add(final T element) {
+        Objects.requireNonNull(element, "element must not be null");
+        final long now = clock.millis();
+        evictExpired(now);
+
+        if (index.contains(element)) {
+            return false;
+        }
+
+        if (size == elements.length) {
+            evictOldest();
+        }
+
+        final int tail = (head + size) % elements.length;
+        elements[tail] = element;
+        addedAt[tail] = now;
+        index.add(element);
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks if the element is contained.
+     *
+     * @param element the element to check
+     *
+     * @return {@code true} if the element is contained
+     */
+    public synchronized boolean contains(final T element) {
+        evictExpired(clock.millis());
+        return index.contains(element);
+    }
+
+    /**
+     * {@return the number of elements currently contained}.
+     */
+    public synchronized int size() {
+        evictExpired(clock.millis());
+        return size;
+    }
+
+    private void evictExpired(final long now) {
+        while (size > 0 && now - addedAt[head] > windowMillis) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        index.remove(elements[head]);
+        elements[head] = null;
+        head = (head + 1) % elements.length;
+        size--;
+    }
+}
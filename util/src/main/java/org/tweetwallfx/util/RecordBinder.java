@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Binds a {@link Map} as produced by parsing a JSON object directly into a
+ * record, without serializing the map into a JSON String first.
+ *
+ * <p>Only plain records are handled: records and components without any JSON-B
+ * annotations whose component types are Strings, numbers, booleans, enums,
+ * nested plain records or {@link List}, {@link Set}, {@link Collection} and
+ * {@link Map} of those. Whenever a type or a value falls outside of that the
+ * binding is reported as unsupported, so that the caller can fall back to the
+ * full JSON-B conversion and its error reporting.
+ */
+final class RecordBinder {
+
+    private static final Object UNSUPPORTED = new Object();
+    private static final String JSONB_ANNOTATION_PACKAGE = "jakarta.json.bind";
+    private static final ClassValue<Optional<RecordType>> RECORD_TYPES = new ClassValue<>() {
+        @Override
+        protected Optional<RecordType> computeValue(final Class<?> type) {
+            return RecordType.of(type);
+        }
+    };
+
+    private RecordBinder() {
+        // prevent instantiation
+    }
+
+    /**
+     * Binds the {@code map} into an instance of the {@code typeClass}.
+     *
+     * @param <T> the type to bind into
+     *
+     * @param map the map to bind
+     *
+     * @param typeClass the class of the type to bind into
+     *
+     * @return the bound object or an empty Optional in case the direct binding
+     * is not supported for the type or the values of the map
+     */
+    static <T> Optional<T> bind(final Map<?, ?> map, final Class<T> typeClass) {
+        final Object result = bindRecord(map, typeClass);
+        return UNSUPPORTED == result
+                ? Optional.empty()
+                : Optional.of(typeClass.cast(result));
+    }
+
+    private static Object bindRecord(final Map<?, ?> map, final Class<?> type) {
+        final RecordType recordType = RECORD_TYPES.get(type).orElse(null);
+
+        if (null == recordType) {
+            return UNSUPPORTED;
+        }
+
+        for (final Object key : map.keySet()) {
+            if (!(key instanceof String name) || !recordType.names().contains(name)) {
+                return UNSUPPORTED;
+            }
+        }
+
+        final Object[] args = new Object[recordType.names().size()];
+
+        for (int i = 0; i < args.length; i++) {
+            final Object value = convert(map.get(recordType.names().get(i)), recordType.types()[i]);
+
+            if (UNSUPPORTED == value) {
+                return UNSUPPORTED;
+            }
+
+            args[i] = value;
+        }
+
+        try {
+            return recordType.constructor().newInstance(args);
+        } catch (final ReflectiveOperationException | IllegalArgumentException ex) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static Object convert(final Object value, final Type type) {
+        if (type instanceof Class<?> clazz) {
+            return convert(value, clazz);
+        } else if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType) {
+            return convert(value, rawType, parameterizedType.getActualTypeArguments());
+        } else {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static Object convert(final Object value, final Class<?> type) {
+        if (null == value) {
+            return type.isPrimitive() ? UNSUPPORTED : null;
+        } else if (String.class == type) {
+            return value instanceof String ? value : UNSUPPORTED;
+        } else if (Boolean.class == type || boolean.class == type) {
+            return value instanceof Boolean ? value : UNSUPPORTED;
+        } else if (value instanceof Number number) {
+            return convertNumber(number, type);
+        } else if (type.isEnum()) {
+            return value instanceof String name
+                    ? Arrays.<Object>stream(type.getEnumConstants())
+                            .filter(constant -> ((Enum<?>) constant).name().equals(name))
+                            .findFirst()
+                            .orElse(UNSUPPORTED)
+                    : UNSUPPORTED;
+        } else if (type.isRecord()) {
+            if (value instanceof Map<?, ?> map) {
+                return bindRecord(map, type);
+            }
+            return type.isInstance(value) ? value : UNSUPPORTED;
+        } else {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static Object convert(final Object value, final Class<?> rawType, final Type[] typeArguments) {
+        if (null == value) {
+            return null;
+        } else if (List.class == rawType || Collection.class == rawType || Set.class == rawType) {
+            if (!(value instanceof Collection<?> collection)) {
+                return UNSUPPORTED;
+            }
+
+            final Collection<Object> result = Set.class == rawType
+                    ? new HashSet<>()
+                    : new ArrayList<>(collection.size());
+
+            for (final Object element : collection) {
+                final Object converted = convert(element, typeArguments[0]);
+
+                if (UNSUPPORTED == converted) {
+                    return UNSUPPORTED;
+                }
+
+                result.add(converted);
+            }
+
+            return result;
+        } else if (Map.class == rawType && String.class == typeArguments[0]) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return UNSUPPORTED;
+            }
+
+            final Map<String, Object> result = new HashMap<>();
+
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object converted = convert(entry.getValue(), typeArguments[1]);
+
+                if (!(entry.getKey() instanceof String key) || UNSUPPORTED == converted) {
+                    return UNSUPPORTED;
+                }
+
+                result.put(key, converted);
+            }
+
+            return result;
+        } else {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static Object convertNumber(final Number number, final Class<?> type) {
+        try {
+            final BigDecimal decimal;
+
+            if (number instanceof BigDecimal bd) {
+                decimal = bd;
+            } else if (number instanceof BigInteger bi) {
+                decimal = new BigDecimal(bi);
+            } else if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+                decimal = BigDecimal.valueOf(number.longValue());
+            } else {
+                decimal = new BigDecimal(number.toString());
+            }
+
+            if (Integer.class == type || int.class == type) {
+                return decimal.intValueExact();
+            } else if (Long.class == type || long.class == type) {
+                return decimal.longValueExact();
+            } else if (Double.class == type || double.class == type) {
+                return decimal.doubleValue();
+            } else if (Float.class == type || float.class == type) {
+                return decimal.floatValue();
+            } else if (Short.class == type || short.class == type) {
+                return decimal.shortValueExact();
+            } else if (Byte.class == type || byte.class == type) {
+                return decimal.byteValueExact();
+            } else if (BigDecimal.class == type || Number.class == type) {
+                return decimal;
+            } else if (BigInteger.class == type) {
+                return decimal.toBigIntegerExact();
+            } else {
+                return UNSUPPORTED;
+            }
+        } catch (final ArithmeticException | NumberFormatException ex) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static boolean hasJsonbAnnotation(final AnnotatedElement element) {
+        return hasJsonbAnnotation(element.getAnnotations());
+    }
+
+    private static boolean hasJsonbAnnotation(final Annotation[] annotations) {
+        return Arrays.stream(annotations)
+                .anyMatch(annotation -> annotation.annotationType().getPackageName().startsWith(JSONB_ANNOTATION_PACKAGE));
+    }
+
+    /**
+     * Cached binding metadata of a plain record.
+     *
+     * @param names the names of the record components in declaration order
+     *
+     * @param types the generic types of the record components
+     *
+     * @param constructor the canonical constructor
+     */
+    private record RecordType(List<String> names, Type[] types, Constructor<?> constructor) {
+
+        static Optional<RecordType> of(final Class<?> type) {
+            if (!type.isRecord() || hasJsonbAnnotation(type)) {
+                return Optional.empty();
+            }
+
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] parameterTypes = Arrays.stream(components)
+                    .map(RecordComponent::getType)
+                    .toArray(Class<?>[]::new);
+
+            try {
+                final Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+
+                if (hasJsonbAnnotation(constructor)
+                        || Arrays.stream(constructor.getParameterAnnotations()).anyMatch(RecordBinder::hasJsonbAnnotation)) {
+                    return Optional.empty();
+                }
+
+                for (final RecordComponent component : components) {
+                    if (Stream.of(component, component.getAccessor(), type.getDeclaredField(component.getName()))
+                            .anyMatch(RecordBinder::hasJsonbAnnotation)) {
+                        return Optional.empty();
+                    }
+                }
+
+                return Optional.of(new RecordType(
+                        Arrays.stream(components).map(RecordComponent::getName).toList(),
+                        Arrays.stream(components).map(RecordComponent::getGenericType).toArray(Type[]::new),
+                        constructor));
+            } catch (final NoSuchMethodException | NoSuchFieldException | SecurityException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -26,6 +26,9 @@ package org.tweetwallfx.util;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +60,40 @@ class JsonDataConverterTest {
                 .isEqualTo("{\"one\":\"111\",\"tree\":false,\"two\":222}".getBytes(UTF_8));
     }
 
+    @Test
+    void convertFromObjectBindsMapIntoRecord() {
+        assertThat(JsonDataConverter.convertFromObject(Map.of("one", "1", "two", new BigDecimal("2"), "tree", true), TestData.class))
+                .isEqualTo(new TestData("1", 2, true));
+    }
+
+    @Test
+    void convertFromObjectBindsNestedRecords() {
+        final Map<String, Object> nested = Map.of(
+                "name", "nested",
+                "data", Map.of("one", "1"),
+                "list", List.of(Map.of("two", new BigDecimal("22")), Map.of("tree", false)));
+
+        assertThat(JsonDataConverter.convertFromObject(nested, NestedTestData.class))
+                .isEqualTo(new NestedTestData("nested", new TestData("1", null, null),
+                        List.of(new TestData(null, 22, null), new TestData(null, null, false))));
+    }
+
+    @Test
+    void convertFromObjectReturnsRecordInstance() {
+        final TestData testData = new TestData("1", 2, true);
+
+        assertThat(JsonDataConverter.convertFromObject(testData, TestData.class)).isSameAs(testData);
+    }
+
+    @Test
+    void convertFromObjectFallsBackForOtherTypes() {
+        assertThat(JsonDataConverter.convertFromObject(List.of("a", "b"), List.class))
+                .isEqualTo(List.of("a", "b"));
+    }
+
     public record TestData(String one, Integer two, Boolean tree) {
     }
+
+    public record NestedTestData(String name, TestData data, List<TestData> list) {
+    }
 }
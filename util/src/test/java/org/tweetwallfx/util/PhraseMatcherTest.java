@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhraseMatcherTest {
+
+    @Test
+    void findsContainedPhraseIgnoringCase() {
+        final PhraseMatcher matcher = PhraseMatcher.of(List.of("Spam", "buy now", "crypto"));
+
+        assertThat(matcher.findAny("Please BUY NOW and get more")).contains("buy now");
+        assertThat(matcher.findAny("cryptocurrency")).contains("crypto");
+        assertThat(matcher.findAny("Great talk about virtual threads")).isEmpty();
+    }
+
+    @Test
+    void findsPhrasesSharingPrefixesAndSuffixes() {
+        final PhraseMatcher matcher = PhraseMatcher.of(List.of("he", "she", "hers", "his"));
+
+        assertThat(matcher.findAny("ushers")).contains("she");
+        assertThat(matcher.findAny("ahis")).contains("his");
+        assertThat(matcher.findAny("shhe")).contains("he");
+        assertThat(matcher.findAny("hx sx")).isEmpty();
+    }
+
+    @Test
+    void matchesExactPhrasesOnly() {
+        final PhraseMatcher matcher = PhraseMatcher.of(List.of("devoxx", "java"));
+
+        assertThat(matcher.matchesExactly("Devoxx")).isTrue();
+        assertThat(matcher.matchesExactly("dev")).isFalse();
+        assertThat(matcher.matchesExactly("devoxxbe")).isFalse();
+        assertThat(matcher.matchesExactly("")).isFalse();
+    }
+
+    @Test
+    void handlesEmptyPhrases() {
+        assertThat(PhraseMatcher.of(List.of()).findAny("anything")).isEmpty();
+        assertThat(PhraseMatcher.of(List.of("")).findAny("anything")).contains("");
+        assertThat(PhraseMatcher.of(List.of("")).matchesExactly("")).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026 TweetWallFX
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.tweetwallfx.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RecentSetTest {
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RecentSet<>(0, Duration.ofMinutes(1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RecentSet<>(1, Duration.ZERO));
+    }
+
+    @Test
+    void detectsDuplicates() {
+        final RecentSet<String> set = new RecentSet<>(3, Duration.ofMinutes(1));
+
+        assertThat(set.add("a")).isTrue();
+        assertThat(set.add("b")).isTrue();
+        assertThat(set.add("a")).isFalse();
+        assertThat(set.contains("b")).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOldestWhenFull() {
+        final RecentSet<Integer> set = new RecentSet<>(2, Duration.ofMinutes(1));
+
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(2)).isTrue();
+        assertThat(set.add(3)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.contains(2)).isTrue();
+        assertThat(set.contains(3)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsElementsOutsideOfWindow() {
+        final MutableClock clock = new MutableClock();
+        final RecentSet<Integer> set = new RecentSet<>(10, Duration.ofSeconds(10), clock);
+
+        set.add(1);
+        clock.advance(Duration.ofSeconds(6));
+        set.add(2);
+        clock.advance(Duration.ofSeconds(6));
+
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.contains(2)).isTrue();
+        assertThat(set.add(1)).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}